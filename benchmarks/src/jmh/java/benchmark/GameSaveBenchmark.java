@@ -0,0 +1,82 @@
+package benchmark;
+
+import game.World;
+import game.WorldImpl;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import utils.RandomManual;
+
+/**
+ * Benchmarks saving a game in progress, loading it back and forking it. The
+ * game is played for a while first so that the players carry items and the pet
+ * has visited some spaces.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GameSaveBenchmark {
+
+  @Param({ "25", "10000" })
+  private int rooms;
+
+  private WorldImpl world;
+  private byte[] savedGame;
+
+  /**
+   * Plays the first turns of a game between four computer players.
+   */
+  @Setup(Level.Trial)
+  public void play() {
+    world = new WorldImpl(GeneratedWorld.of(rooms).getTemplate(), RandomManual.seeded(rooms),
+        Integer.MAX_VALUE);
+    String[] spaces = world.getAllSpaces();
+    for (int i = 0; i < 4; i++) {
+      world.addPlayer("Computer " + (i + 1), spaces[i * spaces.length / 4], false);
+    }
+
+    for (int turn = 0; turn < 1000 && world.isGameOver().isEmpty(); turn++) {
+      world.performComputerAction();
+    }
+    savedGame = world.saveGame();
+  }
+
+  /**
+   * Saves the game.
+   *
+   * @return The saved game
+   */
+  @Benchmark
+  public byte[] saveGame() {
+    return world.saveGame();
+  }
+
+  /**
+   * Loads the saved game into the world it was saved from.
+   *
+   * @return The world
+   */
+  @Benchmark
+  public WorldImpl loadGame() {
+    world.loadGame(savedGame);
+    return world;
+  }
+
+  /**
+   * Forks the game with random numbers split from the game.
+   *
+   * @return The forked game
+   */
+  @Benchmark
+  public World forkGame() {
+    return world.fork();
+  }
+
+}
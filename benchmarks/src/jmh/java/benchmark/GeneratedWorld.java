@@ -0,0 +1,64 @@
+package benchmark;
+
+import game.WorldTemplate;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import utils.MansionGenerator;
+import utils.MansionGenerator.DamageDistribution;
+
+/**
+ * A generated world shared by the benchmarks. The same number of rooms always
+ * gives the same world so that runs can be compared with each other.
+ */
+final class GeneratedWorld {
+
+  private static final long SEED = 20_221_205L;
+
+  private final String specification;
+  private final WorldTemplate template;
+
+  private GeneratedWorld(String specification, WorldTemplate template) {
+    this.specification = specification;
+    this.template = template;
+  }
+
+  /**
+   * Generates a world with the given number of rooms.
+   *
+   * @param rooms The number of rooms in the world
+   * @return The generated world
+   */
+  static GeneratedWorld of(int rooms) {
+    StringWriter out = new StringWriter();
+    try {
+      new MansionGenerator(rooms, 0.5, 1, 10, DamageDistribution.UNIFORM, 3, SEED).generate(out);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    String specification = out.toString();
+    return new GeneratedWorld(specification,
+        WorldTemplate.parse(new StringReader(specification)));
+  }
+
+  /**
+   * Gets the world specification text.
+   *
+   * @return The world specification
+   */
+  String getSpecification() {
+    return specification;
+  }
+
+  /**
+   * Gets the parsed template of the world.
+   *
+   * @return The template of the world
+   */
+  WorldTemplate getTemplate() {
+    return template;
+  }
+
+}
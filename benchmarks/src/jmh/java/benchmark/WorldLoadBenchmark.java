@@ -0,0 +1,63 @@
+package benchmark;
+
+import game.WorldImpl;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import utils.RandomManual;
+
+/**
+ * Benchmarks building a world from its specification and drawing its image,
+ * which are done once per game and grow with the size of the world.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WorldLoadBenchmark {
+
+  @Param({ "25", "10000", "1000000" })
+  private int rooms;
+
+  private String specification;
+  private WorldImpl world;
+
+  /**
+   * Generates the world specification of the benchmark.
+   */
+  @Setup(Level.Trial)
+  public void generate() {
+    GeneratedWorld generated = GeneratedWorld.of(rooms);
+    specification = generated.getSpecification();
+    world = new WorldImpl(generated.getTemplate(), new RandomManual(), Integer.MAX_VALUE);
+  }
+
+  /**
+   * Parses and validates the world specification and builds the world.
+   *
+   * @return The built world
+   */
+  @Benchmark
+  public WorldImpl setWorldSpecification() {
+    world.setWorldSpecification(new StringReader(specification));
+    return world;
+  }
+
+  /**
+   * Draws the image of the world into its image file.
+   *
+   * @return The path of the image
+   */
+  @Benchmark
+  public String drawImage() {
+    return world.drawImage();
+  }
+
+}
@@ -0,0 +1,107 @@
+package benchmark;
+
+import game.WorldImpl;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import utils.RandomManual;
+
+/**
+ * Benchmarks the queries which the view and the computer players make on every
+ * turn. They do not change the world, so one world is used for the whole run
+ * and the queried space moves through all the spaces of the world.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorldQueryBenchmark {
+
+  private static final int SOURCES = 4;
+
+  @Param({ "25", "10000", "1000000" })
+  private int rooms;
+
+  private WorldImpl world;
+  private String[] spaces;
+  private int[] sources;
+  private int next;
+
+  /**
+   * Builds the world with two players standing in neighbouring spaces.
+   */
+  @Setup(Level.Trial)
+  public void build() {
+    world = new WorldImpl(GeneratedWorld.of(rooms).getTemplate(), new RandomManual(),
+        Integer.MAX_VALUE);
+    spaces = world.getAllSpaces();
+    world.addPlayer("First", spaces[0], true);
+    world.addPlayer("Second", spaces[Math.min(1, spaces.length - 1)], true);
+    sources = new int[SOURCES];
+    for (int i = 0; i < SOURCES; i++) {
+      sources[i] = (int) ((long) spaces.length * i / SOURCES);
+    }
+    next = 0;
+  }
+
+  private int nextIndex() {
+    int index = next;
+    next = next + 1 == spaces.length ? 0 : next + 1;
+    return index;
+  }
+
+  private String nextSpace() {
+    return spaces[nextIndex()];
+  }
+
+  /**
+   * Gets the neighbours of a space.
+   *
+   * @return The neighbours of the space
+   */
+  @Benchmark
+  public String getNeighbours() {
+    return world.getNeighbours(nextSpace());
+  }
+
+  /**
+   * Checks whether one player can see the other.
+   *
+   * @return True if the players can see each other
+   */
+  @Benchmark
+  public boolean isPlayerVisible() {
+    return world.isPlayerVisible("First", "Second");
+  }
+
+  /**
+   * Gets the description of a space.
+   *
+   * @return The description of the space
+   */
+  @Benchmark
+  public String getInfoOfaSpace() {
+    return world.getInfoOfaSpace(nextSpace());
+  }
+
+  /**
+   * Gets the fewest moves from one of a few spaces spread over the world to
+   * another, as the computer players of several games played at once in the
+   * world do when they plan where to meet the target, each game from the space
+   * its target will be in.
+   *
+   * @return The distance between the spaces
+   */
+  @Benchmark
+  public int getDistance() {
+    int to = nextIndex();
+    return world.getDistance(sources[to % SOURCES], to);
+  }
+
+}
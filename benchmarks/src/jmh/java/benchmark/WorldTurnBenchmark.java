@@ -0,0 +1,111 @@
+package benchmark;
+
+import game.WorldImpl;
+import game.WorldTemplate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import utils.RandomManual;
+
+/**
+ * Benchmarks the actions which take a turn. Every action moves the target and
+ * the pet, so the world is reset from its template before every iteration to
+ * keep the iterations alike. The game never runs out of turns, and the game of
+ * the computer players starts again when one of them kills the target.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WorldTurnBenchmark {
+
+  @Param({ "25", "10000", "1000000" })
+  private int rooms;
+
+  private WorldTemplate template;
+  private WorldImpl humanWorld;
+  private WorldImpl computerWorld;
+  private int[][] moves;
+  private int nextMove;
+
+  /**
+   * Generates the world of the benchmark.
+   */
+  @Setup(Level.Trial)
+  public void generate() {
+    template = GeneratedWorld.of(rooms).getTemplate();
+    humanWorld = new WorldImpl(template, new RandomManual(), Integer.MAX_VALUE);
+    computerWorld = new WorldImpl(template, RandomManual.seeded(rooms), Integer.MAX_VALUE);
+  }
+
+  /**
+   * Resets both worlds. The human player goes back and forth between the first
+   * two spaces, which are neighbours in every generated world with more than
+   * one room, and the computer players start in the first space.
+   */
+  @Setup(Level.Iteration)
+  public void reset() {
+    humanWorld.setWorldTemplate(template);
+    String[] spaces = humanWorld.getAllSpaces();
+    humanWorld.addPlayer("Human", spaces[0], true);
+    moves = new int[][] { humanWorld.getPointInSpace(spaces[1]),
+        humanWorld.getPointInSpace(spaces[0]) };
+    nextMove = 0;
+    restartComputerGame();
+  }
+
+  private void restartComputerGame() {
+    computerWorld.setWorldTemplate(template);
+    String[] spaces = computerWorld.getAllSpaces();
+    computerWorld.addPlayer("First computer", spaces[0], false);
+    computerWorld.addPlayer("Second computer", spaces[0], false);
+  }
+
+  /**
+   * Moves the human player into the neighbouring space. When the pet is in that
+   * space the move is refused and the player tries again on the next call.
+   *
+   * @return The result of the move
+   */
+  @Benchmark
+  public String movePlayerInWorld() {
+    try {
+      String result = humanWorld.movePlayerInWorld(moves[nextMove][0], moves[nextMove][1]);
+      nextMove = 1 - nextMove;
+      return result;
+    } catch (IllegalStateException e) {
+      return e.getMessage();
+    }
+  }
+
+  /**
+   * Looks around from the space of the human player.
+   *
+   * @return The description of the surroundings
+   */
+  @Benchmark
+  public String lookAroundByPlayer() {
+    return humanWorld.lookAroundByPlayer();
+  }
+
+  /**
+   * Lets the current computer player take its turn, first starting the game
+   * again when the target was killed on the turn before.
+   *
+   * @return The result of the action
+   */
+  @Benchmark
+  public String performComputerAction() {
+    if (!computerWorld.isGameOver().isEmpty()) {
+      restartComputerGame();
+    }
+    return computerWorld.performComputerAction();
+  }
+
+}
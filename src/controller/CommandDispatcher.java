@@ -0,0 +1,118 @@
+package controller;
+
+import game.GameWorld;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Runs typed commands on a model. Every kind of command has a handler kept in
+ * an EnumMap, and the handler calls the model with the arguments of the command
+ * as they are, so dispatching a command creates no objects of its own.
+ */
+public final class CommandDispatcher {
+
+  /**
+   * Runs one kind of command on a model.
+   */
+  @FunctionalInterface
+  private interface Handler {
+    String execute(GameWorld model, TypedCommand command);
+  }
+
+  private final GameWorld model;
+  private final WorldTemplateCache worldCache;
+  private final Map<Command, Handler> handlers;
+
+  /**
+   * Constructs a dispatcher of commands to the given model.
+   *
+   * @param model      The model the commands are run on
+   * @param worldCache The cache used to parse new worlds
+   * @throws IllegalArgumentException When model or worldCache is null
+   */
+  public CommandDispatcher(GameWorld model, WorldTemplateCache worldCache)
+      throws IllegalArgumentException {
+    if (model == null) {
+      throw new IllegalArgumentException("GameWorld cannot be null");
+    }
+
+    if (worldCache == null) {
+      throw new IllegalArgumentException("World cache cannot be null");
+    }
+
+    this.model = model;
+    this.worldCache = worldCache;
+    this.handlers = new EnumMap<Command, Handler>(Command.class);
+
+    handlers.put(Command.MOVE, (world, command) -> {
+      return world.movePlayerInWorld(command.getX(), command.getY());
+    });
+
+    handlers.put(Command.PICK_ITEM, (world, command) -> {
+      return world.pickItemByPlayer(command.getName());
+    });
+
+    handlers.put(Command.LOOK_AROUND, (world, command) -> {
+      return world.lookAroundByPlayer();
+    });
+
+    handlers.put(Command.ATTACK_TARGET, (world, command) -> {
+      return world.attackTarget(command.getName());
+    });
+
+    handlers.put(Command.MOVE_PET, (world, command) -> {
+      return world.movePetByPlayer(command.getSpaceName());
+    });
+
+    handlers.put(Command.ADD_PLAYER, (world, command) -> {
+      world.addPlayer(command.getName(), command.getSpaceName(), command.isHuman());
+      return "";
+    });
+
+    handlers.put(Command.DISPLAY_SPACE_INFO, (world, command) -> {
+      return world.getInfoOfaSpace(command.getSpaceName());
+    });
+
+    handlers.put(Command.DRAW_IMAGE, (world, command) -> {
+      world.drawImage();
+      return "";
+    });
+
+    handlers.put(Command.IS_GAME_OVER, (world, command) -> {
+      return world.isGameOver();
+    });
+
+    handlers.put(Command.PERFORM_COMPUTER_ACTION, (world, command) -> {
+      return world.performComputerAction();
+    });
+
+    handlers.put(Command.SET_WORLD, (world, command) -> {
+      world.setWorldTemplate(this.worldCache.get(command.getName()));
+      return "";
+    });
+
+    handlers.put(Command.IS_CURRENT_COMPUTER, (world, command) -> {
+      return world.getTurnInfo().get(1);
+    });
+  }
+
+  /**
+   * Runs the given command on the model.
+   *
+   * @param command The command to run
+   * @return The output of the command, which is empty for commands without one
+   * @throws IllegalArgumentException When command is null or the model rejects
+   *                                  its arguments
+   * @throws IllegalStateException    When the model cannot run the command in
+   *                                  its current state
+   */
+  public String dispatch(TypedCommand command)
+      throws IllegalArgumentException, IllegalStateException {
+    if (command == null) {
+      throw new IllegalArgumentException("Command cannot be null");
+    }
+
+    return handlers.get(command.getCommand()).execute(model, command);
+  }
+
+}
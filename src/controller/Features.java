@@ -16,6 +16,20 @@ public interface Features {
    */
   public void updateWorldSpecification(String worldSpecification) throws IllegalArgumentException;
 
+  /**
+   * Loads the world in the given file in the background. The world is used to
+   * build the next game once it is fully loaded.
+   * 
+   * @param filePath The path of the world specification or compiled world file
+   * @throws IllegalArgumentException When file path is null or empty
+   */
+  public void worldFileIsChosen(String filePath) throws IllegalArgumentException;
+
+  /**
+   * Used to tell the controller that the user has cancelled loading a world.
+   */
+  public void cancelWorldLoadIsClicked();
+
   /**
    * Used to add a player into the game.
    * 
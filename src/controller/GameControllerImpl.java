@@ -1,14 +1,19 @@
 package controller;
 
 import game.GameWorld;
-import java.io.StringReader;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import game.WorldTemplate;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.NoSuchElementException;
-import java.util.function.Function;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.swing.SwingUtilities;
 import view.GameView;
 
 /**
@@ -18,10 +23,22 @@ import view.GameView;
  */
 public class GameControllerImpl implements GameController, Features {
 
+  private static final int DEFAULT_WORLD_CACHE_CAPACITY = 4;
+
   private final GameWorld gameModel;
   private final GameView gameView;
   private String worldSpecification;
-  private final Map<Command, Function<List<String>, GameCommand>> commands;
+  private final CommandDispatcher commands;
+  private final WorldTemplateCache worldCache;
+  private final Executor worldLoadExecutor;
+  private WorldLoader worldLoader;
+  private WorldTemplate loadedWorld;
+  private Path loadedWorldImage;
+  private final Executor computerTurnExecutor;
+  private final Object modelLock;
+  private final AtomicReference<String> pendingComputerResult;
+  private volatile int computerTurnDelay;
+  private volatile boolean computerPlaying;
 
   /**
    * A contructor that is used to create an instance of the GameControllerImpl
@@ -33,6 +50,84 @@ public class GameControllerImpl implements GameController, Features {
    */
   public GameControllerImpl(GameWorld gameModel, GameView gameView)
       throws IllegalArgumentException {
+    this(gameModel, gameView, new WorldTemplateCache(DEFAULT_WORLD_CACHE_CAPACITY));
+  }
+
+  /**
+   * A contructor that is used to create an instance of the GameControllerImpl
+   * which shares the given cache of parsed worlds.
+   * 
+   * @param gameModel  The model of the game that is to be used
+   * @param gameView   The view of the game that is to be used
+   * @param worldCache The cache of parsed world templates
+   * @throws IllegalArgumentException When gameModel, gameView or worldCache is
+   *                                  null
+   */
+  public GameControllerImpl(GameWorld gameModel, GameView gameView,
+      WorldTemplateCache worldCache) throws IllegalArgumentException {
+    this(gameModel, gameView, worldCache, Executors.newSingleThreadExecutor((runnable) -> {
+      Thread loaderThread = new Thread(runnable, "world-loader");
+      loaderThread.setDaemon(true);
+      return loaderThread;
+    }));
+  }
+
+  /**
+   * A contructor that is used to create an instance of the GameControllerImpl
+   * which plays the turns of the computer players on the given executor, so
+   * that the window stays responsive while they play.
+   * 
+   * @param gameModel            The model of the game that is to be used
+   * @param gameView             The view of the game that is to be used
+   * @param computerTurnExecutor The executor on which the turns of the computer
+   *                             players are played
+   * @throws IllegalArgumentException When any of the arguments is null
+   */
+  public GameControllerImpl(GameWorld gameModel, GameView gameView,
+      Executor computerTurnExecutor) throws IllegalArgumentException {
+    this(gameModel, gameView, new WorldTemplateCache(DEFAULT_WORLD_CACHE_CAPACITY),
+        Executors.newSingleThreadExecutor((runnable) -> {
+          Thread loaderThread = new Thread(runnable, "world-loader");
+          loaderThread.setDaemon(true);
+          return loaderThread;
+        }), computerTurnExecutor);
+  }
+
+  /**
+   * A contructor that is used to create an instance of the GameControllerImpl
+   * which loads world files on the given executor.
+   * 
+   * @param gameModel         The model of the game that is to be used
+   * @param gameView          The view of the game that is to be used
+   * @param worldCache        The cache of parsed world templates
+   * @param worldLoadExecutor The executor on which world files are loaded
+   * @throws IllegalArgumentException When any of the arguments is null
+   */
+  public GameControllerImpl(GameWorld gameModel, GameView gameView,
+      WorldTemplateCache worldCache, Executor worldLoadExecutor)
+      throws IllegalArgumentException {
+    this(gameModel, gameView, worldCache, worldLoadExecutor, Runnable::run);
+  }
+
+  /**
+   * A contructor that is used to create an instance of the GameControllerImpl
+   * which loads world files and plays the turns of the computer players on the
+   * given executors. The turns of the computer players are played one after
+   * the other and the executor must not run two of its tasks at the same time.
+   * When the turns are played away from the event thread, their results are
+   * shown on the event thread.
+   * 
+   * @param gameModel            The model of the game that is to be used
+   * @param gameView             The view of the game that is to be used
+   * @param worldCache           The cache of parsed world templates
+   * @param worldLoadExecutor    The executor on which world files are loaded
+   * @param computerTurnExecutor The executor on which the turns of the computer
+   *                             players are played
+   * @throws IllegalArgumentException When any of the arguments is null
+   */
+  public GameControllerImpl(GameWorld gameModel, GameView gameView,
+      WorldTemplateCache worldCache, Executor worldLoadExecutor, Executor computerTurnExecutor)
+      throws IllegalArgumentException {
 
     if (gameModel == null) {
       throw new IllegalArgumentException("Game model cannot be null");
@@ -42,83 +137,34 @@ public class GameControllerImpl implements GameController, Features {
       throw new IllegalArgumentException("Game view cannot be null");
     }
 
+    if (worldCache == null) {
+      throw new IllegalArgumentException("World cache cannot be null");
+    }
+
+    if (worldLoadExecutor == null) {
+      throw new IllegalArgumentException("World load executor cannot be null");
+    }
+
+    if (computerTurnExecutor == null) {
+      throw new IllegalArgumentException("Computer turn executor cannot be null");
+    }
+
     gameView.setFeatures(this);
 
     this.gameModel = gameModel;
     this.gameView = gameView;
-    this.commands = new HashMap<Command, Function<List<String>, GameCommand>>();
+    this.commands = new CommandDispatcher(gameModel, worldCache);
     this.worldSpecification = "";
-
-    commands.put(Command.MOVE, (list) -> {
-      return new MovePlayer(Integer.parseInt(list.get(0)), Integer.parseInt(list.get(1)));
-    });
-
-    commands.put(Command.PICK_ITEM, (list) -> {
-      return new PickItem(list.get(0));
-    });
-
-    commands.put(Command.ADD_PLAYER, (list) -> {
-      return new AddPlayer(list.get(0), list.get(1), "true".equals(list.get(2)));
-    });
-
-    commands.put(Command.ATTACK_TARGET, (list) -> {
-      return new AttackTarget(list.get(0));
-    });
-
-    commands.put(Command.DISPLAY_SPACE_INFO, (list) -> {
-      return new DisplayInfoOfSpace(list.get(0));
-    });
-
-    commands.put(Command.DRAW_IMAGE, (list) -> {
-      return new DrawImage();
-    });
-
-    commands.put(Command.IS_GAME_OVER, (list) -> {
-      return new IsGameOver();
-    });
-
-    commands.put(Command.LOOK_AROUND, (list) -> {
-      return new LookAround();
-    });
-
-    commands.put(Command.MOVE_PET, (list) -> {
-      return new MovePet(list.get(0));
-    });
-
-    commands.put(Command.PERFORM_COMPUTER_ACTION, (list) -> {
-      return new PerformComputerAction();
-    });
-
-    commands.put(Command.SET_WORLD, (list) -> {
-      return new SetWorld(new StringReader(list.get(0)));
-    });
-
-    commands.put(Command.IS_CURRENT_COMPUTER, (list) -> {
-      return new IsCurrentComputer();
-    });
-
-  }
-
-  private String executeCmd(GameWorld model, Command currentCommand, List<String> args) {
-    if (model == null) {
-      throw new IllegalArgumentException("model cant be null");
-    }
-    if (currentCommand == null) {
-      throw new IllegalArgumentException("Command cant be null");
-    }
-    if (args == null) {
-      throw new IllegalArgumentException("Arguments cant be null");
-    }
-
-    Function<List<String>, GameCommand> cmd;
-    String result = "";
-    cmd = commands.get(currentCommand);
-    GameCommand comandOut = cmd.apply(args);
-    if (comandOut != null) {
-      comandOut.execute(model);
-      result = comandOut.getOutput();
-    }
-    return result;
+    this.worldCache = worldCache;
+    this.worldLoadExecutor = worldLoadExecutor;
+    this.worldLoader = null;
+    this.loadedWorld = null;
+    this.loadedWorldImage = null;
+    this.computerTurnExecutor = computerTurnExecutor;
+    this.modelLock = new Object();
+    this.pendingComputerResult = new AtomicReference<String>();
+    this.computerTurnDelay = 0;
+    this.computerPlaying = false;
   }
 
   @Override
@@ -143,6 +189,67 @@ public class GameControllerImpl implements GameController, Features {
     }
 
     this.worldSpecification = worldSpecification;
+    this.loadedWorld = null;
+    this.loadedWorldImage = null;
+  }
+
+  @Override
+  public void worldFileIsChosen(String filePath) throws IllegalArgumentException {
+    if (filePath == null) {
+      throw new IllegalArgumentException("File path cannot be null");
+    }
+
+    if (filePath.length() == 0) {
+      throw new IllegalArgumentException("File path cannot be empty");
+    }
+
+    if (worldLoader != null) {
+      worldLoader.cancel();
+    }
+
+    try {
+      worldLoader = new WorldLoader(Paths.get(filePath), worldCache, new WorldLoader.Listener() {
+        @Override
+        public void progress(String message, int percent) {
+          gameView.displayLoadProgress(message, percent);
+        }
+
+        @Override
+        public void loaded(WorldTemplate template, Path image) {
+          worldLoader = null;
+          worldSpecification = "";
+          loadedWorld = template;
+          loadedWorldImage = image;
+          gameView.hideLoadProgress();
+        }
+
+        @Override
+        public void failed(String message) {
+          worldLoader = null;
+          gameView.hideLoadProgress();
+          gameView.displayPopupMessage(message, "Error");
+        }
+      });
+      worldLoadExecutor.execute(worldLoader);
+    } catch (InvalidPathException | RejectedExecutionException e) {
+      worldLoader = null;
+      gameView.displayPopupMessage(e.getMessage(), "Error");
+    }
+  }
+
+  @Override
+  public void cancelWorldLoadIsClicked() {
+    try {
+      if (worldLoader != null) {
+        worldLoader.cancel();
+        worldLoader = null;
+      }
+      gameView.hideLoadProgress();
+    } catch (IllegalArgumentException ie) {
+      gameView.displayPopupMessage(ie.getMessage(), "Error");
+    } catch (IllegalStateException ie) {
+      gameView.displayPopupMessage(ie.getMessage(), "Error");
+    }
   }
 
   @Override
@@ -162,8 +269,7 @@ public class GameControllerImpl implements GameController, Features {
     }
 
     try {
-      executeCmd(gameModel, Command.ADD_PLAYER,
-          new ArrayList<String>(Arrays.asList(name, startingLocation, isHuman ? "true" : "false")));
+      commands.dispatch(TypedCommand.addPlayer(name, startingLocation, isHuman));
     } catch (IllegalArgumentException ise) {
       gameView.displayPopupMessage(ise.getMessage(), "Error");
     } catch (IllegalStateException ie) {
@@ -178,9 +284,12 @@ public class GameControllerImpl implements GameController, Features {
       throw new IllegalArgumentException("Coordinates cannot be negative");
     }
 
+    if (isComputerPlaying()) {
+      return;
+    }
+
     try {
-      String result = executeCmd(gameModel, Command.MOVE,
-          new ArrayList<String>(Arrays.asList(String.valueOf(xcoord), String.valueOf(ycoord))));
+      String result = commands.dispatch(TypedCommand.move(xcoord, ycoord));
       gameView.updateGameScreen(result);
       checkNextTurn();
     } catch (IllegalArgumentException ise) {
@@ -193,11 +302,23 @@ public class GameControllerImpl implements GameController, Features {
   @Override
   public void startGameIsClicked() {
     try {
-      if (worldSpecification.length() != 0) {
-        executeCmd(gameModel, Command.SET_WORLD,
-            new ArrayList<String>(Arrays.asList(worldSpecification)));
+      if (worldLoader != null) {
+        gameView.displayPopupMessage("The world is still being loaded", "Error");
+        return;
+      }
+
+      if (loadedWorld != null) {
+        GameCommand setWorld = new SetWorldTemplate(loadedWorld);
+        setWorld.execute(gameModel);
+        reportWorldCache();
+        useLoadedWorldImage();
+      } else {
+        if (worldSpecification.length() != 0) {
+          commands.dispatch(TypedCommand.setWorld(worldSpecification));
+          reportWorldCache();
+        }
+        commands.dispatch(TypedCommand.drawImage());
       }
-      executeCmd(gameModel, Command.DRAW_IMAGE, new ArrayList<String>());
       gameView.displayAddPlayerScreen(this);
     } catch (IllegalArgumentException | NoSuchElementException e) {
       gameView.displayPopupMessage(e.getMessage(), "Error");
@@ -206,6 +327,29 @@ public class GameControllerImpl implements GameController, Features {
     }
   }
 
+  /**
+   * Prints the hits and misses of the world cache on the console the game was
+   * started from, every time a world from the cache takes the place of the old
+   * one, so that its capacity can be chosen from real usage.
+   */
+  private void reportWorldCache() {
+    System.out.println(worldCache);
+  }
+
+  private void useLoadedWorldImage() {
+    if (loadedWorldImage == null) {
+      return;
+    }
+
+    try {
+      Files.move(loadedWorldImage, Paths.get(WorldTemplate.IMAGE_FILE),
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      commands.dispatch(TypedCommand.drawImage());
+    }
+    loadedWorldImage = null;
+  }
+
   @Override
   public void showGameScreen() {
     try {
@@ -218,29 +362,137 @@ public class GameControllerImpl implements GameController, Features {
     }
   }
 
+  /**
+   * Sets how long to wait before each turn of a computer player so that the
+   * turns can be followed on the screen. The wait happens on the thread which
+   * plays the computer turns, so a delay should only be used together with an
+   * executor which plays them away from the event thread.
+   * 
+   * @param delayMillis The delay before each computer turn in milliseconds, or
+   *                    zero to play the turns as fast as possible
+   * @throws IllegalArgumentException When delayMillis is negative
+   */
+  public void setComputerTurnDelay(int delayMillis) throws IllegalArgumentException {
+    if (delayMillis < 0) {
+      throw new IllegalArgumentException("Computer turn delay cannot be negative");
+    }
+
+    this.computerTurnDelay = delayMillis;
+  }
+
   private void checkNextTurn() {
+    if (computerPlaying) {
+      return;
+    }
+
+    computerPlaying = true;
+    Thread caller = Thread.currentThread();
     try {
-      String gameOverMessage = executeCmd(gameModel, Command.IS_GAME_OVER, new ArrayList<String>());
-      if (!"".equals(gameOverMessage)) {
-        gameView.displayPopupMessage(gameOverMessage, "");
-        gameView.exitGame();
-        return;
+      computerTurnExecutor.execute(() -> playComputerTurns(Thread.currentThread() == caller));
+    } catch (RejectedExecutionException e) {
+      computerPlaying = false;
+      gameView.displayPopupMessage("Unable to play the turns of the computer players", "Error");
+    }
+  }
+
+  /**
+   * Plays the turns of the computer players one after the other in a loop until
+   * a human player has to play or the game is over. When the turns are played
+   * on the thread which asked for them, the game screen is updated once with
+   * the result of the last turn. Otherwise the results are handed over to the
+   * event thread as they come, and a result which arrives before the screen
+   * was updated with the previous one replaces it, so the screen is redrawn at
+   * most once for every pass of the event thread.
+   * 
+   * @param onCallerThread True when the turns are played on the thread which
+   *                       asked for them
+   */
+  private void playComputerTurns(boolean onCallerThread) {
+    String result = null;
+    try {
+      while (computerPlaying) {
+        String gameOverMessage;
+        String computerOrNot;
+        synchronized (modelLock) {
+          gameOverMessage = commands.dispatch(TypedCommand.isGameOver());
+          computerOrNot = commands.dispatch(TypedCommand.isCurrentComputer());
+        }
+
+        if (!"".equals(gameOverMessage) || !"Computer".equals(computerOrNot)) {
+          String lastResult = onCallerThread ? result : null;
+          onEventThread(onCallerThread, () -> {
+            computerPlaying = false;
+            showComputerResult(lastResult);
+            if (!"".equals(gameOverMessage)) {
+              gameView.displayPopupMessage(gameOverMessage, "");
+              gameView.exitGame();
+            }
+          });
+          return;
+        }
+
+        if (computerTurnDelay > 0) {
+          Thread.sleep(computerTurnDelay);
+        }
+
+        synchronized (modelLock) {
+          result = commands.dispatch(TypedCommand.performComputerAction());
+        }
+
+        if (!onCallerThread) {
+          publishComputerResult(result);
+        }
       }
-      String computerOrNot = executeCmd(gameModel, Command.IS_CURRENT_COMPUTER,
-          new ArrayList<String>());
-      if ("Computer".equals(computerOrNot)) {
-        String result = executeCmd(gameModel, Command.PERFORM_COMPUTER_ACTION,
-            new ArrayList<String>());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      computerPlaying = false;
+    } catch (IllegalArgumentException | IllegalStateException e) {
+      String lastResult = onCallerThread ? result : null;
+      onEventThread(onCallerThread, () -> {
+        computerPlaying = false;
+        showComputerResult(lastResult);
+        gameView.displayPopupMessage(e.getMessage(), "Error");
+      });
+    }
+  }
+
+  private void onEventThread(boolean onCallerThread, Runnable action) {
+    if (onCallerThread) {
+      action.run();
+    } else {
+      SwingUtilities.invokeLater(action);
+    }
+  }
+
+  private void publishComputerResult(String result) {
+    if (pendingComputerResult.getAndSet(result) == null) {
+      SwingUtilities.invokeLater(() -> showComputerResult(pendingComputerResult.getAndSet(null)));
+    }
+  }
+
+  private void showComputerResult(String result) {
+    if (result != null) {
+      synchronized (modelLock) {
         gameView.updateGameScreen(result);
-        checkNextTurn();
       }
-    } catch (IllegalArgumentException ie) {
-      gameView.displayPopupMessage(ie.getMessage(), "Error");
-    } catch (IllegalStateException ie) {
-      gameView.displayPopupMessage(ie.getMessage(), "Error");
     }
   }
 
+  /**
+   * Tells the human player to wait while the computer players are still
+   * playing their turns.
+   * 
+   * @return True when the computer players are still playing
+   */
+  private boolean isComputerPlaying() {
+    if (computerPlaying) {
+      gameView.displayPopupMessage("Please wait for the computer players to finish their turns",
+          "Error");
+      return true;
+    }
+    return false;
+  }
+
   @Override
   public void pickItem(String itemName) throws IllegalArgumentException {
     if (itemName == null) {
@@ -251,9 +503,12 @@ public class GameControllerImpl implements GameController, Features {
       throw new IllegalArgumentException("Item name cannot be empty");
     }
 
+    if (isComputerPlaying()) {
+      return;
+    }
+
     try {
-      String result = executeCmd(gameModel, Command.PICK_ITEM,
-          new ArrayList<String>(Arrays.asList(itemName)));
+      String result = commands.dispatch(TypedCommand.pickItem(itemName));
       gameView.updateGameScreen(result);
       checkNextTurn();
     } catch (IllegalArgumentException ie) {
@@ -265,8 +520,12 @@ public class GameControllerImpl implements GameController, Features {
 
   @Override
   public void lookAround() {
+    if (isComputerPlaying()) {
+      return;
+    }
+
     try {
-      String result = executeCmd(gameModel, Command.LOOK_AROUND, new ArrayList<String>());
+      String result = commands.dispatch(TypedCommand.lookAround());
       gameView.updateGameScreen("");
       gameView.displayPopupMessage(result, "LookAround");
       checkNextTurn();
@@ -286,9 +545,13 @@ public class GameControllerImpl implements GameController, Features {
     if (itemName.length() == 0) {
       throw new IllegalArgumentException("Item name cannot be empty");
     }
+
+    if (isComputerPlaying()) {
+      return;
+    }
+
     try {
-      String result = executeCmd(gameModel, Command.ATTACK_TARGET,
-          new ArrayList<String>(Arrays.asList(itemName)));
+      String result = commands.dispatch(TypedCommand.attackTarget(itemName));
       gameView.updateGameScreen(result);
       checkNextTurn();
     } catch (IllegalArgumentException ie) {
@@ -306,9 +569,13 @@ public class GameControllerImpl implements GameController, Features {
     if (spaceName.length() == 0) {
       throw new IllegalArgumentException("Space name cannot be empty");
     }
+
+    if (isComputerPlaying()) {
+      return;
+    }
+
     try {
-      String result = executeCmd(gameModel, Command.MOVE_PET,
-          new ArrayList<String>(Arrays.asList(spaceName)));
+      String result = commands.dispatch(TypedCommand.movePet(spaceName));
       gameView.updateGameScreen(result);
       checkNextTurn();
     } catch (IllegalArgumentException ie) {
@@ -331,6 +598,12 @@ public class GameControllerImpl implements GameController, Features {
 
   @Override
   public void pickItemIsPressed() {
+    // the popup lists what it offers from the model, which the computer
+    // players may be changing
+    if (isComputerPlaying()) {
+      return;
+    }
+
     try {
       gameView.displayPickItemPopup(this);
     } catch (IllegalArgumentException ie) {
@@ -342,6 +615,12 @@ public class GameControllerImpl implements GameController, Features {
 
   @Override
   public void attackTargetIsPressed() {
+    // the popup lists what it offers from the model, which the computer
+    // players may be changing
+    if (isComputerPlaying()) {
+      return;
+    }
+
     try {
       gameView.displayAttackTargetPopup(this);
     } catch (IllegalArgumentException ie) {
@@ -353,6 +632,12 @@ public class GameControllerImpl implements GameController, Features {
 
   @Override
   public void movePetIsPressed() {
+    // the popup lists what it offers from the model, which the computer
+    // players may be changing
+    if (isComputerPlaying()) {
+      return;
+    }
+
     try {
       gameView.displayMovePetPopup(this);
     } catch (IllegalArgumentException ie) {
@@ -376,6 +661,7 @@ public class GameControllerImpl implements GameController, Features {
 
   @Override
   public void exitIsClicked() {
+    computerPlaying = false;
     try {
       gameView.exitGame();
     } catch (IllegalArgumentException ie) {
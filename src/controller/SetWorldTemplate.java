@@ -0,0 +1,42 @@
+package controller;
+
+import game.GameWorld;
+import game.WorldTemplate;
+
+/**
+ * A class which is used as a command to execute the corresponding method in
+ * GameWorld model to set a world from an already validated world template.
+ */
+public class SetWorldTemplate implements GameCommand {
+  private final WorldTemplate template;
+
+  /**
+   * A constructor to create instance of the class with the specified world
+   * template.
+   * 
+   * @param template The validated template of the world
+   * @throws IllegalArgumentException When template is null
+   */
+  public SetWorldTemplate(WorldTemplate template) throws IllegalArgumentException {
+    if (template == null) {
+      throw new IllegalArgumentException("World template cannot be null");
+    }
+
+    this.template = template;
+  }
+
+  @Override
+  public void execute(GameWorld model) throws IllegalArgumentException {
+    if (model == null) {
+      throw new IllegalArgumentException("Model cannot be null");
+    }
+
+    model.setWorldTemplate(template);
+  }
+
+  @Override
+  public String getOutput() {
+    return "";
+  }
+
+}
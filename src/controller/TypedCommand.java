@@ -0,0 +1,268 @@
+package controller;
+
+/**
+ * An immutable command with its arguments kept in their own types, which can be
+ * dispatched to a model by a CommandDispatcher without turning the arguments
+ * into strings and back. Commands without arguments are shared, and commands
+ * with arguments can be created once and dispatched any number of times.
+ */
+public final class TypedCommand {
+
+  private static final TypedCommand LOOK_AROUND = new TypedCommand(Command.LOOK_AROUND, 0, 0,
+      null, null, false);
+  private static final TypedCommand DRAW_IMAGE = new TypedCommand(Command.DRAW_IMAGE, 0, 0, null,
+      null, false);
+  private static final TypedCommand IS_GAME_OVER = new TypedCommand(Command.IS_GAME_OVER, 0, 0,
+      null, null, false);
+  private static final TypedCommand PERFORM_COMPUTER_ACTION = new TypedCommand(
+      Command.PERFORM_COMPUTER_ACTION, 0, 0, null, null, false);
+  private static final TypedCommand IS_CURRENT_COMPUTER = new TypedCommand(
+      Command.IS_CURRENT_COMPUTER, 0, 0, null, null, false);
+
+  private final Command command;
+  private final int xcoord;
+  private final int ycoord;
+  private final String name;
+  private final String spaceName;
+  private final boolean isHuman;
+
+  private TypedCommand(Command command, int xcoord, int ycoord, String name, String spaceName,
+      boolean isHuman) {
+    this.command = command;
+    this.xcoord = xcoord;
+    this.ycoord = ycoord;
+    this.name = name;
+    this.spaceName = spaceName;
+    this.isHuman = isHuman;
+  }
+
+  private static String checkName(String name, String kind) throws IllegalArgumentException {
+    if (name == null) {
+      throw new IllegalArgumentException(kind + " cannot be null");
+    }
+
+    if (name.length() == 0) {
+      throw new IllegalArgumentException(kind + " cannot be empty string");
+    }
+    return name;
+  }
+
+  /**
+   * Creates a command which moves the current player to the space at the given
+   * point of the world.
+   *
+   * @param xcoord The x coordinate of the mouse click on the world
+   * @param ycoord The y coordinate of the mouse click on the world
+   * @return The command
+   * @throws IllegalArgumentException When coordinates are negative
+   */
+  public static TypedCommand move(int xcoord, int ycoord) throws IllegalArgumentException {
+    if (xcoord < 0 || ycoord < 0) {
+      throw new IllegalArgumentException("Coordinates cannot be negative");
+    }
+    return new TypedCommand(Command.MOVE, xcoord, ycoord, null, null, false);
+  }
+
+  /**
+   * Creates a command which picks up an item for the current player.
+   *
+   * @param itemName The name of the item to pick up
+   * @return The command
+   * @throws IllegalArgumentException When itemName is null or empty
+   */
+  public static TypedCommand pickItem(String itemName) throws IllegalArgumentException {
+    return new TypedCommand(Command.PICK_ITEM, 0, 0, checkName(itemName, "Item name"), null,
+        false);
+  }
+
+  /**
+   * Gets the command which makes the current player look around.
+   *
+   * @return The command
+   */
+  public static TypedCommand lookAround() {
+    return LOOK_AROUND;
+  }
+
+  /**
+   * Creates a command which makes the current player attack the target.
+   *
+   * @param itemName The name of the item to attack with
+   * @return The command
+   * @throws IllegalArgumentException When itemName is null or empty
+   */
+  public static TypedCommand attackTarget(String itemName) throws IllegalArgumentException {
+    return new TypedCommand(Command.ATTACK_TARGET, 0, 0, checkName(itemName, "Item name"), null,
+        false);
+  }
+
+  /**
+   * Creates a command which moves the pet to the given space.
+   *
+   * @param spaceName The name of the space to move the pet to
+   * @return The command
+   * @throws IllegalArgumentException When spaceName is null or empty
+   */
+  public static TypedCommand movePet(String spaceName) throws IllegalArgumentException {
+    return new TypedCommand(Command.MOVE_PET, 0, 0, null, checkName(spaceName, "Space name"),
+        false);
+  }
+
+  /**
+   * Creates a command which adds a player to the world.
+   *
+   * @param playerName        The name of the player to add
+   * @param startingSpaceName The name of the space to add the player to
+   * @param isHuman           True if the player is a human
+   * @return The command
+   * @throws IllegalArgumentException When playerName or startingSpaceName is null
+   *                                  or empty
+   */
+  public static TypedCommand addPlayer(String playerName, String startingSpaceName,
+      boolean isHuman) throws IllegalArgumentException {
+    return new TypedCommand(Command.ADD_PLAYER, 0, 0, checkName(playerName, "Player name"),
+        checkName(startingSpaceName, "Space name"), isHuman);
+  }
+
+  /**
+   * Creates a command which gets the information of a space.
+   *
+   * @param spaceName The name of the space
+   * @return The command
+   * @throws IllegalArgumentException When spaceName is null or empty
+   */
+  public static TypedCommand displaySpaceInfo(String spaceName) throws IllegalArgumentException {
+    return new TypedCommand(Command.DISPLAY_SPACE_INFO, 0, 0, null,
+        checkName(spaceName, "Space name"), false);
+  }
+
+  /**
+   * Gets the command which draws the image of the world.
+   *
+   * @return The command
+   */
+  public static TypedCommand drawImage() {
+    return DRAW_IMAGE;
+  }
+
+  /**
+   * Gets the command which checks whether the game is over.
+   *
+   * @return The command
+   */
+  public static TypedCommand isGameOver() {
+    return IS_GAME_OVER;
+  }
+
+  /**
+   * Gets the command which plays the turn of the current computer player.
+   *
+   * @return The command
+   */
+  public static TypedCommand performComputerAction() {
+    return PERFORM_COMPUTER_ACTION;
+  }
+
+  /**
+   * Creates a command which sets up a new world from its specification.
+   *
+   * @param worldSpecification The specification of the world
+   * @return The command
+   * @throws IllegalArgumentException When worldSpecification is null or empty
+   */
+  public static TypedCommand setWorld(String worldSpecification)
+      throws IllegalArgumentException {
+    return new TypedCommand(Command.SET_WORLD, 0, 0,
+        checkName(worldSpecification, "World specification"), null, false);
+  }
+
+  /**
+   * Gets the command which checks whether the current player is a computer.
+   *
+   * @return The command
+   */
+  public static TypedCommand isCurrentComputer() {
+    return IS_CURRENT_COMPUTER;
+  }
+
+  /**
+   * Gets the kind of the command.
+   *
+   * @return The kind of the command
+   */
+  public Command getCommand() {
+    return command;
+  }
+
+  /**
+   * Gets the x coordinate of a move command.
+   *
+   * @return The x coordinate, or zero for other commands
+   */
+  public int getX() {
+    return xcoord;
+  }
+
+  /**
+   * Gets the y coordinate of a move command.
+   *
+   * @return The y coordinate, or zero for other commands
+   */
+  public int getY() {
+    return ycoord;
+  }
+
+  /**
+   * Gets the name of the item, the player or the world specification of the
+   * command.
+   *
+   * @return The name, or null when the command has none
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the name of the space of the command.
+   *
+   * @return The name of the space, or null when the command has none
+   */
+  public String getSpaceName() {
+    return spaceName;
+  }
+
+  /**
+   * Gets whether the player added by the command is a human.
+   *
+   * @return True if the player is a human else false
+   */
+  public boolean isHuman() {
+    return isHuman;
+  }
+
+  /**
+   * Returns a string representation of this command in the form
+   * "TypedCommand(MOVE, 30, 50)" with the arguments the command uses.
+   *
+   * @return String format of this instance
+   */
+  @Override
+  public String toString() {
+    switch (command) {
+      case MOVE:
+        return String.format("TypedCommand(%s, %d, %d)", command, xcoord, ycoord);
+      case PICK_ITEM:
+      case ATTACK_TARGET:
+      case SET_WORLD:
+        return String.format("TypedCommand(%s, %s)", command, name);
+      case MOVE_PET:
+      case DISPLAY_SPACE_INFO:
+        return String.format("TypedCommand(%s, %s)", command, spaceName);
+      case ADD_PLAYER:
+        return String.format("TypedCommand(%s, %s, %s, %b)", command, name, spaceName, isHuman);
+      default:
+        return String.format("TypedCommand(%s)", command);
+    }
+  }
+
+}
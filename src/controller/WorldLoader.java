@@ -0,0 +1,238 @@
+package controller;
+
+import game.WorldTemplate;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+
+/**
+ * Loads a world file away from the event thread. The file is read, parsed,
+ * validated and drawn into an image file in the background, and the progress
+ * and the result are handed back on the event thread. A load can be cancelled
+ * at any point, after which none of its callbacks are called.
+ */
+class WorldLoader implements Runnable {
+
+  /**
+   * The callbacks of a load, all of which are called on the event thread.
+   */
+  interface Listener {
+
+    /**
+     * Called when the load reaches a new stage or makes progress.
+     *
+     * @param message The stage of the load
+     * @param percent How much of the load is done, between 0 and 100
+     */
+    void progress(String message, int percent);
+
+    /**
+     * Called when the world is fully built.
+     *
+     * @param template The template of the loaded world
+     * @param image    The file which holds the image of the loaded world
+     */
+    void loaded(WorldTemplate template, Path image);
+
+    /**
+     * Called when the world could not be loaded.
+     *
+     * @param message The reason why the world could not be loaded
+     */
+    void failed(String message);
+  }
+
+  private static final int READ_BUFFER_SIZE = 1 << 16;
+  private static final int READ_PERCENT = 40;
+  private static final int PARSE_PERCENT = 85;
+
+  private final Path file;
+  private final WorldTemplateCache cache;
+  private final Listener listener;
+  private volatile boolean cancelled;
+  private String reportedMessage;
+  private int reportedPercent;
+
+  /**
+   * Creates a load of the given world file.
+   *
+   * @param file     The world specification or compiled world file
+   * @param cache    The cache of parsed world templates
+   * @param listener The callbacks of the load
+   * @throws IllegalArgumentException When any of the arguments is null
+   */
+  WorldLoader(Path file, WorldTemplateCache cache, Listener listener)
+      throws IllegalArgumentException {
+    if (file == null) {
+      throw new IllegalArgumentException("File cannot be null");
+    }
+
+    if (cache == null) {
+      throw new IllegalArgumentException("Cache cannot be null");
+    }
+
+    if (listener == null) {
+      throw new IllegalArgumentException("Listener cannot be null");
+    }
+
+    this.file = file;
+    this.cache = cache;
+    this.listener = listener;
+    this.cancelled = false;
+    this.reportedMessage = "";
+    this.reportedPercent = -1;
+  }
+
+  /**
+   * Cancels the load. The loader stops at the next chunk of the file it reads
+   * and no more callbacks are called.
+   */
+  void cancel() {
+    cancelled = true;
+  }
+
+  /**
+   * Checks whether the load has been cancelled.
+   *
+   * @return True if the load has been cancelled else false
+   */
+  boolean isCancelled() {
+    return cancelled;
+  }
+
+  @Override
+  public void run() {
+    Path image = null;
+    try {
+      WorldTemplate template;
+      if (WorldTemplate.isCompiled(file)) {
+        report("Reading compiled world", 0);
+        template = WorldTemplate.readCompiled(file);
+      } else {
+        String worldSpecification = readSpecification();
+        report("Validating world", READ_PERCENT);
+        template = cache.get(worldSpecification,
+            (source) -> new ProgressReadable(source, worldSpecification.length()));
+      }
+
+      checkCancelled();
+      report("Drawing world", PARSE_PERCENT);
+      File imageFile = File.createTempFile("TheWorld", ".png");
+      imageFile.deleteOnExit();
+      image = imageFile.toPath();
+      template.drawImage(image);
+
+      checkCancelled();
+      report("World loaded", 100);
+      final Path loadedImage = image;
+      deliver(() -> listener.loaded(template, loadedImage));
+    } catch (CancellationException e) {
+      deleteImage(image);
+    } catch (NoSuchFileException e) {
+      deleteImage(image);
+      deliver(() -> listener.failed("File not found"));
+    } catch (IOException e) {
+      deleteImage(image);
+      deliver(() -> listener.failed("Cannot read the content of file"));
+    } catch (IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+      deleteImage(image);
+      deliver(() -> listener.failed(e.getMessage()));
+    } catch (RuntimeException e) {
+      // any other failure still has to take the progress off the screen
+      deleteImage(image);
+      deliver(() -> listener.failed("Cannot load the world: " + e));
+    }
+  }
+
+  private String readSpecification() throws IOException, CancellationException {
+    long size = Math.max(1, Files.size(file));
+    StringBuilder worldSpecification = new StringBuilder(
+        (int) Math.min(size, Integer.MAX_VALUE - 8));
+    char[] chunk = new char[READ_BUFFER_SIZE];
+
+    report("Reading world file", 0);
+    try (Reader reader = new InputStreamReader(Files.newInputStream(file),
+        StandardCharsets.UTF_8)) {
+      int read;
+      while ((read = reader.read(chunk)) != -1) {
+        checkCancelled();
+        worldSpecification.append(chunk, 0, read);
+        report("Reading world file",
+            (int) Math.min(READ_PERCENT, worldSpecification.length() * READ_PERCENT / size));
+      }
+    }
+
+    return worldSpecification.toString();
+  }
+
+  private void checkCancelled() throws CancellationException {
+    if (cancelled) {
+      throw new CancellationException("The world load was cancelled");
+    }
+  }
+
+  private void report(String message, int percent) {
+    if (percent == reportedPercent && message.equals(reportedMessage)) {
+      return;
+    }
+
+    reportedMessage = message;
+    reportedPercent = percent;
+    deliver(() -> listener.progress(message, percent));
+  }
+
+  private void deliver(Runnable callback) {
+    SwingUtilities.invokeLater(() -> {
+      if (!cancelled) {
+        callback.run();
+      }
+    });
+  }
+
+  private static void deleteImage(Path image) {
+    if (image != null) {
+      image.toFile().delete();
+    }
+  }
+
+  /**
+   * Reports the parsing progress while the specification is read and stops the
+   * parsing once the load is cancelled.
+   */
+  private class ProgressReadable implements Readable {
+
+    private final Readable source;
+    private final long length;
+    private long consumed;
+
+    ProgressReadable(Readable source, long length) {
+      this.source = source;
+      this.length = Math.max(1, length);
+      this.consumed = 0;
+    }
+
+    @Override
+    public int read(CharBuffer cb) throws IOException {
+      checkCancelled();
+      int read = source.read(cb);
+      if (read > 0) {
+        consumed += read;
+        report("Validating world", READ_PERCENT
+            + (int) Math.min(PARSE_PERCENT - READ_PERCENT,
+                consumed * (PARSE_PERCENT - READ_PERCENT) / length));
+      }
+      return read;
+    }
+  }
+
+}
@@ -0,0 +1,172 @@
+package controller;
+
+import game.WorldTemplate;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.InputMismatchException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.UnaryOperator;
+
+/**
+ * A bounded cache of validated world templates keyed by a hash of the content
+ * of their world specification. When the cache is full, the template which was
+ * used least recently is removed. It keeps count of hits and misses so that
+ * the capacity can be chosen from real usage. It can be shared between the
+ * thread which loads worlds and the event thread.
+ */
+public class WorldTemplateCache {
+
+  private final int capacity;
+  private final Map<String, WorldTemplate> templates;
+  private long hits;
+  private long misses;
+
+  /**
+   * Constructs an empty cache which holds at most the given number of
+   * templates.
+   *
+   * @param capacity The maximum number of templates to keep
+   * @throws IllegalArgumentException When capacity is less than one
+   */
+  public WorldTemplateCache(int capacity) throws IllegalArgumentException {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity cannot be less than one");
+    }
+
+    this.capacity = capacity;
+    this.templates = new LinkedHashMap<String, WorldTemplate>(16, 0.75f, true) {
+      private static final long serialVersionUID = 2764263781412536457L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, WorldTemplate> eldest) {
+        return size() > WorldTemplateCache.this.capacity;
+      }
+    };
+    this.hits = 0;
+    this.misses = 0;
+  }
+
+  /**
+   * Gets the template of the given world specification, parsing and validating
+   * it only when the same specification is not already in the cache.
+   *
+   * @param worldSpecification The world specification text
+   * @return The template of the world
+   * @throws IllegalArgumentException When the world specification is null or
+   *                                  empty or is not a valid world
+   * @throws InputMismatchException   When the world specification is not in the
+   *                                  required format
+   * @throws NoSuchElementException   When the world specification is incomplete
+   */
+  public WorldTemplate get(String worldSpecification)
+      throws IllegalArgumentException, InputMismatchException, NoSuchElementException {
+    return get(worldSpecification, UnaryOperator.identity());
+  }
+
+  /**
+   * Gets the template of the given world specification, parsing it through the
+   * given wrapper of its reader on a miss. The wrapper lets a caller follow or
+   * stop the parsing of a large specification. The lock of the cache is not
+   * held while parsing so that other callers are not blocked by it.
+   *
+   * @param worldSpecification The world specification text
+   * @param source             Wraps the reader of the specification used for
+   *                           parsing
+   * @return The template of the world
+   * @throws IllegalArgumentException When the world specification or source is
+   *                                  null, or when the world specification is
+   *                                  empty or is not a valid world
+   * @throws InputMismatchException   When the world specification is not in the
+   *                                  required format
+   * @throws NoSuchElementException   When the world specification is incomplete
+   */
+  WorldTemplate get(String worldSpecification, UnaryOperator<Readable> source)
+      throws IllegalArgumentException, InputMismatchException, NoSuchElementException {
+    if (worldSpecification == null) {
+      throw new IllegalArgumentException("World specification cannot be null");
+    }
+
+    if (worldSpecification.length() == 0) {
+      throw new IllegalArgumentException("World specification cannot be empty");
+    }
+
+    if (source == null) {
+      throw new IllegalArgumentException("Source cannot be null");
+    }
+
+    String key = hash(worldSpecification);
+
+    synchronized (this) {
+      WorldTemplate template = templates.get(key);
+      if (template != null) {
+        hits++;
+        return template;
+      }
+      misses++;
+    }
+
+    WorldTemplate template = WorldTemplate
+        .parse(source.apply(new StringReader(worldSpecification)));
+
+    synchronized (this) {
+      templates.put(key, template);
+    }
+    return template;
+  }
+
+  private static String hash(String worldSpecification) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of()
+          .formatHex(digest.digest(worldSpecification.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Gets the number of templates in the cache.
+   *
+   * @return The number of templates
+   */
+  public synchronized int size() {
+    return templates.size();
+  }
+
+  /**
+   * Gets the number of times a template was found in the cache.
+   *
+   * @return The number of hits
+   */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /**
+   * Gets the number of times a template had to be parsed.
+   *
+   * @return The number of misses
+   */
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /**
+   * Returns a string representation of this cache in the form
+   * "WorldTemplateCache(size = 1, capacity = 4, hits = 2, misses = 1)".
+   *
+   * @return String format of this instance
+   */
+  @Override
+  public synchronized String toString() {
+    return String.format("WorldTemplateCache(size = %d, capacity = %d, hits = %d, misses = %d)",
+        templates.size(), capacity, hits, misses);
+  }
+
+}
@@ -0,0 +1,77 @@
+package driver;
+
+import game.ComputerStrategy;
+import game.InterceptStrategy;
+import game.RandomStrategy;
+import game.WorldTemplate;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import sim.ExpectimaxSearch;
+import sim.MonteCarloSearch;
+import sim.StrategyMatch;
+
+/**
+ * A driver class which plays games between a computer player choosing at
+ * random, one planning where to meet the target, one choosing by Monte Carlo
+ * tree search and one choosing by expectimax search, and reports how often
+ * each of them won and how long their decisions took.
+ */
+public class CompareStrategies {
+
+  private static final int MAX_DEPTH = 12;
+
+  /**
+   * Main method of the driver class which runs the match.
+   *
+   * @param args command line arguments which contains the world file, the
+   *             number of games, the time budget of a search in milliseconds
+   *             and optionally the maximum number of turns of each player,
+   *             which is 50 by default, the number of threads playing the
+   *             games, which is the number of processors by default, and the
+   *             seed of the games, which is random by default
+   */
+  public static void main(String[] args) {
+    if (args.length < 3 || args.length > 6) {
+      System.out.println(
+          "Usage: CompareStrategies <world file> <games> <budget ms> [turns] [threads] [seed]");
+      return;
+    }
+
+    try {
+      int games = Integer.parseInt(args[1]);
+      long budget = Long.parseLong(args[2]);
+      int turns = args.length > 3 ? Integer.parseInt(args[3]) : 50;
+      int threads = args.length > 4 ? Integer.parseInt(args[4])
+          : Runtime.getRuntime().availableProcessors();
+      long seed = args.length > 5 ? Long.parseLong(args[5])
+          : ThreadLocalRandom.current().nextLong();
+
+      // the games already run on every thread, so every search uses one
+      Map<String, ComputerStrategy> strategies = new LinkedHashMap<>();
+      strategies.put("Random", new RandomStrategy());
+      strategies.put("Intercept", new InterceptStrategy());
+      strategies.put("Search", new MonteCarloSearch(budget, 1));
+      strategies.put("Expectimax", new ExpectimaxSearch(MAX_DEPTH, budget));
+
+      StrategyMatch match = new StrategyMatch(WorldTemplate.read(Paths.get(args[0])), turns,
+          strategies, threads);
+      System.out.println("Seed: " + seed);
+      System.out.println(match.run(games, seed));
+    } catch (FileNotFoundException | NoSuchFileException fne) {
+      System.out.println("Unable to find the world specification file.");
+    } catch (IOException ie) {
+      System.out.println("Unable to read the world specification file.");
+    } catch (NumberFormatException e) {
+      System.out.println("Please specify numbers for the games, budget, turns, threads and seed.");
+    } catch (IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+      System.out.println(e.getMessage());
+    }
+  }
+
+}
@@ -0,0 +1,48 @@
+package driver;
+
+import controller.TypedCommand;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import script.BinaryScriptWriter;
+import script.TextScriptReader;
+
+/**
+ * A driver class which compiles a text script of commands into a binary script
+ * which RunScript can read without parsing the text again.
+ */
+public class CompileScript {
+
+  /**
+   * Main method of the driver class which compiles the script.
+   * 
+   * @param args command line arguments which contains the path of the text
+   *             script and the path of the binary script to write
+   */
+  public static void main(String[] args) {
+    if (args.length != 2) {
+      System.out.println("Usage: CompileScript <text script> <binary script>");
+      return;
+    }
+
+    try (TextScriptReader script = new TextScriptReader(new FileReader(args[0]));
+        BinaryScriptWriter out = new BinaryScriptWriter(new FileOutputStream(args[1]))) {
+      long start = System.nanoTime();
+      long commands = 0;
+      for (TypedCommand command = script.next(); command != null; command = script.next()) {
+        out.write(command);
+        commands++;
+      }
+      System.out.println(String.format("Compiled %d commands into %s in %d ms", commands,
+          args[1], (System.nanoTime() - start) / 1_000_000));
+    } catch (FileNotFoundException fne) {
+      System.out.println("Unable to find the text script.");
+    } catch (IOException ie) {
+      System.out.println("Unable to write the binary script: " + ie.getMessage());
+    } catch (IllegalArgumentException e) {
+      System.out.println(e.getMessage());
+    }
+  }
+
+}
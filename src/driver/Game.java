@@ -1,12 +1,15 @@
 package driver;
 
-import controller.GameController;
 import controller.GameControllerImpl;
 import game.GameWorld;
 import game.WorldImpl;
+import game.WorldTemplate;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Executors;
 import utils.RandomManual;
 import view.GameView;
 import view.GameViewImpl;
@@ -20,36 +23,46 @@ public class Game {
    * Main method of the driver class which starts the game.
    * 
    * @param args command line arguments which contains filename and number of
-   *             turns
+   *             turns, the file can be a text world specification or a world
+   *             compiled with WorldCompiler, and optionally the delay before
+   *             each computer turn in milliseconds, which is zero by default
    */
   public static void main(String[] args) {
     try {
-      if (args.length == 2) {
+      if (args.length == 2 || args.length == 3) {
         String path = args[0];
 
         System.out.println(String.format("Reading the world specifications from %s...\n", path));
 
-        Readable mansionReadable = new FileReader(path);
-
         RandomManual rand = new RandomManual();
 
         int numOfTurns = Integer.parseInt(args[1]);
+        int computerTurnDelay = args.length == 3 ? Integer.parseInt(args[2]) : 0;
 
         System.out.println("Creating the world...\n");
 
-        GameWorld world = new WorldImpl(mansionReadable, rand, numOfTurns);
+        GameWorld world = new WorldImpl(WorldTemplate.read(Paths.get(path)), rand, numOfTurns);
         GameView gameView = new GameViewImpl("Killing Dr. Lucky - Board Game", world);
 
-        GameController gameController = new GameControllerImpl(world, gameView);
+        GameControllerImpl gameController = new GameControllerImpl(world, gameView,
+            Executors.newSingleThreadExecutor((runnable) -> {
+              Thread turnThread = new Thread(runnable, "computer-turns");
+              turnThread.setDaemon(true);
+              return turnThread;
+            }));
+        gameController.setComputerTurnDelay(computerTurnDelay);
         gameController.startGame();
 
       } else {
         System.out.println("Please specify the correct command.");
       }
-    } catch (FileNotFoundException fne) {
-      System.out.println("Unable to find the world specification text file.");
+    } catch (FileNotFoundException | NoSuchFileException fne) {
+      System.out.println("Unable to find the world specification file.");
+    } catch (IOException ie) {
+      System.out.println("Unable to read the world specification file.");
     } catch (NumberFormatException e) {
-      System.out.println("Please specify a number for the maximum turns in the game.");
+      System.out.println(
+          "Please specify numbers for the maximum turns and the computer turn delay.");
     } catch (IllegalArgumentException | NoSuchElementException ne) {
       System.out.println(ne.getMessage());
     }
@@ -0,0 +1,72 @@
+package driver;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import utils.MansionGenerator;
+import utils.MansionGenerator.DamageDistribution;
+
+/**
+ * A driver class which writes a generated world specification, used to create
+ * large worlds for load tests and benchmarks.
+ */
+public class GenerateMansion {
+
+  private static final String USAGE = "Usage: GenerateMansion <rooms> <output file or -> "
+      + "[item density] [min damage] [max damage] [UNIFORM|NORMAL|EXPONENTIAL] "
+      + "[max room size] [seed]";
+
+  /**
+   * Main method of the driver class which generates the world.
+   * 
+   * @param args command line arguments which contains the number of rooms, the
+   *             file to write the world to or - for the standard output, and
+   *             optionally the item density, the minimum and maximum damage of
+   *             the items, the damage distribution, the largest room size and
+   *             the seed
+   */
+  public static void main(String[] args) {
+    if (args.length < 2 || args.length > 8) {
+      System.out.println(USAGE);
+      return;
+    }
+
+    MansionGenerator generator;
+    try {
+      int rooms = Integer.parseInt(args[0]);
+      double itemDensity = args.length > 2 ? Double.parseDouble(args[2]) : 0.5;
+      int minDamage = args.length > 3 ? Integer.parseInt(args[3]) : 1;
+      int maxDamage = args.length > 4 ? Integer.parseInt(args[4]) : 10;
+      DamageDistribution distribution = args.length > 5 ? DamageDistribution.valueOf(args[5])
+          : DamageDistribution.UNIFORM;
+      int maxRoomSize = args.length > 6 ? Integer.parseInt(args[6]) : 3;
+      long seed = args.length > 7 ? Long.parseLong(args[7]) : 1;
+      generator = new MansionGenerator(rooms, itemDensity, minDamage, maxDamage, distribution,
+          maxRoomSize, seed);
+    } catch (IllegalArgumentException ie) {
+      System.out.println(ie.getMessage());
+      System.out.println(USAGE);
+      return;
+    }
+
+    boolean toStandardOutput = "-".equals(args[1]);
+    long start = System.nanoTime();
+    try (Writer out = new BufferedWriter(toStandardOutput
+        ? new OutputStreamWriter(System.out, StandardCharsets.UTF_8)
+        : new FileWriter(args[1], StandardCharsets.UTF_8), 1 << 16)) {
+      generator.generate(out);
+    } catch (IOException ie) {
+      System.out.println("Unable to write the world specification: " + ie.getMessage());
+      return;
+    }
+
+    if (!toStandardOutput) {
+      System.out.println(String.format("Generated %s into %s in %d ms", generator, args[1],
+          (System.nanoTime() - start) / 1_000_000));
+    }
+  }
+
+}
@@ -0,0 +1,76 @@
+package driver;
+
+import game.WorldTemplate;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import script.JournalWriter;
+import script.JournaledWorld;
+
+/**
+ * A driver class which plays one game between computer players without a view
+ * and writes it to a journal, which can be replayed with ReplayJournal.
+ */
+public class RecordJournal {
+
+  private static final int SYNC_EVERY = 4096;
+
+  /**
+   * Main method of the driver class which records the game.
+   * 
+   * @param args command line arguments which contains the world file, the
+   *             number of computer players, the maximum number of turns, the
+   *             journal file and optionally the seed of the game, which is
+   *             random by default
+   */
+  public static void main(String[] args) {
+    if (args.length < 4 || args.length > 5) {
+      System.out.println("Usage: RecordJournal <world file> <players> <turns> <journal> [seed]");
+      return;
+    }
+
+    try {
+      int players = Integer.parseInt(args[1]);
+      int turns = Integer.parseInt(args[2]);
+      long seed = args.length > 4 ? Long.parseLong(args[4])
+          : ThreadLocalRandom.current().nextLong();
+      if (players < 1) {
+        throw new IllegalArgumentException("Number of players cannot be less than one");
+      }
+
+      WorldTemplate template = WorldTemplate.read(Paths.get(args[0]));
+      long start = System.nanoTime();
+      int gameTurns = 0;
+      String outcome;
+      try (JournalWriter journal = new JournalWriter(Paths.get(args[3]), seed, turns,
+          SYNC_EVERY)) {
+        JournaledWorld world = new JournaledWorld(template, journal);
+        String[] spaces = world.getAllSpaces();
+        for (int i = 0; i < players; i++) {
+          world.addPlayer("Computer " + (i + 1),
+              spaces[(int) ((long) i * spaces.length / players)], false);
+        }
+
+        for (outcome = world.isGameOver(); outcome.isEmpty(); outcome = world.isGameOver()) {
+          world.performComputerAction();
+          gameTurns++;
+        }
+      }
+
+      System.out.println(String.format("Seed: %d\n%s\n%d turns recorded in %.3f s", seed,
+          outcome, gameTurns, (System.nanoTime() - start) / 1e9));
+    } catch (FileNotFoundException | NoSuchFileException fne) {
+      System.out.println("Unable to find the file " + fne.getMessage());
+    } catch (IOException ie) {
+      System.out.println("Unable to read or write a file: " + ie.getMessage());
+    } catch (NumberFormatException e) {
+      System.out.println("Please specify numbers for the players, turns and seed.");
+    } catch (IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+      System.out.println(e.getMessage());
+    }
+  }
+
+}
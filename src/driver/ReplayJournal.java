@@ -0,0 +1,59 @@
+package driver;
+
+import game.GameWorld;
+import game.WorldTemplate;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.NoSuchElementException;
+import script.JournalReplayer;
+
+/**
+ * A driver class which rebuilds a game recorded in a journal as it was after a
+ * given turn and prints the state of its players.
+ */
+public class ReplayJournal {
+
+  /**
+   * Main method of the driver class which replays the journal.
+   * 
+   * @param args command line arguments which contains the world file the game
+   *             was played in, the journal file and optionally the turn to
+   *             replay up to, which is the end of the journal by default
+   */
+  public static void main(String[] args) {
+    if (args.length < 2 || args.length > 3) {
+      System.out.println("Usage: ReplayJournal <world file> <journal> [turn]");
+      return;
+    }
+
+    try {
+      JournalReplayer replayer = new JournalReplayer(WorldTemplate.read(Paths.get(args[0])),
+          Paths.get(args[1]));
+
+      long start = System.nanoTime();
+      GameWorld world = args.length > 2 ? replayer.seek(Long.parseLong(args[2]))
+          : replayer.seekToEnd();
+      long elapsed = System.nanoTime() - start;
+
+      StringBuilder state = new StringBuilder();
+      state.append("Turn: ").append(world.getTurnInfo()).append('\n');
+      state.append("Target health: ").append(world.getTargetHealth()).append('\n');
+      for (String[] player : world.getAllPlayers()) {
+        state.append(world.getPlayerInfo(player[0])).append('\n');
+      }
+      System.out.print(state);
+      System.out.println(String.format("Replayed in %.3f s", elapsed / 1e9));
+    } catch (FileNotFoundException | NoSuchFileException fne) {
+      System.out.println("Unable to find the file " + fne.getMessage());
+    } catch (IOException ie) {
+      System.out.println("Unable to read a file: " + ie.getMessage());
+    } catch (NumberFormatException e) {
+      System.out.println("Please specify a number for the turn.");
+    } catch (IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+      System.out.println(e.getMessage());
+    }
+  }
+
+}
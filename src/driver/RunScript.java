@@ -0,0 +1,89 @@
+package driver;
+
+import controller.CommandDispatcher;
+import controller.WorldTemplateCache;
+import game.GameWorld;
+import game.WorldImpl;
+import game.WorldTemplate;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.NoSuchElementException;
+import script.BinaryScriptReader;
+import script.ScriptReader;
+import script.ScriptReport;
+import script.ScriptRunner;
+import script.TextScriptReader;
+import utils.RandomManual;
+
+/**
+ * A driver class which runs a script of commands against a world without a
+ * view, as fast as it can, and reports the number of commands run in a second.
+ */
+public class RunScript {
+
+  private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+  /**
+   * Main method of the driver class which runs the script.
+   * 
+   * @param args command line arguments which contains the world file, the
+   *             maximum number of turns, the script file, which can be a text
+   *             script or a script compiled with CompileScript, and optionally
+   *             the file the output of the commands is written to, or - for the
+   *             standard output, and the seed of the computer players
+   */
+  public static void main(String[] args) {
+    if (args.length < 3 || args.length > 5) {
+      System.out.println("Usage: RunScript <world file> <turns> <script> [output|-] [seed]");
+      return;
+    }
+
+    boolean toStandardOutput = args.length < 4 || "-".equals(args[3]);
+    try {
+      int turns = Integer.parseInt(args[1]);
+      RandomManual random = args.length > 4 ? RandomManual.seeded(Long.parseLong(args[4]))
+          : new RandomManual();
+      GameWorld world = new WorldImpl(WorldTemplate.read(Paths.get(args[0])), random, turns);
+      ScriptRunner runner = new ScriptRunner(
+          new CommandDispatcher(world, new WorldTemplateCache(1)));
+
+      ScriptReport report;
+      try (ScriptReader script = openScript(Paths.get(args[2]));
+          Writer out = new BufferedWriter(toStandardOutput ? new OutputStreamWriter(System.out)
+              : new FileWriter(args[3]), OUTPUT_BUFFER_SIZE)) {
+        report = runner.run(script, out);
+      }
+
+      if (toStandardOutput) {
+        System.err.println(report);
+      } else {
+        System.out.println(report);
+      }
+    } catch (FileNotFoundException | NoSuchFileException fne) {
+      System.out.println("Unable to find the file " + fne.getMessage());
+    } catch (IOException ie) {
+      System.out.println("Unable to read or write a file: " + ie.getMessage());
+    } catch (NumberFormatException e) {
+      System.out.println("Please specify numbers for the turns and seed.");
+    } catch (IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+      System.out.println(e.getMessage());
+    }
+  }
+
+  private static ScriptReader openScript(Path path) throws IOException {
+    if (BinaryScriptReader.isBinary(path)) {
+      return new BinaryScriptReader(new FileInputStream(path.toFile()));
+    }
+    return new TextScriptReader(new FileReader(path.toFile()));
+  }
+
+}
@@ -0,0 +1,97 @@
+package driver;
+
+import game.World;
+import game.WorldImpl;
+import game.WorldTemplate;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import sim.MonteCarloSearch;
+import sim.SearchResult;
+import utils.RandomManual;
+
+/**
+ * A driver class which plays a game between computer players without a view,
+ * where the first player chooses its actions by Monte Carlo tree search and
+ * the others at random. It reports every search and how many games were
+ * played out in a second, which helps choose a time budget for a turn.
+ */
+public class SearchGame {
+
+  /**
+   * Main method of the driver class which plays the game.
+   *
+   * @param args command line arguments which contains the world file, the
+   *             number of computer players, the time budget of a search in
+   *             milliseconds and optionally the maximum number of turns of
+   *             each player, which is 50 by default, the number of threads
+   *             searching, which is the number of processors by default, and
+   *             the seed of the game, which is random by default
+   */
+  public static void main(String[] args) {
+    if (args.length < 3 || args.length > 6) {
+      System.out.println(
+          "Usage: SearchGame <world file> <players> <budget ms> [turns] [threads] [seed]");
+      return;
+    }
+
+    try {
+      int players = Integer.parseInt(args[1]);
+      long budget = Long.parseLong(args[2]);
+      int turns = args.length > 3 ? Integer.parseInt(args[3]) : 50;
+      int threads = args.length > 4 ? Integer.parseInt(args[4])
+          : Runtime.getRuntime().availableProcessors();
+      long seed = args.length > 5 ? Long.parseLong(args[5])
+          : ThreadLocalRandom.current().nextLong();
+
+      if (players < 1 || players > 10) {
+        throw new IllegalArgumentException("Number of players must be between 1 and 10");
+      }
+
+      MonteCarloSearch search = new MonteCarloSearch(budget, threads);
+      World world = new WorldImpl(WorldTemplate.read(Paths.get(args[0])), RandomManual.seeded(seed),
+          turns);
+      String[] spaces = world.getAllSpaces();
+      for (int i = 0; i < players; i++) {
+        world.addPlayer("Computer " + (i + 1),
+            spaces[(int) ((long) i * spaces.length / players)], false);
+      }
+
+      System.out.println("Seed: " + seed);
+      int searches = 0;
+      long turn = 0;
+      while (world.isGameOver().isEmpty()) {
+        if ("Computer 1".equals(world.getTurnInfo().get(0))) {
+          SearchResult result = search.search(world, RandomManual.deriveSeed(seed, turn));
+          System.out.println(String.format("Turn %d: %s", turn, result));
+          if (result.getAction() == SearchResult.NO_ACTION) {
+            world.performComputerAction();
+          } else {
+            world.performAction(result.getAction());
+          }
+          searches++;
+        } else {
+          world.performComputerAction();
+        }
+        turn++;
+      }
+
+      System.out.println(world.isGameOver());
+      System.out.println(String.format("%d searches, %d rollouts (%.1f rollouts/s)", searches,
+          search.getRollouts(), search.getRolloutsPerSecond()));
+    } catch (FileNotFoundException | NoSuchFileException fne) {
+      System.out.println("Unable to find the world specification file.");
+    } catch (IOException ie) {
+      System.out.println("Unable to read the world specification file.");
+    } catch (NumberFormatException e) {
+      System.out.println(
+          "Please specify numbers for the players, budget, turns, threads and seed.");
+    } catch (IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+      System.out.println(e.getMessage());
+    }
+  }
+
+}
@@ -0,0 +1,60 @@
+package driver;
+
+import game.WorldTemplate;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import sim.ParallelSimulation;
+import sim.Simulation;
+
+/**
+ * A driver class which plays games between computer players without a view and
+ * reports how fast they were played and how they ended.
+ */
+public class Simulate {
+
+  /**
+   * Main method of the driver class which runs the simulation.
+   * 
+   * @param args command line arguments which contains the world file, the
+   *             number of computer players, the number of games and optionally
+   *             the maximum number of turns of each player, which is 50 by
+   *             default, and the number of threads playing the games, which is
+   *             the number of processors by default, and the seed of the
+   *             games, which is random by default
+   */
+  public static void main(String[] args) {
+    if (args.length < 3 || args.length > 6) {
+      System.out.println(
+          "Usage: Simulate <world file> <players> <games> [turns] [threads] [seed]");
+      return;
+    }
+
+    try {
+      int players = Integer.parseInt(args[1]);
+      int games = Integer.parseInt(args[2]);
+      int turns = args.length > 3 ? Integer.parseInt(args[3]) : 50;
+      int threads = args.length > 4 ? Integer.parseInt(args[4])
+          : Runtime.getRuntime().availableProcessors();
+      long seed = args.length > 5 ? Long.parseLong(args[5])
+          : ThreadLocalRandom.current().nextLong();
+
+      Simulation simulation = new Simulation(WorldTemplate.read(Paths.get(args[0])), players,
+          turns);
+      System.out.println("Seed: " + seed);
+      System.out.println(new ParallelSimulation(simulation, threads).run(games, seed));
+    } catch (FileNotFoundException | NoSuchFileException fne) {
+      System.out.println("Unable to find the world specification file.");
+    } catch (IOException ie) {
+      System.out.println("Unable to read the world specification file.");
+    } catch (NumberFormatException e) {
+      System.out.println("Please specify numbers for the players, games, turns, threads and seed.");
+    } catch (IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+      System.out.println(e.getMessage());
+    }
+  }
+
+}
@@ -0,0 +1,46 @@
+package driver;
+
+import game.WorldTemplate;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Paths;
+import java.util.NoSuchElementException;
+
+/**
+ * A driver class which compiles a text world specification into a compiled
+ * world file that the game can load without parsing and validating the world
+ * again.
+ */
+public class WorldCompiler {
+
+  /**
+   * Main method of the driver class which compiles the world.
+   * 
+   * @param args command line arguments which contains the path of the world
+   *             specification text file and the path of the compiled world file
+   *             to write
+   */
+  public static void main(String[] args) {
+    if (args.length != 2) {
+      System.out.println("Usage: WorldCompiler <world specification> <compiled world>");
+      return;
+    }
+
+    try (Reader mansionReader = new FileReader(args[0])) {
+      long start = System.nanoTime();
+      WorldTemplate template = WorldTemplate.parse(mansionReader);
+      template.writeCompiled(Paths.get(args[1]));
+      System.out.println(String.format("Compiled %s into %s in %d ms", template, args[1],
+          (System.nanoTime() - start) / 1_000_000));
+    } catch (FileNotFoundException fne) {
+      System.out.println("Unable to find the world specification text file.");
+    } catch (IOException ie) {
+      System.out.println("Unable to write the compiled world file: " + ie.getMessage());
+    } catch (IllegalArgumentException | NoSuchElementException ne) {
+      System.out.println(ne.getMessage());
+    }
+  }
+
+}
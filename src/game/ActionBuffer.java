@@ -0,0 +1,165 @@
+package game;
+
+import java.util.Arrays;
+
+/**
+ * A reusable list of actions, each stored as a single int holding the type of
+ * the action and its argument. A buffer is meant to be filled with the legal
+ * actions of a player again and again, so it keeps its array between uses and
+ * only grows it when it runs out of room.
+ */
+public final class ActionBuffer {
+
+  private static final int TYPE_BITS = 3;
+  private static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+  private static final ActionType[] TYPES = ActionType.values();
+
+  /**
+   * The largest argument an action can have.
+   */
+  public static final int MAX_ARGUMENT = Integer.MAX_VALUE >>> TYPE_BITS;
+
+  private int[] actions;
+  private int size;
+
+  /**
+   * Constructs an empty buffer.
+   */
+  public ActionBuffer() {
+    this(16);
+  }
+
+  /**
+   * Constructs an empty buffer with room for the given number of actions.
+   *
+   * @param capacity The number of actions the buffer has room for at first
+   * @throws IllegalArgumentException When capacity is negative
+   */
+  public ActionBuffer(int capacity) throws IllegalArgumentException {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity cannot be negative");
+    }
+
+    this.actions = new int[capacity];
+    this.size = 0;
+  }
+
+  /**
+   * Encodes an action of the given type with the given argument as an int.
+   *
+   * @param type     The type of the action
+   * @param argument The argument of the action
+   * @return The encoded action
+   * @throws IllegalArgumentException When type is null or argument is negative
+   *                                  or larger than MAX_ARGUMENT
+   */
+  public static int encode(ActionType type, int argument) throws IllegalArgumentException {
+    if (type == null) {
+      throw new IllegalArgumentException("Action type cannot be null");
+    }
+
+    if (argument < 0 || argument > MAX_ARGUMENT) {
+      throw new IllegalArgumentException("Action argument is out of range");
+    }
+    return (argument << TYPE_BITS) | type.ordinal();
+  }
+
+  /**
+   * Gets the type of an encoded action.
+   *
+   * @param action The encoded action
+   * @return The type of the action
+   * @throws IllegalArgumentException When action is not an encoded action
+   */
+  public static ActionType getType(int action) throws IllegalArgumentException {
+    int type = action & TYPE_MASK;
+    if (action < 0 || type >= TYPES.length) {
+      throw new IllegalArgumentException("The number is not an encoded action");
+    }
+    return TYPES[type];
+  }
+
+  /**
+   * Gets the argument of an encoded action.
+   *
+   * @param action The encoded action
+   * @return The argument of the action
+   */
+  public static int getArgument(int action) {
+    return action >>> TYPE_BITS;
+  }
+
+  /**
+   * Adds an encoded action to the end of the buffer.
+   *
+   * @param action The encoded action
+   */
+  public void add(int action) {
+    if (size == actions.length) {
+      actions = Arrays.copyOf(actions, Math.max(16, size * 2));
+    }
+    actions[size++] = action;
+  }
+
+  /**
+   * Adds an action of the given type with the given argument to the end of the
+   * buffer.
+   *
+   * @param type     The type of the action
+   * @param argument The argument of the action
+   * @throws IllegalArgumentException When type is null or argument is out of
+   *                                  range
+   */
+  public void add(ActionType type, int argument) throws IllegalArgumentException {
+    add(encode(type, argument));
+  }
+
+  /**
+   * Gets the encoded action at the given position.
+   *
+   * @param index The position of the action
+   * @return The encoded action
+   * @throws IndexOutOfBoundsException When index is not below the size
+   */
+  public int get(int index) throws IndexOutOfBoundsException {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " is out of bounds");
+    }
+    return actions[index];
+  }
+
+  /**
+   * Gets the number of actions in the buffer.
+   *
+   * @return The number of actions
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Removes every action from the buffer, keeping its room for new ones.
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * Returns a string representation of this buffer in the form
+   * "ActionBuffer(MOVE 3, PICK_ITEM 0, LOOK_AROUND 0)".
+   *
+   * @return String format of this instance
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder("ActionBuffer(");
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      sb.append(getType(actions[i])).append(' ').append(getArgument(actions[i]));
+    }
+    return sb.append(')').toString();
+  }
+
+}
@@ -0,0 +1,32 @@
+package game;
+
+/**
+ * The kinds of actions a player can take on its turn.
+ */
+public enum ActionType {
+  /**
+   * Moves the player to a neighbouring space, given by its index in the world.
+   */
+  MOVE,
+
+  /**
+   * Picks up an item, given by its position in the items of the current space.
+   */
+  PICK_ITEM,
+
+  /**
+   * Looks around the current space.
+   */
+  LOOK_AROUND,
+
+  /**
+   * Moves the pet to a space, given by its index in the world.
+   */
+  MOVE_PET,
+
+  /**
+   * Attacks the target with an item, given by its position in the items of the
+   * player, where the position after the last item is the player's hand.
+   */
+  ATTACK_TARGET
+}
@@ -4,10 +4,13 @@ import utils.RandomManual;
 
 /**
  * A class representing a player which is controlled by the computer and chooses
- * random actions to perform.
+ * its actions with a strategy, which picks random actions unless another
+ * strategy is given.
  */
 public class ComputerPlayer extends PlayerImpl {
 
+  private final ComputerStrategy strategy;
+
   /**
    * A constructor which is used to construct the instance of a Computer player.
    * 
@@ -16,7 +19,35 @@ public class ComputerPlayer extends PlayerImpl {
    *                          start from
    */
   public ComputerPlayer(String name, int currentSpaceIndex) {
+    this(name, currentSpaceIndex, new RandomStrategy());
+  }
+
+  /**
+   * A constructor which is used to construct the instance of a Computer player
+   * which chooses its actions with the given strategy.
+   *
+   * @param name              Name of the computer player
+   * @param currentSpaceIndex The index of the space the computer player should
+   *                          start from
+   * @param strategy          The strategy which chooses the actions of the player
+   * @throws IllegalArgumentException When strategy is null
+   */
+  public ComputerPlayer(String name, int currentSpaceIndex, ComputerStrategy strategy)
+      throws IllegalArgumentException {
     super(name, currentSpaceIndex);
+    if (strategy == null) {
+      throw new IllegalArgumentException("Strategy cannot be null");
+    }
+    this.strategy = strategy;
+  }
+
+  /**
+   * Gets the strategy which chooses the actions of this player.
+   *
+   * @return The strategy of the player
+   */
+  public ComputerStrategy getStrategy() {
+    return strategy;
   }
 
   @Override
@@ -32,8 +63,7 @@ public class ComputerPlayer extends PlayerImpl {
     if (moduloOn == 0 || random.isPredictable()) {
       return random.getNextNumber();
     }
-    int value = random.getNextNumber() % moduloOn;
-    return value;
+    return random.nextInt(moduloOn);
   }
 
   @Override
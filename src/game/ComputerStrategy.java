@@ -0,0 +1,27 @@
+package game;
+
+import utils.RandomManual;
+
+/**
+ * Chooses the actions of a computer player. A strategy is given to a player
+ * when it is added to the world and is asked for an action on every turn of
+ * the player. Forked worlds share the strategies of their players, so a
+ * strategy may be asked for actions from several threads at once.
+ */
+@FunctionalInterface
+public interface ComputerStrategy {
+
+  /**
+   * Chooses the action of the current turn player of a game.
+   *
+   * @param view   The game, which cannot be changed through the view
+   * @param random The random numbers of the game
+   * @return One of the legal actions of the current player, encoded as in
+   *         ActionBuffer
+   * @throws IllegalArgumentException When view or random is null
+   * @throws IllegalStateException    When the game is over or has no players
+   */
+  public int chooseAction(WorldView view, RandomManual random)
+      throws IllegalArgumentException, IllegalStateException;
+
+}
@@ -33,10 +33,12 @@ public interface GameWorld extends ReadOnlyModel {
    *                                  columns is less than 1 or list of spaces is
    *                                  empty or world/target/pet name is null or
    *                                  empty string or when the target's health is
-   *                                  less than 1 or when there is an overlap
-   *                                  among spaces
+   *                                  less than 1 or when the top left corner of
+   *                                  a space is after its bottom right corner or
+   *                                  when there is an overlap among spaces
    * @throws InputMismatchException   When the input world specification is not
-   *                                  present in the required format
+   *                                  present in the required format, the message
+   *                                  gives the line and column of the mismatch
    * @throws NoSuchElementException   When the number of spaces or items specified
    *                                  does not match the actual number of spaces
    *                                  or items in the text
@@ -44,6 +46,15 @@ public interface GameWorld extends ReadOnlyModel {
   public void setWorldSpecification(Readable worldData)
       throws IllegalArgumentException, NoSuchElementException, InputMismatchException;
 
+  /**
+   * Sets the model's world using an already validated world template. The world
+   * is reset to the start of a game in the template's layout.
+   * 
+   * @param template The validated template of the world
+   * @throws IllegalArgumentException When template is null
+   */
+  public void setWorldTemplate(WorldTemplate template) throws IllegalArgumentException;
+
   /**
    * Add a player to the world.
    * 
@@ -67,6 +78,17 @@ public interface GameWorld extends ReadOnlyModel {
    */
   public String movePlayerInWorld(int xcoord, int ycoord) throws IllegalArgumentException;
 
+  /**
+   * Gets a point of the map which lies in the given space, so that giving it
+   * to movePlayerInWorld moves the current turn player to that space.
+   * 
+   * @param spaceName Name of the space
+   * @return the x and y coordinates of the point
+   * @throws IllegalArgumentException when the space name is null or the space
+   *                                  is not present in the world
+   */
+  public int[] getPointInSpace(String spaceName) throws IllegalArgumentException;
+
   /**
    * Adds the specified item to the player's items list.
    * 
@@ -97,6 +119,33 @@ public interface GameWorld extends ReadOnlyModel {
    */
   public String performComputerAction();
 
+  /**
+   * Lists every action the current turn player can take into the given buffer,
+   * which is cleared first: the moves to the neighbouring spaces which are not
+   * hidden by the pet, the items of the current space when the player has room
+   * for one, looking around, the moves of the pet to every other space and, when
+   * the target is in the same space, the attacks with every item of the player
+   * and with the hand. The buffer is left empty when the game is over or has no
+   * players.
+   *
+   * @param buffer The buffer to fill with the encoded actions
+   * @throws IllegalArgumentException When buffer is null
+   */
+  public void legalActions(ActionBuffer buffer) throws IllegalArgumentException;
+
+  /**
+   * Performs an action listed by legalActions as the current turn player.
+   *
+   * @param action The encoded action
+   * @return The summary of the action, the same as the one of the method which
+   *         performs that kind of action
+   * @throws IllegalArgumentException When action is not an encoded action or is
+   *                                  not legal for the current turn player
+   * @throws IllegalStateException    When the game is over or has no players, or
+   *                                  the action cannot be performed now
+   */
+  public String performAction(int action) throws IllegalArgumentException, IllegalStateException;
+
   /**
    * Moves the pet to the specified space name by the the current turn player.
    * 
@@ -0,0 +1,158 @@
+package game;
+
+import utils.RandomManual;
+
+/**
+ * A strategy which plans where to meet the target instead of wandering. The
+ * target moves on to the next space after every turn, so the space it will be
+ * in on every coming turn of the player is known without playing the turns,
+ * and the distances between the spaces tell how many of those turns the player
+ * needs to get there. The player heads for the first of its turns on which it
+ * can reach the space of the target, picking up items on the way while it has
+ * turns to spare, and attacks with its most damaging item as soon as the
+ * target is in its space and no other player can see it. When the target can
+ * never be reached the player acts as the random strategy does.
+ */
+public final class InterceptStrategy implements ComputerStrategy {
+
+  private static final ComputerStrategy RANDOM = new RandomStrategy();
+
+  @Override
+  public int chooseAction(WorldView view, RandomManual random)
+      throws IllegalArgumentException, IllegalStateException {
+    if (view == null) {
+      throw new IllegalArgumentException("World view cannot be null");
+    }
+
+    if (random == null) {
+      throw new IllegalArgumentException("Random instance cannot be null");
+    }
+
+    int count = view.countLegalActions();
+    if (count == 0) {
+      throw new IllegalStateException("The game is over or has no players");
+    }
+
+    // the attacks come last, one for every item of the player and one for the
+    // hand, which is also the last of the names of its items
+    if (ActionBuffer.getType(view.getLegalAction(count - 1)) == ActionType.ATTACK_TARGET
+        && !view.isCurrentPlayerSeen()) {
+      int items = view.getCurrentPlayerItems().length - 1;
+      int best = items;
+      for (int i = 0; i < items; i++) {
+        if (best == items
+            || view.getDamageOfCurrentPlayerItem(best) < view.getDamageOfCurrentPlayerItem(i)) {
+          best = i;
+        }
+      }
+      return view.getLegalAction(count - items - 1 + best);
+    }
+
+    int player = view.getCurrentPlayerIndex();
+    int space = view.getSpaceIndexOfPlayer(player);
+    int players = view.getAllPlayers().length;
+    int spaces = view.getAllSpaces().length;
+
+    // the target was missed on this turn, so the plan starts from the next one
+    for (int turn = 1; turn < 2 * spaces; turn++) {
+      int meeting = view.getSpaceIndexOfTargetAfter(turn * players);
+      int distance = view.getDistance(space, meeting);
+      if (distance < 0 || distance > turn) {
+        continue;
+      }
+
+      if (distance < turn) {
+        int pick = find(view, count, ActionType.PICK_ITEM, -1, 0);
+        if (pick >= 0) {
+          return pick;
+        }
+      }
+
+      if (distance == 0) {
+        return find(view, count, ActionType.LOOK_AROUND, -1, 0);
+      }
+
+      // the pet may stand in the only space on the way, in which case a later
+      // meeting is planned
+      int move = find(view, count, ActionType.MOVE, meeting, distance - 1);
+      if (move >= 0) {
+        return move;
+      }
+    }
+
+    return RANDOM.chooseAction(view, random);
+  }
+
+  /**
+   * Gets the first legal action of the given type, which for a move must lead
+   * to a space at the given distance from the given space, or -1 when there is
+   * none. The distances are asked for from the given space, which is the same
+   * for every move, as the moves between two spaces go both ways.
+   */
+  private static int find(WorldView view, int count, ActionType type, int towards,
+      int distance) {
+    // the actions are listed by type, so the search stops at the next type
+    for (int i = 0; i < count; i++) {
+      int action = view.getLegalAction(i);
+      if (ActionBuffer.getType(action).compareTo(type) > 0) {
+        break;
+      }
+
+      if (ActionBuffer.getType(action) == type && (type != ActionType.MOVE
+          || view.getDistance(towards, ActionBuffer.getArgument(action)) == distance)) {
+        return action;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Counts the turns of a player until it can be in the same space as the
+   * target on its turn, if it moves straight towards the space the target
+   * will be in and the pet is not in its way. The turn the player takes next
+   * is turn zero, on which the player can only meet the target in the space it
+   * is in, and on every later turn it can have moved one space more.
+   *
+   * @param view   The game
+   * @param player The position of the player among the players of
+   *               getAllPlayers
+   * @return The number of turns, or -1 when the player can never meet the
+   *         target
+   * @throws IllegalArgumentException When view is null or there is no player
+   *                                  at the position
+   * @throws IllegalStateException    When the game has no players
+   */
+  public static int turnsToIntercept(WorldView view, int player)
+      throws IllegalArgumentException, IllegalStateException {
+    if (view == null) {
+      throw new IllegalArgumentException("World view cannot be null");
+    }
+
+    int space = view.getSpaceIndexOfPlayer(player);
+    int players = view.getAllPlayers().length;
+    int spaces = view.getAllSpaces().length;
+    int wait = Math.floorMod(player - view.getCurrentPlayerIndex(), players);
+
+    // after twice the number of spaces every space the target comes to is
+    // within reach
+    for (int turn = 0; turn < 2 * spaces; turn++) {
+      int distance = view.getDistance(space,
+          view.getSpaceIndexOfTargetAfter(wait + turn * players));
+      if (distance >= 0 && distance <= turn) {
+        return turn;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns a string representation of this strategy.
+   *
+   * @return String format of this instance
+   */
+  @Override
+  public String toString() {
+    return "InterceptStrategy";
+  }
+
+}
@@ -0,0 +1,84 @@
+package game;
+
+import utils.RandomManual;
+
+/**
+ * The strategy computer players use unless they are given another one. The
+ * player attacks the target with its most damaging item, or its hand, when the
+ * target is in its space and no other player can see it. Otherwise it first
+ * draws whether to move, pick an item, look around or move the pet, among the
+ * kinds of action it can take, and then draws the action of that kind, without
+ * listing the actions.
+ */
+public final class RandomStrategy implements ComputerStrategy {
+
+  private static final ActionType[] KINDS = { ActionType.MOVE, ActionType.PICK_ITEM,
+      ActionType.LOOK_AROUND, ActionType.MOVE_PET };
+
+  @Override
+  public int chooseAction(WorldView view, RandomManual random)
+      throws IllegalArgumentException, IllegalStateException {
+    if (view == null) {
+      throw new IllegalArgumentException("World view cannot be null");
+    }
+
+    if (random == null) {
+      throw new IllegalArgumentException("Random instance cannot be null");
+    }
+
+    int count = view.countLegalActions();
+    if (count == 0) {
+      throw new IllegalStateException("The game is over or has no players");
+    }
+
+    // the attacks come last, one for every item of the player and one for the
+    // hand
+    int attacks = 0;
+    if (ActionBuffer.getType(view.getLegalAction(count - 1)) == ActionType.ATTACK_TARGET) {
+      attacks = view.getCurrentPlayerItems().length;
+    }
+
+    if (attacks > 0 && !view.isCurrentPlayerSeen()) {
+      int best = attacks - 1;
+      for (int i = 0; i < attacks - 1; i++) {
+        if (best == attacks - 1
+            || view.getDamageOfCurrentPlayerItem(best) < view.getDamageOfCurrentPlayerItem(i)) {
+          best = i;
+        }
+      }
+      return view.getLegalAction(count - attacks + best);
+    }
+
+    // every kind of action the player can take is as likely as the others, so
+    // that moving the pet, which can go to any space, does not crowd out the
+    // rest; predictable numbers are used as they are, so they are wrapped around
+    int kinds = 0;
+    for (int i = 0; i < KINDS.length; i++) {
+      if (view.countLegalActions(KINDS[i]) > 0) {
+        kinds++;
+      }
+    }
+
+    int kind = Math.floorMod(random.nextInt(kinds), kinds);
+    int offset = 0;
+    for (int i = 0; i < KINDS.length; i++) {
+      int actions = view.countLegalActions(KINDS[i]);
+      if (actions > 0 && kind-- == 0) {
+        return view.getLegalAction(offset + Math.floorMod(random.nextInt(actions), actions));
+      }
+      offset += actions;
+    }
+    throw new IllegalStateException("The player has no action to take");
+  }
+
+  /**
+   * Returns a string representation of this strategy.
+   *
+   * @return String format of this instance
+   */
+  @Override
+  public String toString() {
+    return "RandomStrategy";
+  }
+
+}
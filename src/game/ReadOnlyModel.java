@@ -75,4 +75,11 @@ public interface ReadOnlyModel {
    */
   public String getCurrentSpaceOfPet();
 
+  /**
+   * Gets the health which the target has left.
+   * 
+   * @return The health of the target
+   */
+  public int getTargetHealth();
+
 }
@@ -0,0 +1,131 @@
+package game;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The number of moves between every two spaces of a world, found by a breadth
+ * first search of the space graph from the space the moves start in. The
+ * distances from a space are searched the first time they are asked for and
+ * then kept for every game in the world, so asking for a distance again costs
+ * a single lookup. Worlds with so many spaces that the distances between all
+ * of them would not fit in memory only keep the distances from the few spaces
+ * asked for last, so that games played at once in the same world, which ask
+ * for the distances from different spaces, do not keep searching them again.
+ *
+ * <p>The distances can be asked for from several threads at once. Two threads
+ * asking for the distances from the same space at the same time may both
+ * search them, but they find the same distances.
+ */
+final class SpaceDistances {
+
+  /**
+   * The distance between two spaces which cannot be reached from each other.
+   */
+  static final int UNREACHABLE = -1;
+
+  private static final long MAX_KEPT_DISTANCES = 1L << 22;
+  private static final int MIN_RECENT_ROWS = 2;
+  private static final int MAX_RECENT_ROWS = 16;
+
+  private final SpaceGraph graph;
+  private final AtomicReferenceArray<int[]> rows;
+  private final AtomicReferenceArray<int[]> recentRows;
+  private final AtomicInteger nextRecentRow;
+
+  /**
+   * Constructs the distances of the given graph without searching any of them
+   * yet.
+   *
+   * @param graph The graph of the spaces
+   * @throws IllegalArgumentException When graph is null
+   */
+  SpaceDistances(SpaceGraph graph) throws IllegalArgumentException {
+    if (graph == null) {
+      throw new IllegalArgumentException("Space graph cannot be null");
+    }
+
+    this.graph = graph;
+    long size = graph.size();
+    if (size * size <= MAX_KEPT_DISTANCES) {
+      this.rows = new AtomicReferenceArray<>(graph.size());
+      this.recentRows = null;
+    } else {
+      this.rows = null;
+      this.recentRows = new AtomicReferenceArray<>((int) Math.max(MIN_RECENT_ROWS,
+          Math.min(MAX_RECENT_ROWS, MAX_KEPT_DISTANCES / size)));
+    }
+    this.nextRecentRow = new AtomicInteger();
+  }
+
+  /**
+   * Gets the fewest moves a player needs to go from one space to another.
+   *
+   * @param from The index of the space the moves start in
+   * @param to   The index of the space the moves end in
+   * @return The number of moves, zero when the spaces are the same, or
+   *         UNREACHABLE when there is no way between them
+   * @throws IllegalArgumentException When a space index is not in the graph
+   */
+  int distance(int from, int to) throws IllegalArgumentException {
+    if (from < 0 || from >= graph.size() || to < 0 || to >= graph.size()) {
+      throw new IllegalArgumentException("There is no space at the given index");
+    }
+
+    return row(from)[to];
+  }
+
+  /**
+   * Gets the distances from the given space, with the space itself kept after
+   * the distances to tell the recent rows apart. A row which is not kept takes
+   * the place of the oldest recent row.
+   */
+  private int[] row(int from) {
+    if (rows != null) {
+      int[] row = rows.get(from);
+      if (row == null) {
+        row = search(from);
+        rows.set(from, row);
+      }
+      return row;
+    }
+
+    int kept = recentRows.length();
+    for (int i = 0; i < kept; i++) {
+      int[] row = recentRows.get(i);
+      if (row != null && row[graph.size()] == from) {
+        return row;
+      }
+    }
+
+    int[] row = search(from);
+    recentRows.set(nextRecentRow.getAndUpdate(next -> next + 1 == kept ? 0 : next + 1), row);
+    return row;
+  }
+
+  private int[] search(int from) {
+    int count = graph.size();
+    int[] distances = new int[count + 1];
+    Arrays.fill(distances, 0, count, UNREACHABLE);
+    distances[count] = from;
+
+    int[] queue = new int[count];
+    int head = 0;
+    int tail = 0;
+    queue[tail++] = from;
+    distances[from] = 0;
+    while (head < tail) {
+      int space = queue[head++];
+      for (int i = graph.start(space); i < graph.end(space); i++) {
+        int neighbour = graph.target(i);
+        if (distances[neighbour] == UNREACHABLE) {
+          distances[neighbour] = distances[space] + 1;
+          queue[tail++] = neighbour;
+        }
+      }
+    }
+    return distances;
+  }
+
+}
@@ -0,0 +1,231 @@
+package game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable adjacency structure of the spaces in a world stored in a
+ * compressed form. The neighbours of the space at index i are stored in
+ * targets[offsets[i]] to targets[offsets[i + 1] - 1] in increasing order of
+ * their space index.
+ */
+final class SpaceGraph {
+
+  private final int[] offsets;
+  private final int[] targets;
+
+  /**
+   * Constructs the graph directly from its compressed arrays.
+   *
+   * @param offsets The start of the neighbours of each space, with one extra
+   *                entry marking the end of the last space
+   * @param targets The space indexes of the neighbours of all the spaces
+   * @throws IllegalArgumentException When the arrays are null or empty
+   */
+  SpaceGraph(int[] offsets, int[] targets) throws IllegalArgumentException {
+    if (offsets == null || targets == null) {
+      throw new IllegalArgumentException("Offsets and targets cannot be null");
+    }
+
+    if (offsets.length == 0) {
+      throw new IllegalArgumentException("Offsets cannot be empty");
+    }
+
+    this.offsets = offsets;
+    this.targets = targets;
+  }
+
+  /**
+   * Builds the graph of the given spaces. Two spaces are neighbours when they
+   * share a part of a wall. Spaces are grouped by the coordinates of their walls
+   * so that only the spaces on the other side of a wall are compared. The spaces
+   * must not overlap, so the spaces in a group are ordered along the wall and
+   * only the ones facing the current space are visited.
+   *
+   * @param spaces All the spaces of the world in order, none of which overlap
+   * @return The graph of the given spaces
+   * @throws IllegalArgumentException When spaces is null
+   */
+  static SpaceGraph build(List<Space> spaces) throws IllegalArgumentException {
+    if (spaces == null) {
+      throw new IllegalArgumentException("Spaces cannot be null");
+    }
+
+    int count = spaces.size();
+    int[] topLeftX = new int[count];
+    int[] topLeftY = new int[count];
+    int[] bottomRightX = new int[count];
+    int[] bottomRightY = new int[count];
+    for (int i = 0; i < count; i++) {
+      Space space = spaces.get(i);
+      topLeftX[i] = space.getTopLeftX();
+      topLeftY[i] = space.getTopLeftY();
+      bottomRightX[i] = space.getBottomRightX();
+      bottomRightY[i] = space.getBottomRightY();
+    }
+
+    // spaces sharing a vertical wall are ordered by their rows and spaces sharing
+    // a horizontal wall by their columns
+    Map<Integer, int[]> byTopLeftX = group(topLeftX, topLeftY);
+    Map<Integer, int[]> byTopLeftY = group(topLeftY, topLeftX);
+    Map<Integer, int[]> byBottomRightX = group(bottomRightX, topLeftY);
+    Map<Integer, int[]> byBottomRightY = group(bottomRightY, topLeftX);
+
+    int[][] neighbours = new int[count][];
+    int total = 0;
+    int[] found = new int[8];
+    int[] empty = new int[0];
+
+    for (int i = 0; i < count; i++) {
+      int size = 0;
+
+      // a space sharing the wall below, to the right, above or to the left of the
+      // current space has its opposite wall one unit away and overlaps the
+      // current space along that wall
+      int[] group = byTopLeftY.getOrDefault(bottomRightY[i] + 1, empty);
+      for (int k = firstFacing(group, bottomRightX, topLeftX[i]);
+          k < group.length && topLeftX[group[k]] < bottomRightX[i]; k++) {
+        found = append(found, size++, group[k]);
+      }
+
+      group = byTopLeftX.getOrDefault(bottomRightX[i] + 1, empty);
+      for (int k = firstFacing(group, bottomRightY, topLeftY[i]);
+          k < group.length && topLeftY[group[k]] < bottomRightY[i]; k++) {
+        found = append(found, size++, group[k]);
+      }
+
+      group = byBottomRightY.getOrDefault(topLeftY[i] - 1, empty);
+      for (int k = firstFacing(group, bottomRightX, topLeftX[i]);
+          k < group.length && topLeftX[group[k]] < bottomRightX[i]; k++) {
+        found = append(found, size++, group[k]);
+      }
+
+      group = byBottomRightX.getOrDefault(topLeftX[i] - 1, empty);
+      for (int k = firstFacing(group, bottomRightY, topLeftY[i]);
+          k < group.length && topLeftY[group[k]] < bottomRightY[i]; k++) {
+        found = append(found, size++, group[k]);
+      }
+
+      Arrays.sort(found, 0, size);
+
+      int unique = 0;
+      for (int j = 0; j < size; j++) {
+        if (unique == 0 || found[unique - 1] != found[j]) {
+          found[unique++] = found[j];
+        }
+      }
+
+      neighbours[i] = Arrays.copyOf(found, unique);
+      total += unique;
+    }
+
+    int[] offsets = new int[count + 1];
+    int[] targets = new int[total];
+    for (int i = 0; i < count; i++) {
+      offsets[i + 1] = offsets[i] + neighbours[i].length;
+      System.arraycopy(neighbours[i], 0, targets, offsets[i], neighbours[i].length);
+    }
+
+    return new SpaceGraph(offsets, targets);
+  }
+
+  private static Map<Integer, int[]> group(int[] wall, int[] start) {
+    Map<Integer, List<Integer>> groups = new HashMap<>();
+    for (int i = 0; i < wall.length; i++) {
+      groups.computeIfAbsent(wall[i], key -> new ArrayList<>()).add(i);
+    }
+
+    Map<Integer, int[]> sorted = new HashMap<>(groups.size() * 2);
+    for (Map.Entry<Integer, List<Integer>> entry : groups.entrySet()) {
+      sorted.put(entry.getKey(), entry.getValue().stream()
+          .sorted((first, second) -> Integer.compare(start[first], start[second]))
+          .mapToInt(Integer::intValue).toArray());
+    }
+    return sorted;
+  }
+
+  /**
+   * Finds the first space of a group which ends after the given position along
+   * the wall. Since the spaces of a group do not overlap each other, their ends
+   * are in the same order as their starts.
+   */
+  private static int firstFacing(int[] group, int[] ends, int position) {
+    int first = 0;
+    int last = group.length;
+    while (first < last) {
+      int middle = (first + last) >>> 1;
+      if (ends[group[middle]] > position) {
+        last = middle;
+      } else {
+        first = middle + 1;
+      }
+    }
+    return first;
+  }
+
+  private static int[] append(int[] values, int size, int value) {
+    int[] result = values;
+    if (size == result.length) {
+      result = Arrays.copyOf(result, size * 2);
+    }
+    result[size] = value;
+    return result;
+  }
+
+  /**
+   * Gets the number of spaces in the graph.
+   *
+   * @return The number of spaces
+   */
+  int size() {
+    return offsets.length - 1;
+  }
+
+  /**
+   * Gets the position in the targets where the neighbours of the given space
+   * start.
+   *
+   * @param spaceIndex The index of the space
+   * @return The position of the first neighbour of the space
+   */
+  int start(int spaceIndex) {
+    return offsets[spaceIndex];
+  }
+
+  /**
+   * Gets the position in the targets where the neighbours of the given space
+   * end, exclusive.
+   *
+   * @param spaceIndex The index of the space
+   * @return The position after the last neighbour of the space
+   */
+  int end(int spaceIndex) {
+    return offsets[spaceIndex + 1];
+  }
+
+  /**
+   * Gets the space index stored at the given position of the targets.
+   *
+   * @param position The position in the targets
+   * @return The index of the neighbouring space
+   */
+  int target(int position) {
+    return targets[position];
+  }
+
+  /**
+   * Checks whether the second space is a neighbour of the first space.
+   *
+   * @param spaceIndex     The index of the first space
+   * @param neighbourIndex The index of the second space
+   * @return True if the spaces are neighbours else false
+   */
+  boolean isNeighbour(int spaceIndex, int neighbourIndex) {
+    return Arrays.binarySearch(targets, offsets[spaceIndex], offsets[spaceIndex + 1],
+        neighbourIndex) >= 0;
+  }
+
+}
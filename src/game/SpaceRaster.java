@@ -0,0 +1,118 @@
+package game;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable grid of the world where every cell holds the index of the space
+ * covering it, or -1 when the cell is not part of any space. It is used to find
+ * the space under a point without going through all the spaces.
+ */
+final class SpaceRaster {
+
+  private final int rows;
+  private final int columns;
+  private final int[] cells;
+
+  /**
+   * Constructs the raster directly from its cells stored row after row.
+   *
+   * @param rows    The number of rows in the raster
+   * @param columns The number of columns in the raster
+   * @param cells   The space index of every cell
+   * @throws IllegalArgumentException When the cells do not match the given
+   *                                  number of rows and columns
+   */
+  SpaceRaster(int rows, int columns, int[] cells) throws IllegalArgumentException {
+    if (rows < 0 || columns < 0) {
+      throw new IllegalArgumentException("Rows and columns cannot be negative");
+    }
+
+    if (cells == null || (long) rows * columns != cells.length) {
+      throw new IllegalArgumentException("Cells do not match the rows and columns");
+    }
+
+    this.rows = rows;
+    this.columns = columns;
+    this.cells = cells;
+  }
+
+  /**
+   * Rasterizes the given spaces into a grid which covers the given rows and
+   * columns and every space of the world. When spaces share a cell, the space
+   * which comes first in the list is kept.
+   *
+   * @param rows    The number of rows of the world
+   * @param columns The number of columns of the world
+   * @param spaces  All the spaces of the world in order
+   * @return The raster of the given spaces
+   * @throws IllegalArgumentException When spaces is null or when the world is
+   *                                  too large to be rasterized
+   */
+  static SpaceRaster build(int rows, int columns, List<Space> spaces)
+      throws IllegalArgumentException {
+    if (spaces == null) {
+      throw new IllegalArgumentException("Spaces cannot be null");
+    }
+
+    int height = Math.max(rows, 0);
+    int width = Math.max(columns, 0);
+    for (Space space : spaces) {
+      height = Math.max(height, space.getBottomRightX() + 1);
+      width = Math.max(width, space.getBottomRightY() + 1);
+    }
+
+    if ((long) height * width > Integer.MAX_VALUE - 8) {
+      throw new IllegalArgumentException("The world is too large to be rasterized");
+    }
+
+    int[] cells = new int[height * width];
+    Arrays.fill(cells, -1);
+
+    for (int i = spaces.size() - 1; i >= 0; i--) {
+      Space space = spaces.get(i);
+      if (space.getTopLeftY() > space.getBottomRightY()) {
+        continue;
+      }
+      for (int x = space.getTopLeftX(); x <= space.getBottomRightX(); x++) {
+        Arrays.fill(cells, x * width + space.getTopLeftY(), x * width + space.getBottomRightY() + 1,
+            i);
+      }
+    }
+
+    return new SpaceRaster(height, width, cells);
+  }
+
+  /**
+   * Gets the index of the space which covers the given cell.
+   *
+   * @param xcoord The row of the cell
+   * @param ycoord The column of the cell
+   * @return The index of the space or -1 if no space covers the cell
+   */
+  int spaceAt(int xcoord, int ycoord) {
+    if (xcoord < 0 || ycoord < 0 || xcoord >= rows || ycoord >= columns) {
+      return -1;
+    }
+    return cells[xcoord * columns + ycoord];
+  }
+
+  /**
+   * Gets the number of rows in the raster.
+   *
+   * @return The number of rows
+   */
+  int getRows() {
+    return rows;
+  }
+
+  /**
+   * Gets the number of columns in the raster.
+   *
+   * @return The number of columns
+   */
+  int getColumns() {
+    return columns;
+  }
+
+}
@@ -0,0 +1,211 @@
+package game;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A growable array of bytes holding numbers as variable length integers, where
+ * every byte carries seven bits of the number and its highest bit marks that
+ * more bytes follow. Small numbers such as space indexes and item ids take a
+ * single byte. The buffer is either written from the start or read from the
+ * start, never both.
+ */
+final class VarIntBuffer {
+
+  private byte[] bytes;
+  private int position;
+  private final int limit;
+
+  /**
+   * Constructs an empty buffer to write to.
+   *
+   * @param capacity The number of bytes the buffer starts with
+   */
+  VarIntBuffer(int capacity) {
+    this.bytes = new byte[Math.max(16, capacity)];
+    this.position = 0;
+    this.limit = Integer.MAX_VALUE;
+  }
+
+  /**
+   * Constructs a buffer which reads the given bytes.
+   *
+   * @param bytes The bytes to read
+   */
+  VarIntBuffer(byte[] bytes) {
+    this.bytes = bytes;
+    this.position = 0;
+    this.limit = bytes.length;
+  }
+
+  private void ensure(int extra) {
+    if (position + extra > bytes.length) {
+      bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, position + extra));
+    }
+  }
+
+  /**
+   * Writes a number which is not negative.
+   *
+   * @param value The number to write
+   */
+  void writeInt(int value) {
+    ensure(5);
+    int rest = value;
+    while ((rest & ~0x7F) != 0) {
+      bytes[position++] = (byte) ((rest & 0x7F) | 0x80);
+      rest >>>= 7;
+    }
+    bytes[position++] = (byte) rest;
+  }
+
+  /**
+   * Writes a number in four bytes, highest byte first.
+   *
+   * @param value The number to write
+   */
+  void writeFixedInt(int value) {
+    ensure(4);
+    for (int shift = 24; shift >= 0; shift -= 8) {
+      bytes[position++] = (byte) (value >>> shift);
+    }
+  }
+
+  /**
+   * Writes the given bytes as they are.
+   *
+   * @param values The bytes to write
+   */
+  void writeBytes(byte[] values) {
+    ensure(values.length);
+    System.arraycopy(values, 0, bytes, position, values.length);
+    position += values.length;
+  }
+
+  /**
+   * Writes a string as its length in bytes followed by its UTF-8 bytes.
+   *
+   * @param value The string to write
+   */
+  void writeString(String value) {
+    byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+    writeInt(encoded.length);
+    writeBytes(encoded);
+  }
+
+  /**
+   * Reads a number which is not negative.
+   *
+   * @return The number read
+   * @throws IllegalArgumentException When the bytes end or do not hold a number
+   *                                  which is not negative
+   */
+  int readInt() throws IllegalArgumentException {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      if (position >= limit) {
+        throw new IllegalArgumentException("The saved game is incomplete");
+      }
+
+      byte next = bytes[position++];
+      if (shift == 28 && (next & 0xF8) != 0) {
+        // the number would not fit in an int which is not negative
+        break;
+      }
+
+      value |= (next & 0x7F) << shift;
+      if (next >= 0) {
+        return value;
+      }
+    }
+    throw new IllegalArgumentException("The saved game is corrupted");
+  }
+
+  /**
+   * Reads a number written by writeFixedInt.
+   *
+   * @return The number read
+   * @throws IllegalArgumentException When fewer than four bytes are left
+   */
+  int readFixedInt() throws IllegalArgumentException {
+    if (limit - position < 4) {
+      throw new IllegalArgumentException("The saved game is incomplete");
+    }
+
+    int value = 0;
+    for (int i = 0; i < 4; i++) {
+      value = (value << 8) | (bytes[position++] & 0xFF);
+    }
+    return value;
+  }
+
+  /**
+   * Reads a number which must be below the given bound.
+   *
+   * @param bound The bound of the number, exclusive
+   * @return The number read
+   * @throws IllegalArgumentException When the number is not below the bound or
+   *                                  cannot be read
+   */
+  int readInt(int bound) throws IllegalArgumentException {
+    int value = readInt();
+    if (value >= bound) {
+      throw new IllegalArgumentException("The saved game is corrupted");
+    }
+    return value;
+  }
+
+  /**
+   * Reads the given number of bytes as they are.
+   *
+   * @param length The number of bytes to read
+   * @return The bytes read
+   * @throws IllegalArgumentException When fewer bytes are left
+   */
+  byte[] readBytes(int length) throws IllegalArgumentException {
+    if (length > limit - position) {
+      throw new IllegalArgumentException("The saved game is incomplete");
+    }
+    byte[] values = Arrays.copyOfRange(bytes, position, position + length);
+    position += length;
+    return values;
+  }
+
+  /**
+   * Reads a string written by writeString.
+   *
+   * @return The string read
+   * @throws IllegalArgumentException When the string cannot be read
+   */
+  String readString() throws IllegalArgumentException {
+    return new String(readBytes(readInt()), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Gets the number of bytes left to read.
+   *
+   * @return The number of bytes left
+   */
+  int remaining() {
+    return limit - position;
+  }
+
+  /**
+   * Checks whether every byte has been read.
+   *
+   * @return True if no bytes are left else false
+   */
+  boolean isFinished() {
+    return position == limit;
+  }
+
+  /**
+   * Gets the bytes written so far.
+   *
+   * @return A copy of the bytes written
+   */
+  byte[] toByteArray() {
+    return Arrays.copyOf(bytes, position);
+  }
+
+}
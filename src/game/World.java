@@ -1,10 +1,12 @@
 package game;
 
+import utils.RandomManual;
+
 /**
  * The world is made up of spaces on a number of rows and columns and contains a
  * target. It basically represents the map of the game.
  */
-public interface World extends GameWorld {
+public interface World extends GameWorld, WorldView {
 
   /**
    * Gets the number of rows of spaces the current instance of the world contains.
@@ -56,4 +58,79 @@ public interface World extends GameWorld {
   public boolean isPlayerVisible(String firstPlayername, String secondPlayerName)
       throws IllegalArgumentException;
 
+  /**
+   * Adds a computer player to the world which chooses its actions with the given
+   * strategy. A player added with addPlayer chooses random actions.
+   *
+   * @param name              The name of the player
+   * @param startingSpaceName The name of the space the player starts from
+   * @param strategy          The strategy which chooses the actions of the
+   *                          player
+   * @throws IllegalArgumentException When name, startingSpaceName or strategy is
+   *                                  null, a name is empty, a player with the
+   *                                  same name exists or the space is not part
+   *                                  of the world
+   */
+  public void addPlayer(String name, String startingSpaceName, ComputerStrategy strategy)
+      throws IllegalArgumentException;
+
+  /**
+   * Creates a copy of the game in this world which can be played on without
+   * changing this game, for example to try out an action. The copy shares the
+   * layout and the items of the world, so only the players, the items they
+   * carry, the target, the pet and the turns are copied.
+   *
+   * @param random It is used to generate random numbers in the copy
+   * @return The copy of the game
+   * @throws IllegalArgumentException When random is null
+   */
+  public World fork(RandomManual random) throws IllegalArgumentException;
+
+  /**
+   * Performs an action of the current turn player as performAction does, but
+   * without describing it, so that a search which plays out many actions does
+   * not build a message for each of them.
+   *
+   * @param action The encoded action to perform
+   * @throws IllegalArgumentException When the action is not encoded by
+   *                                  ActionBuffer or its argument does not
+   *                                  exist
+   * @throws IllegalStateException    When the game is over or has no players, or
+   *                                  the action cannot be performed now
+   */
+  public void applyAction(int action) throws IllegalArgumentException, IllegalStateException;
+
+  /**
+   * Creates a copy of the game in this world with random numbers split from
+   * the random numbers of this game, so playing the copy does not change the
+   * numbers this game gets.
+   *
+   * @return The copy of the game
+   * @throws IllegalStateException When the random numbers of this game are
+   *                               predictable and cannot be split
+   */
+  public World fork() throws IllegalStateException;
+
+  /**
+   * Saves the state of the game in a compact binary form: the players with
+   * their spaces and items, the items left in the spaces, the target, the pet
+   * with the spaces it has visited, and the turns. Spaces and items are saved
+   * by their index in the world instead of their names. The random numbers of
+   * the computer players are not part of the saved game.
+   *
+   * @return The saved game
+   */
+  public byte[] saveGame();
+
+  /**
+   * Restores a game saved by saveGame of a world built from the same world
+   * specification. Nothing is changed when the saved game is rejected.
+   *
+   * @param savedGame The saved game
+   * @throws IllegalArgumentException When savedGame is null, is not a saved
+   *                                  game, is from a different world or is
+   *                                  corrupted
+   */
+  public void loadGame(byte[] savedGame) throws IllegalArgumentException;
+
 }
@@ -1,21 +1,14 @@
 package game;
 
-import java.awt.Color;
-import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
 import java.io.File;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.InputMismatchException;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Scanner;
-import java.util.Stack;
-import java.util.function.BiFunction;
-import javax.imageio.ImageIO;
 import utils.RandomManual;
 
 /**
@@ -23,23 +16,42 @@ import utils.RandomManual;
  */
 public final class WorldImpl implements World {
 
+  /**
+   * The first four bytes of every saved game.
+   */
+  public static final int SAVE_MAGIC = 0x444C5347;
+
+  /**
+   * The version of the saved game format written by this class.
+   */
+  public static final int SAVE_VERSION = 1;
+
+  private static final ComputerStrategy DEFAULT_STRATEGY = new RandomStrategy();
+
   private final int scaleFactor;
   private final int buffer;
 
   private int rows;
   private int columns;
   private String name;
+  private WorldTemplate template;
   private List<Space> allSpaces;
+  private SpaceGraph spaceGraph;
+  private Map<String, Integer> spaceIndexes;
+  private SpaceRaster spaceRaster;
   private Target target;
   private Pet pet;
   private List<Player> allPlayers;
   private int currentTurnIndex;
+  private BitSet pickedItems;
   private final RandomManual random;
   private boolean gameOver;
-  private Stack<Space> currentSpacesTrack;
-  private List<Space> visitedSpaces;
+  private int[] petTrail;
+  private int petTrailSize;
+  private int[] petVisited;
+  private int petVisitedSize;
   private int numOfTurns;
-  private Map<Integer, BiFunction<Space, Player, String>> computerTurn;
+  private long stateHash;
 
   /**
    * Constructs the instance of the world with the given data, with specified
@@ -69,189 +81,191 @@ public final class WorldImpl implements World {
 
     this.random = random;
     this.numOfTurns = numOfTurns;
+    this.stateHash = computeStateHash();
     this.scaleFactor = 20;
     this.buffer = 30;
   }
 
-  @Override
-  public void setWorldSpecification(Readable worldData)
-      throws IllegalArgumentException, NoSuchElementException, InputMismatchException {
+  /**
+   * Constructs the instance of the world from an already validated world
+   * template, without reading the world specification again.
+   * 
+   * @param template   The template of the world
+   * @param random     It is used to generate random numbers
+   * @param numOfTurns Total Number of turns for each player.
+   * @throws IllegalArgumentException When template or random is null or when
+   *                                  numOfTurns is less than one
+   */
+  public WorldImpl(WorldTemplate template, RandomManual random, int numOfTurns)
+      throws IllegalArgumentException {
+    if (template == null) {
+      throw new IllegalArgumentException("World template cannot be null.");
+    }
 
-    if (worldData == null) {
-      throw new IllegalArgumentException("World data cannot be empty");
+    if (random == null) {
+      throw new IllegalArgumentException("RandomManual object cannot be null.");
     }
 
-    Scanner mansionScanner = new Scanner(worldData);
-
-    final int rows = mansionScanner.nextInt();
-    final int columns = mansionScanner.nextInt();
-    final String worldName = mansionScanner.nextLine().trim();
-    final int targetHealth = mansionScanner.nextInt();
-    final String targetName = mansionScanner.nextLine().trim();
-    final String petName = mansionScanner.nextLine().trim();
-
-    int numberOfSpaces = mansionScanner.nextInt();
-    mansionScanner.nextLine();
-    List<String[]> tempSpaces = new ArrayList<String[]>();
-    for (int i = 0; i < numberOfSpaces; i++) {
-      String[] spaceDetails = { String.valueOf(mansionScanner.nextInt()),
-          String.valueOf(mansionScanner.nextInt()), String.valueOf(mansionScanner.nextInt()),
-          String.valueOf(mansionScanner.nextInt()),
-          String.valueOf(mansionScanner.nextLine().trim()) };
-      tempSpaces.add(spaceDetails);
-    }
-
-    int numberOfItems = mansionScanner.nextInt();
-    mansionScanner.nextLine();
-    Map<Integer, List<Item>> tempItems = new HashMap<>();
-    for (int i = 0; i < numberOfItems; i++) {
-      int key = mansionScanner.nextInt();
-      int damage = mansionScanner.nextInt();
-      String name = mansionScanner.nextLine().trim();
-      if (tempItems.containsKey(key)) {
-        tempItems.get(key).add(new ItemImpl(name, damage));
-      } else {
-        List<Item> itemsList = new ArrayList<>();
-        itemsList.add(new ItemImpl(name, damage));
-        tempItems.put(key, itemsList);
-      }
+    if (numOfTurns <= 0) {
+      throw new IllegalArgumentException("Number of turns cannot be less than one");
     }
 
-    mansionScanner.close();
+    applyTemplate(template);
 
-    List<Space> allSpaces = new ArrayList<>();
-    int index = 0;
-    for (String[] tempSpace : tempSpaces) {
-      allSpaces.add(new SpaceImpl(Integer.parseInt(tempSpace[0]), Integer.parseInt(tempSpace[1]),
-          Integer.parseInt(tempSpace[2]), Integer.parseInt(tempSpace[3]), tempSpace[4],
-          tempItems.get(index) != null ? tempItems.get(index) : new ArrayList<Item>()));
-      index++;
-    }
+    this.random = random;
+    this.numOfTurns = numOfTurns;
+    this.stateHash = computeStateHash();
+    this.scaleFactor = 20;
+    this.buffer = 30;
+  }
 
-    if (rows <= 0) {
-      throw new IllegalArgumentException("Rows cannot be less than zero");
-    }
+  /**
+   * Constructs a copy of the game in the given world. The spaces, items and
+   * the indexes of the world are shared with it since they never change, and
+   * only the state of the game is copied.
+   *
+   * @param world    The world whose game is copied
+   * @param random   It is used to generate random numbers for the copy
+   * @param strategy The strategy of every computer player in the copy, or null
+   *                 to keep the strategies of the players
+   */
+  private WorldImpl(WorldImpl world, RandomManual random, ComputerStrategy strategy) {
+    this.scaleFactor = world.scaleFactor;
+    this.buffer = world.buffer;
+    this.rows = world.rows;
+    this.columns = world.columns;
+    this.name = world.name;
+    this.template = world.template;
+    this.allSpaces = world.allSpaces;
+    this.spaceGraph = world.spaceGraph;
+    this.spaceIndexes = world.spaceIndexes;
+    this.spaceRaster = world.spaceRaster;
+    this.random = random;
 
-    if (columns <= 0) {
-      throw new IllegalArgumentException("Columns cannot be less than zero");
-    }
+    this.target = new TargetImpl(template.getTargetName(), template.getTargetHealth());
+    setTarget(world.target.getHealth(), world.target.getCurrentSpaceIndex());
+    this.pet = new PetImpl(template.getPetName());
+    this.pet.movePet(world.pet.getCurrentSpaceIndex());
+
+    this.allPlayers = new ArrayList<Player>(world.allPlayers.size());
+    for (Player player : world.allPlayers) {
+      Player copy = "Human".equals(player.getPlayerType())
+          ? new PlayerImpl(player.getName(), player.getSpaceIndexOfPlayer())
+          : new ComputerPlayer(player.getName(), player.getSpaceIndexOfPlayer(),
+              strategy == null ? ((ComputerPlayer) player).getStrategy() : strategy);
+      for (Item item : player.getPlayerItems()) {
+        copy.pickItem(item);
+      }
+      this.allPlayers.add(copy);
+    }
+
+    this.currentTurnIndex = world.currentTurnIndex;
+    this.pickedItems = (BitSet) world.pickedItems.clone();
+    this.gameOver = world.gameOver;
+    this.petTrail = Arrays.copyOf(world.petTrail, world.petTrailSize);
+    this.petTrailSize = world.petTrailSize;
+    this.petVisited = Arrays.copyOf(world.petVisited, world.petVisitedSize);
+    this.petVisitedSize = world.petVisitedSize;
+    this.numOfTurns = world.numOfTurns;
+    this.stateHash = world.stateHash;
+  }
 
-    if (worldName == null) {
-      throw new IllegalArgumentException("World Name cannot be null");
-    }
+  @Override
+  public void setWorldSpecification(Readable worldData)
+      throws IllegalArgumentException, NoSuchElementException, InputMismatchException {
 
-    if (worldName.length() == 0) {
-      throw new IllegalArgumentException("World Name cannot be empty");
+    if (worldData == null) {
+      throw new IllegalArgumentException("World data cannot be empty");
     }
 
-    if (allSpaces.size() == 0) {
-      throw new IllegalArgumentException("List of spaces cannot be empty");
-    }
+    applyTemplate(WorldTemplate.parse(worldData));
+  }
 
-    if (targetName == null) {
-      throw new IllegalArgumentException("Target Name cannot be null");
+  @Override
+  public void setWorldTemplate(WorldTemplate template) throws IllegalArgumentException {
+    if (template == null) {
+      throw new IllegalArgumentException("World template cannot be null");
     }
 
-    if (targetName.length() == 0) {
-      throw new IllegalArgumentException("Target Name cannot be empty");
-    }
+    applyTemplate(template);
+  }
 
-    if (targetHealth <= 0) {
-      throw new IllegalArgumentException("Target health cannot be less than one");
-    }
+  private void applyTemplate(WorldTemplate template) {
+    final Target target = new TargetImpl(template.getTargetName(), template.getTargetHealth());
+    final Pet pet = new PetImpl(template.getPetName());
+
+    this.rows = template.getRows();
+    this.columns = template.getColumns();
+    this.name = template.getName();
+    this.template = template;
+    this.allSpaces = template.getSpaces();
+    this.spaceGraph = template.getSpaceGraph();
+    this.spaceRaster = template.getSpaceRaster();
+    this.spaceIndexes = template.getSpaceIndexes();
+    this.target = target;
+    this.pet = pet;
+    this.allPlayers = new ArrayList<Player>();
+    this.currentTurnIndex = 0;
+    this.gameOver = false;
+    this.pickedItems = new BitSet(template.getItemCount());
+    this.petTrail = new int[0];
+    this.petTrailSize = 0;
+    this.petVisited = new int[0];
+    this.petVisitedSize = 0;
+    this.stateHash = computeStateHash();
+  }
 
-    if (petName == null) {
-      throw new IllegalArgumentException("Pet Name cannot be null");
+  /**
+   * Gets the items left in a space. The spaces of the world are shared with its
+   * template and keep the items they start with, so the items which have been
+   * picked up are left out.
+   */
+  private List<Item> getItemsInSpace(int spaceIndex) {
+    int first = template.getFirstItem(spaceIndex);
+    int last = template.getFirstItem(spaceIndex + 1);
+    List<Item> items = new ArrayList<Item>(last - first);
+    for (int itemId = pickedItems.nextClearBit(first); itemId < last;
+        itemId = pickedItems.nextClearBit(itemId + 1)) {
+      items.add(template.getItem(itemId));
+    }
+    return items;
+  }
+
+  /**
+   * Works out the Zobrist hash of the game from scratch. It is only needed
+   * when the whole game is replaced, since every change to the game updates
+   * the hash as it is made.
+   */
+  private long computeStateHash() {
+    long hash = Zobrist.targetHealth(target.getHealth())
+        ^ Zobrist.targetSpace(target.getCurrentSpaceIndex())
+        ^ Zobrist.petSpace(pet.getCurrentSpaceIndex()) ^ Zobrist.turnIndex(currentTurnIndex)
+        ^ Zobrist.turnsLeft(numOfTurns);
+    if (gameOver) {
+      hash ^= Zobrist.gameOver();
     }
 
-    if (petName.length() == 0) {
-      throw new IllegalArgumentException("Pet Name cannot be empty");
+    for (int i = 0; i < petTrailSize; i++) {
+      hash ^= Zobrist.petTrail(i, petTrail[i]);
     }
 
-    for (int i = 0; i < allSpaces.size(); i++) {
-      Space firstSpace = allSpaces.get(i);
-      for (int j = 0; j < allSpaces.size(); j++) {
-        Space secondSpace = allSpaces.get(j);
-        if (secondSpace.equals(firstSpace)) {
-          continue;
-        }
-        // checking if atleast one point of a space is inside or on the other space
-        if ((firstSpace.getTopLeftX() >= secondSpace.getTopLeftX()
-            && firstSpace.getTopLeftY() >= secondSpace.getTopLeftY()
-            && firstSpace.getTopLeftX() <= secondSpace.getBottomRightX()
-            && firstSpace.getTopLeftY() <= secondSpace.getBottomRightY())
-            || (firstSpace.getBottomRightX() <= secondSpace.getBottomRightX()
-                && firstSpace.getBottomRightY() <= secondSpace.getBottomRightY()
-                && firstSpace.getBottomRightX() >= secondSpace.getTopLeftX()
-                && firstSpace.getBottomRightY() >= secondSpace.getTopLeftY())
-            || (firstSpace.getBottomRightX() >= secondSpace.getTopLeftX()
-                && firstSpace.getTopLeftY() >= secondSpace.getTopLeftY()
-                && firstSpace.getBottomRightX() <= secondSpace.getBottomRightX()
-                && firstSpace.getTopLeftY() <= secondSpace.getBottomRightY())
-            || (firstSpace.getTopLeftX() >= secondSpace.getTopLeftX()
-                && firstSpace.getBottomRightY() >= secondSpace.getTopLeftY()
-                && firstSpace.getTopLeftX() <= secondSpace.getBottomRightX()
-                && firstSpace.getBottomRightY() <= secondSpace.getBottomRightY())) {
-          throw new IllegalArgumentException("Spaces cannot overlap.");
-        }
-      }
+    for (int i = 0; i < petVisitedSize; i++) {
+      hash ^= Zobrist.petVisited(i, petVisited[i]);
     }
 
-    final Target target = new TargetImpl(targetName, targetHealth);
-    final Pet pet = new PetImpl(petName);
+    for (int itemId = pickedItems.nextSetBit(0); itemId >= 0;
+        itemId = pickedItems.nextSetBit(itemId + 1)) {
+      hash ^= Zobrist.itemPicked(itemId);
+    }
 
-    this.rows = rows;
-    this.columns = columns;
-    this.name = worldName;
-    this.allSpaces = allSpaces;
-    this.target = target;
-    this.pet = pet;
-    this.allPlayers = new ArrayList<Player>();
-    this.currentTurnIndex = 0;
-    this.gameOver = false;
-    this.currentSpacesTrack = new Stack<Space>();
-    this.visitedSpaces = new ArrayList<Space>();
-
-    this.computerTurn = new HashMap<Integer, BiFunction<Space, Player, String>>();
-    
-    this.computerTurn.put(Integer.valueOf(1), (currentPlayerSpace, currentPlayer) -> {
-      List<Space> neighbours = getNeighboursAsList(currentPlayerSpace.getName());
-      Space space = neighbours.get(currentPlayer.chooseAction(random, neighbours.size()));
-      return movePlayerInWorld((space.getTopLeftY() * scaleFactor) + buffer,
-          (space.getTopLeftX() * scaleFactor) + buffer);
-    });
-
-    this.computerTurn.put(Integer.valueOf(2), (currentPlayerSpace, currentPlayer) -> {
-      List<Item> currentSpaceItems = currentPlayerSpace.getItemsInSpace();
-      String itemName = currentSpaceItems
-          .get(currentPlayer.chooseAction(random, currentSpaceItems.size())).getName();
-      return pickItemByPlayer(itemName);
-    });
-
-    this.computerTurn.put(Integer.valueOf(3), (currentPlayerSpace, currentPlayer) -> {
-      lookAroundByPlayer();
-      return "Looking Around...";
-    });
-
-    this.computerTurn.put(Integer.valueOf(4), (currentPlayerSpace, currentPlayer) -> {
-      String spaceNameForPetMovement = "";
-      while (true) {
-        spaceNameForPetMovement = allSpaces
-            .get(currentPlayer.chooseAction(random, allSpaces.size())).getName();
-        if (!spaceNameForPetMovement.equals(allSpaces.get(pet.getCurrentSpaceIndex()).getName())) {
-          break;
-        }
+    for (int i = 0; i < allPlayers.size(); i++) {
+      Player player = allPlayers.get(i);
+      hash ^= Zobrist.playerSpace(i, player.getSpaceIndexOfPlayer());
+      for (Item item : player.getPlayerItems()) {
+        hash ^= Zobrist.itemHolder(template.getItemId(item), i);
       }
-      return movePetByPlayer(spaceNameForPetMovement);
-    });
-
-    this.computerTurn.put(Integer.valueOf(5), (currentPlayerSpace, currentPlayer) -> {
-      List<Item> currentSpaceItems = currentPlayerSpace.getItemsInSpace();
-      String itemName = currentSpaceItems
-          .get(currentPlayer.chooseAction(random, currentSpaceItems.size())).getName();
-      return pickItemByPlayer(itemName);
-    });
-
+    }
+    return hash;
   }
 
   @Override
@@ -275,18 +289,7 @@ public final class WorldImpl implements World {
   }
 
   private int getIndexOfSpace(String spaceName) {
-    int index = -1;
-    int count = 0;
-
-    for (Space spaceInList : allSpaces) {
-      if (spaceInList.getName().equals(spaceName)) {
-        index = count;
-        break;
-      }
-      count++;
-    }
-
-    return index;
+    return spaceIndexes.getOrDefault(spaceName, -1);
   }
 
   @Override
@@ -306,13 +309,11 @@ public final class WorldImpl implements World {
       throw new IllegalArgumentException("The provided space is not part of the world");
     }
 
-    Space currentSpace = allSpaces.get(spaceIndex);
-
     StringBuilder result = new StringBuilder();
 
     result.append("Name: " + spaceName + "\n").append("All Items in space:\n");
 
-    List<Item> allItems = currentSpace.getItemsInSpace();
+    List<Item> allItems = getItemsInSpace(spaceIndex);
     if (allItems.size() == 0) {
       result.append("No items in space\n");
     } else {
@@ -363,38 +364,40 @@ public final class WorldImpl implements World {
       throw new IllegalArgumentException("The provided space is not part of the world");
     }
 
-    Space currentSpace = allSpaces.get(indexOfSpace);
+    return getNeighboursAsList(indexOfSpace);
+  }
 
+  private List<Space> getNeighboursAsList(int spaceIndex) {
     List<Space> neighbours = new ArrayList<Space>();
+    int petSpaceIndex = pet.getCurrentSpaceIndex();
 
-    int spaceIndex = -1;
-
-    for (Space space : allSpaces) {
-      spaceIndex = spaceIndex + 1;
-
-      // checking if the space has one coordinate which is plus one of the current
-      // space's coordinate and then checking that coordinate lies in between the
-      // shared wall
-      if (((currentSpace.getBottomRightY() + 1 == space.getTopLeftY()
-          && space.getTopLeftX() < currentSpace.getBottomRightX()
-          && space.getBottomRightX() > currentSpace.getTopLeftX())
-          || (currentSpace.getBottomRightX() + 1 == space.getTopLeftX()
-              && space.getTopLeftY() < currentSpace.getBottomRightY()
-              && space.getBottomRightY() > currentSpace.getTopLeftY())
-          || (currentSpace.getTopLeftY() - 1 == space.getBottomRightY()
-              && space.getTopLeftX() < currentSpace.getBottomRightX()
-              && space.getBottomRightX() > currentSpace.getTopLeftX())
-          || (currentSpace.getTopLeftX() - 1 == space.getBottomRightX()
-              && space.getTopLeftY() < currentSpace.getBottomRightY()
-              && space.getBottomRightY() > currentSpace.getTopLeftY()))
-          && pet.getCurrentSpaceIndex() != spaceIndex) {
-        neighbours.add(space);
+    // the space with the pet cannot be seen so it is skipped
+    for (int i = spaceGraph.start(spaceIndex); i < spaceGraph.end(spaceIndex); i++) {
+      int neighbourIndex = spaceGraph.target(i);
+      if (neighbourIndex != petSpaceIndex) {
+        neighbours.add(allSpaces.get(neighbourIndex));
       }
     }
 
     return neighbours;
   }
 
+  private boolean hasVisibleNeighbour(int spaceIndex) {
+    int petSpaceIndex = pet.getCurrentSpaceIndex();
+    for (int position = spaceGraph.start(spaceIndex); position < spaceGraph.end(spaceIndex);
+        position++) {
+      if (spaceGraph.target(position) != petSpaceIndex) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isVisibleNeighbour(int spaceIndex, int neighbourIndex) {
+    return neighbourIndex != pet.getCurrentSpaceIndex()
+        && spaceGraph.isNeighbour(spaceIndex, neighbourIndex);
+  }
+
   @Override
   public String getNeighbours(String spaceName) throws IllegalArgumentException {
     if (spaceName == null) {
@@ -429,46 +432,9 @@ public final class WorldImpl implements World {
 
   @Override
   public String drawImage() throws IllegalStateException {
+    String path = WorldTemplate.IMAGE_FILE;
 
-    BufferedImage theWorldBuffer = new BufferedImage(800, 800, BufferedImage.TYPE_INT_RGB);
-
-    Graphics2D theWorldGraphics = theWorldBuffer.createGraphics();
-
-    theWorldGraphics.setColor(Color.white);
-    theWorldGraphics.fillRect(0, 0, 800, 800);
-
-    theWorldGraphics.setColor(Color.black);
-
-    String path = "TheWorld.png";
-
-    for (Space space : allSpaces) {
-      theWorldGraphics.drawRect(space.getTopLeftY() * scaleFactor + buffer,
-          space.getTopLeftX() * scaleFactor + buffer,
-          (space.getBottomRightY() * scaleFactor - space.getTopLeftY() * scaleFactor) + scaleFactor,
-          (space.getBottomRightX() * scaleFactor - space.getTopLeftX() * scaleFactor)
-              + scaleFactor);
-
-      String[] nameInParts = space.getName().split("\\s+");
-
-      int spaceInX = 15;
-      for (String s : nameInParts) {
-        theWorldGraphics.drawString(s.trim(), space.getTopLeftY() * scaleFactor + buffer + 10,
-            space.getTopLeftX() * scaleFactor + buffer + spaceInX);
-
-        spaceInX += 15;
-
-      }
-    }
-
-    theWorldGraphics.dispose();
-
-    File theWorldFile = new File(path);
-
-    try {
-      ImageIO.write(theWorldBuffer, "png", theWorldFile);
-    } catch (IOException e) {
-      throw new IllegalStateException(e);
-    }
+    WorldTemplate.drawImage(allSpaces, scaleFactor, buffer, new File(path));
 
     return path;
   }
@@ -478,16 +444,26 @@ public final class WorldImpl implements World {
     if (movePetInDfs) {
       movePet();
     }
+    stateHash ^= Zobrist.turnIndex(currentTurnIndex);
     this.currentTurnIndex = this.currentTurnIndex + 1;
 
     if (this.currentTurnIndex >= this.allPlayers.size()) {
       this.currentTurnIndex = 0;
+      stateHash ^= Zobrist.turnsLeft(numOfTurns) ^ Zobrist.turnsLeft(numOfTurns - 1);
       numOfTurns = numOfTurns - 1;
     }
+    stateHash ^= Zobrist.turnIndex(currentTurnIndex);
 
     if (numOfTurns <= 0) {
-      gameOver = true;
+      endGame();
+    }
+  }
+
+  private void endGame() {
+    if (!gameOver) {
+      stateHash ^= Zobrist.gameOver();
     }
+    gameOver = true;
   }
 
   private void moveTarget() {
@@ -495,55 +471,110 @@ public final class WorldImpl implements World {
     if (index >= allSpaces.size()) {
       index = 0;
     }
+    stateHash ^= Zobrist.targetSpace(target.getCurrentSpaceIndex()) ^ Zobrist.targetSpace(index);
     target.move(index);
   }
 
-  private void movePet() {
-    Space currentSpace = allSpaces.get(pet.getCurrentSpaceIndex());
-    List<Space> allNeighbours = getNeighboursAsList(currentSpace.getName());
-    List<Space> neighbours = new ArrayList<>();
+  private void movePetHashed(int spaceIndex) {
+    stateHash ^= Zobrist.petSpace(pet.getCurrentSpaceIndex()) ^ Zobrist.petSpace(spaceIndex);
+    pet.movePet(spaceIndex);
+  }
+
+  private void forgetPetTrail() {
+    for (int i = 0; i < petTrailSize; i++) {
+      stateHash ^= Zobrist.petTrail(i, petTrail[i]);
+    }
+    petTrailSize = 0;
+    forgetPetVisits();
+  }
+
+  private void forgetPetVisits() {
+    for (int i = 0; i < petVisitedSize; i++) {
+      stateHash ^= Zobrist.petVisited(i, petVisited[i]);
+    }
+    petVisitedSize = 0;
+  }
+
+  private void visitPetSpace(int spaceIndex) {
+    if (!contains(petVisited, petVisitedSize, spaceIndex)) {
+      stateHash ^= Zobrist.petVisited(petVisitedSize, spaceIndex);
+      petVisited = append(petVisited, petVisitedSize++, spaceIndex);
+    }
+  }
 
-    for (Space space : allNeighbours) {
-      if (!visitedSpaces.contains(space)) {
-        neighbours.add(space);
+  private void movePet() {
+    int currentSpace = pet.getCurrentSpaceIndex();
+
+    // the pet goes on to the first neighbour it has not visited yet and walks
+    // back along its trail when there is none
+    int next = -1;
+    for (int position = spaceGraph.start(currentSpace); position < spaceGraph.end(currentSpace);
+        position++) {
+      int neighbour = spaceGraph.target(position);
+      if (!contains(petVisited, petVisitedSize, neighbour)) {
+        next = neighbour;
+        break;
       }
     }
 
-    if (neighbours.size() > 0) {
-      for (int i = 0; i < allSpaces.size(); i++) {
-        if (allSpaces.get(i).getName().equals(neighbours.get(0).getName())) {
-          pet.movePet(i);
-          if (currentSpacesTrack.search(currentSpace) == -1) {
-            currentSpacesTrack.push(currentSpace);
-          }
-          if (!visitedSpaces.contains(currentSpace)) {
-            visitedSpaces.add(currentSpace);
-          }
-          break;
-        }
+    if (next != -1) {
+      movePetHashed(next);
+      if (!contains(petTrail, petTrailSize, currentSpace)) {
+        stateHash ^= Zobrist.petTrail(petTrailSize, currentSpace);
+        petTrail = append(petTrail, petTrailSize++, currentSpace);
       }
-    } else {
-      if (!currentSpacesTrack.empty()) {
-        for (int i = 0; i < allSpaces.size(); i++) {
-          if (allSpaces.get(i).getName().equals(currentSpacesTrack.peek().getName())) {
-            currentSpacesTrack.pop();
-            pet.movePet(i);
-            if (!visitedSpaces.contains(currentSpace)) {
-              visitedSpaces.add(currentSpace);
-            }
-            break;
-          }
-        }
-      } else {
-        visitedSpaces.clear();
-        movePet();
+      visitPetSpace(currentSpace);
+    } else if (petTrailSize > 0) {
+      petTrailSize--;
+      stateHash ^= Zobrist.petTrail(petTrailSize, petTrail[petTrailSize]);
+      movePetHashed(petTrail[petTrailSize]);
+      visitPetSpace(currentSpace);
+    } else if (spaceGraph.start(currentSpace) < spaceGraph.end(currentSpace)) {
+      // every space has been visited, so the pet starts over; a space without
+      // neighbours keeps the pet where it is
+      forgetPetVisits();
+      movePet();
+    }
+  }
+
+  private static boolean contains(int[] values, int size, int value) {
+    for (int i = 0; i < size; i++) {
+      if (values[i] == value) {
+        return true;
       }
     }
+    return false;
+  }
+
+  private static int[] append(int[] values, int size, int value) {
+    int[] result = values;
+    if (size == result.length) {
+      result = Arrays.copyOf(result, Math.max(8, size * 2));
+    }
+    result[size] = value;
+    return result;
   }
 
   @Override
   public void addPlayer(String name, String startingSpaceName, boolean isHuman)
       throws IllegalArgumentException {
+    addNewPlayer(name, startingSpaceName, isHuman ? null : DEFAULT_STRATEGY);
+  }
+
+  @Override
+  public void addPlayer(String name, String startingSpaceName, ComputerStrategy strategy)
+      throws IllegalArgumentException {
+    if (strategy == null) {
+      throw new IllegalArgumentException("Strategy cannot be null");
+    }
+    addNewPlayer(name, startingSpaceName, strategy);
+  }
+
+  /**
+   * Adds a player to the world, which is a human when it has no strategy.
+   */
+  private void addNewPlayer(String name, String startingSpaceName, ComputerStrategy strategy)
+      throws IllegalArgumentException {
     if (name == null) {
       throw new IllegalArgumentException("Name cannot be null.");
     }
@@ -572,11 +603,26 @@ public final class WorldImpl implements World {
       throw new IllegalArgumentException("The specified space name is not part of the world");
     }
 
-    if (isHuman) {
+    stateHash ^= Zobrist.playerSpace(allPlayers.size(), spaceIndex);
+    if (strategy == null) {
       this.allPlayers.add(new PlayerImpl(name, spaceIndex));
     } else {
-      this.allPlayers.add(new ComputerPlayer(name, spaceIndex));
+      this.allPlayers.add(new ComputerPlayer(name, spaceIndex, strategy));
+    }
+  }
+
+  /**
+   * Gets the strategy of the computer player with the given name, so that a
+   * loaded game keeps the strategies of its players, or the default strategy
+   * when there is no such player.
+   */
+  private ComputerStrategy getStrategyOf(String name) {
+    for (Player player : allPlayers) {
+      if (player.getName().equals(name) && player instanceof ComputerPlayer) {
+        return ((ComputerPlayer) player).getStrategy();
+      }
     }
+    return DEFAULT_STRATEGY;
   }
 
   @Override
@@ -638,35 +684,11 @@ public final class WorldImpl implements World {
         currentPlayer.getPlayerType(), currentSpace.getName(), currentTargetSpace.getName()));
   }
 
-  private boolean isNeighbour(List<Space> neighbours, String spaceName) {
-    boolean neighbour = false;
-
-    for (Space neighbouringSpace : neighbours) {
-      if (neighbouringSpace.getName().equals(spaceName)) {
-        neighbour = true;
-        break;
-      }
-    }
-
-    return neighbour;
-  }
-
-  private String getSpaceFromCoords(int xcoord, int ycoord) {
-
-    String spaceName = "";
-
+  private int getSpaceFromCoords(int xcoord, int ycoord) {
     int newy = (xcoord - buffer) / scaleFactor;
     int newx = (ycoord - buffer) / scaleFactor;
 
-    for (Space space : allSpaces) {
-      if (space.getTopLeftX() <= newx && space.getTopLeftY() <= newy
-          && space.getBottomRightX() >= newx && space.getBottomRightY() >= newy) {
-        spaceName = space.getName();
-        break;
-      }
-    }
-
-    return spaceName;
+    return spaceRaster.spaceAt(newx, newy);
   }
 
   @Override
@@ -675,37 +697,52 @@ public final class WorldImpl implements World {
       throw new IllegalArgumentException("Coordinates cannot be negative.");
     }
 
-    String spaceName = getSpaceFromCoords(xcoord, ycoord);
+    int spaceIndex = getSpaceFromCoords(xcoord, ycoord);
 
-    if ("".equals(spaceName)) {
+    if (spaceIndex == -1) {
       return "";
     }
 
     Player currentPlayer = allPlayers.get(currentTurnIndex);
-    String currentSpaceName = allSpaces.get(currentPlayer.getSpaceIndexOfPlayer()).getName();
-
-    List<Space> neighbours = getNeighboursAsList(currentSpaceName);
 
-    boolean isNeighbour = isNeighbour(neighbours, spaceName);
+    boolean isNeighbour = isVisibleNeighbour(currentPlayer.getSpaceIndexOfPlayer(), spaceIndex);
 
     if (!isNeighbour) {
       throw new IllegalStateException("Clicked space is not a neighbour of the current space");
     }
 
-    int spaceIndex = 0;
+    movePlayerTo(currentPlayer, spaceIndex);
 
-    for (int i = 0; i < allSpaces.size(); i++) {
-      if (allSpaces.get(i).getName().equals(spaceName)) {
-        spaceIndex = i;
-        break;
-      }
+    return String.format("The Player %s has moved to the space %s\n", currentPlayer.getName(),
+        allSpaces.get(spaceIndex).getName());
+  }
+
+  @Override
+  public int[] getPointInSpace(String spaceName) throws IllegalArgumentException {
+    if (spaceName == null) {
+      throw new IllegalArgumentException("Space Name cant be null");
     }
+    int spaceIndex = this.getIndexOfSpace(spaceName);
+    if (spaceIndex == -1) {
+      throw new IllegalArgumentException("Space Doesnt Exist");
+    }
+    return getPointOfSpace(allSpaces.get(spaceIndex));
+  }
 
-    currentPlayer.movePlayer(spaceIndex);
-    increaseTurnIndex(true);
+  /**
+   * Gets the point of the map at the top left corner of a space, where the
+   * rows of the world go down the map and the columns across it.
+   */
+  private int[] getPointOfSpace(Space space) {
+    return new int[] { space.getTopLeftY() * scaleFactor + buffer,
+        space.getTopLeftX() * scaleFactor + buffer };
+  }
 
-    return String.format("The Player %s has moved to the space %s\n", currentPlayer.getName(),
-        spaceName);
+  private void movePlayerTo(Player player, int spaceIndex) {
+    stateHash ^= Zobrist.playerSpace(currentTurnIndex, player.getSpaceIndexOfPlayer())
+        ^ Zobrist.playerSpace(currentTurnIndex, spaceIndex);
+    player.movePlayer(spaceIndex);
+    increaseTurnIndex(true);
   }
 
   @Override
@@ -720,31 +757,36 @@ public final class WorldImpl implements World {
     }
 
     Player currentPlayer = allPlayers.get(currentTurnIndex);
-    Space currentPlayerSpace = allSpaces.get(currentPlayer.getSpaceIndexOfPlayer());
-
-    boolean itemPicked = false;
-
-    List<Item> itemsListInSpace = currentPlayerSpace.getItemsInSpace();
-
-    for (Item item : itemsListInSpace) {
-      if (item.getName().equals(itemName)) {
-        currentPlayer.pickItem(item);
-        currentPlayerSpace.removeItemFromSpace(itemName);
-        itemPicked = true;
+    int spaceIndex = currentPlayer.getSpaceIndexOfPlayer();
+    Space currentPlayerSpace = allSpaces.get(spaceIndex);
+
+    int itemPicked = -1;
+    int lastItem = template.getFirstItem(spaceIndex + 1);
+    for (int itemId = pickedItems.nextClearBit(template.getFirstItem(spaceIndex));
+        itemId < lastItem; itemId = pickedItems.nextClearBit(itemId + 1)) {
+      if (template.getItem(itemId).getName().equals(itemName)) {
+        itemPicked = itemId;
         break;
       }
     }
 
-    if (!itemPicked) {
+    if (itemPicked == -1) {
       throw new IllegalStateException(
           "Item is not present in the space the player is currently in.");
     }
 
-    increaseTurnIndex(true);
+    pickItem(currentPlayer, itemPicked);
     return String.format("The Player %s has picked up the item %s from the space %s\n",
         currentPlayer.getName(), itemName, currentPlayerSpace.getName());
   }
 
+  private void pickItem(Player player, int itemId) {
+    player.pickItem(template.getItem(itemId));
+    pickedItems.set(itemId);
+    stateHash ^= Zobrist.itemPicked(itemId) ^ Zobrist.itemHolder(itemId, currentTurnIndex);
+    increaseTurnIndex(true);
+  }
+
   @Override
   public String lookAroundByPlayer() {
     Player currentPlayer = allPlayers.get(currentTurnIndex);
@@ -755,8 +797,7 @@ public final class WorldImpl implements World {
     sb.append(getInfoOfaSpace(allSpaces.get(currentPlayer.getSpaceIndexOfPlayer()).getName()));
     sb.append("\nNeighbouring spaces:\n");
 
-    List<Space> neighbouringSpaces = getNeighboursAsList(
-        allSpaces.get(currentPlayer.getSpaceIndexOfPlayer()).getName());
+    List<Space> neighbouringSpaces = getNeighboursAsList(currentPlayer.getSpaceIndexOfPlayer());
 
     for (Space neighbour : neighbouringSpaces) {
       sb.append(getInfoOfaSpace(neighbour.getName()));
@@ -775,52 +816,377 @@ public final class WorldImpl implements World {
       throw new IllegalStateException("Cannot call this method as a human player");
     }
 
-    String res = "";
+    int action = ((ComputerPlayer) currentPlayer).getStrategy().chooseAction(this, random);
 
-    boolean visible = false;
+    // a computer player does not read what it sees, so looking around only uses
+    // up its turn
+    if (ActionBuffer.getType(action) == ActionType.LOOK_AROUND) {
+      increaseTurnIndex(true);
+      return "Looking Around...";
+    }
+    return performAction(action);
+  }
 
+  private int countVisibleNeighbours(int spaceIndex) {
+    int petSpaceIndex = pet.getCurrentSpaceIndex();
+    int count = 0;
+    for (int position = spaceGraph.start(spaceIndex); position < spaceGraph.end(spaceIndex);
+        position++) {
+      if (spaceGraph.target(position) != petSpaceIndex) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private int countItemsInSpace(int spaceIndex) {
+    int count = 0;
+    int last = template.getFirstItem(spaceIndex + 1);
+    for (int itemId = pickedItems.nextClearBit(template.getFirstItem(spaceIndex));
+        itemId < last; itemId = pickedItems.nextClearBit(itemId + 1)) {
+      count++;
+    }
+    return count;
+  }
+
+  private int countPicks(Player player, int items) {
+    return items < player.getMaxNumOfItems()
+        ? countItemsInSpace(player.getSpaceIndexOfPlayer()) : 0;
+  }
+
+  private int countAttacks(Player player, int items) {
+    // the position after the last item is the hand
+    return player.getSpaceIndexOfPlayer() == target.getCurrentSpaceIndex() ? items + 1 : 0;
+  }
+
+  @Override
+  public int countLegalActions() {
+    if (gameOver || allPlayers.isEmpty()) {
+      return 0;
+    }
+
+    Player currentPlayer = allPlayers.get(currentTurnIndex);
+    int items = currentPlayer.getPlayerItems().size();
+    return countVisibleNeighbours(currentPlayer.getSpaceIndexOfPlayer())
+        + countPicks(currentPlayer, items) + allSpaces.size()
+        + countAttacks(currentPlayer, items);
+  }
+
+  @Override
+  public int countLegalActions(ActionType type) throws IllegalArgumentException {
+    if (type == null) {
+      throw new IllegalArgumentException("Action type cannot be null");
+    }
+
+    if (gameOver || allPlayers.isEmpty()) {
+      return 0;
+    }
+
+    Player currentPlayer = allPlayers.get(currentTurnIndex);
+    int items = currentPlayer.getPlayerItems().size();
+    switch (type) {
+      case MOVE:
+        return countVisibleNeighbours(currentPlayer.getSpaceIndexOfPlayer());
+      case PICK_ITEM:
+        return countPicks(currentPlayer, items);
+      case LOOK_AROUND:
+        return 1;
+      case MOVE_PET:
+        return allSpaces.size() - 1;
+      default:
+        return countAttacks(currentPlayer, items);
+    }
+  }
+
+  @Override
+  public int getLegalAction(int position) throws IllegalArgumentException {
+    if (gameOver || allPlayers.isEmpty() || position < 0) {
+      throw new IllegalArgumentException("There is no legal action at the given position");
+    }
+
+    Player currentPlayer = allPlayers.get(currentTurnIndex);
+    int spaceIndex = currentPlayer.getSpaceIndexOfPlayer();
+    int items = currentPlayer.getPlayerItems().size();
+    int moves = countVisibleNeighbours(spaceIndex);
+    int picks = countPicks(currentPlayer, items);
+    if (position >= moves + picks + allSpaces.size() + countAttacks(currentPlayer, items)) {
+      throw new IllegalArgumentException("There is no legal action at the given position");
+    }
+    int choice = position;
+
+    if (choice < moves) {
+      int petSpaceIndex = pet.getCurrentSpaceIndex();
+      for (int i = spaceGraph.start(spaceIndex); i < spaceGraph.end(spaceIndex); i++) {
+        int neighbour = spaceGraph.target(i);
+        if (neighbour != petSpaceIndex && choice-- == 0) {
+          return ActionBuffer.encode(ActionType.MOVE, neighbour);
+        }
+      }
+    }
+    choice -= moves;
+
+    if (choice < picks) {
+      return ActionBuffer.encode(ActionType.PICK_ITEM, choice);
+    }
+    choice -= picks;
+
+    if (choice == 0) {
+      return ActionBuffer.encode(ActionType.LOOK_AROUND, 0);
+    }
+    choice -= 1;
+
+    // the pet can be moved to every space but its own
+    if (choice < allSpaces.size() - 1) {
+      return ActionBuffer.encode(ActionType.MOVE_PET,
+          choice < pet.getCurrentSpaceIndex() ? choice : choice + 1);
+    }
+    choice -= allSpaces.size() - 1;
+
+    return ActionBuffer.encode(ActionType.ATTACK_TARGET, choice);
+  }
+
+  @Override
+  public boolean isCurrentPlayerSeen() throws IllegalStateException {
+    if (allPlayers.isEmpty()) {
+      throw new IllegalStateException("There are no players in the game");
+    }
+
+    Player currentPlayer = allPlayers.get(currentTurnIndex);
     for (Player player : allPlayers) {
       if (!player.getName().equals(currentPlayer.getName())
           && isPlayerVisible(player.getName(), currentPlayer.getName())) {
-        visible = true;
-        break;
+        return true;
       }
     }
+    return false;
+  }
+
+  @Override
+  public int getCurrentPlayerIndex() throws IllegalStateException {
+    if (allPlayers.isEmpty()) {
+      throw new IllegalStateException("There are no players in the game");
+    }
+    return currentTurnIndex;
+  }
+
+  @Override
+  public int getSpaceIndexOfPlayer(int player) throws IllegalArgumentException {
+    if (player < 0 || player >= allPlayers.size()) {
+      throw new IllegalArgumentException("There is no player at the given position");
+    }
+    return allPlayers.get(player).getSpaceIndexOfPlayer();
+  }
+
+  @Override
+  public int getSpaceIndexOfTarget() {
+    return target.getCurrentSpaceIndex();
+  }
 
-    if (target.getCurrentSpaceIndex() == currentPlayer.getSpaceIndexOfPlayer() && !visible) {
-      List<Item> currentPlayerItems = currentPlayer.getPlayerItems();
+  @Override
+  public int getSpaceIndexOfPet() {
+    return pet.getCurrentSpaceIndex();
+  }
 
-      Item chosenItem = null;
+  @Override
+  public int getSpaceIndexOfTargetAfter(int advances) throws IllegalArgumentException {
+    if (advances < 0) {
+      throw new IllegalArgumentException("Number of turns cannot be negative");
+    }
+    return (int) ((target.getCurrentSpaceIndex() + (long) advances) % allSpaces.size());
+  }
 
-      for (Item item : currentPlayerItems) {
-        if (chosenItem == null || chosenItem.getDamage() < item.getDamage()) {
-          chosenItem = item;
-        }
+  @Override
+  public int getAdvancesUntilTargetIn(int spaceIndex) throws IllegalArgumentException {
+    if (spaceIndex < 0 || spaceIndex >= allSpaces.size()) {
+      throw new IllegalArgumentException("There is no space at the given index");
+    }
+    return Math.floorMod(spaceIndex - target.getCurrentSpaceIndex(), allSpaces.size());
+  }
+
+  @Override
+  public int getDistance(int fromSpace, int toSpace) throws IllegalArgumentException {
+    return template.getSpaceDistances().distance(fromSpace, toSpace);
+  }
+
+  @Override
+  public int getDamageOfPlayerItems(int player) throws IllegalArgumentException {
+    if (player < 0 || player >= allPlayers.size()) {
+      throw new IllegalArgumentException("There is no player at the given position");
+    }
+
+    int damage = 0;
+    for (Item item : allPlayers.get(player).getPlayerItems()) {
+      damage += item.getDamage();
+    }
+    return damage;
+  }
+
+  @Override
+  public long getStateHash() {
+    return stateHash;
+  }
+
+  @Override
+  public int getDamageOfCurrentPlayerItem(int position)
+      throws IllegalArgumentException, IllegalStateException {
+    if (allPlayers.isEmpty()) {
+      throw new IllegalStateException("There are no players in the game");
+    }
+
+    List<Item> items = allPlayers.get(currentTurnIndex).getPlayerItems();
+    if (position < 0 || position >= items.size()) {
+      throw new IllegalArgumentException("The player does not have an item at that position");
+    }
+    return items.get(position).getDamage();
+  }
+
+  @Override
+  public void legalActions(ActionBuffer actions) throws IllegalArgumentException {
+    if (actions == null) {
+      throw new IllegalArgumentException("Action buffer cannot be null");
+    }
+
+    actions.clear();
+    if (gameOver || allPlayers.isEmpty()) {
+      return;
+    }
+
+    Player currentPlayer = allPlayers.get(currentTurnIndex);
+    int spaceIndex = currentPlayer.getSpaceIndexOfPlayer();
+    int petSpaceIndex = pet.getCurrentSpaceIndex();
+
+    for (int i = spaceGraph.start(spaceIndex); i < spaceGraph.end(spaceIndex); i++) {
+      if (spaceGraph.target(i) != petSpaceIndex) {
+        actions.add(ActionType.MOVE, spaceGraph.target(i));
       }
+    }
+
+    int items = currentPlayer.getPlayerItems().size();
+    int picks = countPicks(currentPlayer, items);
+    for (int i = 0; i < picks; i++) {
+      actions.add(ActionType.PICK_ITEM, i);
+    }
 
-      String itemName = "hand";
+    actions.add(ActionType.LOOK_AROUND, 0);
 
-      if (chosenItem != null) {
-        itemName = chosenItem.getName();
+    for (int i = 0; i < allSpaces.size(); i++) {
+      if (i != petSpaceIndex) {
+        actions.add(ActionType.MOVE_PET, i);
       }
+    }
+
+    int attacks = countAttacks(currentPlayer, items);
+    for (int i = 0; i < attacks; i++) {
+      actions.add(ActionType.ATTACK_TARGET, i);
+    }
+  }
 
-      res = attackTarget(itemName);
+  @Override
+  public String performAction(int action) throws IllegalArgumentException,
+      IllegalStateException {
+    ActionType type = ActionBuffer.getType(action);
+    int argument = ActionBuffer.getArgument(action);
 
-    } else {
-      while (true) {
-        int input = currentPlayer.chooseAction(this.random, 4) + 1;
-        Space currentPlayerSpace = allSpaces.get(currentPlayer.getSpaceIndexOfPlayer());
-        List<Item> currentSpaceItems = currentPlayerSpace.getItemsInSpace();
-        if (input == 2 && (currentSpaceItems.size() == 0
-            || currentPlayer.getPlayerItems().size() == currentPlayer.getMaxNumOfItems())) {
-          continue;
+    if (gameOver) {
+      throw new IllegalStateException("The game is over");
+    }
+
+    if (allPlayers.isEmpty()) {
+      throw new IllegalStateException("There are no players in the game");
+    }
+
+    Player currentPlayer = allPlayers.get(currentTurnIndex);
+    switch (type) {
+      case MOVE:
+        if (argument >= allSpaces.size()) {
+          throw new IllegalArgumentException("The given space is not part of the world.");
         }
-        res = this.computerTurn.get(input).apply(currentPlayerSpace, currentPlayer);
-        break;
-      }
+        int[] point = getPointOfSpace(allSpaces.get(argument));
+        return movePlayerInWorld(point[0], point[1]);
+      case PICK_ITEM:
+        List<Item> spaceItems = getItemsInSpace(currentPlayer.getSpaceIndexOfPlayer());
+        if (argument >= spaceItems.size()) {
+          throw new IllegalArgumentException("The space does not have an item at that position");
+        }
+        return pickItemByPlayer(spaceItems.get(argument).getName());
+      case LOOK_AROUND:
+        return lookAroundByPlayer();
+      case MOVE_PET:
+        if (argument >= allSpaces.size()) {
+          throw new IllegalArgumentException("The given space is not part of the world.");
+        }
+        if (argument == pet.getCurrentSpaceIndex()) {
+          throw new IllegalArgumentException("Pet is already in the specified space");
+        }
+        return movePetTo(argument);
+      default:
+        List<Item> playerItems = currentPlayer.getPlayerItems();
+        if (argument > playerItems.size()) {
+          throw new IllegalArgumentException("The player does not have an item at that position");
+        }
+        return attackTarget(
+            argument == playerItems.size() ? "hand" : playerItems.get(argument).getName());
     }
+  }
 
-    return res;
+  @Override
+  public void applyAction(int action) throws IllegalArgumentException, IllegalStateException {
+    ActionType type = ActionBuffer.getType(action);
+    int argument = ActionBuffer.getArgument(action);
+
+    if (gameOver) {
+      throw new IllegalStateException("The game is over");
+    }
+
+    if (allPlayers.isEmpty()) {
+      throw new IllegalStateException("There are no players in the game");
+    }
+
+    Player currentPlayer = allPlayers.get(currentTurnIndex);
+    int spaceIndex = currentPlayer.getSpaceIndexOfPlayer();
+    switch (type) {
+      case MOVE:
+        if (argument >= allSpaces.size()) {
+          throw new IllegalArgumentException("The given space is not part of the world.");
+        }
+        if (!isVisibleNeighbour(spaceIndex, argument)) {
+          throw new IllegalStateException("Clicked space is not a neighbour of the current space");
+        }
+        movePlayerTo(currentPlayer, argument);
+        break;
+      case PICK_ITEM:
+        int itemId = pickedItems.nextClearBit(template.getFirstItem(spaceIndex));
+        for (int i = 0; i < argument; i++) {
+          itemId = pickedItems.nextClearBit(itemId + 1);
+        }
+        if (itemId >= template.getFirstItem(spaceIndex + 1)) {
+          throw new IllegalArgumentException("The space does not have an item at that position");
+        }
+        pickItem(currentPlayer, itemId);
+        break;
+      case LOOK_AROUND:
+        increaseTurnIndex(true);
+        break;
+      case MOVE_PET:
+        if (argument >= allSpaces.size()) {
+          throw new IllegalArgumentException("The given space is not part of the world.");
+        }
+        if (argument == pet.getCurrentSpaceIndex()) {
+          throw new IllegalArgumentException("Pet is already in the specified space");
+        }
+        placePet(argument);
+        break;
+      default:
+        List<Item> playerItems = currentPlayer.getPlayerItems();
+        if (argument > playerItems.size()) {
+          throw new IllegalArgumentException("The player does not have an item at that position");
+        }
+        if (spaceIndex != target.getCurrentSpaceIndex()) {
+          throw new IllegalArgumentException(
+              "The current turn player and the target character are not in the same space");
+        }
+        attack(currentPlayer, argument == playerItems.size() ? null : playerItems.get(argument));
+    }
   }
 
   @Override
@@ -845,16 +1211,24 @@ public final class WorldImpl implements World {
       throw new IllegalArgumentException("The given space is not part of the world.");
     }
 
-    pet.movePet(spaceIndex);
-    currentSpacesTrack.clear();
-    visitedSpaces.clear();
-    increaseTurnIndex(false);
+    return movePetTo(spaceIndex);
+  }
+
+  private String movePetTo(int spaceIndex) {
+    placePet(spaceIndex);
     return String.format("Pet %s has been moved to the space %s\n", pet.getName(),
         allSpaces.get(spaceIndex).getName());
   }
 
-  private void removeItemFromPlayer(Player player, String itemName) {
-    player.removeItem(itemName);
+  private void placePet(int spaceIndex) {
+    movePetHashed(spaceIndex);
+    forgetPetTrail();
+    increaseTurnIndex(false);
+  }
+
+  private void removeItemFromPlayer(Item item) {
+    stateHash ^= Zobrist.itemHolder(template.getItemId(item), currentTurnIndex);
+    allPlayers.get(currentTurnIndex).removeItem(item.getName());
   }
 
   @Override
@@ -890,6 +1264,24 @@ public final class WorldImpl implements World {
       throw new IllegalArgumentException("Item does not exist with the player.");
     }
 
+    if (attack(currentPlayer, "hand".equals(itemName) ? null : itemChosen)) {
+      msg = "Attack failed! The attack was seen by another player. Removing item...\n";
+    } else if (target.getHealth() <= 0) {
+      msg = String.format("Attack completed! The target is dead. Player %s has won the game!\n",
+          currentPlayer.getName());
+    } else {
+      msg = "Attack completed! The target's health has decreased. Removing item...\n";
+    }
+
+    return msg;
+  }
+
+  /**
+   * Attacks the target with the given item, or with the hand when the item is
+   * null, and returns whether the attack was seen by another player and
+   * failed.
+   */
+  private boolean attack(Player currentPlayer, Item item) {
     boolean visible = false;
 
     for (Player playerInList : allPlayers) {
@@ -900,33 +1292,25 @@ public final class WorldImpl implements World {
       }
     }
 
-    if (visible) {
-      msg = "Attack failed! The attack was seen by another player. Removing item...\n";
-    } else {
-      if ("hand".equals(itemName)) {
-        target.decreaseHealth(1);
-      } else {
-        target.decreaseHealth(itemChosen.getDamage());
-      }
+    if (!visible) {
+      stateHash ^= Zobrist.targetHealth(target.getHealth());
+      target.decreaseHealth(item == null ? 1 : item.getDamage());
+      stateHash ^= Zobrist.targetHealth(target.getHealth());
 
       if (target.getHealth() <= 0) {
-        gameOver = true;
-        msg = String.format("Attack completed! The target is dead. Player %s has won the game!\n",
-            currentPlayer.getName());
-      } else {
-        msg = "Attack completed! The target's health has decreased. Removing item...\n";
+        endGame();
       }
     }
 
-    if (!"hand".equals(itemName)) {
-      removeItemFromPlayer(currentPlayer, itemName);
+    if (item != null) {
+      removeItemFromPlayer(item);
     }
 
     if (!gameOver) {
       increaseTurnIndex(true);
     }
 
-    return msg;
+    return visible;
   }
 
   @Override
@@ -963,22 +1347,14 @@ public final class WorldImpl implements World {
       throw new IllegalArgumentException("Second Player does not exist in the world.");
     }
 
-    Space firstPlayerSpace = allSpaces.get(playerOne.getSpaceIndexOfPlayer());
-    Space secondPlayerSpace = allSpaces.get(playerTwo.getSpaceIndexOfPlayer());
+    int firstPlayerSpaceIndex = playerOne.getSpaceIndexOfPlayer();
+    int secondPlayerSpaceIndex = playerTwo.getSpaceIndexOfPlayer();
 
-    if (firstPlayerSpace.equals(secondPlayerSpace)) {
+    if (firstPlayerSpaceIndex == secondPlayerSpaceIndex) {
       return true;
     }
 
-    List<Space> neighbours = getNeighboursAsList(firstPlayerSpace.getName());
-
-    boolean isNeighbour = isNeighbour(neighbours, secondPlayerSpace.getName());
-
-    if (isNeighbour) {
-      return true;
-    }
-
-    return false;
+    return isVisibleNeighbour(firstPlayerSpaceIndex, secondPlayerSpaceIndex);
   }
 
   @Override
@@ -986,6 +1362,11 @@ public final class WorldImpl implements World {
     return allSpaces.get(pet.getCurrentSpaceIndex()).getName();
   }
 
+  @Override
+  public int getTargetHealth() {
+    return target.getHealth();
+  }
+
   @Override
   public String isGameOver() {
     String message = "";
@@ -1036,10 +1417,9 @@ public final class WorldImpl implements World {
     if (spaceIndex == -1) {
       throw new IllegalArgumentException("Space Doesnt Exist");
     }
-    return new int[] { this.allSpaces.get(spaceIndex).getTopLeftX(),
-        this.allSpaces.get(spaceIndex).getTopLeftY(),
-        this.allSpaces.get(spaceIndex).getBottomRightX(),
-        this.allSpaces.get(spaceIndex).getBottomRightY() };
+    Space space = this.allSpaces.get(spaceIndex);
+    return new int[] { space.getTopLeftX(), space.getTopLeftY(), space.getBottomRightX(),
+        space.getBottomRightY() };
   }
 
   private String[] getItemNamesFromList(List<Item> items) {
@@ -1057,7 +1437,7 @@ public final class WorldImpl implements World {
   @Override
   public String[] getCurrentSpaceItems() {
     int currentSpaceIndex = allPlayers.get(currentTurnIndex).getSpaceIndexOfPlayer();
-    List<Item> currentSpaceItems = allSpaces.get(currentSpaceIndex).getItemsInSpace();
+    List<Item> currentSpaceItems = getItemsInSpace(currentSpaceIndex);
 
     return getItemNamesFromList(currentSpaceItems);
   }
@@ -1077,4 +1457,184 @@ public final class WorldImpl implements World {
     return itemsNames;
   }
 
+  private void setTarget(int health, int spaceIndex) {
+    if (health < target.getHealth()) {
+      target.decreaseHealth(target.getHealth() - health);
+    } else if (health > target.getHealth()) {
+      target.increaseHealth(health - target.getHealth());
+    }
+    target.move(spaceIndex);
+  }
+
+  @Override
+  public WorldImpl fork(RandomManual random) throws IllegalArgumentException {
+    if (random == null) {
+      throw new IllegalArgumentException("RandomManual object cannot be null.");
+    }
+
+    return new WorldImpl(this, random, null);
+  }
+
+  @Override
+  public WorldImpl fork(RandomManual random, ComputerStrategy strategy)
+      throws IllegalArgumentException {
+    if (random == null) {
+      throw new IllegalArgumentException("RandomManual object cannot be null.");
+    }
+
+    if (strategy == null) {
+      throw new IllegalArgumentException("Strategy cannot be null");
+    }
+
+    return new WorldImpl(this, random, strategy);
+  }
+
+  @Override
+  public WorldImpl fork() throws IllegalStateException {
+    return new WorldImpl(this, random.split(), null);
+  }
+
+  @Override
+  public byte[] saveGame() {
+    int itemCount = template.getItemCount();
+    VarIntBuffer out = new VarIntBuffer(64 + itemCount / 8 + allPlayers.size() * 32
+        + (petTrailSize + petVisitedSize) * 2);
+
+    out.writeFixedInt(SAVE_MAGIC);
+    out.writeInt(SAVE_VERSION);
+    out.writeInt(allSpaces.size());
+    out.writeInt(itemCount);
+
+    out.writeInt(numOfTurns);
+    out.writeInt(currentTurnIndex);
+    out.writeInt(gameOver ? 1 : 0);
+    out.writeInt(target.getHealth());
+    out.writeInt(target.getCurrentSpaceIndex());
+    out.writeInt(pet.getCurrentSpaceIndex());
+
+    out.writeInt(petTrailSize);
+    for (int i = 0; i < petTrailSize; i++) {
+      out.writeInt(petTrail[i]);
+    }
+
+    out.writeInt(petVisitedSize);
+    for (int i = 0; i < petVisitedSize; i++) {
+      out.writeInt(petVisited[i]);
+    }
+
+    // items only ever leave the spaces they start in, so the items which have
+    // been picked up tell which items are left in every space
+    byte[] picked = pickedItems.toByteArray();
+    out.writeInt(picked.length);
+    out.writeBytes(picked);
+
+    // the names of the players are the only strings of a game, so they are kept
+    // in a table before the players which refer to them by their position
+    out.writeInt(allPlayers.size());
+    for (Player player : allPlayers) {
+      out.writeString(player.getName());
+    }
+
+    for (Player player : allPlayers) {
+      out.writeInt("Human".equals(player.getPlayerType()) ? 1 : 0);
+      out.writeInt(player.getSpaceIndexOfPlayer());
+      List<Item> playerItems = player.getPlayerItems();
+      out.writeInt(playerItems.size());
+      for (Item item : playerItems) {
+        out.writeInt(template.getItemId(item));
+      }
+    }
+
+    return out.toByteArray();
+  }
+
+  @Override
+  public void loadGame(byte[] savedGame) throws IllegalArgumentException {
+    if (savedGame == null) {
+      throw new IllegalArgumentException("Saved game cannot be null");
+    }
+
+    VarIntBuffer in = new VarIntBuffer(savedGame);
+    if (in.readFixedInt() != SAVE_MAGIC) {
+      throw new IllegalArgumentException("The data is not a saved game");
+    }
+
+    int version = in.readInt();
+    if (version != SAVE_VERSION) {
+      throw new IllegalArgumentException(
+          String.format("Saved game version %d is not supported", version));
+    }
+
+    int spaceCount = allSpaces.size();
+    int itemCount = template.getItemCount();
+    if (in.readInt() != spaceCount || in.readInt() != itemCount) {
+      throw new IllegalArgumentException("The saved game is from a different world");
+    }
+
+    // everything is read and checked before the game is changed
+    final int savedTurns = in.readInt();
+    final int savedTurnIndex = in.readInt();
+    final boolean savedGameOver = in.readInt(2) == 1;
+    final int targetHealth = in.readInt();
+    final int targetSpace = in.readInt(spaceCount);
+    final int petSpace = in.readInt(spaceCount);
+
+    int[] track = new int[in.readInt(spaceCount + 1)];
+    for (int i = 0; i < track.length; i++) {
+      track[i] = in.readInt(spaceCount);
+    }
+
+    int[] visited = new int[in.readInt(spaceCount + 1)];
+    for (int i = 0; i < visited.length; i++) {
+      visited[i] = in.readInt(spaceCount);
+    }
+
+    BitSet savedPickedItems = BitSet.valueOf(in.readBytes(in.readInt((itemCount + 7) / 8 + 1)));
+    if (savedPickedItems.length() > itemCount) {
+      throw new IllegalArgumentException("The saved game is corrupted");
+    }
+
+    // every player takes at least one byte, so a count larger than the bytes
+    // left is corrupted rather than a reason to allocate
+    String[] names = new String[in.readInt(in.remaining() + 1)];
+    Map<String, Integer> nameIndexes = new HashMap<>(names.length * 2);
+    for (int i = 0; i < names.length; i++) {
+      names[i] = in.readString();
+      if (names[i].length() == 0 || nameIndexes.put(names[i], i) != null) {
+        throw new IllegalArgumentException("The saved game is corrupted");
+      }
+    }
+
+    List<Player> players = new ArrayList<Player>(names.length);
+    for (int i = 0; i < names.length; i++) {
+      boolean isHuman = in.readInt(2) == 1;
+      int spaceIndex = in.readInt(spaceCount);
+      Player player = isHuman ? new PlayerImpl(names[i], spaceIndex)
+          : new ComputerPlayer(names[i], spaceIndex, getStrategyOf(names[i]));
+      int playerItems = in.readInt(player.getMaxNumOfItems() + 1);
+      for (int j = 0; j < playerItems; j++) {
+        player.pickItem(template.getItem(in.readInt(itemCount)));
+      }
+      players.add(player);
+    }
+
+    if (!in.isFinished() || savedTurnIndex >= Math.max(1, players.size())) {
+      throw new IllegalArgumentException("The saved game is corrupted");
+    }
+
+    setTarget(targetHealth, targetSpace);
+    pet.movePet(petSpace);
+
+    this.petTrail = track;
+    this.petTrailSize = track.length;
+    this.petVisited = visited;
+    this.petVisitedSize = visited.length;
+    this.pickedItems = savedPickedItems;
+    this.allPlayers = players;
+    this.currentTurnIndex = savedTurnIndex;
+    this.numOfTurns = savedTurns;
+    this.gameOver = savedGameOver;
+    this.stateHash = computeStateHash();
+  }
+
 }
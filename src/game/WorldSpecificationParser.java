@@ -0,0 +1,190 @@
+package game;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+
+/**
+ * A streaming reader of world specifications which reads numbers and lines
+ * directly from a character buffer. It follows the same rules as a Scanner for
+ * the world specification format: numbers are separated by whitespace and a
+ * line is the rest of the current line after the last number read. Errors
+ * report the line and column where they were found.
+ */
+final class WorldSpecificationParser {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Readable source;
+  private final CharBuffer buffer;
+  private final StringBuilder token;
+  private boolean endOfInput;
+  private int line;
+  private int column;
+
+  /**
+   * Constructs a parser which reads from the given source.
+   *
+   * @param source The readable which contains the world specification
+   * @throws IllegalArgumentException When source is null
+   */
+  WorldSpecificationParser(Readable source) throws IllegalArgumentException {
+    if (source == null) {
+      throw new IllegalArgumentException("World data cannot be null");
+    }
+
+    this.source = source;
+    this.buffer = CharBuffer.allocate(BUFFER_SIZE);
+    this.buffer.flip();
+    this.token = new StringBuilder();
+    this.endOfInput = false;
+    this.line = 1;
+    this.column = 1;
+  }
+
+  /**
+   * Reads the next whitespace separated number.
+   *
+   * @return The number which was read
+   * @throws InputMismatchException When the next token is not a number
+   * @throws NoSuchElementException When there are no more tokens
+   */
+  int nextInt() throws InputMismatchException, NoSuchElementException {
+    while (fill() && Character.isWhitespace(buffer.get(buffer.position()))) {
+      advance();
+    }
+
+    if (!fill()) {
+      throw new NoSuchElementException(
+          String.format("Expected a number at line %d, column %d but the world specification "
+              + "has ended", line, column));
+    }
+
+    final int tokenLine = line;
+    final int tokenColumn = column;
+    token.setLength(0);
+
+    boolean valid = true;
+    boolean negative = false;
+    int digits = 0;
+    long value = 0;
+
+    while (fill() && !Character.isWhitespace(buffer.get(buffer.position()))) {
+      char current = advance();
+      token.append(current);
+
+      if (token.length() == 1 && (current == '-' || current == '+')) {
+        negative = current == '-';
+      } else if (current >= '0' && current <= '9' && valid) {
+        value = value * 10 + (current - '0');
+        digits++;
+        if (value > (long) Integer.MAX_VALUE + 1) {
+          valid = false;
+        }
+      } else {
+        valid = false;
+      }
+    }
+
+    if (negative) {
+      value = -value;
+    }
+
+    if (!valid || digits == 0 || value > Integer.MAX_VALUE) {
+      throw new InputMismatchException(
+          String.format("Expected a number at line %d, column %d but found \"%s\"", tokenLine,
+              tokenColumn, token));
+    }
+
+    return (int) value;
+  }
+
+  /**
+   * Reads the rest of the current line without the line separator.
+   *
+   * @return The rest of the current line
+   * @throws NoSuchElementException When there is nothing left to read
+   */
+  String nextLine() throws NoSuchElementException {
+    if (!fill()) {
+      throw new NoSuchElementException(
+          String.format("Expected a line at line %d, column %d but the world specification "
+              + "has ended", line, column));
+    }
+
+    token.setLength(0);
+
+    while (fill()) {
+      char current = advance();
+      if (current == '\n' || current == '\u2028' || current == '\u2029'
+          || current == '\u0085') {
+        break;
+      }
+
+      if (current == '\r') {
+        if (fill() && buffer.get(buffer.position()) == '\n') {
+          advance();
+        }
+        break;
+      }
+
+      token.append(current);
+    }
+
+    return token.toString();
+  }
+
+  /**
+   * Closes the source if it can be closed.
+   */
+  void close() {
+    if (source instanceof Closeable) {
+      try {
+        ((Closeable) source).close();
+      } catch (IOException e) {
+        // nothing more can be read from the source so it is safe to ignore
+      }
+    }
+  }
+
+  private char advance() {
+    char current = buffer.get();
+    if (current == '\n') {
+      line++;
+      column = 1;
+    } else {
+      column++;
+    }
+    return current;
+  }
+
+  private boolean fill() throws NoSuchElementException {
+    if (buffer.hasRemaining()) {
+      return true;
+    }
+
+    while (!endOfInput) {
+      buffer.clear();
+      int read;
+      try {
+        read = source.read(buffer);
+      } catch (IOException e) {
+        throw new NoSuchElementException(
+            String.format("Unable to read the world specification at line %d: %s", line,
+                e.getMessage()));
+      }
+      buffer.flip();
+
+      if (read == -1) {
+        endOfInput = true;
+      } else if (read > 0) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+}
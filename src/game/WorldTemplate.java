@@ -0,0 +1,787 @@
+package game;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.InputMismatchException;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+import javax.imageio.ImageIO;
+
+/**
+ * An immutable and validated description of a world which is shared by every
+ * game played in it. It holds the layout of the spaces, the items they start
+ * with, the target and the pet along with the indexes built from the layout.
+ * A template is built either from the text world specification or from a
+ * compiled world file, which stores the indexes so that nothing has to be
+ * parsed or validated again.
+ */
+public final class WorldTemplate {
+
+  /**
+   * The first four bytes of every compiled world file.
+   */
+  public static final int COMPILED_MAGIC = 0x444C574D;
+
+  /**
+   * The version of the compiled world format written by this class.
+   */
+  public static final int COMPILED_VERSION = 1;
+
+  /**
+   * The file in which the image of the world being played is saved.
+   */
+  public static final String IMAGE_FILE = "TheWorld.png";
+
+  private static final int IMAGE_SIZE = 800;
+  private static final int SCALE_FACTOR = 20;
+  private static final int IMAGE_BUFFER = 30;
+
+  private final int rows;
+  private final int columns;
+  private final String name;
+  private final String targetName;
+  private final int targetHealth;
+  private final String petName;
+  private final List<Space> spaces;
+  private final Map<String, Integer> spaceIndexes;
+  private final SpaceGraph spaceGraph;
+  private final SpaceDistances spaceDistances;
+  private final SpaceRaster spaceRaster;
+  private final Item[] items;
+  private final int[] firstItems;
+  private final int[] itemSpaces;
+  private final Map<Item, Integer> itemIds;
+
+  private WorldTemplate(int rows, int columns, String name, String targetName, int targetHealth,
+      String petName, List<Space> spaces, SpaceGraph spaceGraph, SpaceRaster spaceRaster) {
+    this.rows = rows;
+    this.columns = columns;
+    this.name = name;
+    this.targetName = targetName;
+    this.targetHealth = targetHealth;
+    this.petName = petName;
+    this.spaces = Collections.unmodifiableList(spaces);
+    this.spaceGraph = spaceGraph;
+    this.spaceDistances = new SpaceDistances(spaceGraph);
+    this.spaceRaster = spaceRaster;
+    this.spaceIndexes = new HashMap<String, Integer>();
+    for (int i = 0; i < spaces.size(); i++) {
+      this.spaceIndexes.putIfAbsent(spaces.get(i).getName(), i);
+    }
+
+    // every item gets an id from its position in the world, with the items of a
+    // space numbered one after another
+    this.firstItems = new int[spaces.size() + 1];
+    List<Item> allItems = new ArrayList<>();
+    for (int i = 0; i < spaces.size(); i++) {
+      allItems.addAll(spaces.get(i).getItemsInSpace());
+      this.firstItems[i + 1] = allItems.size();
+    }
+    this.items = allItems.toArray(new Item[0]);
+    this.itemSpaces = new int[items.length];
+    for (int i = 0; i < spaces.size(); i++) {
+      Arrays.fill(itemSpaces, firstItems[i], firstItems[i + 1], i);
+    }
+    this.itemIds = new IdentityHashMap<>(items.length * 2);
+    for (int i = 0; i < items.length; i++) {
+      this.itemIds.put(items[i], i);
+    }
+  }
+
+  /**
+   * Reads and validates a world from the text world specification.
+   *
+   * @param worldData The Readable world data which is used to build the world
+   * @return The template of the world
+   * @throws IllegalArgumentException When worldData is null or when rows and
+   *                                  columns is less than 1 or list of spaces is
+   *                                  empty or world/target/pet name is null or
+   *                                  empty string or when the target's health is
+   *                                  less than 1 or when the top left corner of
+   *                                  a space is after its bottom right corner or
+   *                                  when there is an overlap among spaces
+   * @throws InputMismatchException   When the input world specification is not
+   *                                  present in the required format
+   * @throws NoSuchElementException   When the number of spaces or items specified
+   *                                  does not match the actual number of spaces
+   *                                  or items in the text
+   */
+  public static WorldTemplate parse(Readable worldData)
+      throws IllegalArgumentException, InputMismatchException, NoSuchElementException {
+    if (worldData == null) {
+      throw new IllegalArgumentException("World data cannot be empty");
+    }
+
+    WorldSpecificationParser parser = new WorldSpecificationParser(worldData);
+
+    final int rows;
+    final int columns;
+    final String worldName;
+    final int targetHealth;
+    final String targetName;
+    final String petName;
+    final int numberOfSpaces;
+    int[] corners;
+    String[] spaceNames;
+    List<List<Item>> spaceItems;
+
+    try {
+      rows = parser.nextInt();
+      columns = parser.nextInt();
+      worldName = parser.nextLine().trim();
+      targetHealth = parser.nextInt();
+      targetName = parser.nextLine().trim();
+      petName = parser.nextLine().trim();
+
+      numberOfSpaces = Math.max(parser.nextInt(), 0);
+      parser.nextLine();
+
+      // the arrays grow as spaces are read so that a wrong count in the
+      // specification cannot allocate more than what is actually present
+      int capacity = Math.min(numberOfSpaces, 1024);
+      corners = new int[capacity * 4];
+      spaceNames = new String[capacity];
+      for (int i = 0; i < numberOfSpaces; i++) {
+        if (i == spaceNames.length) {
+          capacity = Math.min(numberOfSpaces, capacity * 2);
+          corners = Arrays.copyOf(corners, capacity * 4);
+          spaceNames = Arrays.copyOf(spaceNames, capacity);
+        }
+        corners[i * 4] = parser.nextInt();
+        corners[i * 4 + 1] = parser.nextInt();
+        corners[i * 4 + 2] = parser.nextInt();
+        corners[i * 4 + 3] = parser.nextInt();
+        spaceNames[i] = parser.nextLine().trim();
+      }
+
+      spaceItems = new ArrayList<List<Item>>(Collections.nCopies(numberOfSpaces, null));
+      int numberOfItems = parser.nextInt();
+      parser.nextLine();
+      for (int i = 0; i < numberOfItems; i++) {
+        int key = parser.nextInt();
+        int damage = parser.nextInt();
+        Item item = new ItemImpl(parser.nextLine().trim(), damage);
+        if (key >= 0 && key < numberOfSpaces) {
+          if (spaceItems.get(key) == null) {
+            spaceItems.set(key, new ArrayList<Item>());
+          }
+          spaceItems.get(key).add(item);
+        }
+      }
+    } finally {
+      parser.close();
+    }
+
+    List<Space> allSpaces = new ArrayList<>(numberOfSpaces);
+    for (int i = 0; i < numberOfSpaces; i++) {
+      allSpaces.add(new SpaceImpl(corners[i * 4], corners[i * 4 + 1], corners[i * 4 + 2],
+          corners[i * 4 + 3], spaceNames[i],
+          spaceItems.get(i) != null ? spaceItems.get(i) : new ArrayList<Item>()));
+    }
+
+    if (rows <= 0) {
+      throw new IllegalArgumentException("Rows cannot be less than zero");
+    }
+
+    if (columns <= 0) {
+      throw new IllegalArgumentException("Columns cannot be less than zero");
+    }
+
+    if (worldName == null) {
+      throw new IllegalArgumentException("World Name cannot be null");
+    }
+
+    if (worldName.length() == 0) {
+      throw new IllegalArgumentException("World Name cannot be empty");
+    }
+
+    if (allSpaces.size() == 0) {
+      throw new IllegalArgumentException("List of spaces cannot be empty");
+    }
+
+    if (targetName == null) {
+      throw new IllegalArgumentException("Target Name cannot be null");
+    }
+
+    if (targetName.length() == 0) {
+      throw new IllegalArgumentException("Target Name cannot be empty");
+    }
+
+    if (targetHealth <= 0) {
+      throw new IllegalArgumentException("Target health cannot be less than one");
+    }
+
+    if (petName == null) {
+      throw new IllegalArgumentException("Pet Name cannot be null");
+    }
+
+    if (petName.length() == 0) {
+      throw new IllegalArgumentException("Pet Name cannot be empty");
+    }
+
+    for (Space space : allSpaces) {
+      if (space.getTopLeftX() > space.getBottomRightX()
+          || space.getTopLeftY() > space.getBottomRightY()) {
+        throw new IllegalArgumentException(String.format(
+            "The top left corner of %s cannot be after its bottom right corner",
+            space.getName()));
+      }
+    }
+
+    List<String> overlappingSpaces = findOverlappingSpaces(allSpaces);
+
+    if (overlappingSpaces.size() > 0) {
+      throw new IllegalArgumentException(
+          "Spaces cannot overlap: " + String.join(", ", overlappingSpaces));
+    }
+
+    return new WorldTemplate(rows, columns, worldName, targetName, targetHealth, petName,
+        allSpaces, SpaceGraph.build(allSpaces), SpaceRaster.build(rows, columns, allSpaces));
+  }
+
+  /**
+   * Finds every pair of spaces which share at least one cell using a sweep over
+   * the rows. The spaces that are open at the current row are kept ordered by
+   * their first column. As long as no overlap has been found, these open spaces
+   * do not overlap each other, so only the open spaces that start inside the new
+   * space and the one that starts just before it need to be checked.
+   *
+   * @param spaces All the spaces of the world
+   * @return The names of the overlapping pairs of spaces
+   */
+  private static List<String> findOverlappingSpaces(List<Space> spaces) {
+    long[] order = new long[spaces.size()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = ((long) spaces.get(i).getTopLeftX() << 32) | i;
+    }
+    Arrays.sort(order);
+
+    PriorityQueue<Integer> openByLastRow = new PriorityQueue<Integer>(
+        (first, second) -> Integer.compare(spaces.get(first).getBottomRightX(),
+            spaces.get(second).getBottomRightX()));
+    TreeMap<Integer, List<Integer>> openByFirstColumn = new TreeMap<Integer, List<Integer>>();
+    List<String> overlapping = new ArrayList<String>();
+
+    for (long entry : order) {
+      int index = (int) entry;
+      Space space = spaces.get(index);
+
+      while (!openByLastRow.isEmpty()
+          && spaces.get(openByLastRow.peek()).getBottomRightX() < space.getTopLeftX()) {
+        int closed = openByLastRow.poll();
+        int column = spaces.get(closed).getTopLeftY();
+        List<Integer> sameColumn = openByFirstColumn.get(column);
+        sameColumn.remove(Integer.valueOf(closed));
+        if (sameColumn.isEmpty()) {
+          openByFirstColumn.remove(column);
+        }
+      }
+
+      for (Map.Entry<Integer, List<Integer>> open : openByFirstColumn
+          .headMap(space.getBottomRightY(), true).descendingMap().entrySet()) {
+        for (int other : open.getValue()) {
+          if (spaces.get(other).getBottomRightY() >= space.getTopLeftY()) {
+            overlapping.add(String.format("%s and %s", spaces.get(other).getName(),
+                space.getName()));
+          }
+        }
+
+        if (open.getKey() < space.getTopLeftY() && overlapping.isEmpty()) {
+          break;
+        }
+      }
+
+      openByLastRow.add(index);
+      openByFirstColumn.computeIfAbsent(space.getTopLeftY(), key -> new ArrayList<Integer>())
+          .add(index);
+    }
+
+    return overlapping;
+  }
+
+  /**
+   * Checks whether the given file starts like a compiled world file.
+   *
+   * @param path The path of the file
+   * @return True if the file is a compiled world file else false
+   * @throws IOException When the file cannot be read
+   */
+  public static boolean isCompiled(Path path) throws IOException {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null");
+    }
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer start = ByteBuffer.allocate(4);
+      while (start.hasRemaining() && channel.read(start) != -1) {
+        continue;
+      }
+      return !start.hasRemaining() && start.getInt(0) == COMPILED_MAGIC;
+    }
+  }
+
+  /**
+   * Writes this template as a compiled world file. The file starts with the
+   * magic number and the version, followed by the world, the spaces, the items,
+   * the adjacency of the spaces and the raster of the world, and ends with a
+   * checksum of everything written after the version.
+   *
+   * @param path The path of the file to write
+   * @throws IOException When the file cannot be written
+   */
+  public void writeCompiled(Path path) throws IOException {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null");
+    }
+
+    ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+    DataOutputStream payload = new DataOutputStream(payloadBytes);
+
+    payload.writeInt(rows);
+    payload.writeInt(columns);
+    writeString(payload, name);
+    writeString(payload, targetName);
+    payload.writeInt(targetHealth);
+    writeString(payload, petName);
+
+    payload.writeInt(spaces.size());
+    for (Space space : spaces) {
+      payload.writeInt(space.getTopLeftX());
+      payload.writeInt(space.getTopLeftY());
+      payload.writeInt(space.getBottomRightX());
+      payload.writeInt(space.getBottomRightY());
+    }
+
+    for (Space space : spaces) {
+      writeString(payload, space.getName());
+    }
+
+    for (Space space : spaces) {
+      List<Item> items = space.getItemsInSpace();
+      payload.writeInt(items.size());
+      for (Item item : items) {
+        payload.writeInt(item.getDamage());
+        writeString(payload, item.getName());
+      }
+    }
+
+    int targets = spaceGraph.end(spaces.size() - 1);
+    payload.writeInt(targets);
+    for (int i = 0; i <= spaces.size(); i++) {
+      payload.writeInt(i == spaces.size() ? targets : spaceGraph.start(i));
+    }
+    for (int i = 0; i < targets; i++) {
+      payload.writeInt(spaceGraph.target(i));
+    }
+
+    payload.writeInt(spaceRaster.getRows());
+    payload.writeInt(spaceRaster.getColumns());
+    for (int x = 0; x < spaceRaster.getRows(); x++) {
+      for (int y = 0; y < spaceRaster.getColumns(); y++) {
+        payload.writeInt(spaceRaster.spaceAt(x, y));
+      }
+    }
+
+    payload.flush();
+
+    CRC32 checksum = new CRC32();
+    byte[] bytes = payloadBytes.toByteArray();
+    checksum.update(bytes);
+
+    try (DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(Files.newOutputStream(path)))) {
+      out.writeInt(COMPILED_MAGIC);
+      out.writeInt(COMPILED_VERSION);
+      out.write(bytes);
+      out.writeLong(checksum.getValue());
+    }
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  /**
+   * Reads the template of a world from a file, which is loaded as a compiled
+   * world file when it starts like one and parsed as a world specification
+   * otherwise.
+   *
+   * @param path The path of the world file
+   * @return The template of the world
+   * @throws IOException              When the file cannot be read
+   * @throws IllegalArgumentException When path is null or when the file is not
+   *                                  a valid world as described by
+   *                                  readCompiled and parse
+   * @throws InputMismatchException   When the world specification is not in the
+   *                                  required format
+   * @throws NoSuchElementException   When the world specification ends early
+   */
+  public static WorldTemplate read(Path path)
+      throws IOException, IllegalArgumentException, InputMismatchException,
+      NoSuchElementException {
+    if (isCompiled(path)) {
+      return readCompiled(path);
+    }
+
+    try (Reader reader = new FileReader(path.toFile())) {
+      return parse(reader);
+    }
+  }
+
+  /**
+   * Loads a compiled world file by mapping it into memory. The world is not
+   * parsed or validated again since that was done when the file was compiled.
+   *
+   * @param path The path of the compiled world file
+   * @return The template of the world
+   * @throws IOException              When the file cannot be read
+   * @throws IllegalArgumentException When path is null or when the file is not a
+   *                                  compiled world file, has a different version
+   *                                  or does not match its checksum
+   */
+  public static WorldTemplate readCompiled(Path path)
+      throws IOException, IllegalArgumentException {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null");
+    }
+
+    MappedByteBuffer mapped;
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+
+    try {
+      if (mapped.getInt() != COMPILED_MAGIC) {
+        throw new IllegalArgumentException("The file is not a compiled world file");
+      }
+
+      int version = mapped.getInt();
+      if (version != COMPILED_VERSION) {
+        throw new IllegalArgumentException(
+            String.format("Compiled world version %d is not supported", version));
+      }
+
+      ByteBuffer payload = mapped.slice(8, mapped.limit() - 16);
+      CRC32 checksum = new CRC32();
+      checksum.update(payload.duplicate());
+      if (checksum.getValue() != mapped.getLong(mapped.limit() - 8)) {
+        throw new IllegalArgumentException("The compiled world file is corrupted");
+      }
+
+      return readPayload(payload);
+    } catch (BufferUnderflowException | IndexOutOfBoundsException
+        | NegativeArraySizeException e) {
+      throw new IllegalArgumentException("The compiled world file is incomplete");
+    }
+  }
+
+  private static WorldTemplate readPayload(ByteBuffer payload) {
+    final int rows = payload.getInt();
+    final int columns = payload.getInt();
+    final String worldName = readString(payload);
+    final String targetName = readString(payload);
+    final int targetHealth = payload.getInt();
+    final String petName = readString(payload);
+
+    final int numberOfSpaces = payload.getInt();
+    int[] corners = new int[numberOfSpaces * 4];
+    payload.asIntBuffer().get(corners);
+    payload.position(payload.position() + corners.length * 4);
+
+    String[] spaceNames = new String[numberOfSpaces];
+    for (int i = 0; i < numberOfSpaces; i++) {
+      spaceNames[i] = readString(payload);
+    }
+
+    List<Space> allSpaces = new ArrayList<>(numberOfSpaces);
+    for (int i = 0; i < numberOfSpaces; i++) {
+      int numberOfItems = payload.getInt();
+      List<Item> items = new ArrayList<Item>(numberOfItems);
+      for (int j = 0; j < numberOfItems; j++) {
+        int damage = payload.getInt();
+        items.add(new ItemImpl(readString(payload), damage));
+      }
+      allSpaces.add(new SpaceImpl(corners[i * 4], corners[i * 4 + 1], corners[i * 4 + 2],
+          corners[i * 4 + 3], spaceNames[i], items));
+    }
+
+    int[] targets = new int[payload.getInt()];
+    int[] offsets = new int[numberOfSpaces + 1];
+    payload.asIntBuffer().get(offsets);
+    payload.position(payload.position() + offsets.length * 4);
+    payload.asIntBuffer().get(targets);
+    payload.position(payload.position() + targets.length * 4);
+
+    int rasterRows = payload.getInt();
+    int rasterColumns = payload.getInt();
+    int[] cells = new int[rasterRows * rasterColumns];
+    payload.asIntBuffer().get(cells);
+
+    return new WorldTemplate(rows, columns, worldName, targetName, targetHealth, petName,
+        allSpaces, new SpaceGraph(offsets, targets),
+        new SpaceRaster(rasterRows, rasterColumns, cells));
+  }
+
+  private static String readString(ByteBuffer in) {
+    byte[] bytes = new byte[in.getInt()];
+    in.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Draws the image of this world in PNG format without creating a game in it.
+   * The image is the same as the one drawn by a world built from this template.
+   *
+   * @param path The path of the image file to write
+   * @throws IllegalArgumentException When path is null
+   * @throws IllegalStateException    When the image cannot be written
+   */
+  public void drawImage(Path path) throws IllegalArgumentException, IllegalStateException {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null");
+    }
+
+    drawImage(spaces, SCALE_FACTOR, IMAGE_BUFFER, path.toFile());
+  }
+
+  /**
+   * Draws the given spaces as rectangles with their names into a PNG image.
+   *
+   * @param spaces      The spaces to draw
+   * @param scaleFactor The number of pixels in one unit of the world
+   * @param buffer      The number of pixels around the world
+   * @param file        The image file to write
+   * @throws IllegalStateException When the image cannot be written
+   */
+  static void drawImage(List<Space> spaces, int scaleFactor, int buffer, File file)
+      throws IllegalStateException {
+    BufferedImage theWorldBuffer = new BufferedImage(IMAGE_SIZE, IMAGE_SIZE,
+        BufferedImage.TYPE_INT_RGB);
+
+    Graphics2D theWorldGraphics = theWorldBuffer.createGraphics();
+
+    theWorldGraphics.setColor(Color.white);
+    theWorldGraphics.fillRect(0, 0, IMAGE_SIZE, IMAGE_SIZE);
+
+    theWorldGraphics.setColor(Color.black);
+
+    for (Space space : spaces) {
+      theWorldGraphics.drawRect(space.getTopLeftY() * scaleFactor + buffer,
+          space.getTopLeftX() * scaleFactor + buffer,
+          (space.getBottomRightY() * scaleFactor - space.getTopLeftY() * scaleFactor) + scaleFactor,
+          (space.getBottomRightX() * scaleFactor - space.getTopLeftX() * scaleFactor)
+              + scaleFactor);
+
+      String[] nameInParts = space.getName().split("\\s+");
+
+      int spaceInX = 15;
+      for (String s : nameInParts) {
+        theWorldGraphics.drawString(s.trim(), space.getTopLeftY() * scaleFactor + buffer + 10,
+            space.getTopLeftX() * scaleFactor + buffer + spaceInX);
+
+        spaceInX += 15;
+
+      }
+    }
+
+    theWorldGraphics.dispose();
+
+    try {
+      ImageIO.write(theWorldBuffer, "png", file);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Gets the number of rows of the world.
+   *
+   * @return number of rows
+   */
+  int getRows() {
+    return rows;
+  }
+
+  /**
+   * Gets the number of columns of the world.
+   *
+   * @return number of columns
+   */
+  int getColumns() {
+    return columns;
+  }
+
+  /**
+   * Gets the name of the world.
+   *
+   * @return name of the world
+   */
+  String getName() {
+    return name;
+  }
+
+  /**
+   * Gets the name of the target character.
+   *
+   * @return name of the target
+   */
+  String getTargetName() {
+    return targetName;
+  }
+
+  /**
+   * Gets the health the target character starts with.
+   *
+   * @return starting health of the target
+   */
+  int getTargetHealth() {
+    return targetHealth;
+  }
+
+  /**
+   * Gets the name of the target's pet.
+   *
+   * @return name of the pet
+   */
+  String getPetName() {
+    return petName;
+  }
+
+  /**
+   * Gets the spaces of the world with the items they start with. These spaces
+   * must not be changed, a game makes its own copies of them.
+   *
+   * @return All the spaces of the world in order
+   */
+  List<Space> getSpaces() {
+    return spaces;
+  }
+
+  /**
+   * Gets the index of every space by its name.
+   *
+   * @return The index of the spaces by name
+   */
+  Map<String, Integer> getSpaceIndexes() {
+    return spaceIndexes;
+  }
+
+  /**
+   * Gets the adjacency of the spaces.
+   *
+   * @return The graph of the spaces
+   */
+  SpaceGraph getSpaceGraph() {
+    return spaceGraph;
+  }
+
+  /**
+   * Gets the distances between the spaces, which are shared by every game in
+   * the world.
+   *
+   * @return The distances of the spaces
+   */
+  SpaceDistances getSpaceDistances() {
+    return spaceDistances;
+  }
+
+  /**
+   * Gets the raster of the spaces.
+   *
+   * @return The raster of the spaces
+   */
+  SpaceRaster getSpaceRaster() {
+    return spaceRaster;
+  }
+
+  /**
+   * Gets the number of items the world starts with.
+   *
+   * @return The number of items in all the spaces
+   */
+  int getItemCount() {
+    return items.length;
+  }
+
+  /**
+   * Gets the item with the given id.
+   *
+   * @param itemId The id of the item
+   * @return The item
+   */
+  Item getItem(int itemId) {
+    return items[itemId];
+  }
+
+  /**
+   * Gets the id of the first item the given space starts with. The items of the
+   * space have the ids from this one up to the first item of the next space.
+   *
+   * @param spaceIndex The index of the space, or the number of spaces for the
+   *                   end of the items
+   * @return The id of the first item of the space
+   */
+  int getFirstItem(int spaceIndex) {
+    return firstItems[spaceIndex];
+  }
+
+  /**
+   * Gets the index of the space the item with the given id starts in.
+   *
+   * @param itemId The id of the item
+   * @return The index of the space of the item
+   */
+  int getSpaceOfItem(int itemId) {
+    return itemSpaces[itemId];
+  }
+
+  /**
+   * Gets the id of the given item, which must be one of the items of this
+   * template and not merely an equal one.
+   *
+   * @param item The item
+   * @return The id of the item, or -1 when it is not an item of this template
+   */
+  int getItemId(Item item) {
+    return itemIds.getOrDefault(item, -1);
+  }
+
+  /**
+   * Returns a string representation of this template in the form
+   * "WorldTemplate(name = House, Number of spaces = 20)".
+   *
+   * @return String format of this instance
+   */
+  @Override
+  public String toString() {
+    return String.format("WorldTemplate(name = %s, Number of spaces = %d)", name, spaces.size());
+  }
+
+}
@@ -0,0 +1,205 @@
+package game;
+
+import utils.RandomManual;
+
+/**
+ * Defines the methods a computer strategy uses to read a game in progress. The
+ * game cannot be changed through the view, but it can be forked to try out
+ * actions on a copy.
+ */
+public interface WorldView extends ReadOnlyModel {
+
+  /**
+   * Checks whether the game is over.
+   *
+   * @return The message at the end of the game, or an empty string when the
+   *         game is not over
+   */
+  public String isGameOver();
+
+  /**
+   * Gets the number of turns left in the game.
+   *
+   * @return The number of turns left
+   */
+  public int getNumOfTurns();
+
+  /**
+   * Lists every action the current turn player can take into the given buffer,
+   * in the order described by GameWorld.legalActions.
+   *
+   * @param buffer The buffer to fill with the encoded actions
+   * @throws IllegalArgumentException When buffer is null
+   */
+  public void legalActions(ActionBuffer buffer) throws IllegalArgumentException;
+
+  /**
+   * Counts the actions legalActions would list, without listing them.
+   *
+   * @return The number of legal actions, or zero when the game is over or has
+   *         no players
+   */
+  public int countLegalActions();
+
+  /**
+   * Counts the actions of the given type legalActions would list, without
+   * listing them. The actions of a type follow the actions of the types before
+   * it in ActionType.
+   *
+   * @param type The type of the actions
+   * @return The number of legal actions of the type, or zero when the game is
+   *         over or has no players
+   * @throws IllegalArgumentException When type is null
+   */
+  public int countLegalActions(ActionType type) throws IllegalArgumentException;
+
+  /**
+   * Gets the action at the given position of the actions legalActions would
+   * list, without listing the actions before it.
+   *
+   * @param position The position of the action
+   * @return The encoded action
+   * @throws IllegalArgumentException When position is negative or not below
+   *                                  the number of legal actions
+   */
+  public int getLegalAction(int position) throws IllegalArgumentException;
+
+  /**
+   * Checks whether any other player can see the current turn player, in which
+   * case an attack on the target would fail.
+   *
+   * @return True if the current player is seen else false
+   * @throws IllegalStateException When the game has no players
+   */
+  public boolean isCurrentPlayerSeen() throws IllegalStateException;
+
+  /**
+   * Gets the damage of an item carried by the current turn player.
+   *
+   * @param position The position of the item in getCurrentPlayerItems
+   * @return The damage of the item
+   * @throws IllegalArgumentException When the player has no item at the
+   *                                  position
+   * @throws IllegalStateException    When the game has no players
+   */
+  public int getDamageOfCurrentPlayerItem(int position)
+      throws IllegalArgumentException, IllegalStateException;
+
+  /**
+   * Gets the position of the current turn player among the players of
+   * getAllPlayers.
+   *
+   * @return The position of the current player
+   * @throws IllegalStateException When the game has no players
+   */
+  public int getCurrentPlayerIndex() throws IllegalStateException;
+
+  /**
+   * Gets the index of the space a player is in, in the order of getAllSpaces.
+   *
+   * @param player The position of the player among the players of
+   *               getAllPlayers
+   * @return The index of the space of the player
+   * @throws IllegalArgumentException When there is no player at the position
+   */
+  public int getSpaceIndexOfPlayer(int player) throws IllegalArgumentException;
+
+  /**
+   * Gets the index of the space the target is in, in the order of
+   * getAllSpaces.
+   *
+   * @return The index of the space of the target
+   */
+  public int getSpaceIndexOfTarget();
+
+  /**
+   * Gets the index of the space the pet is in, in the order of getAllSpaces.
+   *
+   * @return The index of the space of the pet
+   */
+  public int getSpaceIndexOfPet();
+
+  /**
+   * Gets the index of the space the target will be in after the turn has
+   * passed on the given number of times. The target moves on to the space
+   * with the next index every time a player ends a turn, starting again from
+   * the first space after the last, so its space is known for any number of
+   * turns ahead without playing them.
+   *
+   * @param advances The number of times the turn passes on
+   * @return The index of the space of the target after that many turns
+   * @throws IllegalArgumentException When advances is negative
+   */
+  public int getSpaceIndexOfTargetAfter(int advances) throws IllegalArgumentException;
+
+  /**
+   * Gets the fewest times the turn has to pass on for the target to be in the
+   * given space.
+   *
+   * @param spaceIndex The index of the space in the order of getAllSpaces
+   * @return The number of turns, which is zero when the target is in the space
+   *         now and less than the number of spaces otherwise
+   * @throws IllegalArgumentException When there is no space at the index
+   */
+  public int getAdvancesUntilTargetIn(int spaceIndex) throws IllegalArgumentException;
+
+  /**
+   * Gets the fewest moves a player needs to go from one space to another,
+   * without counting the pet, which keeps moving, as being in the way. The
+   * distances are worked out once for every world and shared by its games.
+   *
+   * @param fromSpace The index of the space the moves start in
+   * @param toSpace   The index of the space the moves end in
+   * @return The number of moves, which is zero when the spaces are the same,
+   *         or -1 when there is no way between them
+   * @throws IllegalArgumentException When there is no space at an index
+   */
+  public int getDistance(int fromSpace, int toSpace) throws IllegalArgumentException;
+
+  /**
+   * Gets the damage of all the items a player carries added together.
+   *
+   * @param player The position of the player among the players of
+   *               getAllPlayers
+   * @return The damage of the items, which is zero when the player carries no
+   *         items
+   * @throws IllegalArgumentException When there is no player at the position
+   */
+  public int getDamageOfPlayerItems(int player) throws IllegalArgumentException;
+
+  /**
+   * Gets the Zobrist hash of the state of the game: where the players, the
+   * target and the pet are, the trail of the pet, which items have been picked
+   * up and who carries them, the health of the target and whose turn it is
+   * with how many turns are left. Games in the same state have the same hash
+   * whatever actions led to it, and the hash is kept up to date as the game
+   * changes, so reading it costs nothing.
+   *
+   * @return The hash of the state of the game
+   */
+  public long getStateHash();
+
+  /**
+   * Creates a copy of the game which can be played on without changing this
+   * game, as World.fork does.
+   *
+   * @param random It is used to generate random numbers in the copy
+   * @return The copy of the game
+   * @throws IllegalArgumentException When random is null
+   */
+  public World fork(RandomManual random) throws IllegalArgumentException;
+
+  /**
+   * Creates a copy of the game in which every computer player chooses its
+   * actions with the given strategy, for example so that a strategy which
+   * plays out games does not play out more games on every turn of the copy.
+   *
+   * @param random   It is used to generate random numbers in the copy
+   * @param strategy The strategy of every computer player in the copy
+   * @return The copy of the game
+   * @throws IllegalArgumentException When random or strategy is null
+   */
+  public World fork(RandomManual random, ComputerStrategy strategy)
+      throws IllegalArgumentException;
+
+}
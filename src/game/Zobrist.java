@@ -0,0 +1,85 @@
+package game;
+
+/**
+ * The keys of the Zobrist hash of a game. Every part of the state of a game,
+ * such as a player standing in a space or the pet having visited a space, has
+ * its own random-looking key, and the hash of a game is all the keys of its
+ * state XORed together, so a change to the game changes the hash by XORing the
+ * keys of the old and new parts. The keys are worked out from the part they
+ * stand for rather than drawn from tables, so they are the same for every
+ * world and take no memory.
+ */
+final class Zobrist {
+
+  private static final int PLAYER_SPACE = 1;
+  private static final int ITEM_PICKED = 2;
+  private static final int ITEM_HOLDER = 3;
+  private static final int TARGET_HEALTH = 4;
+  private static final int TARGET_SPACE = 5;
+  private static final int PET_SPACE = 6;
+  private static final int PET_TRAIL = 7;
+  private static final int PET_VISITED = 8;
+  private static final int TURN_INDEX = 9;
+  private static final int TURNS_LEFT = 10;
+  private static final int GAME_OVER = 11;
+
+  private Zobrist() {
+  }
+
+  static long playerSpace(int player, int space) {
+    return key(PLAYER_SPACE, player, space);
+  }
+
+  static long itemPicked(int item) {
+    return key(ITEM_PICKED, item, 0);
+  }
+
+  static long itemHolder(int item, int player) {
+    return key(ITEM_HOLDER, item, player);
+  }
+
+  static long targetHealth(int health) {
+    return key(TARGET_HEALTH, health, 0);
+  }
+
+  static long targetSpace(int space) {
+    return key(TARGET_SPACE, space, 0);
+  }
+
+  static long petSpace(int space) {
+    return key(PET_SPACE, space, 0);
+  }
+
+  static long petTrail(int position, int space) {
+    return key(PET_TRAIL, position, space);
+  }
+
+  static long petVisited(int position, int space) {
+    return key(PET_VISITED, position, space);
+  }
+
+  static long turnIndex(int player) {
+    return key(TURN_INDEX, player, 0);
+  }
+
+  static long turnsLeft(int turns) {
+    return key(TURNS_LEFT, turns, 0);
+  }
+
+  static long gameOver() {
+    return key(GAME_OVER, 0, 0);
+  }
+
+  /**
+   * Scrambles the part of the state with the finaliser of SplitMix64, whose
+   * outputs look independent even for inputs which differ in a single bit.
+   */
+  private static long key(int feature, int first, int second) {
+    long z = feature * 0x9E3779B97F4A7C15L + first * 0xC2B2AE3D27D4EB4FL
+        + second * 0x165667B19E3779F9L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    return z ^ (z >>> 31);
+  }
+
+}
@@ -0,0 +1,147 @@
+package script;
+
+import controller.Command;
+import controller.TypedCommand;
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A reader of binary scripts written by BinaryScriptWriter.
+ */
+public class BinaryScriptReader implements ScriptReader {
+
+  private static final Command[] COMMANDS = Command.values();
+
+  private final DataInputStream in;
+  private long commandNumber;
+
+  /**
+   * Constructs a reader of the binary script read from the given stream and
+   * checks the start of the script.
+   *
+   * @param stream The stream of the script
+   * @throws IllegalArgumentException When stream is null or is not a binary
+   *                                  script of a supported version
+   * @throws IOException              When the script cannot be read
+   */
+  public BinaryScriptReader(InputStream stream) throws IllegalArgumentException, IOException {
+    if (stream == null) {
+      throw new IllegalArgumentException("Script stream cannot be null");
+    }
+
+    this.in = new DataInputStream(new BufferedInputStream(stream));
+    this.commandNumber = 0;
+    try {
+      if (in.readInt() != BinaryScriptWriter.MAGIC) {
+        throw new IllegalArgumentException("The file is not a binary script");
+      }
+
+      int version = in.readInt();
+      if (version != BinaryScriptWriter.VERSION) {
+        throw new IllegalArgumentException("Unsupported binary script version " + version);
+      }
+    } catch (EOFException e) {
+      throw new IllegalArgumentException("The file is not a binary script");
+    }
+  }
+
+  /**
+   * Checks whether the given file starts like a binary script.
+   *
+   * @param path The path of the file
+   * @return True if the file is a binary script else false
+   * @throws IllegalArgumentException When path is null
+   * @throws IOException              When the file cannot be read
+   */
+  public static boolean isBinary(Path path) throws IllegalArgumentException, IOException {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null");
+    }
+
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer start = ByteBuffer.allocate(4);
+      while (start.hasRemaining() && channel.read(start) != -1) {
+        continue;
+      }
+      return !start.hasRemaining() && start.getInt(0) == BinaryScriptWriter.MAGIC;
+    }
+  }
+
+  @Override
+  public TypedCommand next() throws IOException, IllegalArgumentException {
+    int ordinal = in.read();
+    if (ordinal == -1) {
+      return null;
+    }
+
+    commandNumber++;
+    try {
+      return readCommand(in, ordinal);
+    } catch (EOFException e) {
+      throw new IllegalArgumentException(
+          String.format("Command %d of the script is cut short", commandNumber));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException(
+          String.format("Command %d of the script: %s", commandNumber, e.getMessage()));
+    }
+  }
+
+  /**
+   * Reads the rest of the record of a command in the binary script format.
+   *
+   * @param in      The input to read from
+   * @param ordinal The first byte of the record, which gives the command
+   * @return The command
+   * @throws IllegalArgumentException When the command is unknown, cannot be
+   *                                  used in a script or has invalid arguments
+   * @throws EOFException             When the record is cut short
+   * @throws IOException              When the record cannot be read
+   */
+  static TypedCommand readCommand(DataInput in, int ordinal)
+      throws IllegalArgumentException, IOException {
+    if (ordinal < 0 || ordinal >= COMMANDS.length) {
+      throw new IllegalArgumentException("Unknown command " + ordinal);
+    }
+
+    switch (COMMANDS[ordinal]) {
+      case MOVE:
+        return TypedCommand.move(in.readInt(), in.readInt());
+      case PICK_ITEM:
+        return TypedCommand.pickItem(in.readUTF());
+      case ATTACK_TARGET:
+        return TypedCommand.attackTarget(in.readUTF());
+      case MOVE_PET:
+        return TypedCommand.movePet(in.readUTF());
+      case DISPLAY_SPACE_INFO:
+        return TypedCommand.displaySpaceInfo(in.readUTF());
+      case ADD_PLAYER:
+        return TypedCommand.addPlayer(in.readUTF(), in.readUTF(), in.readBoolean());
+      case LOOK_AROUND:
+        return TypedCommand.lookAround();
+      case DRAW_IMAGE:
+        return TypedCommand.drawImage();
+      case IS_GAME_OVER:
+        return TypedCommand.isGameOver();
+      case PERFORM_COMPUTER_ACTION:
+        return TypedCommand.performComputerAction();
+      case IS_CURRENT_COMPUTER:
+        return TypedCommand.isCurrentComputer();
+      default:
+        throw new IllegalArgumentException(COMMANDS[ordinal] + " cannot be used in a script");
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+}
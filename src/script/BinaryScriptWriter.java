@@ -0,0 +1,119 @@
+package script;
+
+import controller.Command;
+import controller.TypedCommand;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A writer of binary scripts. A binary script starts with the magic number and
+ * the version, followed by one record for every command: the position of the
+ * command in the Command enum as a byte and then its arguments, with numbers
+ * written as ints, names as modified UTF-8 and flags as booleans.
+ */
+public class BinaryScriptWriter implements Closeable {
+
+  /**
+   * The first four bytes of every binary script.
+   */
+  public static final int MAGIC = 0x444C5343;
+
+  /**
+   * The version of the binary script format written by this class.
+   */
+  public static final int VERSION = 1;
+
+  private final DataOutputStream out;
+
+  /**
+   * Constructs a writer of a binary script to the given stream and writes the
+   * start of the script.
+   *
+   * @param stream The stream to write the script to
+   * @throws IllegalArgumentException When stream is null
+   * @throws IOException              When the script cannot be written
+   */
+  public BinaryScriptWriter(OutputStream stream) throws IllegalArgumentException, IOException {
+    if (stream == null) {
+      throw new IllegalArgumentException("Script stream cannot be null");
+    }
+
+    this.out = new DataOutputStream(new BufferedOutputStream(stream));
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+  }
+
+  /**
+   * Writes a command to the script.
+   *
+   * @param command The command to write
+   * @throws IllegalArgumentException When command is null or cannot be used in a
+   *                                  script
+   * @throws IOException              When the command cannot be written
+   */
+  public void write(TypedCommand command) throws IllegalArgumentException, IOException {
+    if (command == null) {
+      throw new IllegalArgumentException("Command cannot be null");
+    }
+
+    writeCommand(out, command);
+  }
+
+  /**
+   * Writes the record of a command in the binary script format.
+   *
+   * @param out     The output to write to
+   * @param command The command to write
+   * @throws IllegalArgumentException When the command cannot be used in a
+   *                                  script
+   * @throws IOException              When the command cannot be written
+   */
+  static void writeCommand(DataOutput out, TypedCommand command)
+      throws IllegalArgumentException, IOException {
+    if (command.getCommand() == Command.SET_WORLD) {
+      throw new IllegalArgumentException(command.getCommand() + " cannot be used in a script");
+    }
+
+    out.writeByte(command.getCommand().ordinal());
+    switch (command.getCommand()) {
+      case MOVE:
+        out.writeInt(command.getX());
+        out.writeInt(command.getY());
+        break;
+      case PICK_ITEM:
+      case ATTACK_TARGET:
+        out.writeUTF(command.getName());
+        break;
+      case MOVE_PET:
+      case DISPLAY_SPACE_INFO:
+        out.writeUTF(command.getSpaceName());
+        break;
+      case ADD_PLAYER:
+        out.writeUTF(command.getName());
+        out.writeUTF(command.getSpaceName());
+        out.writeBoolean(command.isHuman());
+        break;
+      default:
+        break;
+    }
+  }
+
+  /**
+   * Writes out everything written so far.
+   *
+   * @throws IOException When the script cannot be written
+   */
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+
+}
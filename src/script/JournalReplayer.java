@@ -0,0 +1,253 @@
+package script;
+
+import controller.Command;
+import controller.CommandDispatcher;
+import controller.TypedCommand;
+import controller.WorldTemplateCache;
+import game.GameWorld;
+import game.WorldImpl;
+import game.WorldTemplate;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import utils.RandomManual;
+
+/**
+ * Rebuilds a game from its journal by applying the journaled commands again to
+ * a new world with the same seed. The output of every command is compared with
+ * the one in the journal, so a replay which does not match the recorded game
+ * is reported instead of silently giving a different state.
+ *
+ * <p>Every few thousand turns a replay saves the game together with a copy of
+ * its random numbers and the position in the journal, and later seeks go on
+ * from the nearest saved game before their turn instead of from the seed, so
+ * seeking into a long game only replays the turns after that game. A journal
+ * is only ever appended to, so the saved games stay valid while the game goes
+ * on, and a replayer can seek from several threads at once.
+ */
+public class JournalReplayer {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+  private static final long SNAPSHOT_TURNS = 1 << 12;
+
+  private final WorldTemplate template;
+  private final Path path;
+  private final ConcurrentNavigableMap<Long, Snapshot> snapshots;
+
+  /**
+   * The game as it was before the first command of a turn.
+   */
+  private static final class Snapshot {
+    private final long offset;
+    private final long entry;
+    private final int turns;
+    private final byte[] game;
+    private final RandomManual random;
+
+    private Snapshot(long offset, long entry, int turns, byte[] game, RandomManual random) {
+      this.offset = offset;
+      this.entry = entry;
+      this.turns = turns;
+      this.game = game;
+      this.random = random;
+    }
+  }
+
+  /**
+   * Counts the bytes read from the journal to know the position of every
+   * entry.
+   */
+  private static final class CountingInputStream extends FilterInputStream {
+    private long count;
+
+    private CountingInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      int value = super.read();
+      if (value != -1) {
+        count++;
+      }
+      return value;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int read = super.read(b, off, len);
+      if (read > 0) {
+        count += read;
+      }
+      return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = super.skip(n);
+      count += skipped;
+      return skipped;
+    }
+  }
+
+  /**
+   * Constructs a replayer of the given journal of a game in the given world.
+   *
+   * @param template The template of the world the game was played in
+   * @param path     The path of the journal
+   * @throws IllegalArgumentException When template or path is null
+   */
+  public JournalReplayer(WorldTemplate template, Path path) throws IllegalArgumentException {
+    if (template == null) {
+      throw new IllegalArgumentException("World template cannot be null");
+    }
+
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null");
+    }
+
+    this.template = template;
+    this.path = path;
+    this.snapshots = new ConcurrentSkipListMap<>();
+  }
+
+  /**
+   * Rebuilds the game as it was after the given number of turns. Adding a
+   * player does not take a turn, so the players added before the turn are
+   * always added.
+   *
+   * @param turn The number of turns to replay
+   * @return The world after the given number of turns
+   * @throws IllegalArgumentException When turn is negative or the journal is
+   *                                  not valid
+   * @throws IllegalStateException    When the journal has fewer turns or the
+   *                                  replay does not match the journal
+   * @throws IOException              When the journal cannot be read
+   */
+  public GameWorld seek(long turn)
+      throws IllegalArgumentException, IllegalStateException, IOException {
+    if (turn < 0) {
+      throw new IllegalArgumentException("Turn cannot be negative");
+    }
+
+    long[] played = new long[1];
+    GameWorld world = replay(turn, played);
+    if (played[0] < turn) {
+      throw new IllegalStateException(
+          String.format("The journal has only %d turns", played[0]));
+    }
+    return world;
+  }
+
+  /**
+   * Rebuilds the game as it was at the end of the journal.
+   *
+   * @return The world after all the journaled commands
+   * @throws IllegalArgumentException When the journal is not valid
+   * @throws IllegalStateException    When the replay does not match the
+   *                                  journal
+   * @throws IOException              When the journal cannot be read
+   */
+  public GameWorld seekToEnd() throws IllegalArgumentException, IllegalStateException,
+      IOException {
+    return replay(Long.MAX_VALUE, new long[1]);
+  }
+
+  private GameWorld replay(long turn, long[] played)
+      throws IllegalArgumentException, IllegalStateException, IOException {
+    Map.Entry<Long, Snapshot> nearest = snapshots.floorEntry(turn);
+    Snapshot snapshot = nearest == null ? null : nearest.getValue();
+    try (FileInputStream file = new FileInputStream(path.toFile())) {
+      long start = 0;
+      if (snapshot != null) {
+        start = snapshot.offset;
+        file.getChannel().position(start);
+      }
+      CountingInputStream counter = new CountingInputStream(
+          new BufferedInputStream(file, BUFFER_SIZE));
+      DataInputStream in = new DataInputStream(counter);
+
+      RandomManual random;
+      int turns;
+      WorldImpl world;
+      long entry = 0;
+      if (snapshot == null) {
+        long seed;
+        try {
+          if (in.readInt() != JournalWriter.MAGIC) {
+            throw new IllegalArgumentException("The file is not a journal");
+          }
+
+          int version = in.readInt();
+          if (version != JournalWriter.VERSION) {
+            throw new IllegalArgumentException("Unsupported journal version " + version);
+          }
+
+          seed = in.readLong();
+          turns = in.readInt();
+        } catch (EOFException e) {
+          throw new IllegalArgumentException("The file is not a journal");
+        }
+
+        random = RandomManual.seeded(seed);
+        world = new WorldImpl(template, random, turns);
+      } else {
+        random = snapshot.random.copy();
+        turns = snapshot.turns;
+        world = new WorldImpl(template, random, turns);
+        world.loadGame(snapshot.game);
+        played[0] = nearest.getKey();
+        entry = snapshot.entry;
+      }
+      CommandDispatcher dispatcher = new CommandDispatcher(world, new WorldTemplateCache(1));
+
+      long offset = start + counter.count;
+      for (int ordinal = in.read(); ordinal != -1; ordinal = in.read()) {
+        TypedCommand command;
+        byte[] expected;
+        try {
+          command = BinaryScriptReader.readCommand(in, ordinal);
+          expected = new byte[in.readInt()];
+          in.readFully(expected);
+        } catch (EOFException e) {
+          // the last entry was cut short while it was being written
+          break;
+        }
+
+        boolean takesTurn = command.getCommand() != Command.ADD_PLAYER;
+        if (takesTurn && played[0] > 0 && played[0] % SNAPSHOT_TURNS == 0
+            && !snapshots.containsKey(played[0])) {
+          snapshots.putIfAbsent(played[0],
+              new Snapshot(offset, entry, turns, world.saveGame(), random.copy()));
+        }
+
+        if (takesTurn && played[0] == turn) {
+          break;
+        }
+
+        entry++;
+        String output = dispatcher.dispatch(command);
+        if (!output.equals(new String(expected, StandardCharsets.UTF_8))) {
+          throw new IllegalStateException(
+              String.format("The replay does not match entry %d of the journal", entry));
+        }
+
+        if (takesTurn) {
+          played[0]++;
+        }
+        offset = start + counter.count;
+      }
+      return world;
+    }
+  }
+
+}
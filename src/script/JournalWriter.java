@@ -0,0 +1,160 @@
+package script;
+
+import controller.TypedCommand;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * An append-only journal of a game. The journal starts with the magic number,
+ * the version, the seed of the random numbers and the number of turns of the
+ * game, followed by one entry for every command applied to the world: the
+ * command in the binary script format and the output it gave. Entries are
+ * buffered and the file is only synced to the disk after a batch of entries,
+ * so journaling costs little more than the command itself. A crash can lose
+ * at most the last batch, and a journal cut short in the middle of an entry
+ * ends at the last whole entry.
+ */
+public class JournalWriter implements Closeable {
+
+  /**
+   * The first four bytes of every journal.
+   */
+  public static final int MAGIC = 0x444C4A4E;
+
+  /**
+   * The version of the journal format written by this class.
+   */
+  public static final int VERSION = 1;
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final FileOutputStream file;
+  private final FileChannel channel;
+  private final DataOutputStream out;
+  private final long seed;
+  private final int turns;
+  private final int syncEvery;
+  private long entries;
+
+  /**
+   * Creates a new journal at the given path, replacing any file there.
+   *
+   * @param path      The path of the journal
+   * @param seed      The seed of the random numbers of the game
+   * @param turns     The number of turns of each player in the game
+   * @param syncEvery The number of entries written between syncs to the disk
+   * @throws IllegalArgumentException When path is null, or turns or syncEvery
+   *                                  is less than one
+   * @throws IOException              When the journal cannot be created
+   */
+  public JournalWriter(Path path, long seed, int turns, int syncEvery)
+      throws IllegalArgumentException, IOException {
+    if (path == null) {
+      throw new IllegalArgumentException("Path cannot be null");
+    }
+
+    if (turns < 1) {
+      throw new IllegalArgumentException("Number of turns cannot be less than one");
+    }
+
+    if (syncEvery < 1) {
+      throw new IllegalArgumentException("Entries between syncs cannot be less than one");
+    }
+
+    this.file = new FileOutputStream(path.toFile());
+    this.channel = file.getChannel();
+    this.out = new DataOutputStream(new BufferedOutputStream(file, BUFFER_SIZE));
+    this.seed = seed;
+    this.turns = turns;
+    this.syncEvery = syncEvery;
+    this.entries = 0;
+
+    out.writeInt(MAGIC);
+    out.writeInt(VERSION);
+    out.writeLong(seed);
+    out.writeInt(turns);
+  }
+
+  /**
+   * Gets the seed of the random numbers of the game.
+   *
+   * @return The seed
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Gets the number of turns of each player in the game.
+   *
+   * @return The number of turns
+   */
+  public int getTurns() {
+    return turns;
+  }
+
+  /**
+   * Gets the number of entries appended to the journal.
+   *
+   * @return The number of entries
+   */
+  public long getEntries() {
+    return entries;
+  }
+
+  /**
+   * Appends a command which was applied to the world and its output.
+   *
+   * @param command The command which was applied
+   * @param output  The output of the command
+   * @throws IllegalArgumentException When command or output is null, or the
+   *                                  command cannot be used in a script
+   * @throws IOException              When the entry cannot be written
+   */
+  public void append(TypedCommand command, String output)
+      throws IllegalArgumentException, IOException {
+    if (command == null || output == null) {
+      throw new IllegalArgumentException("Command and output cannot be null");
+    }
+
+    BinaryScriptWriter.writeCommand(out, command);
+    byte[] bytes = output.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+
+    entries++;
+    if (entries % syncEvery == 0) {
+      sync();
+    }
+  }
+
+  /**
+   * Writes out the buffered entries and syncs the journal to the disk.
+   *
+   * @throws IOException When the journal cannot be written
+   */
+  public void sync() throws IOException {
+    out.flush();
+    channel.force(false);
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!channel.isOpen()) {
+      return;
+    }
+
+    try {
+      sync();
+    } finally {
+      out.close();
+    }
+  }
+
+}
@@ -0,0 +1,228 @@
+package script;
+
+import controller.TypedCommand;
+import game.ActionBuffer;
+import game.GameWorld;
+import game.WorldImpl;
+import game.WorldTemplate;
+import java.io.IOException;
+import java.util.List;
+import utils.RandomManual;
+
+/**
+ * A world which writes every command applied to it to a journal, so that the
+ * game can be rebuilt at any turn by a JournalReplayer. The world is created
+ * from a template with random numbers seeded from the seed of the journal,
+ * which makes the turns of the computer players the same on every replay.
+ * Commands which the world rejects change nothing and are not written.
+ */
+public class JournaledWorld implements GameWorld {
+
+  private final GameWorld world;
+  private final JournalWriter journal;
+
+  /**
+   * Constructs a new game in the given world which is written to the given
+   * journal.
+   *
+   * @param template The template of the world
+   * @param journal  The journal the game is written to
+   * @throws IllegalArgumentException When template or journal is null
+   */
+  public JournaledWorld(WorldTemplate template, JournalWriter journal)
+      throws IllegalArgumentException {
+    if (template == null) {
+      throw new IllegalArgumentException("World template cannot be null");
+    }
+
+    if (journal == null) {
+      throw new IllegalArgumentException("Journal cannot be null");
+    }
+
+    this.world = new WorldImpl(template, RandomManual.seeded(journal.getSeed()),
+        journal.getTurns());
+    this.journal = journal;
+  }
+
+  private String record(TypedCommand command, String output) throws IllegalStateException {
+    try {
+      journal.append(command, output);
+    } catch (IOException e) {
+      throw new IllegalStateException("Unable to write the journal: " + e.getMessage());
+    }
+    return output;
+  }
+
+  @Override
+  public String getInfoOfaSpace(String spaceName) throws IllegalArgumentException {
+    return world.getInfoOfaSpace(spaceName);
+  }
+
+  @Override
+  public String drawImage() throws IllegalStateException {
+    return world.drawImage();
+  }
+
+  @Override
+  public void setWorldSpecification(Readable worldData) throws IllegalStateException {
+    throw new IllegalStateException("The world of a journaled game cannot be changed");
+  }
+
+  @Override
+  public void setWorldTemplate(WorldTemplate template) throws IllegalStateException {
+    throw new IllegalStateException("The world of a journaled game cannot be changed");
+  }
+
+  @Override
+  public void addPlayer(String name, String startingSpaceName, boolean isHuman)
+      throws IllegalArgumentException {
+    world.addPlayer(name, startingSpaceName, isHuman);
+    record(TypedCommand.addPlayer(name, startingSpaceName, isHuman), "");
+  }
+
+  @Override
+  public String movePlayerInWorld(int xcoord, int ycoord) throws IllegalArgumentException {
+    String output = world.movePlayerInWorld(xcoord, ycoord);
+    return record(TypedCommand.move(xcoord, ycoord), output);
+  }
+
+  @Override
+  public int[] getPointInSpace(String spaceName) throws IllegalArgumentException {
+    return world.getPointInSpace(spaceName);
+  }
+
+  @Override
+  public String pickItemByPlayer(String itemName) throws IllegalArgumentException {
+    String output = world.pickItemByPlayer(itemName);
+    return record(TypedCommand.pickItem(itemName), output);
+  }
+
+  @Override
+  public String lookAroundByPlayer() {
+    String output = world.lookAroundByPlayer();
+    return record(TypedCommand.lookAround(), output);
+  }
+
+  @Override
+  public String performComputerAction() {
+    String output = world.performComputerAction();
+    return record(TypedCommand.performComputerAction(), output);
+  }
+
+  @Override
+  public String movePetByPlayer(String spaceName) throws IllegalArgumentException {
+    String output = world.movePetByPlayer(spaceName);
+    return record(TypedCommand.movePet(spaceName), output);
+  }
+
+  @Override
+  public String attackTarget(String itemName) throws IllegalArgumentException {
+    String output = world.attackTarget(itemName);
+    return record(TypedCommand.attackTarget(itemName), output);
+  }
+
+  @Override
+  public void legalActions(ActionBuffer buffer) throws IllegalArgumentException {
+    world.legalActions(buffer);
+  }
+
+  /**
+   * Performs the action through the method for its kind of action, so it is
+   * written to the journal as the command a player would have given.
+   */
+  @Override
+  public String performAction(int action) throws IllegalArgumentException,
+      IllegalStateException {
+    int argument = ActionBuffer.getArgument(action);
+    switch (ActionBuffer.getType(action)) {
+      case MOVE:
+        int[] point = world.getPointInSpace(getSpaceName(argument));
+        return movePlayerInWorld(point[0], point[1]);
+      case PICK_ITEM:
+        return pickItemByPlayer(getName(world.getCurrentSpaceItems(), argument));
+      case LOOK_AROUND:
+        return lookAroundByPlayer();
+      case MOVE_PET:
+        return movePetByPlayer(getSpaceName(argument));
+      default:
+        return attackTarget(getName(world.getCurrentPlayerItems(), argument));
+    }
+  }
+
+  private String getSpaceName(int spaceIndex) throws IllegalArgumentException {
+    return getName(world.getAllSpaces(), spaceIndex);
+  }
+
+  private static String getName(String[] names, int position) throws IllegalArgumentException {
+    if (position >= names.length) {
+      throw new IllegalArgumentException("The action is not legal in this game");
+    }
+    return names[position];
+  }
+
+  @Override
+  public String isGameOver() {
+    return world.isGameOver();
+  }
+
+  @Override
+  public int getNumOfTurns() {
+    return world.getNumOfTurns();
+  }
+
+  @Override
+  public String[][] getAllPlayers() {
+    return world.getAllPlayers();
+  }
+
+  @Override
+  public String getPlayerInfo(String name) throws IllegalArgumentException {
+    return world.getPlayerInfo(name);
+  }
+
+  @Override
+  public List<String> getTurnInfo() {
+    return world.getTurnInfo();
+  }
+
+  @Override
+  public String[] getAllSpaces() {
+    return world.getAllSpaces();
+  }
+
+  @Override
+  public int[] getCoordinates(String spaceName) {
+    return world.getCoordinates(spaceName);
+  }
+
+  @Override
+  public String[] getCurrentSpaceItems() {
+    return world.getCurrentSpaceItems();
+  }
+
+  @Override
+  public String[] getCurrentPlayerItems() {
+    return world.getCurrentPlayerItems();
+  }
+
+  @Override
+  public String getCurrentSpaceOfPet() {
+    return world.getCurrentSpaceOfPet();
+  }
+
+  @Override
+  public int getTargetHealth() {
+    return world.getTargetHealth();
+  }
+
+  /**
+   * Returns a string representation of the journaled world.
+   *
+   * @return String format of this instance
+   */
+  @Override
+  public String toString() {
+    return world.toString();
+  }
+
+}
@@ -0,0 +1,22 @@
+package script;
+
+import controller.TypedCommand;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A reader of the commands of a script one at a time, so that scripts of any
+ * length can be run without loading them into memory.
+ */
+public interface ScriptReader extends Closeable {
+
+  /**
+   * Reads the next command of the script.
+   *
+   * @return The next command, or null when the script has ended
+   * @throws IOException              When the script cannot be read
+   * @throws IllegalArgumentException When the next command is not valid
+   */
+  public TypedCommand next() throws IOException, IllegalArgumentException;
+
+}
@@ -0,0 +1,85 @@
+package script;
+
+/**
+ * How a script ran: the number of commands, how many of them failed and how
+ * long they took. Instances are immutable.
+ */
+public final class ScriptReport {
+
+  private final long commands;
+  private final long failures;
+  private final long elapsedNanos;
+
+  /**
+   * Constructs the report of a script.
+   *
+   * @param commands     The number of commands run
+   * @param failures     The number of commands rejected by the model
+   * @param elapsedNanos The time taken to run the script in nanoseconds
+   * @throws IllegalArgumentException When a count is negative or there are more
+   *                                  failures than commands
+   */
+  public ScriptReport(long commands, long failures, long elapsedNanos)
+      throws IllegalArgumentException {
+    if (commands < 0 || failures < 0 || elapsedNanos < 0) {
+      throw new IllegalArgumentException("Counts cannot be negative");
+    }
+
+    if (failures > commands) {
+      throw new IllegalArgumentException("Failures cannot be more than the commands");
+    }
+
+    this.commands = commands;
+    this.failures = failures;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Gets the number of commands run.
+   *
+   * @return The number of commands
+   */
+  public long getCommands() {
+    return commands;
+  }
+
+  /**
+   * Gets the number of commands which were rejected by the model.
+   *
+   * @return The number of failed commands
+   */
+  public long getFailures() {
+    return failures;
+  }
+
+  /**
+   * Gets the time taken to run the script.
+   *
+   * @return The time in nanoseconds
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Gets the number of commands run in a second.
+   *
+   * @return The commands per second
+   */
+  public double getCommandsPerSecond() {
+    return elapsedNanos == 0 ? 0 : commands * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * Returns the report in the form "1000 commands (2 failed) in 0.010 s
+   * (100000.0 commands/s)".
+   *
+   * @return String format of this instance
+   */
+  @Override
+  public String toString() {
+    return String.format("%d commands (%d failed) in %.3f s (%.1f commands/s)", commands,
+        failures, elapsedNanos / 1e9, getCommandsPerSecond());
+  }
+
+}
@@ -0,0 +1,80 @@
+package script;
+
+import controller.CommandDispatcher;
+import controller.TypedCommand;
+import java.io.IOException;
+
+/**
+ * Runs the commands of a script against a model one after the other and writes
+ * the output of every command. A command which the model rejects writes its
+ * error instead and the script goes on, so a recorded session can be replayed
+ * whole and compared with its earlier output.
+ */
+public class ScriptRunner {
+
+  private final CommandDispatcher dispatcher;
+
+  /**
+   * Constructs a runner of scripts which sends the commands to the given
+   * dispatcher.
+   *
+   * @param dispatcher The dispatcher which runs the commands on the model
+   * @throws IllegalArgumentException When dispatcher is null
+   */
+  public ScriptRunner(CommandDispatcher dispatcher) throws IllegalArgumentException {
+    if (dispatcher == null) {
+      throw new IllegalArgumentException("Dispatcher cannot be null");
+    }
+
+    this.dispatcher = dispatcher;
+  }
+
+  /**
+   * Runs all the commands of a script. The output of every command is written
+   * on its own line, and a rejected command writes "Error: " followed by the
+   * reason.
+   *
+   * @param script The script to run
+   * @param out    Where the output of the commands is written
+   * @return The report of the script
+   * @throws IllegalArgumentException When script or out is null, or when the
+   *                                  script has an invalid command
+   * @throws IOException              When the script cannot be read or the
+   *                                  output cannot be written
+   */
+  public ScriptReport run(ScriptReader script, Appendable out)
+      throws IllegalArgumentException, IOException {
+    if (script == null) {
+      throw new IllegalArgumentException("Script cannot be null");
+    }
+
+    if (out == null) {
+      throw new IllegalArgumentException("Output cannot be null");
+    }
+
+    long commands = 0;
+    long failures = 0;
+    long start = System.nanoTime();
+
+    TypedCommand command = script.next();
+    while (command != null) {
+      commands++;
+      String output;
+      try {
+        output = dispatcher.dispatch(command);
+      } catch (IllegalArgumentException | IllegalStateException e) {
+        failures++;
+        output = "Error: " + e.getMessage();
+      }
+
+      out.append(output);
+      if (output.length() == 0 || output.charAt(output.length() - 1) != '\n') {
+        out.append('\n');
+      }
+      command = script.next();
+    }
+
+    return new ScriptReport(commands, failures, System.nanoTime() - start);
+  }
+
+}
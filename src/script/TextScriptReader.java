@@ -0,0 +1,165 @@
+package script;
+
+import controller.Command;
+import controller.TypedCommand;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A reader of scripts written as text with one command on every line. A line
+ * starts with the name of a command followed by its arguments separated by
+ * spaces, and arguments which contain spaces are written in double quotes, for
+ * example:
+ * 
+ * <pre>
+ * ADD_PLAYER "Robot Arm" "Master Bedroom" false
+ * MOVE 150 90
+ * PICK_ITEM Pan
+ * </pre>
+ * 
+ * <p>Empty lines and lines starting with # are skipped. SET_WORLD is not
+ * allowed since the world is given to the runner of the script.
+ */
+public class TextScriptReader implements ScriptReader {
+
+  private final BufferedReader reader;
+  private final List<String> tokens;
+  private int lineNumber;
+
+  /**
+   * Constructs a reader of the script read from the given reader.
+   *
+   * @param source The reader of the script text
+   * @throws IllegalArgumentException When source is null
+   */
+  public TextScriptReader(Reader source) throws IllegalArgumentException {
+    if (source == null) {
+      throw new IllegalArgumentException("Script reader cannot be null");
+    }
+
+    this.reader = source instanceof BufferedReader ? (BufferedReader) source
+        : new BufferedReader(source);
+    this.tokens = new ArrayList<String>();
+    this.lineNumber = 0;
+  }
+
+  @Override
+  public TypedCommand next() throws IOException, IllegalArgumentException {
+    String line = reader.readLine();
+    while (line != null) {
+      lineNumber++;
+      String trimmed = line.trim();
+      if (trimmed.length() != 0 && trimmed.charAt(0) != '#') {
+        try {
+          return parse(trimmed);
+        } catch (IllegalArgumentException e) {
+          throw new IllegalArgumentException(
+              String.format("Line %d of the script: %s", lineNumber, e.getMessage()));
+        }
+      }
+      line = reader.readLine();
+    }
+    return null;
+  }
+
+  private TypedCommand parse(String line) throws IllegalArgumentException {
+    split(line);
+
+    Command command;
+    try {
+      command = Command.valueOf(tokens.get(0));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown command " + tokens.get(0));
+    }
+
+    switch (command) {
+      case MOVE:
+        checkArguments(command, 2);
+        return TypedCommand.move(parseNumber(tokens.get(1)), parseNumber(tokens.get(2)));
+      case PICK_ITEM:
+        checkArguments(command, 1);
+        return TypedCommand.pickItem(tokens.get(1));
+      case ATTACK_TARGET:
+        checkArguments(command, 1);
+        return TypedCommand.attackTarget(tokens.get(1));
+      case MOVE_PET:
+        checkArguments(command, 1);
+        return TypedCommand.movePet(tokens.get(1));
+      case DISPLAY_SPACE_INFO:
+        checkArguments(command, 1);
+        return TypedCommand.displaySpaceInfo(tokens.get(1));
+      case ADD_PLAYER:
+        checkArguments(command, 3);
+        if (!"true".equals(tokens.get(3)) && !"false".equals(tokens.get(3))) {
+          throw new IllegalArgumentException("Expected true or false but found " + tokens.get(3));
+        }
+        return TypedCommand.addPlayer(tokens.get(1), tokens.get(2), "true".equals(tokens.get(3)));
+      case LOOK_AROUND:
+        checkArguments(command, 0);
+        return TypedCommand.lookAround();
+      case DRAW_IMAGE:
+        checkArguments(command, 0);
+        return TypedCommand.drawImage();
+      case IS_GAME_OVER:
+        checkArguments(command, 0);
+        return TypedCommand.isGameOver();
+      case PERFORM_COMPUTER_ACTION:
+        checkArguments(command, 0);
+        return TypedCommand.performComputerAction();
+      case IS_CURRENT_COMPUTER:
+        checkArguments(command, 0);
+        return TypedCommand.isCurrentComputer();
+      default:
+        throw new IllegalArgumentException(command + " cannot be used in a script");
+    }
+  }
+
+  private void split(String line) throws IllegalArgumentException {
+    tokens.clear();
+    int index = 0;
+    while (index < line.length()) {
+      char current = line.charAt(index);
+      if (Character.isWhitespace(current)) {
+        index++;
+      } else if (current == '"') {
+        int end = line.indexOf('"', index + 1);
+        if (end < 0) {
+          throw new IllegalArgumentException("Missing closing quote");
+        }
+        tokens.add(line.substring(index + 1, end));
+        index = end + 1;
+      } else {
+        int end = index;
+        while (end < line.length() && !Character.isWhitespace(line.charAt(end))) {
+          end++;
+        }
+        tokens.add(line.substring(index, end));
+        index = end;
+      }
+    }
+  }
+
+  private void checkArguments(Command command, int count) throws IllegalArgumentException {
+    if (tokens.size() - 1 != count) {
+      throw new IllegalArgumentException(
+          String.format("%s needs %d arguments but has %d", command, count, tokens.size() - 1));
+    }
+  }
+
+  private static int parseNumber(String token) throws IllegalArgumentException {
+    try {
+      return Integer.parseInt(token);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Expected a number but found " + token);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    reader.close();
+  }
+
+}
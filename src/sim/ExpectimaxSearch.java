@@ -0,0 +1,451 @@
+package sim;
+
+import game.ActionBuffer;
+import game.ActionType;
+import game.ComputerStrategy;
+import game.InterceptStrategy;
+import game.RandomStrategy;
+import game.World;
+import game.WorldView;
+import java.util.concurrent.atomic.LongAdder;
+import utils.RandomManual;
+
+/**
+ * Chooses the action of a computer player by depth-limited expectimax search.
+ * On the turns of the searching player every legal action is tried and the
+ * best is taken, while every other player is taken to play the random
+ * strategy, so its turns are chance nodes whose value is the average over the
+ * kinds of action it may choose of the average over the actions of each kind.
+ * A game which is won is worth one to its winner and nothing to the other
+ * players, and a game which is cut off by the depth is valued by how much
+ * health the target has lost and how close the items of the searching player
+ * come to finishing it off.
+ *
+ * <p>The pet only hides the players in its space from the spaces around it and
+ * keeps the players out of its space, so the search only moves it to the
+ * spaces of the players and to one space no player is in, which stands for
+ * all the others. Otherwise every turn would try a move of the pet to every
+ * space of the world.
+ *
+ * <p>The search deepens one turn at a time until the time budget runs out or
+ * the maximum depth is reached, and the action found by the deepest search
+ * which finished is chosen. When the time runs out before the first depth is
+ * searched to the end, the best of the actions valued so far is chosen, or
+ * the action of the random strategy when there is none. The values
+ * of games already searched are kept in a transposition table keyed by the
+ * Zobrist hash of the game, which is kept up to date by the game itself, so a
+ * game reached by other actions, such as the pet being moved to the same space
+ * by different players, is only searched once. Every search has its own table
+ * of fixed size, so searches can run on several threads at once.
+ */
+public class ExpectimaxSearch implements ComputerStrategy {
+
+  /**
+   * The number of entries of the transposition table unless another is given.
+   */
+  public static final int DEFAULT_TABLE_ENTRIES = 1 << 16;
+
+  private static final ComputerStrategy RANDOM = new RandomStrategy();
+
+  private final int maxDepth;
+  private final long budgetMillis;
+  private final int tableEntries;
+  private final LongAdder searches;
+  private final LongAdder depths;
+  private final LongAdder nodes;
+  private final LongAdder probes;
+  private final LongAdder hits;
+  private final LongAdder searchNanos;
+
+  /**
+   * The state of a single search.
+   */
+  private final class Search {
+    private final int player;
+    private final int players;
+    private final int startHealth;
+    private final int spaces;
+    private final long deadline;
+    private final RandomManual random;
+    private final TranspositionTable table;
+    private final ActionBuffer[] actions;
+    private boolean timedOut;
+    private long visited;
+
+    private Search(WorldView view, RandomManual random, long deadline) {
+      this.player = view.getCurrentPlayerIndex();
+      this.players = view.getAllPlayers().length;
+      this.startHealth = view.getTargetHealth();
+      this.spaces = view.getAllSpaces().length;
+      this.deadline = deadline;
+      this.random = random;
+      this.table = new TranspositionTable(tableEntries);
+      this.actions = new ActionBuffer[maxDepth + 1];
+      for (int i = 0; i <= maxDepth; i++) {
+        actions[i] = new ActionBuffer();
+      }
+    }
+
+    /**
+     * Searches deeper and deeper until the time runs out and returns the best
+     * action of the deepest search which finished.
+     */
+    private int run(WorldView view) {
+      ActionBuffer rootActions = actions[0];
+      candidates(view, rootActions);
+      int best = -1;
+      int depth = 0;
+      while (depth < maxDepth && !timedOut) {
+        int found = -1;
+        double foundValue = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < rootActions.size(); i++) {
+          if (System.nanoTime() > deadline) {
+            timedOut = true;
+            break;
+          }
+
+          double value = value(child(view, rootActions.get(i)), depth, 1);
+          if (!timedOut && value > foundValue) {
+            found = rootActions.get(i);
+            foundValue = value;
+          }
+        }
+
+        if (!timedOut || depth == 0) {
+          best = found;
+        }
+
+        if (!timedOut) {
+          depth++;
+          if (foundValue >= 1) {
+            break;
+          }
+        }
+      }
+
+      if (best < 0) {
+        best = RANDOM.chooseAction(view, random);
+      }
+
+      searches.increment();
+      depths.add(depth);
+      nodes.add(visited);
+      probes.add(table.getProbes());
+      hits.add(table.getHits());
+      return best;
+    }
+
+    /**
+     * Lists the actions of the current player which the search tries, in the
+     * order of the legal actions, with the moves of the pet cut down to the
+     * spaces of the players and one other space listed last.
+     *
+     * @return The number of legal moves of the pet the last move of the pet
+     *         listed stands for
+     */
+    private int candidates(WorldView game, ActionBuffer into) {
+      into.clear();
+      int count = game.countLegalActions();
+      int pets = game.countLegalActions(ActionType.MOVE_PET);
+      int first = game.countLegalActions(ActionType.MOVE)
+          + game.countLegalActions(ActionType.PICK_ITEM)
+          + game.countLegalActions(ActionType.LOOK_AROUND);
+      for (int i = 0; i < first; i++) {
+        into.add(game.getLegalAction(i));
+      }
+
+      int weight = 1;
+      if (pets > 0) {
+        int pet = game.getSpaceIndexOfPet();
+        int kept = 0;
+        for (int i = 0; i < players; i++) {
+          int space = game.getSpaceIndexOfPlayer(i);
+          if (space != pet && !isPlayerIn(game, space, i)) {
+            into.add(ActionType.MOVE_PET, space);
+            kept++;
+          }
+        }
+
+        for (int space = 0; space < spaces; space++) {
+          if (space != pet && !isPlayerIn(game, space, players)) {
+            into.add(ActionType.MOVE_PET, space);
+            weight = pets - kept;
+            break;
+          }
+        }
+      }
+
+      for (int i = first + pets; i < count; i++) {
+        into.add(game.getLegalAction(i));
+      }
+      return weight;
+    }
+
+    /**
+     * Checks whether any of the players before the given one is in the given
+     * space.
+     */
+    private boolean isPlayerIn(WorldView game, int space, int before) {
+      for (int i = 0; i < before; i++) {
+        if (game.getSpaceIndexOfPlayer(i) == space) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private World child(WorldView game, int action) {
+      World child = game.fork(random);
+      child.applyAction(action);
+      return child;
+    }
+
+    /**
+     * Gets the value of a game to the searching player, looking the given
+     * number of turns ahead.
+     */
+    private double value(World game, int depth, int ply) {
+      visited++;
+      if (!game.isGameOver().isEmpty()) {
+        return outcome(game);
+      }
+
+      if (depth == 0) {
+        return evaluate(game);
+      }
+
+      if (System.nanoTime() > deadline) {
+        timedOut = true;
+        return 0;
+      }
+
+      long key = game.getStateHash();
+      double stored = table.get(key, depth);
+      if (!Double.isNaN(stored)) {
+        return stored;
+      }
+
+      ActionBuffer moves = actions[ply];
+      int petWeight = candidates(game, moves);
+      double value;
+      if (game.getCurrentPlayerIndex() == player) {
+        value = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < moves.size(); i++) {
+          value = Math.max(value, value(child(game, moves.get(i)), depth - 1, ply + 1));
+        }
+      } else {
+        // the random strategy attacks whenever it can do so unseen, and
+        // otherwise picks any other kind of action with the same chance and
+        // then any action of that kind
+        int choices = moves.size();
+        while (choices > 0
+            && ActionBuffer.getType(moves.get(choices - 1)) == ActionType.ATTACK_TARGET) {
+          choices--;
+        }
+
+        if (choices < moves.size() && !game.isCurrentPlayerSeen()) {
+          value = value(child(game, RANDOM.chooseAction(game, random)), depth - 1, ply + 1);
+        } else {
+          double total = 0;
+          double kindTotal = 0;
+          int kindWeight = 0;
+          int kinds = 0;
+          for (int i = 0; i < choices; i++) {
+            ActionType type = ActionBuffer.getType(moves.get(i));
+            boolean last = i + 1 == choices || ActionBuffer.getType(moves.get(i + 1)) != type;
+            int weight = last && type == ActionType.MOVE_PET ? petWeight : 1;
+            kindTotal += weight * value(child(game, moves.get(i)), depth - 1, ply + 1);
+            kindWeight += weight;
+            if (last) {
+              total += kindTotal / kindWeight;
+              kindTotal = 0;
+              kindWeight = 0;
+              kinds++;
+            }
+          }
+          value = total / kinds;
+        }
+      }
+
+      if (!timedOut) {
+        table.put(key, depth, value);
+      }
+      return value;
+    }
+
+    private double outcome(World game) {
+      if (game.getTargetHealth() > 0) {
+        return 0;
+      }
+      return game.getCurrentPlayerIndex() == player ? 1 : 0;
+    }
+
+    /**
+     * Values a game which is not over from the health the target has lost, the
+     * share of the health left which the searching player could take away with
+     * its items and hand, and how soon the player can meet the target, which
+     * is never worth as much as a win.
+     */
+    private double evaluate(World game) {
+      int health = game.getTargetHealth();
+      double lost = (double) (startHealth - health) / startHealth;
+      double reach = Math.min(1, (game.getDamageOfPlayerItems(player) + 1.0) / health);
+      return 0.5 * lost + 0.25 * reach + 0.2 * closeness(game);
+    }
+
+    /**
+     * Scales the turns of the searching player until it can meet the target,
+     * as planned by InterceptStrategy, to one when it can meet it on its next
+     * turn and to zero when it never can.
+     */
+    private double closeness(World game) {
+      int turns = InterceptStrategy.turnsToIntercept(game, player);
+      return turns < 0 ? 0 : Math.max(0, 1 - (double) turns / spaces);
+    }
+  }
+
+  /**
+   * Constructs a search with the default size of the transposition table.
+   *
+   * @param maxDepth     The most turns the search looks ahead
+   * @param budgetMillis The time a search may take in milliseconds, after
+   *                     which the deepest search which finished is used
+   * @throws IllegalArgumentException When maxDepth is less than one or
+   *                                  budgetMillis is negative
+   */
+  public ExpectimaxSearch(int maxDepth, long budgetMillis) throws IllegalArgumentException {
+    this(maxDepth, budgetMillis, DEFAULT_TABLE_ENTRIES);
+  }
+
+  /**
+   * Constructs a search.
+   *
+   * @param maxDepth     The most turns the search looks ahead
+   * @param budgetMillis The time a search may take in milliseconds, after
+   *                     which the deepest search which finished is used
+   * @param tableEntries The number of entries of the transposition table of
+   *                     every search, which must be a power of two
+   * @throws IllegalArgumentException When maxDepth is less than one,
+   *                                  budgetMillis is negative or tableEntries
+   *                                  is not a power of two of at least four
+   */
+  public ExpectimaxSearch(int maxDepth, long budgetMillis, int tableEntries)
+      throws IllegalArgumentException {
+    if (maxDepth < 1) {
+      throw new IllegalArgumentException("Depth cannot be less than one");
+    }
+
+    if (budgetMillis < 0) {
+      throw new IllegalArgumentException("Time budget cannot be negative");
+    }
+
+    if (tableEntries < 4 || Integer.bitCount(tableEntries) != 1) {
+      throw new IllegalArgumentException(
+          "Number of table entries must be a power of two of at least four");
+    }
+
+    this.maxDepth = maxDepth;
+    this.budgetMillis = budgetMillis;
+    this.tableEntries = tableEntries;
+    this.searches = new LongAdder();
+    this.depths = new LongAdder();
+    this.nodes = new LongAdder();
+    this.probes = new LongAdder();
+    this.hits = new LongAdder();
+    this.searchNanos = new LongAdder();
+  }
+
+  /**
+   * Chooses the best action of the current player found within the time
+   * budget.
+   *
+   * @param view   The game, which is not changed
+   * @param random The random numbers given to the copies of the game searched
+   * @return The chosen action
+   * @throws IllegalArgumentException When view or random is null
+   * @throws IllegalStateException    When the game is over or has no players
+   */
+  @Override
+  public int chooseAction(WorldView view, RandomManual random)
+      throws IllegalArgumentException, IllegalStateException {
+    if (view == null) {
+      throw new IllegalArgumentException("World view cannot be null");
+    }
+
+    if (random == null) {
+      throw new IllegalArgumentException("Random instance cannot be null");
+    }
+
+    if (view.countLegalActions() == 0) {
+      throw new IllegalStateException("The game is over or has no players");
+    }
+
+    long start = System.nanoTime();
+    int action = new Search(view, random, start + budgetMillis * 1_000_000).run(view);
+    searchNanos.add(System.nanoTime() - start);
+    return action;
+  }
+
+  /**
+   * Gets the number of searches so far.
+   *
+   * @return The number of searches
+   */
+  public long getSearches() {
+    return searches.sum();
+  }
+
+  /**
+   * Gets the average number of turns the searches so far looked ahead.
+   *
+   * @return The average depth, or zero when there was no search
+   */
+  public double getAverageDepth() {
+    long count = searches.sum();
+    return count == 0 ? 0 : (double) depths.sum() / count;
+  }
+
+  /**
+   * Gets the number of games visited by all the searches so far.
+   *
+   * @return The number of nodes
+   */
+  public long getNodes() {
+    return nodes.sum();
+  }
+
+  /**
+   * Gets the number of games visited in a second over all the searches so
+   * far.
+   *
+   * @return The nodes per second
+   */
+  public double getNodesPerSecond() {
+    long nanos = searchNanos.sum();
+    return nanos == 0 ? 0 : nodes.sum() * 1e9 / nanos;
+  }
+
+  /**
+   * Gets the share of the lookups in the transposition tables which found the
+   * value of a game searched before.
+   *
+   * @return The hit rate between zero and one
+   */
+  public double getTableHitRate() {
+    long count = probes.sum();
+    return count == 0 ? 0 : (double) hits.sum() / count;
+  }
+
+  /**
+   * Returns a string representation of this search in the form
+   * "ExpectimaxSearch(depth = 6, budget = 50 ms, table = 65536 entries)".
+   *
+   * @return String format of this instance
+   */
+  @Override
+  public String toString() {
+    return String.format("ExpectimaxSearch(depth = %d, budget = %d ms, table = %d entries)",
+        maxDepth, budgetMillis, tableEntries);
+  }
+
+}
@@ -0,0 +1,129 @@
+package sim;
+
+import game.GameWorld;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntConsumer;
+
+/**
+ * Plays games between computer players to the end and tells who won them, for
+ * the runs of Simulation, ParallelSimulation and StrategyMatch. A runner only
+ * reads its own fields, so games can be played with it on several threads at
+ * once.
+ */
+final class GameRunner {
+
+  private static final String DRAW = "Game ended in a draw!";
+  private static final int BATCHES_PER_THREAD = 4;
+
+  private final int players;
+  private final int turns;
+  private final Map<String, Integer> winMessages;
+
+  /**
+   * Constructs a runner of games between the players with the given names.
+   *
+   * @param names The names of the players, by their positions in the results
+   * @param turns The maximum number of turns of every player in a game
+   */
+  GameRunner(String[] names, int turns) {
+    this.players = names.length;
+    this.turns = turns;
+    this.winMessages = new HashMap<>();
+    for (int i = 0; i < names.length; i++) {
+      winMessages.put(String.format("Game is completed. %s has won the game!", names[i]), i);
+    }
+  }
+
+  /**
+   * Lets the computer players of the given world take their turns until the
+   * game is over.
+   *
+   * @param world    The world with the players added
+   * @param gameSeed The seed of the game, which is named in the errors
+   * @return The number of turns played
+   * @throws IllegalStateException When the game does not end within its number
+   *                               of turns
+   */
+  int playOut(GameWorld world, long gameSeed) throws IllegalStateException {
+    int gameTurns = 0;
+    while (world.isGameOver().isEmpty()) {
+      if (gameTurns > (long) players * turns) {
+        throw new IllegalStateException(String.format(
+            "The game with seed %d did not end within its number of turns", gameSeed));
+      }
+      world.performComputerAction();
+      gameTurns++;
+    }
+    return gameTurns;
+  }
+
+  /**
+   * Gets the position of the player who won the game in the given world.
+   *
+   * @param world    The world whose game is over
+   * @param gameSeed The seed of the game, which is named in the errors
+   * @return The position of the winner among the names, or -1 for a draw
+   * @throws IllegalStateException When the outcome of the game is unknown
+   */
+  int winner(GameWorld world, long gameSeed) throws IllegalStateException {
+    String outcome = world.isGameOver();
+    Integer winner = winMessages.get(outcome);
+    if (winner == null && !DRAW.equals(outcome)) {
+      throw new IllegalStateException(
+          String.format("Unknown outcome of the game with seed %d: %s", gameSeed, outcome));
+    }
+    return winner == null ? -1 : winner;
+  }
+
+  /**
+   * Plays the given number of games on a pool of threads and waits for them to
+   * finish. The games are split into batches which are handed out to the
+   * threads, so a thread which finishes its batch early picks up the next one.
+   *
+   * @param games   The number of games to play
+   * @param threads The number of threads which play the games
+   * @param game    Plays the game with the number it is given
+   * @param run     The name of the run in the error when it is interrupted
+   * @throws IllegalStateException When the run is interrupted, and any
+   *                               exception a game throws
+   */
+  static void playInBatches(int games, int threads, IntConsumer game, String run)
+      throws IllegalStateException {
+    int batches = (int) Math.min(games, (long) threads * BATCHES_PER_THREAD);
+    ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, batches)));
+    try {
+      List<Future<?>> results = new ArrayList<>(batches);
+      for (int batch = 0; batch < batches; batch++) {
+        int first = (int) ((long) games * batch / batches);
+        int last = (int) ((long) games * (batch + 1) / batches);
+        results.add(pool.submit(() -> {
+          for (int number = first; number < last; number++) {
+            game.accept(number);
+          }
+        }));
+      }
+
+      for (Future<?> result : results) {
+        result.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(String.format("The %s was interrupted", run));
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+}
@@ -0,0 +1,109 @@
+package sim;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Counts how long decisions took in buckets which grow with the time, so that a
+ * percentile can be read back within an eighth of its value whatever the
+ * spread of the times. Every power of two is split into eight buckets of equal
+ * width. Any number of threads can record times at the same time without
+ * locking.
+ */
+final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts;
+  private final LongAccumulator max;
+
+  /**
+   * Constructs an empty histogram.
+   */
+  LatencyHistogram() {
+    this.counts = new AtomicLongArray(BUCKETS);
+    this.max = new LongAccumulator(Math::max, 0);
+  }
+
+  /**
+   * Records a time.
+   *
+   * @param nanos The time in nanoseconds, where a negative time counts as zero
+   */
+  void record(long nanos) {
+    long time = Math.max(0, nanos);
+    counts.incrementAndGet(bucketOf(time));
+    max.accumulate(time);
+  }
+
+  /**
+   * Copies the counts of the buckets. Times recorded while copying may or may
+   * not be part of the copy.
+   *
+   * @return The number of times recorded in every bucket
+   */
+  long[] snapshot() {
+    long[] copy = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; i++) {
+      copy[i] = counts.get(i);
+    }
+    return copy;
+  }
+
+  /**
+   * Gets the longest time recorded.
+   *
+   * @return The longest time in nanoseconds, or zero when nothing was recorded
+   */
+  long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Reads the given percentile out of a snapshot of the buckets. The time
+   * returned is the end of the bucket the percentile falls in, but never more
+   * than the longest time recorded.
+   *
+   * @param counts     The counts of the buckets returned by snapshot
+   * @param max        The longest time recorded
+   * @param percentile The percentile between 0 and 100
+   * @return The time in nanoseconds, or zero when nothing was recorded
+   */
+  static long percentile(long[] counts, long max, double percentile) {
+    long total = 0;
+    for (long count : counts) {
+      total += count;
+    }
+
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long seen = 0;
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(max, lastOfBucket(i));
+      }
+    }
+    return 0;
+  }
+
+  private static int bucketOf(long time) {
+    if (time < SUB_BUCKETS) {
+      return (int) time;
+    }
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(time);
+    int sub = (int) (time >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+  }
+
+  private static long lastOfBucket(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    long first = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+    return first + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+  }
+
+}
@@ -0,0 +1,383 @@
+package sim;
+
+import game.ActionBuffer;
+import game.ComputerStrategy;
+import game.RandomStrategy;
+import game.World;
+import game.WorldView;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import utils.RandomManual;
+
+/**
+ * Chooses the action of a computer player by Monte Carlo tree search. Copies of
+ * the game are played out to the end again and again until the time budget of
+ * the turn runs out, and the action after which the player did best is chosen.
+ * A game played out scores one when the player wins it, and otherwise up to a
+ * half for the share of the health of the target the player took away, so the
+ * search still learns from games nobody wins. A game still being played when
+ * the budget runs out is cut off there and scored in the same way, so a search
+ * of a game with many turns left does not overrun its budget. The tree only branches on the
+ * turns of the searching player, whose actions are picked by UCT; every other
+ * turn is played with the random strategy, whatever the strategy or kind of
+ * the player. A tree is not tied to the states it was grown from, so the same node
+ * can be reached from games which went differently.
+ *
+ * <p>Every thread grows its own tree from the same game and the visits of the
+ * first actions of all the trees are added together at the end, so the threads
+ * never wait on each other while searching. With a budget of zero no game is
+ * played out and the player falls back to its random choice.
+ */
+public class MonteCarloSearch implements ComputerStrategy {
+
+  private static final double EXPLORATION = Math.sqrt(2);
+  private static final String COMPUTER = "Computer";
+  private static final ComputerStrategy RANDOM = new RandomStrategy();
+
+  private final long budgetMillis;
+  private final int threads;
+  private final LongAdder rollouts;
+  private final LongAdder searchNanos;
+
+  /**
+   * A node of a search tree, reached by playing the actions on the path from
+   * the root on the turns of the searching player.
+   */
+  private static final class Node {
+    private final int action;
+    private final Map<Integer, Node> children;
+    private int visits;
+    private double score;
+
+    private Node(int action) {
+      this.action = action;
+      this.children = new HashMap<>();
+    }
+
+    /**
+     * Picks the child to play among the legal actions. An action never tried
+     * from this node is played first, picked at random so that the order of
+     * the actions does not matter, and otherwise the child with the best upper
+     * bound of its average score is played.
+     */
+    private Node select(ActionBuffer actions, RandomManual random) {
+      int untried = SearchResult.NO_ACTION;
+      int count = 0;
+      for (int i = 0; i < actions.size(); i++) {
+        if (!children.containsKey(actions.get(i)) && random.nextInt(++count) == 0) {
+          untried = actions.get(i);
+        }
+      }
+
+      if (untried != SearchResult.NO_ACTION) {
+        Node child = new Node(untried);
+        children.put(untried, child);
+        return child;
+      }
+
+      double logVisits = Math.log(visits);
+      Node best = null;
+      double bestBound = Double.NEGATIVE_INFINITY;
+      for (int i = 0; i < actions.size(); i++) {
+        Node child = children.get(actions.get(i));
+        double bound = child.score / child.visits
+            + EXPLORATION * Math.sqrt(logVisits / child.visits);
+        if (bound > bestBound) {
+          best = child;
+          bestBound = bound;
+        }
+      }
+      return best;
+    }
+  }
+
+  /**
+   * Constructs a search with the given time budget for every turn.
+   *
+   * @param budgetMillis The time a search may take in milliseconds, where zero
+   *                     makes the player choose at random
+   * @param threads      The number of threads which grow trees at once
+   * @throws IllegalArgumentException When budgetMillis is negative or threads
+   *                                  is less than one
+   */
+  public MonteCarloSearch(long budgetMillis, int threads) throws IllegalArgumentException {
+    if (budgetMillis < 0) {
+      throw new IllegalArgumentException("Time budget cannot be negative");
+    }
+
+    if (threads < 1) {
+      throw new IllegalArgumentException("Number of threads cannot be less than one");
+    }
+
+    this.budgetMillis = budgetMillis;
+    this.threads = threads;
+    this.rollouts = new LongAdder();
+    this.searchNanos = new LongAdder();
+  }
+
+  /**
+   * Plays the turn of the current computer player with the action found by a
+   * search, or with its random choice when the search plays out no game.
+   *
+   * @param world The game to play the turn in
+   * @return The summary of the action
+   * @throws IllegalArgumentException When world is null
+   * @throws IllegalStateException    When the game is over, has no players or
+   *                                  the current player is not a computer
+   */
+  public String playTurn(World world) throws IllegalArgumentException, IllegalStateException {
+    if (world == null) {
+      throw new IllegalArgumentException("World cannot be null");
+    }
+
+    if (!world.isGameOver().isEmpty() || world.getAllPlayers().length == 0) {
+      throw new IllegalStateException("The game is over or has no players");
+    }
+
+    if (!COMPUTER.equals(world.getTurnInfo().get(1))) {
+      throw new IllegalStateException("Cannot call this method as a human player");
+    }
+
+    int action = search(world).getAction();
+    if (action == SearchResult.NO_ACTION) {
+      return world.performComputerAction();
+    }
+    return world.performAction(action);
+  }
+
+  /**
+   * Chooses the action found by a search with a random seed, or the action of
+   * the random strategy when the search plays out no game.
+   *
+   * @param view   The game, which is not changed
+   * @param random The random numbers of the game, which are only used when the
+   *               search plays out no game
+   * @return The chosen action
+   * @throws IllegalArgumentException When view or random is null
+   * @throws IllegalStateException    When the game is over or has no players,
+   *                                  or the search is interrupted
+   */
+  @Override
+  public int chooseAction(WorldView view, RandomManual random)
+      throws IllegalArgumentException, IllegalStateException {
+    if (random == null) {
+      throw new IllegalArgumentException("Random instance cannot be null");
+    }
+
+    int action = search(view).getAction();
+    return action == SearchResult.NO_ACTION ? RANDOM.chooseAction(view, random) : action;
+  }
+
+  /**
+   * Searches for the best action of the current player with a random seed.
+   *
+   * @param view  The game to search, which is not changed
+   * @return The outcome of the search
+   * @throws IllegalArgumentException When view is null
+   * @throws IllegalStateException    When the game is over or has no players,
+   *                                  or the search is interrupted
+   */
+  public SearchResult search(WorldView view)
+      throws IllegalArgumentException, IllegalStateException {
+    return search(view, ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * Searches for the best action of the current player. The games played out
+   * by tree number i are seeded with RandomManual.deriveSeed(seed, i), but how
+   * many are played depends on the speed of the machine.
+   *
+   * @param view  The game to search, which is not changed
+   * @param seed  The master seed of the games played out
+   * @return The outcome of the search
+   * @throws IllegalArgumentException When view is null
+   * @throws IllegalStateException    When the game is over or has no players,
+   *                                  or the search is interrupted
+   */
+  public SearchResult search(WorldView view, long seed)
+      throws IllegalArgumentException, IllegalStateException {
+    if (view == null) {
+      throw new IllegalArgumentException("World view cannot be null");
+    }
+
+    ActionBuffer actions = new ActionBuffer();
+    view.legalActions(actions);
+    if (actions.size() == 0) {
+      throw new IllegalStateException("The game is over or has no players");
+    }
+
+    if (budgetMillis == 0) {
+      return new SearchResult(SearchResult.NO_ACTION, 0, 0, 0);
+    }
+
+    long start = System.nanoTime();
+    long deadline = start + budgetMillis * 1_000_000;
+    String player = view.getTurnInfo().get(0);
+    List<Node> trees = new ArrayList<>(threads);
+
+    if (threads == 1) {
+      trees.add(grow(view, player, RandomManual.deriveSeed(seed, 0), deadline));
+    } else {
+      ExecutorService pool = Executors.newFixedThreadPool(threads);
+      try {
+        List<Future<Node>> results = new ArrayList<>(threads);
+        for (int tree = 0; tree < threads; tree++) {
+          long treeSeed = RandomManual.deriveSeed(seed, tree);
+          results.add(pool.submit(() -> grow(view, player, treeSeed, deadline)));
+        }
+
+        for (Future<Node> result : results) {
+          trees.add(result.get());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("The search was interrupted");
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw new IllegalStateException(e.getCause());
+      } finally {
+        pool.shutdownNow();
+      }
+    }
+
+    long elapsed = System.nanoTime() - start;
+    SearchResult result = choose(actions, trees, elapsed);
+    rollouts.add(result.getRollouts());
+    searchNanos.add(elapsed);
+    return result;
+  }
+
+  /**
+   * Chooses the first action played out most often in all the trees, which is
+   * less swayed by a few lucky games than the best win rate.
+   */
+  private static SearchResult choose(ActionBuffer actions, List<Node> trees, long elapsed) {
+    long total = 0;
+    for (Node tree : trees) {
+      total += tree.visits;
+    }
+
+    int bestAction = SearchResult.NO_ACTION;
+    long bestVisits = 0;
+    double bestScore = 0;
+    for (int i = 0; i < actions.size(); i++) {
+      long visits = 0;
+      double score = 0;
+      for (Node tree : trees) {
+        Node child = tree.children.get(actions.get(i));
+        if (child != null) {
+          visits += child.visits;
+          score += child.score;
+        }
+      }
+
+      if (visits > bestVisits || (visits == bestVisits && visits > 0 && score > bestScore)) {
+        bestAction = actions.get(i);
+        bestVisits = visits;
+        bestScore = score;
+      }
+    }
+
+    return new SearchResult(bestAction, bestVisits == 0 ? 0 : bestScore / bestVisits, total,
+        elapsed);
+  }
+
+  /**
+   * Grows a tree by playing out copies of the game until the deadline, at least
+   * once, which cuts off the game being played out when it passes. It only
+   * reads the given game, so trees can be grown from the same game on several
+   * threads at once.
+   */
+  private static Node grow(WorldView view, String player, long seed, long deadline) {
+    RandomManual random = RandomManual.seeded(seed);
+    String win = String.format("Game is completed. %s has won the game!", player);
+    ActionBuffer actions = new ActionBuffer();
+    Node tree = new Node(SearchResult.NO_ACTION);
+    List<Node> path = new ArrayList<>();
+
+    do {
+      World game = view.fork(random.split(), RANDOM);
+      Node node = tree;
+      path.clear();
+      path.add(node);
+      boolean expanded = false;
+
+      int health = game.getTargetHealth();
+      int damage = 0;
+      String outcome = game.isGameOver();
+      boolean cutOff = false;
+      while (outcome.isEmpty() && !cutOff) {
+        List<String> turn = game.getTurnInfo();
+        boolean own = player.equals(turn.get(0));
+        int before = game.getTargetHealth();
+        if (!expanded && own) {
+          game.legalActions(actions);
+          node = node.select(actions, random);
+          expanded = node.visits == 0;
+          path.add(node);
+          game.applyAction(node.action);
+        } else if (COMPUTER.equals(turn.get(1))) {
+          game.performComputerAction();
+        } else {
+          game.applyAction(RANDOM.chooseAction(game, random));
+        }
+        if (own) {
+          damage += before - game.getTargetHealth();
+        }
+        outcome = game.isGameOver();
+        cutOff = System.nanoTime() >= deadline;
+      }
+
+      double reward = win.equals(outcome) ? 1 : 0.5 * damage / health;
+      for (Node visited : path) {
+        visited.visits++;
+        visited.score += reward;
+      }
+    } while (System.nanoTime() < deadline);
+
+    return tree;
+  }
+
+  /**
+   * Gets the number of games played out by all the searches so far.
+   *
+   * @return The number of rollouts
+   */
+  public long getRollouts() {
+    return rollouts.sum();
+  }
+
+  /**
+   * Gets the number of games played out in a second over all the searches so
+   * far, which shows how much a time budget buys on this machine.
+   *
+   * @return The rollouts per second
+   */
+  public double getRolloutsPerSecond() {
+    long nanos = searchNanos.sum();
+    return nanos == 0 ? 0 : rollouts.sum() * 1e9 / nanos;
+  }
+
+  /**
+   * Returns a string representation of this search in the form
+   * "MonteCarloSearch(budget = 50 ms, threads = 4)".
+   *
+   * @return String format of this instance
+   */
+  @Override
+  public String toString() {
+    return String.format("MonteCarloSearch(budget = %d ms, threads = %d)", budgetMillis,
+        threads);
+  }
+
+}
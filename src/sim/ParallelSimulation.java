@@ -0,0 +1,93 @@
+package sim;
+
+import java.util.concurrent.ThreadLocalRandom;
+import utils.RandomManual;
+
+/**
+ * Plays the games of a simulation on several threads at once. The games are
+ * split into batches which are handed out to a pool of threads, so a thread
+ * which finishes its batch early picks up the next one. Every game is played in
+ * a new world with random numbers seeded from its position in the run, so the
+ * results for a seed are the same whatever the number of threads, and the
+ * outcomes are added to a tally which does not need locking, so the threads
+ * never wait on each other.
+ */
+public class ParallelSimulation {
+
+  private final Simulation simulation;
+  private final int threads;
+
+  /**
+   * Constructs a parallel runner of the given simulation.
+   *
+   * @param simulation The simulation whose games are played
+   * @param threads    The number of threads which play the games
+   * @throws IllegalArgumentException When simulation is null or threads is less
+   *                                  than one
+   */
+  public ParallelSimulation(Simulation simulation, int threads) throws IllegalArgumentException {
+    if (simulation == null) {
+      throw new IllegalArgumentException("Simulation cannot be null");
+    }
+
+    if (threads < 1) {
+      throw new IllegalArgumentException("Number of threads cannot be less than one");
+    }
+
+    this.simulation = simulation;
+    this.threads = threads;
+  }
+
+  /**
+   * Plays the given number of games on all the threads with a random seed and
+   * waits for them to finish.
+   *
+   * @param games The number of games to play
+   * @return The results of all the games
+   * @throws IllegalArgumentException When games is negative
+   * @throws IllegalStateException    When a game does not end within its
+   *                                  number of turns or the simulation is
+   *                                  interrupted
+   */
+  public SimulationResult run(int games) throws IllegalArgumentException, IllegalStateException {
+    return run(games, ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * Plays the given number of games on all the threads and waits for them to
+   * finish. The games are the same as the ones played by Simulation.run with
+   * the same seed.
+   *
+   * @param games The number of games to play
+   * @param seed  The master seed of the games
+   * @return The results of all the games
+   * @throws IllegalArgumentException When games is negative
+   * @throws IllegalStateException    When a game does not end within its
+   *                                  number of turns or the simulation is
+   *                                  interrupted
+   */
+  public SimulationResult run(int games, long seed)
+      throws IllegalArgumentException, IllegalStateException {
+    if (games < 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative");
+    }
+
+    SimulationTally tally = new SimulationTally(simulation.getPlayers());
+    long start = System.nanoTime();
+    GameRunner.playInBatches(games, threads,
+        game -> simulation.play(RandomManual.deriveSeed(seed, game), tally), "simulation");
+    return tally.toResult(System.nanoTime() - start);
+  }
+
+  /**
+   * Returns a string representation of this runner in the form
+   * "ParallelSimulation(threads = 4)".
+   *
+   * @return String format of this instance
+   */
+  @Override
+  public String toString() {
+    return String.format("ParallelSimulation(threads = %d)", threads);
+  }
+
+}
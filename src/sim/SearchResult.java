@@ -0,0 +1,112 @@
+package sim;
+
+import game.ActionBuffer;
+
+/**
+ * The outcome of a search for the action of a computer player: the action
+ * found, how many games were played out to find it and how long it took.
+ * Instances are immutable.
+ */
+public final class SearchResult {
+
+  /**
+   * The action of a search which did not play out any game, after which the
+   * player falls back to its random choice.
+   */
+  public static final int NO_ACTION = -1;
+
+  private final int action;
+  private final double score;
+  private final long rollouts;
+  private final long elapsedNanos;
+
+  /**
+   * Constructs the outcome of a search.
+   *
+   * @param action       The encoded action found, or NO_ACTION
+   * @param score        The average score of the games played out after the
+   *                     action, between zero and one
+   * @param rollouts     The number of games played out
+   * @param elapsedNanos The time taken by the search in nanoseconds
+   * @throws IllegalArgumentException When a count is negative or the score is
+   *                                  not between zero and one
+   */
+  public SearchResult(int action, double score, long rollouts, long elapsedNanos)
+      throws IllegalArgumentException {
+    if (action < NO_ACTION || rollouts < 0 || elapsedNanos < 0) {
+      throw new IllegalArgumentException("Counts cannot be negative");
+    }
+
+    if (!(score >= 0 && score <= 1)) {
+      throw new IllegalArgumentException("Score must be between zero and one");
+    }
+
+    this.action = action;
+    this.score = score;
+    this.rollouts = rollouts;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Gets the action found by the search.
+   *
+   * @return The encoded action, or NO_ACTION when no game was played out
+   */
+  public int getAction() {
+    return action;
+  }
+
+  /**
+   * Gets the average score of the games played out after the action found,
+   * where a game won scores one.
+   *
+   * @return The average score between zero and one
+   */
+  public double getScore() {
+    return score;
+  }
+
+  /**
+   * Gets the number of games played out by the search.
+   *
+   * @return The number of rollouts
+   */
+  public long getRollouts() {
+    return rollouts;
+  }
+
+  /**
+   * Gets the time taken by the search.
+   *
+   * @return The time in nanoseconds
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Gets the number of games played out in a second.
+   *
+   * @return The rollouts per second
+   */
+  public double getRolloutsPerSecond() {
+    return elapsedNanos == 0 ? 0 : rollouts * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * Returns a string representation of this result in the form
+   * "SearchResult(MOVE 3, score = 0.25, 1200 rollouts in 50.1 ms, 23952.1
+   * rollouts/s)".
+   *
+   * @return String format of this instance
+   */
+  @Override
+  public String toString() {
+    String found = action == NO_ACTION ? "no action"
+        : String.format("%s %d", ActionBuffer.getType(action), ActionBuffer.getArgument(action));
+    return String.format("SearchResult(%s, score = %.2f, %d rollouts in %.1f ms, "
+        + "%.1f rollouts/s)", found, score, rollouts, elapsedNanos / 1e6,
+        getRolloutsPerSecond());
+  }
+
+}
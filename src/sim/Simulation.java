@@ -0,0 +1,143 @@
+package sim;
+
+import game.GameWorld;
+import game.WorldImpl;
+import game.WorldTemplate;
+import java.util.concurrent.ThreadLocalRandom;
+import utils.RandomManual;
+
+/**
+ * Plays whole games between computer players without a view. Every game is
+ * played in a new world built from the same template, so nothing has to be
+ * parsed again between games. The players start spread evenly over the spaces
+ * of the world in the order in which the spaces are listed.
+ */
+public class Simulation {
+
+  private final WorldTemplate template;
+  private final int players;
+  private final int turns;
+  private final String[] playerNames;
+  private final GameRunner runner;
+
+  /**
+   * Constructs a simulation of games in the given world.
+   *
+   * @param template The template of the world the games are played in
+   * @param players  The number of computer players in every game
+   * @param turns    The maximum number of turns of every player in a game
+   * @throws IllegalArgumentException When template is null, players is not
+   *                                  between 1 and 10 or turns is less than
+   *                                  one
+   */
+  public Simulation(WorldTemplate template, int players, int turns)
+      throws IllegalArgumentException {
+    if (template == null) {
+      throw new IllegalArgumentException("World template cannot be null");
+    }
+
+    if (players < 1 || players > 10) {
+      throw new IllegalArgumentException("Number of players must be between 1 and 10");
+    }
+
+    if (turns < 1) {
+      throw new IllegalArgumentException("Number of turns cannot be less than one");
+    }
+
+    this.template = template;
+    this.players = players;
+    this.turns = turns;
+    this.playerNames = new String[players];
+    for (int i = 0; i < players; i++) {
+      playerNames[i] = "Computer " + (i + 1);
+    }
+    this.runner = new GameRunner(playerNames, turns);
+  }
+
+  /**
+   * Plays the given number of games one after the other with a random seed.
+   *
+   * @param games The number of games to play
+   * @return The results of the games
+   * @throws IllegalArgumentException When games is negative
+   * @throws IllegalStateException    When a game does not end within its
+   *                                  number of turns
+   */
+  public SimulationResult run(int games) throws IllegalArgumentException, IllegalStateException {
+    return run(games, ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * Plays the given number of games one after the other. Game number i is
+   * played with the random numbers seeded by RandomManual.deriveSeed(seed, i),
+   * so the same seed always gives the same results.
+   *
+   * @param games The number of games to play
+   * @param seed  The master seed of the games
+   * @return The results of the games
+   * @throws IllegalArgumentException When games is negative
+   * @throws IllegalStateException    When a game does not end within its
+   *                                  number of turns
+   */
+  public SimulationResult run(int games, long seed)
+      throws IllegalArgumentException, IllegalStateException {
+    if (games < 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative");
+    }
+
+    SimulationTally tally = new SimulationTally(players);
+
+    long start = System.nanoTime();
+    for (int game = 0; game < games; game++) {
+      play(RandomManual.deriveSeed(seed, game), tally);
+    }
+    return tally.toResult(System.nanoTime() - start);
+  }
+
+  /**
+   * Plays a single game with the given seed and returns how it ended, which
+   * makes it possible to look into one game of a large batch.
+   *
+   * @param gameSeed The seed of the random numbers used in the game
+   * @return The results of the game
+   * @throws IllegalStateException When the game does not end within its number
+   *                               of turns
+   */
+  public SimulationResult replay(long gameSeed) throws IllegalStateException {
+    SimulationTally tally = new SimulationTally(players);
+    long start = System.nanoTime();
+    play(gameSeed, tally);
+    return tally.toResult(System.nanoTime() - start);
+  }
+
+  /**
+   * Gets the number of computer players in every game.
+   *
+   * @return The number of players
+   */
+  int getPlayers() {
+    return players;
+  }
+
+  /**
+   * Plays a single game in a new world and records its outcome. It only reads
+   * the fields of the simulation and every game has its own random numbers, so
+   * games can be played on several threads at once.
+   *
+   * @param gameSeed The seed of the random numbers used by the computer players
+   * @param tally    The tally which the outcome of the game is added to
+   * @throws IllegalStateException When the game does not end within its number
+   *                               of turns
+   */
+  void play(long gameSeed, SimulationTally tally) throws IllegalStateException {
+    GameWorld world = new WorldImpl(template, RandomManual.seeded(gameSeed), turns);
+    String[] spaces = world.getAllSpaces();
+    for (int i = 0; i < players; i++) {
+      world.addPlayer(playerNames[i], spaces[(int) ((long) i * spaces.length / players)], false);
+    }
+
+    int gameTurns = runner.playOut(world, gameSeed);
+    tally.record(runner.winner(world, gameSeed), gameTurns, world.getTargetHealth());
+  }
+
+}
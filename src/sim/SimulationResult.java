@@ -0,0 +1,201 @@
+package sim;
+
+import java.util.Arrays;
+
+/**
+ * The results of a batch of simulated games: how fast they were played and how
+ * they ended. Instances are immutable.
+ */
+public final class SimulationResult {
+
+  private final int games;
+  private final long turns;
+  private final long elapsedNanos;
+  private final long[] wins;
+  private final long draws;
+  private final long targetHealth;
+  private final int minTurns;
+  private final int maxTurns;
+
+  /**
+   * Constructs the results of a batch of games.
+   *
+   * @param games        The number of games played
+   * @param turns        The number of turns taken in all the games
+   * @param elapsedNanos The time taken to play all the games in nanoseconds
+   * @param wins         The number of games won by the player at each position
+   * @param draws        The number of games which ended in a draw
+   * @param targetHealth The health the target had left at the end of every
+   *                     game added together
+   * @param minTurns     The fewest turns taken in a game
+   * @param maxTurns     The most turns taken in a game
+   * @throws IllegalArgumentException When a count is negative, wins is null or
+   *                                  the wins and draws do not add up to the
+   *                                  number of games
+   */
+  public SimulationResult(int games, long turns, long elapsedNanos, long[] wins, long draws,
+      long targetHealth, int minTurns, int maxTurns) throws IllegalArgumentException {
+    if (games < 0 || turns < 0 || elapsedNanos < 0 || draws < 0 || targetHealth < 0) {
+      throw new IllegalArgumentException("Counts cannot be negative");
+    }
+
+    if (wins == null) {
+      throw new IllegalArgumentException("Wins cannot be null");
+    }
+
+    if (Arrays.stream(wins).sum() + draws != games) {
+      throw new IllegalArgumentException("Wins and draws must add up to the number of games");
+    }
+
+    this.games = games;
+    this.turns = turns;
+    this.elapsedNanos = elapsedNanos;
+    this.wins = wins.clone();
+    this.draws = draws;
+    this.targetHealth = targetHealth;
+    this.minTurns = minTurns;
+    this.maxTurns = maxTurns;
+  }
+
+  /**
+   * Gets the number of games played.
+   *
+   * @return The number of games
+   */
+  public int getGames() {
+    return games;
+  }
+
+  /**
+   * Gets the number of turns taken in all the games.
+   *
+   * @return The number of turns
+   */
+  public long getTurns() {
+    return turns;
+  }
+
+  /**
+   * Gets the time taken to play all the games.
+   *
+   * @return The time in nanoseconds
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Gets the number of games won by the player at the given position.
+   *
+   * @param player The position of the player, starting from zero
+   * @return The number of games won by the player
+   * @throws IllegalArgumentException When there is no player at the position
+   */
+  public long getWins(int player) throws IllegalArgumentException {
+    if (player < 0 || player >= wins.length) {
+      throw new IllegalArgumentException("There is no player at the given position");
+    }
+    return wins[player];
+  }
+
+  /**
+   * Gets the number of games which ended in a draw.
+   *
+   * @return The number of draws
+   */
+  public long getDraws() {
+    return draws;
+  }
+
+  /**
+   * Gets the share of the games won by the player at the given position.
+   *
+   * @param player The position of the player, starting from zero
+   * @return The share of the games between zero and one
+   * @throws IllegalArgumentException When there is no player at the position
+   */
+  public double getWinRate(int player) throws IllegalArgumentException {
+    return shareOfGames(getWins(player));
+  }
+
+  /**
+   * Gets the share of the games which ended in a draw.
+   *
+   * @return The share of the games between zero and one
+   */
+  public double getDrawRate() {
+    return shareOfGames(draws);
+  }
+
+  /**
+   * Gets the average health the target had left at the end of a game.
+   *
+   * @return The average health, or zero when no game was played
+   */
+  public double getAverageTargetHealth() {
+    return games == 0 ? 0 : (double) targetHealth / games;
+  }
+
+  /**
+   * Gets the fewest turns taken in a game.
+   *
+   * @return The fewest turns, or zero when no game was played
+   */
+  public int getMinTurns() {
+    return minTurns;
+  }
+
+  /**
+   * Gets the most turns taken in a game.
+   *
+   * @return The most turns, or zero when no game was played
+   */
+  public int getMaxTurns() {
+    return maxTurns;
+  }
+
+  /**
+   * Gets the number of games played in a second.
+   *
+   * @return The games per second
+   */
+  public double getGamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * Gets the number of turns taken in a second.
+   *
+   * @return The turns per second
+   */
+  public double getTurnsPerSecond() {
+    return elapsedNanos == 0 ? 0 : turns * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * Returns a report of the results, with the speed on the first line and the
+   * outcome of the games on the following lines.
+   *
+   * @return String format of this instance
+   */
+  @Override
+  public String toString() {
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("%d games, %d turns in %.3f s (%.1f games/s, %.1f turns/s)\n",
+        games, turns, elapsedNanos / 1e9, getGamesPerSecond(), getTurnsPerSecond()));
+    report.append(String.format("Turns per game: min %d, average %.1f, max %d\n", minTurns,
+        games == 0 ? 0 : (double) turns / games, maxTurns));
+    report.append(String.format("Target health left: average %.1f\n", getAverageTargetHealth()));
+    for (int i = 0; i < wins.length; i++) {
+      report.append(String.format("Player %d won %d games (%.1f%%)\n", i + 1, wins[i],
+          shareOfGames(wins[i]) * 100));
+    }
+    report.append(String.format("Draws: %d games (%.1f%%)", draws, getDrawRate() * 100));
+    return report.toString();
+  }
+
+  private double shareOfGames(long count) {
+    return games == 0 ? 0 : (double) count / games;
+  }
+
+}
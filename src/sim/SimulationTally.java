@@ -0,0 +1,77 @@
+package sim;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adds up the outcome of games as they finish. Any number of threads can
+ * record games at the same time without locking, since every count is kept in
+ * striped counters which are only summed when the results are read.
+ */
+final class SimulationTally {
+
+  private final LongAdder games;
+  private final LongAdder turns;
+  private final LongAdder targetHealth;
+  private final LongAdder draws;
+  private final LongAdder[] wins;
+  private final LongAccumulator minTurns;
+  private final LongAccumulator maxTurns;
+
+  /**
+   * Constructs an empty tally of games between the given number of players.
+   *
+   * @param players The number of players in every game
+   */
+  SimulationTally(int players) {
+    this.games = new LongAdder();
+    this.turns = new LongAdder();
+    this.targetHealth = new LongAdder();
+    this.draws = new LongAdder();
+    this.wins = new LongAdder[players];
+    for (int i = 0; i < players; i++) {
+      wins[i] = new LongAdder();
+    }
+    this.minTurns = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    this.maxTurns = new LongAccumulator(Math::max, 0);
+  }
+
+  /**
+   * Records the outcome of a game.
+   *
+   * @param winner       The position of the player who won, or -1 for a draw
+   * @param gameTurns    The number of turns taken in the game
+   * @param healthLeft   The health the target had left at the end of the game
+   */
+  void record(int winner, int gameTurns, int healthLeft) {
+    if (winner < 0) {
+      draws.increment();
+    } else {
+      wins[winner].increment();
+    }
+    games.increment();
+    turns.add(gameTurns);
+    targetHealth.add(healthLeft);
+    minTurns.accumulate(gameTurns);
+    maxTurns.accumulate(gameTurns);
+  }
+
+  /**
+   * Reads the results of the recorded games. It must only be called once all
+   * the games have been recorded.
+   *
+   * @param elapsedNanos The time taken to play the games in nanoseconds
+   * @return The results of the games
+   */
+  SimulationResult toResult(long elapsedNanos) {
+    long[] winCounts = new long[wins.length];
+    for (int i = 0; i < wins.length; i++) {
+      winCounts[i] = wins[i].sum();
+    }
+
+    int playedGames = games.intValue();
+    return new SimulationResult(playedGames, turns.sum(), elapsedNanos, winCounts, draws.sum(),
+        targetHealth.sum(), playedGames == 0 ? 0 : minTurns.intValue(), maxTurns.intValue());
+  }
+
+}
@@ -0,0 +1,215 @@
+package sim;
+
+import game.ComputerStrategy;
+import game.World;
+import game.WorldImpl;
+import game.WorldTemplate;
+import game.WorldView;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import utils.RandomManual;
+
+/**
+ * Plays games between computer strategies and reports how often each of them
+ * won and how long it took to choose its actions. Every strategy plays one
+ * player in every game, named after the strategy, and the order in which the
+ * players take their turns is rotated from one game to the next so that no
+ * strategy always moves first. The players start spread evenly over the spaces
+ * of the world as in Simulation.
+ *
+ * <p>The games are played on several threads at once as in ParallelSimulation,
+ * so the strategies must be safe to call from several threads. Every decision
+ * is timed and counted in a histogram which does not need locking. The games
+ * for a seed are the same whatever the number of threads, as long as the
+ * strategies themselves do not depend on time.
+ */
+public class StrategyMatch {
+
+  private final WorldTemplate template;
+  private final int turns;
+  private final int threads;
+  private final String[] names;
+  private final ComputerStrategy[] strategies;
+  private final GameRunner runner;
+
+  /**
+   * Times the decisions of a strategy and counts its wins during a run.
+   */
+  private static final class Entrant implements ComputerStrategy {
+    private final ComputerStrategy strategy;
+    private final LatencyHistogram latencies;
+    private final LongAdder wins;
+
+    private Entrant(ComputerStrategy strategy) {
+      this.strategy = strategy;
+      this.latencies = new LatencyHistogram();
+      this.wins = new LongAdder();
+    }
+
+    @Override
+    public int chooseAction(WorldView view, RandomManual random) {
+      long start = System.nanoTime();
+      int action = strategy.chooseAction(view, random);
+      latencies.record(System.nanoTime() - start);
+      return action;
+    }
+  }
+
+  /**
+   * Constructs a match between the given strategies.
+   *
+   * @param template   The template of the world the games are played in
+   * @param turns      The maximum number of turns of every player in a game
+   * @param strategies The strategies by the names of their players, in the
+   *                   order they take their turns in the first game
+   * @param threads    The number of threads which play the games
+   * @throws IllegalArgumentException When template or strategies is null,
+   *                                  turns or threads is less than one, there
+   *                                  are not between 1 and 10 strategies, or a
+   *                                  name or strategy is null or a name is
+   *                                  empty
+   */
+  public StrategyMatch(WorldTemplate template, int turns,
+      Map<String, ? extends ComputerStrategy> strategies, int threads)
+      throws IllegalArgumentException {
+    if (template == null) {
+      throw new IllegalArgumentException("World template cannot be null");
+    }
+
+    if (turns < 1) {
+      throw new IllegalArgumentException("Number of turns cannot be less than one");
+    }
+
+    if (strategies == null) {
+      throw new IllegalArgumentException("Strategies cannot be null");
+    }
+
+    if (strategies.size() < 1 || strategies.size() > 10) {
+      throw new IllegalArgumentException("Number of strategies must be between 1 and 10");
+    }
+
+    if (threads < 1) {
+      throw new IllegalArgumentException("Number of threads cannot be less than one");
+    }
+
+    Map<String, ComputerStrategy> ordered = new LinkedHashMap<>(strategies);
+    this.names = new String[ordered.size()];
+    this.strategies = new ComputerStrategy[ordered.size()];
+    int index = 0;
+    for (Map.Entry<String, ComputerStrategy> entry : ordered.entrySet()) {
+      if (entry.getKey() == null || entry.getKey().isEmpty()) {
+        throw new IllegalArgumentException("Name of a strategy cannot be null or empty");
+      }
+
+      if (entry.getValue() == null) {
+        throw new IllegalArgumentException("Strategy cannot be null");
+      }
+
+      names[index] = entry.getKey();
+      this.strategies[index] = entry.getValue();
+      index++;
+    }
+
+    this.runner = new GameRunner(names, turns);
+    this.template = template;
+    this.turns = turns;
+    this.threads = threads;
+  }
+
+  /**
+   * Plays the given number of games with a random seed and waits for them to
+   * finish.
+   *
+   * @param games The number of games to play
+   * @return The results of all the games
+   * @throws IllegalArgumentException When games is negative
+   * @throws IllegalStateException    When a game does not end within its
+   *                                  number of turns or the match is
+   *                                  interrupted
+   */
+  public StrategyMatchResult run(int games)
+      throws IllegalArgumentException, IllegalStateException {
+    return run(games, ThreadLocalRandom.current().nextLong());
+  }
+
+  /**
+   * Plays the given number of games and waits for them to finish. Game number
+   * i is played with the random numbers seeded by RandomManual.deriveSeed(seed,
+   * i) and the players take their turns starting from strategy number i modulo
+   * the number of strategies.
+   *
+   * @param games The number of games to play
+   * @param seed  The master seed of the games
+   * @return The results of all the games
+   * @throws IllegalArgumentException When games is negative
+   * @throws IllegalStateException    When a game does not end within its
+   *                                  number of turns or the match is
+   *                                  interrupted
+   */
+  public StrategyMatchResult run(int games, long seed)
+      throws IllegalArgumentException, IllegalStateException {
+    if (games < 0) {
+      throw new IllegalArgumentException("Number of games cannot be negative");
+    }
+
+    Entrant[] entrants = new Entrant[strategies.length];
+    for (int i = 0; i < strategies.length; i++) {
+      entrants[i] = new Entrant(strategies[i]);
+    }
+    LongAdder draws = new LongAdder();
+
+    long start = System.nanoTime();
+    GameRunner.playInBatches(games, threads, game -> {
+      int winner = play(game, RandomManual.deriveSeed(seed, game), entrants);
+      if (winner < 0) {
+        draws.increment();
+      } else {
+        entrants[winner].wins.increment();
+      }
+    }, "match");
+    long elapsed = System.nanoTime() - start;
+
+    long[] wins = new long[entrants.length];
+    long[][] latencies = new long[entrants.length][];
+    long[] maxLatencies = new long[entrants.length];
+    for (int i = 0; i < entrants.length; i++) {
+      wins[i] = entrants[i].wins.sum();
+      latencies[i] = entrants[i].latencies.snapshot();
+      maxLatencies[i] = entrants[i].latencies.getMax();
+    }
+    return new StrategyMatchResult(games, elapsed, names, wins, draws.sum(), latencies,
+        maxLatencies);
+  }
+
+  /**
+   * Plays a single game in a new world and returns the position of the
+   * strategy which won it, or -1 for a draw.
+   */
+  private int play(int game, long gameSeed, Entrant[] entrants) throws IllegalStateException {
+    World world = new WorldImpl(template, RandomManual.seeded(gameSeed), turns);
+    String[] spaces = world.getAllSpaces();
+    int players = entrants.length;
+    for (int seat = 0; seat < players; seat++) {
+      int strategy = (game + seat) % players;
+      world.addPlayer(names[strategy], spaces[(int) ((long) seat * spaces.length / players)],
+          entrants[strategy]);
+    }
+
+    runner.playOut(world, gameSeed);
+    return runner.winner(world, gameSeed);
+  }
+
+  /**
+   * Returns a string representation of this match in the form
+   * "StrategyMatch(Random, Search, threads = 4)".
+   *
+   * @return String format of this instance
+   */
+  @Override
+  public String toString() {
+    return String.format("StrategyMatch(%s, threads = %d)", String.join(", ", names), threads);
+  }
+
+}
@@ -0,0 +1,210 @@
+package sim;
+
+import java.util.Arrays;
+
+/**
+ * The results of a match between computer strategies: how often each strategy
+ * won and how long it took to choose its actions. Instances are immutable.
+ */
+public final class StrategyMatchResult {
+
+  private final int games;
+  private final long elapsedNanos;
+  private final String[] strategies;
+  private final long[] wins;
+  private final long draws;
+  private final long[][] latencies;
+  private final long[] maxLatencies;
+
+  /**
+   * Constructs the results of a match.
+   *
+   * @param games        The number of games played
+   * @param elapsedNanos The time taken to play all the games in nanoseconds
+   * @param strategies   The names of the strategies
+   * @param wins         The number of games won by each strategy
+   * @param draws        The number of games which ended in a draw
+   * @param latencies    The snapshot of the decision times of each strategy
+   * @param maxLatencies The longest decision time of each strategy in
+   *                     nanoseconds
+   * @throws IllegalArgumentException When a count is negative, an array is
+   *                                  null or not one per strategy, or the wins
+   *                                  and draws do not add up to the number of
+   *                                  games
+   */
+  StrategyMatchResult(int games, long elapsedNanos, String[] strategies, long[] wins,
+      long draws, long[][] latencies, long[] maxLatencies) throws IllegalArgumentException {
+    if (games < 0 || elapsedNanos < 0 || draws < 0) {
+      throw new IllegalArgumentException("Counts cannot be negative");
+    }
+
+    if (strategies == null || wins == null || latencies == null || maxLatencies == null) {
+      throw new IllegalArgumentException("Strategies, wins and latencies cannot be null");
+    }
+
+    if (wins.length != strategies.length || latencies.length != strategies.length
+        || maxLatencies.length != strategies.length) {
+      throw new IllegalArgumentException("There must be wins and latencies for every strategy");
+    }
+
+    if (Arrays.stream(wins).sum() + draws != games) {
+      throw new IllegalArgumentException("Wins and draws must add up to the number of games");
+    }
+
+    this.games = games;
+    this.elapsedNanos = elapsedNanos;
+    this.strategies = strategies.clone();
+    this.wins = wins.clone();
+    this.draws = draws;
+    this.latencies = new long[latencies.length][];
+    for (int i = 0; i < latencies.length; i++) {
+      this.latencies[i] = latencies[i].clone();
+    }
+    this.maxLatencies = maxLatencies.clone();
+  }
+
+  /**
+   * Gets the number of games played.
+   *
+   * @return The number of games
+   */
+  public int getGames() {
+    return games;
+  }
+
+  /**
+   * Gets the time taken to play all the games.
+   *
+   * @return The time in nanoseconds
+   */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /**
+   * Gets the names of the strategies in the match.
+   *
+   * @return The names in the order the strategies were given
+   */
+  public String[] getStrategies() {
+    return strategies.clone();
+  }
+
+  /**
+   * Gets the number of games won by the given strategy.
+   *
+   * @param strategy The name of the strategy
+   * @return The number of games won
+   * @throws IllegalArgumentException When there is no strategy with the name
+   */
+  public long getWins(String strategy) throws IllegalArgumentException {
+    return wins[indexOf(strategy)];
+  }
+
+  /**
+   * Gets the share of the games won by the given strategy.
+   *
+   * @param strategy The name of the strategy
+   * @return The share of the games between zero and one
+   * @throws IllegalArgumentException When there is no strategy with the name
+   */
+  public double getWinRate(String strategy) throws IllegalArgumentException {
+    return shareOfGames(getWins(strategy));
+  }
+
+  /**
+   * Gets the number of games which ended in a draw.
+   *
+   * @return The number of draws
+   */
+  public long getDraws() {
+    return draws;
+  }
+
+  /**
+   * Gets the share of the games which ended in a draw.
+   *
+   * @return The share of the games between zero and one
+   */
+  public double getDrawRate() {
+    return shareOfGames(draws);
+  }
+
+  /**
+   * Gets the number of actions chosen by the given strategy.
+   *
+   * @param strategy The name of the strategy
+   * @return The number of decisions
+   * @throws IllegalArgumentException When there is no strategy with the name
+   */
+  public long getDecisions(String strategy) throws IllegalArgumentException {
+    return Arrays.stream(latencies[indexOf(strategy)]).sum();
+  }
+
+  /**
+   * Gets the time within which the given share of the decisions of a strategy
+   * were made, such as 50 for the median or 100 for the longest. Times are
+   * kept in buckets, so the time returned may be up to an eighth too long.
+   *
+   * @param strategy   The name of the strategy
+   * @param percentile The percentile between 0 and 100
+   * @return The time in nanoseconds, or zero when the strategy made no
+   *         decisions
+   * @throws IllegalArgumentException When there is no strategy with the name
+   *                                  or percentile is not between 0 and 100
+   */
+  public long getLatencyNanos(String strategy, double percentile)
+      throws IllegalArgumentException {
+    int index = indexOf(strategy);
+    if (!(percentile >= 0 && percentile <= 100)) {
+      throw new IllegalArgumentException("Percentile must be between 0 and 100");
+    }
+    return LatencyHistogram.percentile(latencies[index], maxLatencies[index], percentile);
+  }
+
+  /**
+   * Gets the number of games played in a second.
+   *
+   * @return The games per second
+   */
+  public double getGamesPerSecond() {
+    return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+  }
+
+  /**
+   * Returns a report of the results, with the speed on the first line, a line
+   * for every strategy with its wins and decision times, and the draws on the
+   * last line.
+   *
+   * @return String format of this instance
+   */
+  @Override
+  public String toString() {
+    StringBuilder report = new StringBuilder();
+    report.append(String.format("%d games in %.3f s (%.1f games/s)\n", games,
+        elapsedNanos / 1e9, getGamesPerSecond()));
+    for (String strategy : strategies) {
+      report.append(String.format("%s won %d games (%.1f%%), %d decisions, "
+          + "p50 %.3f ms, p90 %.3f ms, p99 %.3f ms, max %.3f ms\n", strategy, getWins(strategy),
+          getWinRate(strategy) * 100, getDecisions(strategy),
+          getLatencyNanos(strategy, 50) / 1e6, getLatencyNanos(strategy, 90) / 1e6,
+          getLatencyNanos(strategy, 99) / 1e6, getLatencyNanos(strategy, 100) / 1e6));
+    }
+    report.append(String.format("Draws: %d games (%.1f%%)", draws, getDrawRate() * 100));
+    return report.toString();
+  }
+
+  private int indexOf(String strategy) throws IllegalArgumentException {
+    for (int i = 0; i < strategies.length; i++) {
+      if (strategies[i].equals(strategy)) {
+        return i;
+      }
+    }
+    throw new IllegalArgumentException("There is no strategy with the given name");
+  }
+
+  private double shareOfGames(long count) {
+    return games == 0 ? 0 : (double) count / games;
+  }
+
+}
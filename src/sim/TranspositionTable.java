@@ -0,0 +1,122 @@
+package sim;
+
+/**
+ * Remembers the values of games already searched, keyed by their Zobrist
+ * hash, so that a game reached again by other actions is not searched again.
+ * The table has a fixed number of entries kept in two arrays of longs and
+ * never grows. A hash is looked up in a bucket of four neighbouring entries,
+ * and when the bucket is full the entry searched to the smallest depth is
+ * replaced, since it took the least work to find.
+ *
+ * <p>The table is not safe to use from several threads at once.
+ */
+final class TranspositionTable {
+
+  private static final int BUCKET_SIZE = 4;
+
+  private final long[] keys;
+  private final long[] entries;
+  private final int bucketMask;
+  private long probes;
+  private long hits;
+
+  /**
+   * Constructs an empty table.
+   *
+   * @param capacity The number of entries, which must be a power of two of
+   *                 at least four
+   * @throws IllegalArgumentException When capacity is less than four or not a
+   *                                  power of two
+   */
+  TranspositionTable(int capacity) throws IllegalArgumentException {
+    if (capacity < BUCKET_SIZE || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException(
+          "Capacity of the table must be a power of two of at least four");
+    }
+
+    this.keys = new long[capacity];
+    this.entries = new long[capacity];
+    this.bucketMask = capacity / BUCKET_SIZE - 1;
+  }
+
+  /**
+   * Looks up the value of a game searched to at least the given depth.
+   *
+   * @param key   The hash of the game
+   * @param depth The depth the game is to be searched to
+   * @return The value of the game, or NaN when it is not in the table or was
+   *         searched to a smaller depth
+   */
+  double get(long key, int depth) {
+    probes++;
+    int first = bucketOf(key);
+    for (int i = first; i < first + BUCKET_SIZE; i++) {
+      // an entry in use keeps its depth plus one, so it is never zero
+      if (entries[i] != 0 && keys[i] == key) {
+        if ((int) entries[i] - 1 >= depth) {
+          hits++;
+          return Float.intBitsToFloat((int) (entries[i] >>> 32));
+        }
+        return Double.NaN;
+      }
+    }
+    return Double.NaN;
+  }
+
+  /**
+   * Stores the value of a game. A value searched to a smaller depth than the
+   * one already stored for the game is dropped.
+   *
+   * @param key   The hash of the game
+   * @param depth The depth the game was searched to
+   * @param value The value of the game
+   */
+  void put(long key, int depth, double value) {
+    int first = bucketOf(key);
+    int victim = first;
+    for (int i = first; i < first + BUCKET_SIZE; i++) {
+      if (entries[i] == 0) {
+        victim = i;
+        break;
+      }
+
+      if (keys[i] == key) {
+        if ((int) entries[i] - 1 > depth) {
+          return;
+        }
+        victim = i;
+        break;
+      }
+
+      if ((int) entries[i] < (int) entries[victim]) {
+        victim = i;
+      }
+    }
+
+    keys[victim] = key;
+    entries[victim] = ((long) Float.floatToIntBits((float) value) << 32) | (depth + 1L);
+  }
+
+  /**
+   * Gets the number of lookups so far.
+   *
+   * @return The number of lookups
+   */
+  long getProbes() {
+    return probes;
+  }
+
+  /**
+   * Gets the number of lookups which found a value.
+   *
+   * @return The number of hits
+   */
+  long getHits() {
+    return hits;
+  }
+
+  private int bucketOf(long key) {
+    return ((int) (key ^ (key >>> 32)) & bucketMask) * BUCKET_SIZE;
+  }
+
+}
@@ -0,0 +1,210 @@
+package utils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * A generator of large world specifications used to test the game at scale.
+ * The rooms are laid out on a grid filled row after row, where every column of
+ * the grid has its own width and every row has its own height. Since every
+ * room is at least two units wide and high, each room shares a wall with the
+ * rooms next to it in the grid, so the generated world is always fully
+ * connected and its rooms never overlap. The same arguments and seed always
+ * produce the same world.
+ */
+public class MansionGenerator {
+
+  /**
+   * How the damage of the generated items is spread between the minimum and
+   * maximum damage.
+   */
+  public enum DamageDistribution {
+    /**
+     * Every damage between the minimum and maximum is equally likely.
+     */
+    UNIFORM,
+
+    /**
+     * Damages close to the middle of the range are the most likely.
+     */
+    NORMAL,
+
+    /**
+     * Low damages are common and high damages are rare.
+     */
+    EXPONENTIAL
+  }
+
+  private static final int MIN_ROOM_SIZE = 2;
+  private static final String[] ROOM_TYPES = { "Hall", "Library", "Kitchen", "Bedroom",
+      "Study", "Gallery", "Parlor", "Pantry", "Cellar", "Attic", "Conservatory", "Ballroom" };
+  private static final String[] ITEM_TYPES = { "Candlestick", "Rope", "Pan", "Knife",
+      "Wrench", "Poker", "Vase", "Book", "Umbrella", "Broom" };
+
+  private final int rooms;
+  private final double itemDensity;
+  private final int minDamage;
+  private final int maxDamage;
+  private final DamageDistribution distribution;
+  private final int maxRoomSize;
+  private final long seed;
+
+  /**
+   * Constructs a generator of worlds with the given shape.
+   *
+   * @param rooms        The number of rooms in the world
+   * @param itemDensity  The average number of items in a room
+   * @param minDamage    The lowest damage of an item
+   * @param maxDamage    The highest damage of an item
+   * @param distribution How the damage of the items is spread
+   * @param maxRoomSize  The largest width and height of a room, at least two
+   * @param seed         The seed which decides the generated world
+   * @throws IllegalArgumentException When rooms is less than one, item density
+   *                                  is negative or not a number, the damages
+   *                                  are not positive or out of order,
+   *                                  distribution is null, max room size is
+   *                                  less than two or the world would be too
+   *                                  large
+   */
+  public MansionGenerator(int rooms, double itemDensity, int minDamage, int maxDamage,
+      DamageDistribution distribution, int maxRoomSize, long seed)
+      throws IllegalArgumentException {
+    if (rooms < 1) {
+      throw new IllegalArgumentException("Number of rooms cannot be less than one");
+    }
+
+    if (Double.isNaN(itemDensity) || Double.isInfinite(itemDensity) || itemDensity < 0) {
+      throw new IllegalArgumentException("Item density cannot be negative");
+    }
+
+    if (minDamage < 1 || maxDamage < minDamage) {
+      throw new IllegalArgumentException(
+          "Damage must be positive and minimum damage cannot be more than maximum damage");
+    }
+
+    if (distribution == null) {
+      throw new IllegalArgumentException("Damage distribution cannot be null");
+    }
+
+    if (maxRoomSize < MIN_ROOM_SIZE) {
+      throw new IllegalArgumentException("Max room size cannot be less than two");
+    }
+
+    int gridColumns = gridColumns(rooms);
+    long side = (long) gridColumns * maxRoomSize;
+    if (side * side > Integer.MAX_VALUE - 8 || rooms * itemDensity > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("The world would be too large");
+    }
+
+    this.rooms = rooms;
+    this.itemDensity = itemDensity;
+    this.minDamage = minDamage;
+    this.maxDamage = maxDamage;
+    this.distribution = distribution;
+    this.maxRoomSize = maxRoomSize;
+    this.seed = seed;
+  }
+
+  private static int gridColumns(int rooms) {
+    return (int) Math.ceil(Math.sqrt(rooms));
+  }
+
+  /**
+   * Writes the generated world specification to the given writer one line at a
+   * time, so that worlds with millions of rooms are never held in memory.
+   *
+   * @param out The writer to write the world specification to
+   * @throws IllegalArgumentException When out is null
+   * @throws IOException              When the world cannot be written
+   */
+  public void generate(Writer out) throws IllegalArgumentException, IOException {
+    if (out == null) {
+      throw new IllegalArgumentException("Writer cannot be null");
+    }
+
+    Random random = new Random(seed);
+    int gridColumns = gridColumns(rooms);
+    int gridRows = (rooms + gridColumns - 1) / gridColumns;
+
+    int[] columnStarts = new int[gridColumns + 1];
+    for (int c = 0; c < gridColumns; c++) {
+      columnStarts[c + 1] = columnStarts[c] + roomSize(random);
+    }
+
+    int[] rowStarts = new int[gridRows + 1];
+    for (int r = 0; r < gridRows; r++) {
+      rowStarts[r + 1] = rowStarts[r] + roomSize(random);
+    }
+
+    int items = (int) Math.round(rooms * itemDensity);
+
+    StringBuilder line = new StringBuilder();
+    line.append(rowStarts[gridRows]).append(' ').append(columnStarts[gridColumns])
+        .append(" Generated Mansion\n");
+    line.append("50 Dr. Lucky\n");
+    line.append("Fortune the Cat\n");
+    line.append(rooms).append('\n');
+    out.write(line.toString());
+
+    for (int i = 0; i < rooms; i++) {
+      int r = i / gridColumns;
+      int c = i % gridColumns;
+      line.setLength(0);
+      line.append(rowStarts[r]).append(' ').append(columnStarts[c]).append(' ')
+          .append(rowStarts[r + 1] - 1).append(' ').append(columnStarts[c + 1] - 1).append(' ')
+          .append(ROOM_TYPES[random.nextInt(ROOM_TYPES.length)]).append(' ').append(i + 1)
+          .append('\n');
+      out.write(line.toString());
+    }
+
+    out.write(items + "\n");
+    for (int i = 0; i < items; i++) {
+      line.setLength(0);
+      line.append(random.nextInt(rooms)).append(' ').append(damage(random)).append(' ')
+          .append(ITEM_TYPES[random.nextInt(ITEM_TYPES.length)]).append(' ').append(i + 1)
+          .append('\n');
+      out.write(line.toString());
+    }
+
+    out.flush();
+  }
+
+  private int roomSize(Random random) {
+    return MIN_ROOM_SIZE + random.nextInt(maxRoomSize - MIN_ROOM_SIZE + 1);
+  }
+
+  private int damage(Random random) {
+    int range = maxDamage - minDamage;
+    double fraction;
+    switch (distribution) {
+      case NORMAL:
+        fraction = 0.5 + random.nextGaussian() / 6;
+        break;
+      case EXPONENTIAL:
+        fraction = -Math.log(1 - random.nextDouble()) / 4;
+        break;
+      default:
+        return minDamage + random.nextInt(range + 1);
+    }
+
+    fraction = Math.max(0, Math.min(1, fraction));
+    return minDamage + (int) Math.round(fraction * range);
+  }
+
+  /**
+   * Returns a string representation of this generator in the form
+   * "MansionGenerator(rooms = 100, item density = 0.50, damage = 1-10 UNIFORM,
+   * max room size = 3, seed = 7)".
+   *
+   * @return String format of this instance
+   */
+  @Override
+  public String toString() {
+    return String.format(
+        "MansionGenerator(rooms = %d, item density = %.2f, damage = %d-%d %s, "
+            + "max room size = %d, seed = %d)",
+        rooms, itemDensity, minDamage, maxDamage, distribution, maxRoomSize, seed);
+  }
+
+}
@@ -1,21 +1,90 @@
 package utils;
 
 import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
- * A class to generate either predictable or unpredictable random numbers.
+ * A class to generate either predictable or unpredictable random numbers. The
+ * unpredictable numbers can also come from a seeded stream, which gives the
+ * same numbers every time it is created with the same seed, which can be
+ * split into independent streams for other games or threads and which can be
+ * copied to go on from the same state twice.
  */
 public class RandomManual {
 
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
   private final Random random;
+  private final SplitMix splittable;
   private final int[] values;
   private int currentIndex;
 
+  /**
+   * A seeded stream giving the same numbers as SplittableRandom, whose state
+   * is kept here so that the stream can be copied.
+   */
+  private static final class SplitMix {
+    private long seed;
+    private final long gamma;
+
+    private SplitMix(long seed, long gamma) {
+      this.seed = seed;
+      this.gamma = gamma;
+    }
+
+    private long nextSeed() {
+      seed += gamma;
+      return seed;
+    }
+
+    private long nextLong() {
+      long z = nextSeed();
+      z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+      z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+      return z ^ (z >>> 31);
+    }
+
+    private int nextInt() {
+      long z = nextSeed();
+      z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+      return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    private int nextInt(int bound) {
+      int number = nextInt();
+      int mask = bound - 1;
+      if ((bound & mask) == 0) {
+        return number & mask;
+      }
+
+      // numbers past the last whole multiple of the bound overflow and are
+      // drawn again
+      int unsigned = number >>> 1;
+      number = unsigned % bound;
+      while (unsigned + mask - number < 0) {
+        unsigned = nextInt() >>> 1;
+        number = unsigned % bound;
+      }
+      return number;
+    }
+
+    private SplitMix split() {
+      long splitSeed = nextLong();
+      long z = nextSeed();
+      z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+      z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+      z = (z ^ (z >>> 33)) | 1L;
+      long splitGamma = Long.bitCount(z ^ (z >>> 1)) < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+      return new SplitMix(splitSeed, splitGamma);
+    }
+  }
+
   /**
    * Default constructor which uses Random class to generate real random numbers.
    */
   public RandomManual() {
     this.random = new Random();
+    this.splittable = null;
     this.values = null;
     this.currentIndex = 0;
   }
@@ -29,6 +98,120 @@ public class RandomManual {
   public RandomManual(int... values) {
     this.values = values;
     this.random = null;
+    this.splittable = null;
+  }
+
+  private RandomManual(SplitMix splittable) {
+    this.random = null;
+    this.splittable = splittable;
+    this.values = null;
+    this.currentIndex = 0;
+  }
+
+  /**
+   * Creates random numbers which are unpredictable for the game but always the
+   * same for the same seed. A stream created this way is meant to be used by a
+   * single thread, and other threads should use streams split from it.
+   *
+   * @param seed The seed of the random numbers
+   * @return The seeded random numbers
+   */
+  public static RandomManual seeded(long seed) {
+    return new RandomManual(new SplitMix(seed, GOLDEN_GAMMA));
+  }
+
+  /**
+   * Derives the seed at the given position of the sequence of seeds made from a
+   * master seed. The derived seed is the same as the value at that position of
+   * a seeded stream of longs, but it is computed directly, so game number i of
+   * a batch can be given its own stream by any thread in any order and the game
+   * can be played again from its seed alone.
+   *
+   * @param seed  The master seed
+   * @param index The position in the sequence, starting from zero
+   * @return The derived seed
+   */
+  public static long deriveSeed(long seed, long index) {
+    return new SplittableRandom(seed + index * GOLDEN_GAMMA).nextLong();
+  }
+
+  /**
+   * Splits off a new stream of random numbers which is independent of this
+   * one. Splitting a seeded stream gives the same new stream every time the
+   * original stream is in the same state.
+   *
+   * @return The new random numbers
+   * @throws IllegalStateException When the random numbers are predictable
+   */
+  public RandomManual split() throws IllegalStateException {
+    if (splittable != null) {
+      return new RandomManual(splittable.split());
+    }
+
+    if (isPredictable()) {
+      throw new IllegalStateException("Predictable random numbers cannot be split");
+    }
+    return new RandomManual();
+  }
+
+  /**
+   * Copies seeded random numbers, so that the copy gives the same numbers from
+   * now on as this stream without changing it. A game replayed from a saved
+   * state uses a copy of the numbers saved with it.
+   *
+   * @return The copy of the random numbers
+   * @throws IllegalStateException When the random numbers are not seeded
+   */
+  public RandomManual copy() throws IllegalStateException {
+    if (splittable == null) {
+      throw new IllegalStateException("Only seeded random numbers can be copied");
+    }
+    return new RandomManual(new SplitMix(splittable.seed, splittable.gamma));
+  }
+
+  /**
+   * Returns a random number from zero up to the given bound, where every number
+   * is equally likely. A predictable number is returned as it is, just like
+   * getNextNumber.
+   *
+   * @param bound The bound of the number, exclusive
+   * @return The next random number
+   * @throws IllegalArgumentException When bound is less than one
+   */
+  public int nextInt(int bound) throws IllegalArgumentException {
+    if (bound < 1) {
+      throw new IllegalArgumentException("Bound cannot be less than one");
+    }
+
+    if (splittable != null) {
+      return splittable.nextInt(bound);
+    } else if (random != null) {
+      return random.nextInt(bound);
+    }
+    return getNextNumber();
+  }
+
+  /**
+   * Fills the given array with random numbers from zero up to the given bound
+   * without creating any objects. Predictable numbers are used as they are,
+   * in order, just like getNextNumber.
+   *
+   * @param dst   The array to fill
+   * @param bound The bound of the numbers, exclusive
+   * @throws IllegalArgumentException When dst is null or bound is less than one
+   */
+  public void nextInts(int[] dst, int bound) throws IllegalArgumentException {
+    if (dst == null) {
+      throw new IllegalArgumentException("Array cannot be null");
+    }
+
+    if (bound < 1) {
+      throw new IllegalArgumentException("Bound cannot be less than one");
+    }
+
+    for (int i = 0; i < dst.length; i++) {
+      dst[i] = nextInt(bound);
+    }
   }
 
   /**
@@ -45,6 +228,8 @@ public class RandomManual {
       if (currentIndex >= values.length) {
         currentIndex = 0;
       }
+    } else if (splittable != null) {
+      value = splittable.nextInt(100);
     } else if (random != null) {
       value = random.nextInt(100);
     }
@@ -57,7 +242,7 @@ public class RandomManual {
    * @return True if predictable else false
    */
   public boolean isPredictable() {
-    if (random == null) {
+    if (random == null && splittable == null) {
       return true;
     }
     return false;
@@ -105,6 +105,22 @@ public interface GameView {
    */
   public void displayFileChooser(Features featuresController) throws IllegalArgumentException;
 
+  /**
+   * Shows how far a world file has been loaded along with a way to cancel the
+   * load.
+   * 
+   * @param message The stage of the load
+   * @param percent How much of the load is done, between 0 and 100
+   * @throws IllegalArgumentException When message is null or percent is not
+   *                                  between 0 and 100
+   */
+  public void displayLoadProgress(String message, int percent) throws IllegalArgumentException;
+
+  /**
+   * Hides the progress of a world load once it has finished or was cancelled.
+   */
+  public void hideLoadProgress();
+
   /**
    * Used to exit the game window.
    */
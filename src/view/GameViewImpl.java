@@ -5,16 +5,15 @@ import game.ReadOnlyModel;
 import java.awt.BorderLayout;
 import java.awt.Dimension;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Paths;
+import javax.swing.JButton;
 import javax.swing.JFileChooser;
 import javax.swing.JFrame;
 import javax.swing.JMenu;
 import javax.swing.JMenuBar;
 import javax.swing.JMenuItem;
 import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
 import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
 import javax.swing.filechooser.FileNameExtensionFilter;
@@ -34,6 +33,9 @@ public class GameViewImpl extends JFrame implements GameView {
   private final WelcomePanel welcomePanel;
   private final JFileChooser worldChooser;
   private final GameViewPanel gameViewPanel;
+  private final JPanel loadPanel;
+  private final JProgressBar loadProgress;
+  private final JButton cancelLoad;
 
   /**
    * Constructor For GameViewImpl class, creates a frame.
@@ -74,6 +76,13 @@ public class GameViewImpl extends JFrame implements GameView {
     menuBar.add(menu);
     setJMenuBar(menuBar);
 
+    loadProgress = new JProgressBar(0, 100);
+    loadProgress.setStringPainted(true);
+    cancelLoad = new JButton("Cancel");
+    loadPanel = new JPanel(new BorderLayout());
+    loadPanel.add(loadProgress, BorderLayout.CENTER);
+    loadPanel.add(cancelLoad, BorderLayout.EAST);
+
     pack();
     setVisible(true);
 
@@ -172,6 +181,10 @@ public class GameViewImpl extends JFrame implements GameView {
     exit.addActionListener(event -> {
       featuresController.exitIsClicked();
     });
+
+    cancelLoad.addActionListener(event -> {
+      featuresController.cancelWorldLoadIsClicked();
+    });
   }
 
   @Override
@@ -230,17 +243,35 @@ public class GameViewImpl extends JFrame implements GameView {
 
     int response = worldChooser.showOpenDialog(this);
     if (response == JFileChooser.APPROVE_OPTION) {
-      String mansionReadable;
-      try {
-        mansionReadable = Files
-            .readString(Paths.get(worldChooser.getSelectedFile().getAbsolutePath()));
-        featuresController.updateWorldSpecification(mansionReadable);
-      } catch (FileNotFoundException e) {
-        displayPopupMessage("File not found", "Error");
-      } catch (IOException ie) {
-        displayPopupMessage("Cannot read the content of file", "Error");
-      }
+      featuresController.worldFileIsChosen(worldChooser.getSelectedFile().getAbsolutePath());
     }
 
   }
+
+  @Override
+  public void displayLoadProgress(String message, int percent) throws IllegalArgumentException {
+    if (message == null) {
+      throw new IllegalArgumentException("Message cannot be null");
+    }
+
+    if (percent < 0 || percent > 100) {
+      throw new IllegalArgumentException("Percent must be between 0 and 100");
+    }
+
+    loadProgress.setValue(percent);
+    loadProgress.setString(String.format("%s (%d%%)", message, percent));
+    if (loadPanel.getParent() == null) {
+      add(loadPanel, BorderLayout.SOUTH);
+      revalidate();
+    }
+  }
+
+  @Override
+  public void hideLoadProgress() {
+    if (loadPanel.getParent() != null) {
+      remove(loadPanel);
+      revalidate();
+      repaint();
+    }
+  }
 }
@@ -0,0 +1,153 @@
+package controllertest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import controller.Command;
+import controller.CommandDispatcher;
+import controller.TypedCommand;
+import controller.WorldTemplateCache;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for testing CommandDispatcher and TypedCommand classes.
+ */
+public class CommandDispatcherTest {
+
+  private StringBuffer log;
+  private CommandDispatcher dispatcher;
+
+  /**
+   * Setup for testing the CommandDispatcher class.
+   */
+  @Before
+  public void setup() {
+    log = new StringBuffer();
+    dispatcher = new CommandDispatcher(new MockGameWorld(log, "4242"), new WorldTemplateCache(1));
+  }
+
+  @Test
+  public void testMove() {
+    assertEquals("Mock result for move player, Code: 4242",
+        dispatcher.dispatch(TypedCommand.move(30, 50)));
+    assertEquals("Input: 30, 50", log.toString());
+  }
+
+  @Test
+  public void testPickItem() {
+    assertEquals("Player has picked up the Item Pan successfully, code: 4242\n",
+        dispatcher.dispatch(TypedCommand.pickItem("Pan")));
+    assertEquals("Input: Pan", log.toString());
+  }
+
+  @Test
+  public void testAttackTarget() {
+    assertEquals("Player has attacked the target with the item Pan, code: 4242\n",
+        dispatcher.dispatch(TypedCommand.attackTarget("Pan")));
+    assertEquals("Input: Pan", log.toString());
+  }
+
+  @Test
+  public void testMovePet() {
+    assertEquals("Player has moved the pet to the space Hall, code: 4242\n",
+        dispatcher.dispatch(TypedCommand.movePet("Hall")));
+    assertEquals("Input: Hall", log.toString());
+  }
+
+  @Test
+  public void testAddPlayer() {
+    assertEquals("", dispatcher.dispatch(TypedCommand.addPlayer("Robot", "Dining", false)));
+    assertEquals("Received input: (Name: Robot, Starting space: Dining, isHuman: false)\n",
+        log.toString());
+  }
+
+  @Test
+  public void testDisplaySpaceInfo() {
+    assertEquals("Output: Result for Hall as input, code: 4242\n",
+        dispatcher.dispatch(TypedCommand.displaySpaceInfo("Hall")));
+  }
+
+  @Test
+  public void testCommandsWithoutArguments() {
+    assertEquals("Output: Mock result for look around, code: 4242\n",
+        dispatcher.dispatch(TypedCommand.lookAround()));
+    assertEquals("", dispatcher.dispatch(TypedCommand.drawImage()));
+    assertEquals("Mock for game over, Code: 4242",
+        dispatcher.dispatch(TypedCommand.isGameOver()));
+    assertEquals("Performed random computer action, code: 4242\n",
+        dispatcher.dispatch(TypedCommand.performComputerAction()));
+    assertEquals("Human, Code: 4242", dispatcher.dispatch(TypedCommand.isCurrentComputer()));
+    assertEquals("", log.toString());
+  }
+
+  @Test
+  public void testSetWorld() {
+    assertEquals("", dispatcher.dispatch(TypedCommand.setWorld("10 10 My World\n 59 Dr. Lucky\n"
+        + " Simba\n 2\n 0 0 3 3 Hall\n 4 0 6 3 Kitchen\n 0\n")));
+    assertEquals("Mock input for world template, Code:4242", log.toString());
+  }
+
+  @Test
+  public void testCommandIsReusable() {
+    TypedCommand move = TypedCommand.move(10, 20);
+    dispatcher.dispatch(move);
+    dispatcher.dispatch(move);
+    assertEquals("Input: 10, 20Input: 10, 20", log.toString());
+  }
+
+  @Test
+  public void testCommandsWithoutArgumentsAreShared() {
+    assertSame(TypedCommand.lookAround(), TypedCommand.lookAround());
+    assertSame(TypedCommand.performComputerAction(), TypedCommand.performComputerAction());
+  }
+
+  @Test
+  public void testTypedCommandFields() {
+    TypedCommand addPlayer = TypedCommand.addPlayer("Robot", "Dining", true);
+
+    assertEquals(Command.ADD_PLAYER, addPlayer.getCommand());
+    assertEquals("Robot", addPlayer.getName());
+    assertEquals("Dining", addPlayer.getSpaceName());
+    assertEquals(true, addPlayer.isHuman());
+    assertEquals("TypedCommand(ADD_PLAYER, Robot, Dining, true)", addPlayer.toString());
+    assertEquals("TypedCommand(MOVE, 3, 4)", TypedCommand.move(3, 4).toString());
+    assertEquals("TypedCommand(LOOK_AROUND)", TypedCommand.lookAround().toString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullCommand() {
+    dispatcher.dispatch(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullModel() {
+    new CommandDispatcher(null, new WorldTemplateCache(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullCache() {
+    new CommandDispatcher(new MockGameWorld(log, "4242"), null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeMove() {
+    TypedCommand.move(-1, 4);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyItemName() {
+    TypedCommand.pickItem("");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullSpaceName() {
+    TypedCommand.movePet(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyPlayerName() {
+    TypedCommand.addPlayer("", "Dining", true);
+  }
+
+}
@@ -1,12 +1,30 @@
 package controllertest;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import controller.Features;
 import controller.GameControllerImpl;
+import controller.WorldTemplateCache;
 import game.GameWorld;
+import game.WorldImpl;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.swing.SwingUtilities;
 import org.junit.Before;
 import org.junit.Test;
+import utils.RandomManual;
 import view.GameView;
 
 /**
@@ -452,4 +470,196 @@ public class GameControllerImplTest {
         this.outViewEx.toString());
   }
 
-}
\ No newline at end of file
+  private Features createLoadingController(Executor executor) {
+    out.setLength(0);
+    return new GameControllerImpl(mockModel, gameView, new WorldTemplateCache(1), executor);
+  }
+
+  private String writeWorldFile() throws IOException {
+    File worldFile = File.createTempFile("world", ".txt");
+    worldFile.deleteOnExit();
+    Files.write(worldFile.toPath(),
+        "10 10 My World\n 59 Dr. Lucky\n Simba\n 2\n 0 0 3 3 Hall\n 4 0 6 3 Kitchen\n 0\n"
+            .getBytes(StandardCharsets.UTF_8));
+    return worldFile.getAbsolutePath();
+  }
+
+  private void waitForEventThread() throws InterruptedException, InvocationTargetException {
+    SwingUtilities.invokeAndWait(() -> {
+    });
+  }
+
+  @Test
+  public void worldFileIsChosenTest() throws Exception {
+    Features loadingController = createLoadingController(Runnable::run);
+    loadingController.worldFileIsChosen(writeWorldFile());
+    waitForEventThread();
+    loadingController.startGameIsClicked();
+
+    assertTrue(out.toString().startsWith("Mock called from setFeatures. uniqueCode: 12344"
+        + "Mock called from displayLoadProgress. message: Reading world file, percent: 0, "
+        + "uniqueCode: 12344"));
+    assertTrue(out.toString().endsWith("Mock called from displayLoadProgress. message: "
+        + "World loaded, percent: 100, uniqueCode: 12344"
+        + "Mock called from hideLoadProgress. uniqueCode: 12344"
+        + "Mock input for world template, Code:12344"
+        + "Mock called from displayAddPlayerScreen. uniqueCode: 12344"));
+  }
+
+  @Test
+  public void worldFileIsChosenMissingFileTest() throws Exception {
+    Features loadingController = createLoadingController(Runnable::run);
+    loadingController.worldFileIsChosen(new File("no-such-world.txt").getAbsolutePath());
+    waitForEventThread();
+
+    assertEquals("Mock called from setFeatures. uniqueCode: 12344"
+        + "Mock called from hideLoadProgress. uniqueCode: 12344"
+        + "Mock called from displayPopupMessage. message: File not found, type: Error, "
+        + "uniqueCode: 12344", out.toString());
+  }
+
+  @Test
+  public void cancelWorldLoadIsClickedTest() throws Exception {
+    List<Runnable> loads = new ArrayList<Runnable>();
+    Features loadingController = createLoadingController(loads::add);
+    loadingController.worldFileIsChosen(writeWorldFile());
+    loadingController.cancelWorldLoadIsClicked();
+    loads.get(0).run();
+    waitForEventThread();
+    loadingController.startGameIsClicked();
+
+    assertEquals("Mock called from setFeatures. uniqueCode: 12344"
+        + "Mock called from hideLoadProgress. uniqueCode: 12344"
+        + "Mock called from displayAddPlayerScreen. uniqueCode: 12344", out.toString());
+  }
+
+  @Test
+  public void startGameWhileWorldIsLoadingTest() throws Exception {
+    Features loadingController = createLoadingController((runnable) -> {
+    });
+    loadingController.worldFileIsChosen(writeWorldFile());
+    loadingController.startGameIsClicked();
+
+    assertEquals("Mock called from setFeatures. uniqueCode: 12344"
+        + "Mock called from displayPopupMessage. message: The world is still being loaded, "
+        + "type: Error, uniqueCode: 12344", out.toString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void worldFileIsChosenNullArg() {
+    this.controller.worldFileIsChosen(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void worldFileIsChosenEmptyArg() {
+    this.controller.worldFileIsChosen("");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testForNullWorldLoadExecutor() {
+    new GameControllerImpl(mockModel, gameView, new WorldTemplateCache(1), null);
+  }
+
+  private GameControllerImpl createComputerGame(int turns, Executor computerTurnExecutor) {
+    out.setLength(0);
+    GameWorld world = new WorldImpl(new StringReader("10 20 My World\n 100000 Dr. Lucky\n"
+        + " Simba\n 4\n 0 0 3 3 Hall\n 0 4 3 7 Kitchen\n 0 8 3 11 Library\n 0 12 3 15 Study\n"
+        + " 0\n"), RandomManual.seeded(7), turns);
+    world.addPlayer("Computer 1", "Hall", false);
+    world.addPlayer("Computer 2", "Library", false);
+    return new GameControllerImpl(world, gameView, computerTurnExecutor);
+  }
+
+  private String waitForGameOver() throws Exception {
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (!out.toString().contains("exitGame") && System.currentTimeMillis() < deadline) {
+      Thread.sleep(5);
+    }
+    waitForEventThread();
+    return out.toString();
+  }
+
+  private int countOf(String text, String part) {
+    int count = 0;
+    for (int index = text.indexOf(part); index >= 0; index = text.indexOf(part, index + 1)) {
+      count++;
+    }
+    return count;
+  }
+
+  @Test
+  public void longComputerGameTest() {
+    GameControllerImpl computerGame = createComputerGame(50_000, Runnable::run);
+    computerGame.showGameScreen();
+
+    String log = out.toString();
+    assertEquals(1, countOf(log, "Mock called from updateGameScreen."));
+    assertTrue(log.endsWith("Mock called from displayPopupMessage. message: Game ended in a draw!, "
+        + "type: , uniqueCode: 12344Mock called from exitGame. uniqueCode: 12344"));
+  }
+
+  @Test
+  public void computerTurnsOnWorkerThreadTest() throws Exception {
+    ExecutorService worker = Executors.newSingleThreadExecutor();
+    try {
+      GameControllerImpl computerGame = createComputerGame(5_000, worker);
+      // the event thread is kept busy until the worker has played all the
+      // turns, so the results of the 10,000 turns are shown at once
+      SwingUtilities.invokeAndWait(() -> {
+        computerGame.showGameScreen();
+        worker.shutdown();
+        try {
+          assertTrue(worker.awaitTermination(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+
+      String log = waitForGameOver();
+      int updates = countOf(log, "Mock called from updateGameScreen.");
+      assertEquals(1, updates);
+      assertTrue(log.endsWith("Mock called from displayPopupMessage. message: Game ended in a "
+          + "draw!, type: , uniqueCode: 12344Mock called from exitGame. uniqueCode: 12344"));
+    } finally {
+      worker.shutdownNow();
+    }
+  }
+
+  @Test
+  public void computerTurnDelayTest() throws Exception {
+    ExecutorService worker = Executors.newSingleThreadExecutor();
+    try {
+      GameControllerImpl computerGame = createComputerGame(3, worker);
+      computerGame.setComputerTurnDelay(20);
+      SwingUtilities.invokeAndWait(() -> {
+        computerGame.showGameScreen();
+        computerGame.lookAround();
+        computerGame.pickItemIsPressed();
+        computerGame.attackTargetIsPressed();
+        computerGame.movePetIsPressed();
+      });
+
+      String log = waitForGameOver();
+      assertEquals(4, countOf(log, "Mock called from displayPopupMessage. message: Please wait "
+          + "for the computer players to finish their turns, type: Error, uniqueCode: 12344"));
+      assertFalse(log.contains("Popup. uniqueCode"));
+      int updates = countOf(log, "Mock called from updateGameScreen.");
+      assertTrue(updates >= 1 && updates <= 6);
+      assertTrue(log.endsWith("Mock called from displayPopupMessage. message: Game ended in a "
+          + "draw!, type: , uniqueCode: 12344Mock called from exitGame. uniqueCode: 12344"));
+    } finally {
+      worker.shutdownNow();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testForNullComputerTurnExecutor() {
+    new GameControllerImpl(mockModel, gameView, (Executor) null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeComputerTurnDelayTest() {
+    new GameControllerImpl(mockModel, gameView).setComputerTurnDelay(-1);
+  }
+
+}
@@ -108,6 +108,24 @@ public class MockExceptionView implements GameView {
     }
   }
 
+  @Override
+  public void displayLoadProgress(String message, int percent) throws IllegalArgumentException {
+    if (Integer.parseInt(this.uniqueCode) % 2 == 0) {
+      throw new IllegalArgumentException("IllegalArgumentException for displayLoadProgress");
+    } else {
+      throw new IllegalStateException("IllegalStateException for displayLoadProgress");
+    }
+  }
+
+  @Override
+  public void hideLoadProgress() {
+    if (Integer.parseInt(this.uniqueCode) % 2 == 0) {
+      throw new IllegalArgumentException("IllegalArgumentException for hideLoadProgress");
+    } else {
+      throw new IllegalStateException("IllegalStateException for hideLoadProgress");
+    }
+  }
+
   @Override
   public void displayFileChooser(Features featuresController) throws IllegalArgumentException {
     if (Integer.parseInt(this.uniqueCode) % 2 == 0) {
@@ -1,6 +1,8 @@
 package controllertest;
 
+import game.ActionBuffer;
 import game.GameWorld;
+import game.WorldTemplate;
 import java.util.ArrayList;
 import java.util.InputMismatchException;
 import java.util.List;
@@ -68,6 +70,18 @@ public class MockGameWorld implements GameWorld {
     return "Performed random computer action, code: " + code + "\n";
   }
 
+  @Override
+  public void legalActions(ActionBuffer buffer) throws IllegalArgumentException {
+    buffer.clear();
+  }
+
+  @Override
+  public String performAction(int action) throws IllegalArgumentException,
+      IllegalStateException {
+    log.append("Input: " + action);
+    return "Performed action, code: " + code + "\n";
+  }
+
   @Override
   public String movePetByPlayer(String spaceName) throws IllegalArgumentException {
     log.append("Input: " + spaceName);
@@ -135,18 +149,35 @@ public class MockGameWorld implements GameWorld {
     return "Mock result for get current space of pet, Code: " + code;
   }
 
+  @Override
+  public int getTargetHealth() {
+    return 0;
+  }
+
   @Override
   public void setWorldSpecification(Readable worldData)
       throws IllegalArgumentException, NoSuchElementException, InputMismatchException {
     log.append("Mock input for world, Code:" + code);
   }
 
+  @Override
+  public void setWorldTemplate(WorldTemplate template) throws IllegalArgumentException {
+    log.append("Mock input for world template, Code:" + code);
+  }
+
   @Override
   public String movePlayerInWorld(int xcoord, int ycoord) throws IllegalArgumentException {
     log.append("Input: " + xcoord + ", " + ycoord);
     return "Mock result for move player, Code: " + code;
   }
 
+  @Override
+  public int[] getPointInSpace(String spaceName) throws IllegalArgumentException {
+    log.append("Input: " + spaceName);
+    int[] mockResult = { 0, 0 };
+    return mockResult;
+  }
+
   @Override
   public int getNumOfTurns() {
     return Integer.parseInt(code);
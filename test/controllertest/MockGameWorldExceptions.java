@@ -1,6 +1,8 @@
 package controllertest;
 
+import game.ActionBuffer;
 import game.GameWorld;
+import game.WorldTemplate;
 import java.util.ArrayList;
 import java.util.InputMismatchException;
 import java.util.List;
@@ -63,6 +65,17 @@ public class MockGameWorldExceptions implements GameWorld {
     return "";
   }
 
+  @Override
+  public void legalActions(ActionBuffer buffer) throws IllegalArgumentException {
+    buffer.clear();
+  }
+
+  @Override
+  public String performAction(int action) throws IllegalArgumentException,
+      IllegalStateException {
+    return "";
+  }
+
   @Override
   public String movePetByPlayer(String spaceName) throws IllegalArgumentException {
     if (!"valid".equals(spaceName)) {
@@ -117,6 +130,11 @@ public class MockGameWorldExceptions implements GameWorld {
     return "";
   }
 
+  @Override
+  public int getTargetHealth() {
+    return 0;
+  }
+
   @Override
   public void setWorldSpecification(Readable worldData)
       throws IllegalArgumentException, NoSuchElementException, InputMismatchException {
@@ -132,12 +150,24 @@ public class MockGameWorldExceptions implements GameWorld {
         + "such element exceptions from setWorldSpecififcation");
   }
 
+  @Override
+  public void setWorldTemplate(WorldTemplate template) throws IllegalArgumentException {
+    throw new IllegalArgumentException("Test for how controller handles illegal "
+        + "argument exceptions from setWorldTemplate");
+  }
+
   @Override
   public String movePlayerInWorld(int xcoord, int ycoord) throws IllegalArgumentException {
     throw new IllegalArgumentException(
         "Test for how controller handle movePlayerInWorld exception");
   }
 
+  @Override
+  public int[] getPointInSpace(String spaceName) throws IllegalArgumentException {
+    throw new IllegalArgumentException(
+        "Test for how controller handle getPointInSpace exception");
+  }
+
   @Override
   public String isGameOver() {
     return "";
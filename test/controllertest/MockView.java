@@ -93,6 +93,19 @@ public class MockView implements GameView {
     this.out.append(String.format("Mock called from exitGame. uniqueCode: %s", this.uniqueCode));
   }
 
+  @Override
+  public void displayLoadProgress(String message, int percent) throws IllegalArgumentException {
+    this.out.append(String.format(
+        "Mock called from displayLoadProgress. message: %s, percent: %d, uniqueCode: %s",
+        message, percent, this.uniqueCode));
+  }
+
+  @Override
+  public void hideLoadProgress() {
+    this.out.append(
+        String.format("Mock called from hideLoadProgress. uniqueCode: %s", this.uniqueCode));
+  }
+
   @Override
   public void displayFileChooser(Features featuresController) throws IllegalArgumentException {
     this.out.append(
@@ -0,0 +1,46 @@
+package controllertest;
+
+import static org.junit.Assert.assertEquals;
+
+import controller.GameCommand;
+import controller.SetWorldTemplate;
+import game.GameWorld;
+import game.WorldTemplate;
+import java.io.StringReader;
+import org.junit.Test;
+
+/**
+ * A test class for testing SetWorldTemplate command class.
+ */
+public class SetWorldTemplateTest {
+
+  private WorldTemplate createTemplate() {
+    return WorldTemplate.parse(new StringReader(
+        "10 10 My World\n 59 Dr. Lucky\n Simba\n 2\n 0 0 3 3 Hall\n 4 0 6 3 Kitchen\n 0\n"));
+  }
+
+  @Test
+  public void testInputAndOutput() {
+    GameCommand cmd = new SetWorldTemplate(createTemplate());
+    StringBuffer log = new StringBuffer();
+    GameWorld model = new MockGameWorld(log, "1810943");
+
+    cmd.execute(model);
+
+    assertEquals("Mock input for world template, Code:1810943", log.toString());
+    assertEquals("", cmd.getOutput());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWhenTemplateIsNull() {
+    new SetWorldTemplate(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWhenModelIsNull() {
+    GameCommand cmd = new SetWorldTemplate(createTemplate());
+
+    cmd.execute(null);
+  }
+
+}
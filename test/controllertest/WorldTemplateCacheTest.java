@@ -0,0 +1,94 @@
+package controllertest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import controller.WorldTemplateCache;
+import game.WorldTemplate;
+import java.util.InputMismatchException;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * A test class for testing WorldTemplateCache class.
+ */
+public class WorldTemplateCacheTest {
+
+  private WorldTemplateCache cache;
+  private String firstWorld;
+  private String secondWorld;
+  private String thirdWorld;
+
+  /**
+   * Setup for testing the WorldTemplateCache class.
+   */
+  @Before
+  public void setup() {
+    cache = new WorldTemplateCache(2);
+    firstWorld = "10 10 First World\n 59 Dr. Lucky\n Simba\n 2\n 0 0 3 3 Hall\n"
+        + "4 0 6 3 Kitchen\n 0\n";
+    secondWorld = "10 10 Second World\n 59 Dr. Lucky\n Simba\n 2\n 0 0 3 3 Hall\n"
+        + "4 0 6 3 Kitchen\n 0\n";
+    thirdWorld = "10 10 Third World\n 59 Dr. Lucky\n Simba\n 2\n 0 0 3 3 Hall\n"
+        + "4 0 6 3 Kitchen\n 0\n";
+  }
+
+  @Test
+  public void testSameSpecificationIsParsedOnce() {
+    WorldTemplate first = cache.get(firstWorld);
+    WorldTemplate second = cache.get(new String(firstWorld.toCharArray()));
+
+    assertSame(first, second);
+    assertEquals("WorldTemplateCache(size = 1, capacity = 2, hits = 1, misses = 1)",
+        cache.toString());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedIsEvicted() {
+    WorldTemplate first = cache.get(firstWorld);
+    WorldTemplate second = cache.get(secondWorld);
+    cache.get(firstWorld);
+    cache.get(thirdWorld);
+
+    assertSame(first, cache.get(firstWorld));
+    assertEquals(2, cache.size());
+    assertEquals(2, cache.getHits());
+    assertEquals(3, cache.getMisses());
+
+    assertNotSame(second, cache.get(secondWorld));
+    assertEquals(4, cache.getMisses());
+  }
+
+  @Test
+  public void testInvalidSpecificationIsNotCached() {
+    String invalid = "10 10 My World\n 59 Dr. Lucky\n Simba\n two\n";
+    for (int i = 0; i < 2; i++) {
+      try {
+        cache.get(invalid);
+      } catch (InputMismatchException e) {
+        // expected for every attempt
+      }
+    }
+
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getHits());
+    assertEquals(2, cache.getMisses());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullSpecification() {
+    cache.get(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptySpecification() {
+    cache.get("");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCapacityLessThanOne() {
+    new WorldTemplateCache(0);
+  }
+
+}
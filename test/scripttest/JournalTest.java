@@ -0,0 +1,221 @@
+package scripttest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import controller.TypedCommand;
+import game.ActionBuffer;
+import game.GameWorld;
+import game.WorldTemplate;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+import script.JournalReplayer;
+import script.JournalWriter;
+import script.JournaledWorld;
+
+/**
+ * A test class for testing JournaledWorld, JournalWriter and JournalReplayer.
+ */
+public class JournalTest {
+
+  private WorldTemplate template;
+  private Path path;
+
+  /**
+   * Setup for testing the journal classes.
+   *
+   * @throws IOException When the journal file cannot be created
+   */
+  @Before
+  public void setup() throws IOException {
+    template = WorldTemplate.parse(new StringReader("10 20 My World\n 100000 Dr. Lucky\n"
+        + " Simba\n 4\n 0 0 3 3 Hall\n 0 4 3 7 Kitchen\n 0 8 3 11 Library\n 0 12 3 15 Study\n"
+        + " 2\n 0 3 Pan\n 2 5 Knife\n"));
+    File file = File.createTempFile("game", ".journal");
+    file.deleteOnExit();
+    path = file.toPath();
+  }
+
+  private JournaledWorld startGame(JournalWriter journal) {
+    JournaledWorld world = new JournaledWorld(template, journal);
+    world.addPlayer("Robot", "Hall", false);
+    world.addPlayer("Droid", "Study", false);
+    return world;
+  }
+
+  private static String describe(GameWorld world) {
+    return String.format("%s %d %s %s %s %s", world.getTurnInfo(), world.getTargetHealth(),
+        world.getCurrentSpaceOfPet(), Arrays.deepToString(world.getAllPlayers()),
+        world.getPlayerInfo("Robot"), world.getPlayerInfo("Droid"));
+  }
+
+  @Test
+  public void testSeekRebuildsEveryTurn() throws IOException {
+    String[] snapshots = new String[1001];
+    try (JournalWriter journal = new JournalWriter(path, 42, 100000, 64)) {
+      JournaledWorld world = startGame(journal);
+      snapshots[0] = describe(world);
+      for (int turn = 1; turn <= 1000; turn++) {
+        world.performComputerAction();
+        snapshots[turn] = describe(world);
+      }
+      assertEquals(1002, journal.getEntries());
+    }
+
+    JournalReplayer replayer = new JournalReplayer(template, path);
+    for (int turn : new int[] { 0, 1, 333, 999, 1000 }) {
+      assertEquals(snapshots[turn], describe(replayer.seek(turn)));
+    }
+    assertEquals(snapshots[1000], describe(replayer.seekToEnd()));
+  }
+
+  @Test
+  public void testSeekIntoLongGame() throws IOException {
+    int[] checked = { 4095, 4096, 50_000, 99_999, 100_000 };
+    String[] expected = new String[checked.length];
+    try (JournalWriter journal = new JournalWriter(path, 42, 100000, 1 << 16)) {
+      JournaledWorld world = startGame(journal);
+      int next = 0;
+      for (int turn = 1; turn <= 100_000; turn++) {
+        world.performComputerAction();
+        if (turn == checked[next]) {
+          expected[next++] = describe(world);
+        }
+      }
+    }
+
+    // the first replay of the whole game saves the game every few thousand
+    // turns, and the seeks after it go on from the nearest saved game
+    JournalReplayer replayer = new JournalReplayer(template, path);
+    assertEquals(expected[checked.length - 1], describe(replayer.seekToEnd()));
+    for (int i = checked.length - 1; i >= 0; i--) {
+      long start = System.nanoTime();
+      GameWorld world = replayer.seek(checked[i]);
+      assertTrue(System.nanoTime() - start < 250_000_000);
+      assertEquals(expected[i], describe(world));
+    }
+  }
+
+  @Test
+  public void testLegalActionsAreJournaled() throws IOException {
+    String end;
+    try (JournalWriter journal = new JournalWriter(path, 42, 100000, 64)) {
+      JournaledWorld world = startGame(journal);
+      ActionBuffer actions = new ActionBuffer();
+      Random random = new Random(7);
+      for (int turn = 0; turn < 500; turn++) {
+        world.legalActions(actions);
+        world.performAction(actions.get(random.nextInt(actions.size())));
+      }
+      end = describe(world);
+      assertEquals(502, journal.getEntries());
+    }
+
+    assertEquals(end, describe(new JournalReplayer(template, path).seekToEnd()));
+  }
+
+  @Test
+  public void testSeekToStartHasOnlyPlayers() throws IOException {
+    try (JournalWriter journal = new JournalWriter(path, 42, 100000, 1)) {
+      startGame(journal).performComputerAction();
+    }
+
+    GameWorld start = new JournalReplayer(template, path).seek(0);
+    assertEquals(2, start.getAllPlayers().length);
+    assertEquals("Robot", start.getTurnInfo().get(0));
+  }
+
+  @Test
+  public void testCutShortJournalStopsAtLastWholeEntry() throws IOException {
+    try (JournalWriter journal = new JournalWriter(path, 42, 100000, 1000)) {
+      JournaledWorld world = startGame(journal);
+      for (int turn = 0; turn < 10; turn++) {
+        world.performComputerAction();
+      }
+    }
+
+    try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+      file.setLength(file.length() - 3);
+    }
+
+    JournalReplayer replayer = new JournalReplayer(template, path);
+    assertEquals(describe(replayer.seek(9)), describe(replayer.seekToEnd()));
+    try {
+      replayer.seek(10);
+    } catch (IllegalStateException e) {
+      assertEquals("The journal has only 9 turns", e.getMessage());
+      return;
+    }
+    throw new AssertionError("Seeking past the end of the journal was not rejected");
+  }
+
+  @Test
+  public void testReplayDifferentFromJournal() throws IOException {
+    try (JournalWriter journal = new JournalWriter(path, 42, 10, 1)) {
+      journal.append(TypedCommand.addPlayer("Robot", "Hall", true), "");
+      journal.append(TypedCommand.lookAround(), "Nothing to see here");
+    }
+
+    try {
+      new JournalReplayer(template, path).seekToEnd();
+    } catch (IllegalStateException e) {
+      assertEquals("The replay does not match entry 2 of the journal", e.getMessage());
+      return;
+    }
+    throw new AssertionError("A different replay was not detected");
+  }
+
+  @Test
+  public void testRejectedCommandsAreNotJournaled() throws IOException {
+    try (JournalWriter journal = new JournalWriter(path, 42, 100000, 1)) {
+      try {
+        startGame(journal).movePetByPlayer("Attic");
+      } catch (IllegalArgumentException e) {
+        // the world rejects the space, so nothing is written
+      }
+      assertEquals(2, journal.getEntries());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNotAJournal() throws IOException {
+    Files.write(path, new byte[] { 1, 2, 3 });
+    new JournalReplayer(template, path).seekToEnd();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeTurn() throws IOException {
+    new JournalReplayer(template, path).seek(-1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullTemplate() {
+    new JournalReplayer(null, path);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullJournal() {
+    new JournaledWorld(template, null);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testWorldCannotBeChanged() throws IOException {
+    try (JournalWriter journal = new JournalWriter(path, 42, 10, 1)) {
+      startGame(journal).setWorldTemplate(template);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSyncEveryLessThanOne() throws IOException {
+    new JournalWriter(path, 42, 10, 0);
+  }
+
+}
@@ -0,0 +1,154 @@
+package scripttest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import controller.CommandDispatcher;
+import controller.TypedCommand;
+import controller.WorldTemplateCache;
+import game.WorldImpl;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.Before;
+import org.junit.Test;
+import script.BinaryScriptReader;
+import script.BinaryScriptWriter;
+import script.ScriptReader;
+import script.ScriptReport;
+import script.ScriptRunner;
+import script.TextScriptReader;
+import utils.RandomManual;
+
+/**
+ * A test class for testing ScriptRunner and the readers and writer of scripts.
+ */
+public class ScriptRunnerTest {
+
+  private static final String SCRIPT = "# a short session\n"
+      + "ADD_PLAYER Robot Hall true\n"
+      + "ADD_PLAYER \"Big Computer\" \"Dining Room\" false\n"
+      + "\n"
+      + "PICK_ITEM Pan\n"
+      + "PICK_ITEM Knife\n"
+      + "MOVE 115 35\n"
+      + "MOVE_PET Attic\n"
+      + "IS_CURRENT_COMPUTER\n"
+      + "DISPLAY_SPACE_INFO \"Dining Room\"\n";
+
+  private ScriptRunner runner;
+
+  /**
+   * Setup for testing the ScriptRunner class.
+   */
+  @Before
+  public void setup() {
+    WorldImpl world = new WorldImpl(new StringReader("10 20 My World\n 50 Dr. Lucky\n Simba\n 2\n"
+        + " 0 0 3 3 Hall\n 0 4 3 7 Dining Room\n 2\n 0 3 Pan\n 1 5 Knife\n"),
+        RandomManual.seeded(1), 10);
+    runner = new ScriptRunner(new CommandDispatcher(world, new WorldTemplateCache(1)));
+  }
+
+  private String run(ScriptReader script) throws IOException {
+    StringBuilder out = new StringBuilder();
+    ScriptReport report = runner.run(script, out);
+    assertEquals(8, report.getCommands());
+    assertEquals(1, report.getFailures());
+    return out.toString();
+  }
+
+  @Test
+  public void testTextScript() throws IOException {
+    String output = run(new TextScriptReader(new StringReader(SCRIPT)));
+
+    assertTrue(output.startsWith("\n\n"
+        + "The Player Robot has picked up the item Pan from the space Hall\n"
+        + "The Player Big Computer has picked up the item Knife from the space Dining Room\n"
+        + "The Player Robot has moved to the space Dining Room\n" + "Error: "));
+    assertTrue(output.contains("\nComputer\nName: Dining Room\n"));
+  }
+
+  @Test
+  public void testBinaryScriptGivesSameOutput() throws IOException {
+    String textOutput = run(new TextScriptReader(new StringReader(SCRIPT)));
+    setup();
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (TextScriptReader text = new TextScriptReader(new StringReader(SCRIPT));
+        BinaryScriptWriter binary = new BinaryScriptWriter(bytes)) {
+      for (TypedCommand command = text.next(); command != null; command = text.next()) {
+        binary.write(command);
+      }
+    }
+
+    assertEquals(textOutput,
+        run(new BinaryScriptReader(new ByteArrayInputStream(bytes.toByteArray()))));
+  }
+
+  @Test
+  public void testReport() {
+    ScriptReport report = new ScriptReport(1000, 2, 10_000_000L);
+
+    assertEquals("1000 commands (2 failed) in 0.010 s (100000.0 commands/s)", report.toString());
+  }
+
+  @Test
+  public void testEmptyScript() throws IOException {
+    assertNull(new TextScriptReader(new StringReader("\n# nothing\n")).next());
+  }
+
+  @Test
+  public void testUnknownCommand() throws IOException {
+    try {
+      new TextScriptReader(new StringReader("LOOK_AROUND\nJUMP 1\n")).next();
+      new TextScriptReader(new StringReader("\nJUMP 1\n")).next();
+    } catch (IllegalArgumentException e) {
+      assertEquals("Line 2 of the script: Unknown command JUMP", e.getMessage());
+      return;
+    }
+    assertTrue(false);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrongNumberOfArguments() throws IOException {
+    new TextScriptReader(new StringReader("MOVE 1\n")).next();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testBadNumber() throws IOException {
+    new TextScriptReader(new StringReader("MOVE 1 two\n")).next();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMissingQuote() throws IOException {
+    new TextScriptReader(new StringReader("PICK_ITEM \"Pan\n")).next();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSetWorldNotAllowed() throws IOException {
+    new TextScriptReader(new StringReader("SET_WORLD world.txt\n")).next();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNotABinaryScript() throws IOException {
+    new BinaryScriptReader(new ByteArrayInputStream(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCutShortBinaryScript() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (BinaryScriptWriter binary = new BinaryScriptWriter(bytes)) {
+      binary.write(TypedCommand.pickItem("Pan"));
+    }
+    byte[] script = bytes.toByteArray();
+    new BinaryScriptReader(new ByteArrayInputStream(script, 0, script.length - 1)).next();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullDispatcher() {
+    new ScriptRunner(null);
+  }
+
+}
@@ -0,0 +1,200 @@
+package simtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import game.ActionBuffer;
+import game.ActionType;
+import game.ComputerStrategy;
+import game.RandomStrategy;
+import game.World;
+import game.WorldImpl;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import org.junit.Test;
+import sim.ExpectimaxSearch;
+import utils.MansionGenerator;
+import utils.MansionGenerator.DamageDistribution;
+import utils.RandomManual;
+
+/**
+ * A test class for testing ExpectimaxSearch class.
+ */
+public class ExpectimaxSearchTest {
+
+  private World createWorld(int targetHealth, int turns, RandomManual random) {
+    return new WorldImpl(new StringReader(String.format(
+        "10 20 My World\n %d Dr. Lucky\n Simba\n 4\n 0 0 3 3 Hall\n 0 4 3 7 Kitchen\n"
+            + " 0 8 3 11 Library\n 0 12 3 15 Study\n 2\n 0 3 Pan\n 2 5 Knife\n",
+        targetHealth)), random, turns);
+  }
+
+  private static String describe(World world) {
+    return String.format("%s %d %s %s %s %d", world.getTurnInfo(), world.getTargetHealth(),
+        world.getCurrentSpaceOfPet(), Arrays.deepToString(world.getAllPlayers()),
+        world.getInfoOfaSpace("Hall"), world.getStateHash());
+  }
+
+  @Test
+  public void testFindsWinningAttack() {
+    World world = createWorld(1, 5, RandomManual.seeded(3));
+    world.addPlayer("Robot", "Hall", false);
+    world.addPlayer("Droid", "Study", false);
+    ExpectimaxSearch search = new ExpectimaxSearch(4, 1000);
+
+    assertEquals(ActionBuffer.encode(ActionType.ATTACK_TARGET, 0),
+        search.chooseAction(world, new RandomManual()));
+    assertEquals(1, search.getSearches());
+    assertEquals(1, search.getAverageDepth(), 0);
+  }
+
+  @Test
+  public void testWaitsForTarget() {
+    // the target comes to the kitchen after this turn, so staying wins the
+    // game on the next turn
+    World world = createWorld(1, 5, RandomManual.seeded(3));
+    world.addPlayer("Robot", "Kitchen", false);
+    ExpectimaxSearch search = new ExpectimaxSearch(4, 1000);
+
+    assertEquals(ActionBuffer.encode(ActionType.LOOK_AROUND, 0),
+        search.chooseAction(world, new RandomManual()));
+    assertEquals(2, search.getAverageDepth(), 0);
+  }
+
+  @Test
+  public void testSearchDoesNotChangeGame() {
+    World world = createWorld(20, 10, RandomManual.seeded(5));
+    world.addPlayer("Robot", "Hall", false);
+    world.addPlayer("Droid", "Study", false);
+    world.performComputerAction();
+    String before = describe(world);
+    ExpectimaxSearch search = new ExpectimaxSearch(6, 1000, 64);
+
+    int action = search.chooseAction(world, new RandomManual());
+
+    assertEquals(before, describe(world));
+    ActionBuffer actions = new ActionBuffer();
+    world.legalActions(actions);
+    boolean legal = false;
+    for (int i = 0; i < actions.size(); i++) {
+      legal |= actions.get(i) == action;
+    }
+    assertTrue(legal);
+    assertEquals(6, search.getAverageDepth(), 0);
+    assertTrue(search.getTableHitRate() > 0);
+    assertTrue(search.getNodes() > actions.size());
+    assertTrue(search.getNodesPerSecond() > 0);
+  }
+
+  @Test
+  public void testZeroBudgetActsAtRandom() {
+    World world = createWorld(50, 10, new RandomManual());
+    world.addPlayer("Robot", "Hall", false);
+    world.addPlayer("Droid", "Study", false);
+    ExpectimaxSearch search = new ExpectimaxSearch(20, 0);
+    ComputerStrategy random = new RandomStrategy();
+
+    for (int turn = 0; turn < 6; turn++) {
+      int action = search.chooseAction(world, new RandomManual(turn, 1));
+      assertEquals(random.chooseAction(world, new RandomManual(turn, 1)), action);
+      world.applyAction(action);
+    }
+    assertEquals(0, search.getAverageDepth(), 0);
+  }
+
+  @Test
+  public void testKeepsBudgetInLargeWorld() throws IOException {
+    StringWriter out = new StringWriter();
+    new MansionGenerator(4000, 0.5, 1, 10, DamageDistribution.UNIFORM, 4, 11).generate(out);
+    World world = new WorldImpl(new StringReader(out.toString()), RandomManual.seeded(4), 20);
+    ExpectimaxSearch search = new ExpectimaxSearch(6, 50);
+    String[] spaces = world.getAllSpaces();
+    world.addPlayer("Robot", spaces[0], search);
+    world.addPlayer("Droid", spaces[spaces.length / 2], false);
+    world.addPlayer("Android", spaces[spaces.length - 1], false);
+
+    // the first ply of every search moves the pet to a handful of spaces
+    // instead of to every space, so it finishes within the budget
+    long slowest = 0;
+    for (int turn = 0; turn < 12 && world.isGameOver().isEmpty(); turn++) {
+      long start = System.nanoTime();
+      world.performComputerAction();
+      slowest = Math.max(slowest, System.nanoTime() - start);
+    }
+    assertTrue(slowest < 100_000_000);
+    assertTrue(search.getAverageDepth() >= 1);
+  }
+
+  @Test
+  public void testPlaysWithinBudget() {
+    World world = createWorld(1000, 10, RandomManual.seeded(8));
+    ExpectimaxSearch search = new ExpectimaxSearch(50, 20);
+    world.addPlayer("Robot", "Hall", search);
+    world.addPlayer("Droid", "Study", search);
+    world.addPlayer("Android", "Library", false);
+
+    while (world.isGameOver().isEmpty()) {
+      long start = System.nanoTime();
+      world.performComputerAction();
+      assertTrue(System.nanoTime() - start < 500_000_000);
+    }
+    assertEquals("Game ended in a draw!", world.isGameOver());
+    assertEquals(20, search.getSearches());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testChooseActionWhenGameOver() {
+    World world = createWorld(50, 1, new RandomManual());
+    world.addPlayer("Robot", "Hall", false);
+    world.performComputerAction();
+    new ExpectimaxSearch(2, 10).chooseAction(world, new RandomManual());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testChooseActionWithoutPlayers() {
+    new ExpectimaxSearch(2, 10).chooseAction(createWorld(50, 1, new RandomManual()),
+        new RandomManual());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testChooseActionNullView() {
+    new ExpectimaxSearch(2, 10).chooseAction(null, new RandomManual());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testChooseActionNullRandom() {
+    World world = createWorld(50, 10, new RandomManual());
+    world.addPlayer("Robot", "Hall", false);
+    new ExpectimaxSearch(2, 10).chooseAction(world, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testZeroDepth() {
+    new ExpectimaxSearch(0, 10);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeBudget() {
+    new ExpectimaxSearch(2, -1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTableNotPowerOfTwo() {
+    new ExpectimaxSearch(2, 10, 100);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTableTooSmall() {
+    new ExpectimaxSearch(2, 10, 2);
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals("ExpectimaxSearch(depth = 6, budget = 50 ms, table = 65536 entries)",
+        new ExpectimaxSearch(6, 50).toString());
+    assertEquals(0, new ExpectimaxSearch(6, 50).getTableHitRate(), 0);
+    assertEquals(0, new ExpectimaxSearch(6, 50).getAverageDepth(), 0);
+  }
+}
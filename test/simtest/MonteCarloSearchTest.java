@@ -0,0 +1,207 @@
+package simtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import game.ActionBuffer;
+import game.ActionType;
+import game.RandomStrategy;
+import game.World;
+import game.WorldImpl;
+import java.io.StringReader;
+import java.util.Arrays;
+import org.junit.Test;
+import sim.MonteCarloSearch;
+import sim.SearchResult;
+import utils.RandomManual;
+
+/**
+ * A test class for testing MonteCarloSearch and SearchResult classes.
+ */
+public class MonteCarloSearchTest {
+
+  private World createWorld(int targetHealth, int turns, RandomManual random) {
+    return new WorldImpl(new StringReader(String.format(
+        "10 20 My World\n %d Dr. Lucky\n Simba\n 4\n 0 0 3 3 Hall\n 0 4 3 7 Kitchen\n"
+            + " 0 8 3 11 Library\n 0 12 3 15 Study\n 2\n 0 3 Pan\n 2 5 Knife\n",
+        targetHealth)), random, turns);
+  }
+
+  private static String describe(World world) {
+    return String.format("%s %d %s %s %s", world.getTurnInfo(), world.getTargetHealth(),
+        world.getCurrentSpaceOfPet(), Arrays.deepToString(world.getAllPlayers()),
+        world.getInfoOfaSpace("Hall"));
+  }
+
+  @Test
+  public void testFindsWinningAttack() {
+    World world = createWorld(1, 1, RandomManual.seeded(3));
+    world.addPlayer("Robot", "Hall", false);
+
+    for (int threads : new int[] { 1, 3 }) {
+      SearchResult result = new MonteCarloSearch(100, threads).search(world, 11);
+
+      assertEquals(ActionType.ATTACK_TARGET, ActionBuffer.getType(result.getAction()));
+      assertEquals(1, result.getScore(), 0);
+      assertTrue(result.getRollouts() >= threads);
+      assertTrue(result.getElapsedNanos() >= 100_000_000);
+    }
+  }
+
+  @Test
+  public void testLongGameIsCutOffAtBudget() {
+    World world = createWorld(1_000_000, 50_000, RandomManual.seeded(5));
+    world.addPlayer("Robot", "Hall", false);
+    world.addPlayer("Droid", "Study", false);
+
+    for (int threads : new int[] { 1, 2 }) {
+      SearchResult result = new MonteCarloSearch(10, threads).search(world, 1);
+
+      assertTrue(result.getRollouts() >= threads);
+      assertTrue(result.getScore() < 1);
+      assertTrue(result.getElapsedNanos() < 60_000_000);
+    }
+  }
+
+  @Test
+  public void testSearchDoesNotChangeGame() {
+    World world = createWorld(20, 10, RandomManual.seeded(5));
+    world.addPlayer("Robot", "Hall", false);
+    world.addPlayer("Droid", "Study", false);
+    world.performComputerAction();
+    String before = describe(world);
+
+    SearchResult result = new MonteCarloSearch(30, 2).search(world, 7);
+
+    assertEquals(before, describe(world));
+    ActionBuffer actions = new ActionBuffer();
+    world.legalActions(actions);
+    boolean legal = false;
+    for (int i = 0; i < actions.size(); i++) {
+      legal |= actions.get(i) == result.getAction();
+    }
+    assertTrue(legal);
+  }
+
+  @Test
+  public void testPlayTurn() {
+    World world = createWorld(1000, 5, RandomManual.seeded(5));
+    world.addPlayer("Robot", "Hall", false);
+    world.addPlayer("Droid", "Study", false);
+    MonteCarloSearch search = new MonteCarloSearch(5, 1);
+
+    for (int turn = 0; turn < 10; turn++) {
+      assertTrue(search.playTurn(world).length() > 0);
+    }
+    assertEquals("Game ended in a draw!", world.isGameOver());
+    assertTrue(search.getRollouts() >= 10);
+    assertTrue(search.getRolloutsPerSecond() > 0);
+  }
+
+  @Test
+  public void testZeroBudgetPlaysRandomChoice() {
+    World world = createWorld(50, 10, new RandomManual());
+    world.addPlayer("Robot", "Hall", false);
+    world.addPlayer("Droid", "Study", false);
+    World searched = world.fork(new RandomManual(4, 1, 2));
+    World random = world.fork(new RandomManual(4, 1, 2));
+    MonteCarloSearch search = new MonteCarloSearch(0, 4);
+
+    SearchResult result = search.search(searched);
+    assertEquals(SearchResult.NO_ACTION, result.getAction());
+    assertEquals(0, result.getRollouts());
+
+    for (int turn = 0; turn < 6; turn++) {
+      assertEquals(random.performComputerAction(), search.playTurn(searched));
+    }
+    assertEquals(describe(random), describe(searched));
+    assertEquals(0, search.getRollouts());
+    assertEquals(0, search.getRolloutsPerSecond(), 0);
+  }
+
+  @Test
+  public void testAsStrategyOfPlayer() {
+    World world = createWorld(1, 1, RandomManual.seeded(3));
+    world.addPlayer("Robot", "Hall", new MonteCarloSearch(20, 1));
+
+    world.performComputerAction();
+    assertEquals("Game is completed. Robot has won the game!", world.isGameOver());
+  }
+
+  @Test
+  public void testZeroBudgetChoosesLikeRandomStrategy() {
+    World world = createWorld(50, 10, new RandomManual());
+    world.addPlayer("Robot", "Hall", false);
+
+    for (int i = 0; i < 6; i++) {
+      assertEquals(new RandomStrategy().chooseAction(world, new RandomManual(i)),
+          new MonteCarloSearch(0, 1).chooseAction(world, new RandomManual(i)));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testChooseActionNullRandom() {
+    World world = createWorld(50, 10, new RandomManual());
+    world.addPlayer("Robot", "Hall", false);
+    new MonteCarloSearch(10, 1).chooseAction(world, null);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPlayTurnOfHuman() {
+    World world = createWorld(50, 10, new RandomManual());
+    world.addPlayer("Pranith", "Hall", true);
+    new MonteCarloSearch(0, 1).playTurn(world);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testSearchWhenGameOver() {
+    World world = createWorld(50, 1, new RandomManual());
+    world.addPlayer("Robot", "Hall", false);
+    world.performComputerAction();
+    new MonteCarloSearch(10, 1).search(world);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testSearchWithoutPlayers() {
+    new MonteCarloSearch(10, 1).search(createWorld(50, 1, new RandomManual()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSearchNullWorld() {
+    new MonteCarloSearch(10, 1).search(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeBudget() {
+    new MonteCarloSearch(-1, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testZeroThreads() {
+    new MonteCarloSearch(10, 0);
+  }
+
+  @Test
+  public void testSearchResult() {
+    SearchResult result = new SearchResult(ActionBuffer.encode(ActionType.MOVE, 3), 0.25, 1200,
+        50_000_000);
+
+    assertEquals(24000, result.getRolloutsPerSecond(), 1e-9);
+    assertEquals("SearchResult(MOVE 3, score = 0.25, 1200 rollouts in 50.0 ms, "
+        + "24000.0 rollouts/s)", result.toString());
+    assertEquals("SearchResult(no action, score = 0.00, 0 rollouts in 0.0 ms, 0.0 rollouts/s)",
+        new SearchResult(SearchResult.NO_ACTION, 0, 0, 0).toString());
+    assertEquals("MonteCarloSearch(budget = 50 ms, threads = 4)",
+        new MonteCarloSearch(50, 4).toString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSearchResultScoreAboveOne() {
+    new SearchResult(0, 1.5, 1, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSearchResultNegativeRollouts() {
+    new SearchResult(0, 0, -1, 1);
+  }
+}
@@ -0,0 +1,111 @@
+package simtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import game.WorldTemplate;
+import java.io.StringReader;
+import org.junit.Test;
+import sim.ParallelSimulation;
+import sim.Simulation;
+import sim.SimulationResult;
+
+/**
+ * A test class for testing ParallelSimulation class.
+ */
+public class ParallelSimulationTest {
+
+  private Simulation createSimulation(int targetHealth, int players, int turns) {
+    return new Simulation(WorldTemplate.parse(new StringReader(String.format(
+        "10 20 My World\n %d Dr. Lucky\n Simba\n 4\n 0 0 3 3 Hall\n 0 4 3 7 Kitchen\n"
+            + " 0 8 3 11 Library\n 0 12 3 15 Study\n 2\n 0 3 Pan\n 2 5 Knife\n",
+        targetHealth))), players, turns);
+  }
+
+  @Test
+  public void testFirstPlayerKillsWeakTarget() {
+    SimulationResult result = new ParallelSimulation(createSimulation(1, 2, 10), 4).run(101);
+
+    assertEquals(101, result.getGames());
+    assertEquals(101, result.getTurns());
+    assertEquals(101, result.getWins(0));
+    assertEquals(0, result.getDraws());
+    assertEquals(1, result.getMinTurns());
+    assertEquals(1, result.getMaxTurns());
+    assertEquals(0, result.getAverageTargetHealth(), 0);
+  }
+
+  @Test
+  public void testStrongTargetEndsInDraw() {
+    SimulationResult result = new ParallelSimulation(createSimulation(1000, 3, 4), 3).run(50);
+
+    assertEquals(50, result.getGames());
+    assertEquals(50 * 3 * 4, result.getTurns());
+    assertEquals(50, result.getDraws());
+    assertEquals(12, result.getMinTurns());
+    assertEquals(12, result.getMaxTurns());
+    assertTrue(result.getAverageTargetHealth() > 1000 - 12 * 10);
+  }
+
+  @Test
+  public void testOutcomesAddUp() {
+    SimulationResult result = new ParallelSimulation(createSimulation(8, 2, 30), 8).run(1000);
+
+    assertEquals(1000, result.getGames());
+    assertEquals(1000, result.getWins(0) + result.getWins(1) + result.getDraws());
+    assertEquals(1, result.getWinRate(0) + result.getWinRate(1) + result.getDrawRate(), 1e-9);
+    assertTrue(result.getMinTurns() <= result.getMaxTurns());
+    assertTrue(result.getMaxTurns() <= 2 * 30);
+    assertTrue(result.getAverageTargetHealth() <= 8);
+  }
+
+  @Test
+  public void testSameSeedSameGames() {
+    Simulation simulation = createSimulation(8, 3, 30);
+    SimulationResult sequential = simulation.run(300, 99);
+    SimulationResult parallel = new ParallelSimulation(simulation, 5).run(300, 99);
+    SimulationResult moreThreads = new ParallelSimulation(simulation, 7).run(300, 99);
+
+    for (SimulationResult result : new SimulationResult[] { parallel, moreThreads }) {
+      assertEquals(sequential.getTurns(), result.getTurns());
+      assertEquals(sequential.getDraws(), result.getDraws());
+      assertEquals(sequential.getAverageTargetHealth(), result.getAverageTargetHealth(), 0);
+      for (int i = 0; i < 3; i++) {
+        assertEquals(sequential.getWins(i), result.getWins(i));
+      }
+    }
+  }
+
+  @Test
+  public void testFewerGamesThanThreads() {
+    SimulationResult result = new ParallelSimulation(createSimulation(1, 2, 10), 8).run(3);
+
+    assertEquals(3, result.getGames());
+    assertEquals(3, result.getWins(0));
+  }
+
+  @Test
+  public void testNoGames() {
+    SimulationResult result = new ParallelSimulation(createSimulation(1, 2, 10), 4).run(0);
+
+    assertEquals(0, result.getGames());
+    assertEquals(0, result.getMinTurns());
+    assertEquals(0, result.getMaxTurns());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullSimulation() {
+    new ParallelSimulation(null, 4);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoThreads() {
+    new ParallelSimulation(createSimulation(1, 2, 10), 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeGames() {
+    new ParallelSimulation(createSimulation(1, 2, 10), 4).run(-1);
+  }
+
+}
@@ -0,0 +1,117 @@
+package simtest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import game.WorldTemplate;
+import java.io.StringReader;
+import org.junit.Test;
+import sim.Simulation;
+import sim.SimulationResult;
+import utils.RandomManual;
+
+/**
+ * A test class for testing Simulation and SimulationResult classes.
+ */
+public class SimulationTest {
+
+  private WorldTemplate createTemplate(int targetHealth) {
+    return WorldTemplate.parse(new StringReader(String.format("10 20 My World\n %d Dr. Lucky\n"
+        + " Simba\n 4\n 0 0 3 3 Hall\n 0 4 3 7 Kitchen\n 0 8 3 11 Library\n 0 12 3 15 Study\n"
+        + " 2\n 0 3 Pan\n 2 5 Knife\n", targetHealth)));
+  }
+
+  @Test
+  public void testFirstPlayerKillsWeakTarget() {
+    SimulationResult result = new Simulation(createTemplate(1), 2, 10).run(25);
+
+    assertEquals(25, result.getGames());
+    assertEquals(25, result.getTurns());
+    assertEquals(25, result.getWins(0));
+    assertEquals(0, result.getWins(1));
+    assertEquals(0, result.getDraws());
+    assertEquals(1, result.getMinTurns());
+    assertEquals(1, result.getMaxTurns());
+    assertEquals(0, result.getAverageTargetHealth(), 0);
+    assertEquals(1, result.getWinRate(0), 0);
+  }
+
+  @Test
+  public void testStrongTargetEndsInDraw() {
+    SimulationResult result = new Simulation(createTemplate(1000), 3, 4).run(10);
+
+    assertEquals(10, result.getGames());
+    assertEquals(10 * 3 * 4, result.getTurns());
+    assertEquals(10, result.getDraws());
+    assertEquals(12, result.getMinTurns());
+    assertEquals(12, result.getMaxTurns());
+    assertTrue(result.getAverageTargetHealth() > 1000 - 12 * 10);
+    assertEquals(1, result.getDrawRate(), 0);
+    assertTrue(result.getGamesPerSecond() > 0);
+    assertTrue(result.getTurnsPerSecond() > 0);
+  }
+
+  @Test
+  public void testWinsAndDrawsAddUp() {
+    SimulationResult result = new Simulation(createTemplate(8), 2, 30).run(200);
+
+    assertEquals(200, result.getWins(0) + result.getWins(1) + result.getDraws());
+    assertTrue(result.getMinTurns() <= result.getMaxTurns());
+    assertTrue(result.getMaxTurns() <= 2 * 30);
+  }
+
+  @Test
+  public void testReplayGameOfBatch() {
+    Simulation simulation = new Simulation(createTemplate(8), 2, 30);
+    SimulationResult batch = simulation.run(1, 1234);
+    SimulationResult replay = simulation.replay(RandomManual.deriveSeed(1234, 0));
+
+    assertEquals(1, replay.getGames());
+    assertEquals(batch.getTurns(), replay.getTurns());
+    assertEquals(batch.getWins(0), replay.getWins(0));
+    assertEquals(batch.getAverageTargetHealth(), replay.getAverageTargetHealth(), 0);
+    assertEquals(batch.toString().substring(batch.toString().indexOf('\n')),
+        replay.toString().substring(replay.toString().indexOf('\n')));
+  }
+
+  @Test
+  public void testNoGames() {
+    SimulationResult result = new Simulation(createTemplate(1), 2, 10).run(0);
+
+    assertEquals(0, result.getGames());
+    assertEquals(0, result.getMinTurns());
+    assertTrue(result.toString().startsWith("0 games, 0 turns in "));
+  }
+
+  @Test
+  public void testReport() {
+    SimulationResult result = new SimulationResult(4, 10, 2_000_000_000L, new long[] { 3, 0 }, 1,
+        30, 1, 4);
+
+    assertEquals("4 games, 10 turns in 2.000 s (2.0 games/s, 5.0 turns/s)\n"
+        + "Turns per game: min 1, average 2.5, max 4\n" + "Target health left: average 7.5\n"
+        + "Player 1 won 3 games (75.0%)\n"
+        + "Player 2 won 0 games (0.0%)\n" + "Draws: 1 games (25.0%)", result.toString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullTemplate() {
+    new Simulation(null, 2, 10);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTooManyPlayers() {
+    new Simulation(createTemplate(1), 11, 10);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeGames() {
+    new Simulation(createTemplate(1), 2, 10).run(-1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testResultsDoNotAddUp() {
+    new SimulationResult(4, 10, 1, new long[] { 1, 1 }, 1, 0, 1, 4);
+  }
+
+}
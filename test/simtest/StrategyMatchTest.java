@@ -0,0 +1,151 @@
+package simtest;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import game.ActionBuffer;
+import game.ActionType;
+import game.ComputerStrategy;
+import game.RandomStrategy;
+import game.WorldTemplate;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Test;
+import sim.StrategyMatch;
+import sim.StrategyMatchResult;
+
+/**
+ * A test class for testing StrategyMatch and StrategyMatchResult classes.
+ */
+public class StrategyMatchTest {
+
+  private WorldTemplate createTemplate(int targetHealth) {
+    return WorldTemplate.parse(new StringReader(String.format(
+        "10 20 My World\n %d Dr. Lucky\n Simba\n 4\n 0 0 3 3 Hall\n 0 4 3 7 Kitchen\n"
+            + " 0 8 3 11 Library\n 0 12 3 15 Study\n 2\n 0 3 Pan\n 2 5 Knife\n",
+        targetHealth)));
+  }
+
+  private Map<String, ComputerStrategy> strategies(ComputerStrategy... others) {
+    Map<String, ComputerStrategy> strategies = new LinkedHashMap<>();
+    strategies.put("Random", new RandomStrategy());
+    for (int i = 0; i < others.length; i++) {
+      strategies.put("Other " + (i + 1), others[i]);
+    }
+    return strategies;
+  }
+
+  @Test
+  public void testSameResultsOnAnyNumberOfThreads() {
+    Map<String, ComputerStrategy> strategies = strategies(new RandomStrategy());
+    StrategyMatchResult single = new StrategyMatch(createTemplate(3), 20, strategies, 1)
+        .run(200, 42);
+    StrategyMatchResult parallel = new StrategyMatch(createTemplate(3), 20, strategies, 4)
+        .run(200, 42);
+
+    assertEquals(200, single.getGames());
+    assertArrayEquals(new String[] { "Random", "Other 1" }, single.getStrategies());
+    for (String strategy : single.getStrategies()) {
+      assertEquals(single.getWins(strategy), parallel.getWins(strategy));
+      assertEquals(single.getDecisions(strategy), parallel.getDecisions(strategy));
+      assertTrue(single.getWins(strategy) > 0);
+    }
+    assertEquals(single.getDraws(), parallel.getDraws());
+    assertEquals(1, single.getWinRate("Random") + single.getWinRate("Other 1")
+        + single.getDrawRate(), 1e-9);
+  }
+
+  @Test
+  public void testSeatsAreRotated() {
+    // the first player starts in the space of the target and wins at once
+    // when it is the random player, while a player who only looks around
+    // never wins
+    ComputerStrategy lookAround = (view, random) -> ActionBuffer.encode(ActionType.LOOK_AROUND,
+        0);
+    StrategyMatchResult result = new StrategyMatch(createTemplate(1), 1,
+        strategies(lookAround), 2).run(10, 3);
+
+    assertEquals(0, result.getWins("Other 1"));
+    assertEquals(5, result.getDecisions("Other 1"));
+    assertEquals(5, result.getWins("Random"));
+    assertEquals(5, result.getDraws());
+  }
+
+  @Test
+  public void testLatencyPercentiles() {
+    ComputerStrategy slow = (view, random) -> {
+      long end = System.nanoTime() + 2_000_000;
+      while (System.nanoTime() < end) {
+        Thread.onSpinWait();
+      }
+      return view.getLegalAction(0);
+    };
+    StrategyMatchResult result = new StrategyMatch(createTemplate(50), 5, strategies(slow), 1)
+        .run(4, 1);
+
+    long median = result.getLatencyNanos("Other 1", 50);
+    assertTrue(median >= 2_000_000);
+    assertTrue(median <= result.getLatencyNanos("Other 1", 99));
+    assertTrue(result.getLatencyNanos("Other 1", 99)
+        <= result.getLatencyNanos("Other 1", 100));
+    assertTrue(result.getLatencyNanos("Random", 50) < median);
+    assertEquals(20, result.getDecisions("Other 1"));
+    assertTrue(result.toString().startsWith("4 games in "));
+    assertTrue(result.toString().contains("Other 1 won 0 games (0.0%), 20 decisions, p50 "));
+    assertTrue(result.toString().endsWith("Draws: 4 games (100.0%)"));
+  }
+
+  @Test
+  public void testNoGames() {
+    StrategyMatchResult result = new StrategyMatch(createTemplate(50), 5, strategies(), 2)
+        .run(0, 1);
+
+    assertEquals(0, result.getGames());
+    assertEquals(0, result.getDecisions("Random"));
+    assertEquals(0, result.getLatencyNanos("Random", 99));
+    assertEquals(0, result.getWinRate("Random"), 0);
+    assertEquals("StrategyMatch(Random, threads = 2)",
+        new StrategyMatch(createTemplate(50), 5, strategies(), 2).toString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testUnknownStrategy() {
+    new StrategyMatch(createTemplate(50), 5, strategies(), 1).run(1, 1).getWins("Search");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPercentileAboveHundred() {
+    new StrategyMatch(createTemplate(50), 5, strategies(), 1).run(1, 1)
+        .getLatencyNanos("Random", 101);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoStrategies() {
+    new StrategyMatch(createTemplate(50), 5, new HashMap<>(), 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullStrategy() {
+    new StrategyMatch(createTemplate(50), 5, strategies((ComputerStrategy) null), 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEmptyName() {
+    Map<String, ComputerStrategy> strategies = strategies();
+    strategies.put("", new RandomStrategy());
+    new StrategyMatch(createTemplate(50), 5, strategies, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testZeroThreads() {
+    new StrategyMatch(createTemplate(50), 5, strategies(), 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeGames() {
+    new StrategyMatch(createTemplate(50), 5, strategies(), 1).run(-1);
+  }
+}
@@ -0,0 +1,83 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import game.ActionBuffer;
+import game.ActionType;
+import org.junit.Test;
+
+/**
+ * A test class for testing ActionBuffer class.
+ */
+public class ActionBufferTest {
+
+  @Test
+  public void testEncode() {
+    for (ActionType type : ActionType.values()) {
+      for (int argument : new int[] { 0, 1, 37, ActionBuffer.MAX_ARGUMENT }) {
+        int action = ActionBuffer.encode(type, argument);
+
+        assertEquals(type, ActionBuffer.getType(action));
+        assertEquals(argument, ActionBuffer.getArgument(action));
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEncodeNullType() {
+    ActionBuffer.encode(null, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEncodeNegativeArgument() {
+    ActionBuffer.encode(ActionType.MOVE, -1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEncodeLargeArgument() {
+    ActionBuffer.encode(ActionType.MOVE, ActionBuffer.MAX_ARGUMENT + 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetTypeOfUnknownAction() {
+    ActionBuffer.getType(7);
+  }
+
+  @Test
+  public void testAddGrowsAndClears() {
+    ActionBuffer actions = new ActionBuffer(1);
+    for (int i = 0; i < 100; i++) {
+      actions.add(ActionType.MOVE_PET, i);
+    }
+    actions.add(ActionBuffer.encode(ActionType.LOOK_AROUND, 0));
+
+    assertEquals(101, actions.size());
+    assertEquals(ActionBuffer.encode(ActionType.MOVE_PET, 42), actions.get(42));
+    assertEquals(ActionType.LOOK_AROUND, ActionBuffer.getType(actions.get(100)));
+
+    actions.clear();
+    assertEquals(0, actions.size());
+    assertEquals("ActionBuffer()", actions.toString());
+  }
+
+  @Test
+  public void testToString() {
+    ActionBuffer actions = new ActionBuffer();
+    actions.add(ActionType.MOVE, 3);
+    actions.add(ActionType.ATTACK_TARGET, 0);
+
+    assertEquals("ActionBuffer(MOVE 3, ATTACK_TARGET 0)", actions.toString());
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetPastSize() {
+    ActionBuffer actions = new ActionBuffer();
+    actions.add(ActionType.MOVE, 3);
+    actions.get(1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeCapacity() {
+    new ActionBuffer(-1);
+  }
+}
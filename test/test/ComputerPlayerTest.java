@@ -1,9 +1,12 @@
 package test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import game.ComputerPlayer;
+import game.ComputerStrategy;
 import game.Player;
+import game.RandomStrategy;
 import org.junit.Test;
 import utils.RandomManual;
 
@@ -30,4 +33,17 @@ public class ComputerPlayerTest {
     assertEquals(6, testPlayer.chooseAction(random, 0));
     assertEquals(2, testPlayer.chooseAction(random, 0));
   }
+
+  @Test
+  public void testGetStrategy() {
+    ComputerStrategy strategy = (view, random) -> 0;
+    assertEquals(strategy, new ComputerPlayer("Pan", 10, strategy).getStrategy());
+    assertEquals("RandomStrategy", new ComputerPlayer("Pan", 10).getStrategy().toString());
+    assertTrue(new ComputerPlayer("Pan", 10).getStrategy() instanceof RandomStrategy);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullStrategy() {
+    new ComputerPlayer("Pan", 10, null);
+  }
 }
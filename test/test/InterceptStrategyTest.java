@@ -0,0 +1,136 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import game.ActionBuffer;
+import game.ActionType;
+import game.ComputerStrategy;
+import game.InterceptStrategy;
+import game.RandomStrategy;
+import game.World;
+import game.WorldImpl;
+import java.io.StringReader;
+import org.junit.Test;
+import utils.RandomManual;
+
+/**
+ * A test class for testing InterceptStrategy class.
+ */
+public class InterceptStrategyTest {
+
+  private final ComputerStrategy strategy = new InterceptStrategy();
+
+  private World createWorld(RandomManual random) {
+    return new WorldImpl(new StringReader("10 24 My World\n 50 Dr. Lucky\n Simba\n 4\n"
+        + "0 0 3 3 Dining\n 0 4 3 7 Kitchen\n 0 8 3 11 Garage\n 0 12 3 15 Attic\n"
+        + "3\n 0 10 Pan\n 0 7 Broom\n 1 4 Rope\n"), random, 10);
+  }
+
+  @Test
+  public void testAttacksWithMostDamagingItem() {
+    World world = createWorld(new RandomManual());
+    world.addPlayer("Robot", "Dining", false);
+    assertEquals(ActionBuffer.encode(ActionType.ATTACK_TARGET, 0),
+        strategy.chooseAction(world, new RandomManual(0)));
+
+    world.pickItemByPlayer("Broom");
+    world.pickItemByPlayer("Pan");
+    world.lookAroundByPlayer();
+    while (!"Dining".equals(world.getTurnInfo().get(3))) {
+      world.lookAroundByPlayer();
+    }
+    assertEquals(ActionBuffer.encode(ActionType.ATTACK_TARGET, 1),
+        strategy.chooseAction(world, new RandomManual(0)));
+  }
+
+  @Test
+  public void testHeadsForTarget() {
+    World world = createWorld(new RandomManual());
+    world.addPlayer("Robot", "Attic", false);
+
+    // the target is in the garage on the second turn from now, one space away
+    assertEquals(ActionBuffer.encode(ActionType.MOVE, 2),
+        strategy.chooseAction(world, new RandomManual(0)));
+    world.applyAction(ActionBuffer.encode(ActionType.MOVE, 2));
+    assertEquals(ActionBuffer.encode(ActionType.LOOK_AROUND, 0),
+        strategy.chooseAction(world, new RandomManual(0)));
+    world.applyAction(ActionBuffer.encode(ActionType.LOOK_AROUND, 0));
+    assertEquals(ActionBuffer.encode(ActionType.ATTACK_TARGET, 0),
+        strategy.chooseAction(world, new RandomManual(0)));
+  }
+
+  @Test
+  public void testPicksItemWhileWaiting() {
+    World world = createWorld(new RandomManual());
+    world.addPlayer("Robot", "Kitchen", false);
+    assertEquals(ActionBuffer.encode(ActionType.PICK_ITEM, 0),
+        strategy.chooseAction(world, new RandomManual(0)));
+    world.applyAction(ActionBuffer.encode(ActionType.PICK_ITEM, 0));
+    assertEquals(ActionBuffer.encode(ActionType.ATTACK_TARGET, 0),
+        strategy.chooseAction(world, new RandomManual(0)));
+  }
+
+  @Test
+  public void testTurnsToIntercept() {
+    World world = createWorld(new RandomManual());
+    world.addPlayer("Robot", "Dining", false);
+    world.addPlayer("Other", "Attic", false);
+    assertEquals(0, InterceptStrategy.turnsToIntercept(world, 0));
+    assertEquals(1, InterceptStrategy.turnsToIntercept(world, 1));
+
+    World single = createWorld(new RandomManual());
+    single.addPlayer("Robot", "Attic", false);
+    assertEquals(2, InterceptStrategy.turnsToIntercept(single, 0));
+  }
+
+  @Test
+  public void testActsAtRandomWhenTargetCannotBeMet() {
+    // with two players and two spaces the target is always in the dining room
+    // on the turns of the first player, which cannot get there
+    World world = new WorldImpl(new StringReader("10 24 My World\n 50 Dr. Lucky\n Simba\n 2\n"
+        + "0 0 3 3 Dining\n 0 8 3 11 Garage\n 0\n"), new RandomManual(), 10);
+    world.addPlayer("Robot", "Garage", false);
+    world.addPlayer("Other", "Dining", false);
+    assertEquals(-1, InterceptStrategy.turnsToIntercept(world, 0));
+
+    ComputerStrategy random = new RandomStrategy();
+    for (int i = 0; i < world.countLegalActions(); i++) {
+      assertEquals(random.chooseAction(world, new RandomManual(i)),
+          strategy.chooseAction(world, new RandomManual(i)));
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testChooseActionWithoutPlayers() {
+    strategy.chooseAction(createWorld(new RandomManual()), new RandomManual());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testChooseActionNullView() {
+    strategy.chooseAction(null, new RandomManual());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testChooseActionNullRandom() {
+    World world = createWorld(new RandomManual());
+    world.addPlayer("Robot", "Garage", false);
+    strategy.chooseAction(world, null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTurnsToInterceptNullView() {
+    InterceptStrategy.turnsToIntercept(null, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testTurnsToInterceptPlayerNotInGame() {
+    World world = createWorld(new RandomManual());
+    world.addPlayer("Robot", "Garage", false);
+    InterceptStrategy.turnsToIntercept(world, 1);
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals("InterceptStrategy", strategy.toString());
+  }
+}
@@ -0,0 +1,139 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import game.World;
+import game.WorldImpl;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.Test;
+import utils.MansionGenerator;
+import utils.MansionGenerator.DamageDistribution;
+import utils.RandomManual;
+
+/**
+ * A test class for testing MansionGenerator class.
+ */
+public class MansionGeneratorTest {
+
+  private static final Pattern NEIGHBOUR_NAME = Pattern.compile("Name = (.*?), Top left");
+
+  private String generate(int rooms, double itemDensity, DamageDistribution distribution,
+      long seed) throws IOException {
+    StringWriter out = new StringWriter();
+    new MansionGenerator(rooms, itemDensity, 1, 10, distribution, 4, seed).generate(out);
+    return out.toString();
+  }
+
+  @Test
+  public void testGeneratedWorldIsValidAndConnected() throws IOException {
+    World world = new WorldImpl(
+        new StringReader(generate(250, 0.5, DamageDistribution.NORMAL, 7)), new RandomManual(),
+        50);
+    String[] spaces = world.getAllSpaces();
+    assertEquals(250, spaces.length);
+    assertEquals(250, new HashSet<String>(Arrays.asList(spaces)).size());
+
+    Set<String> visited = new HashSet<String>();
+    Deque<String> pending = new ArrayDeque<String>();
+    visited.add(spaces[0]);
+    pending.add(spaces[0]);
+    while (!pending.isEmpty()) {
+      Matcher neighbours = NEIGHBOUR_NAME.matcher(world.getNeighbours(pending.poll()));
+      while (neighbours.find()) {
+        if (visited.add(neighbours.group(1))) {
+          pending.add(neighbours.group(1));
+        }
+      }
+    }
+
+    assertEquals(250, visited.size());
+  }
+
+  @Test
+  public void testDistancesInLargeWorld() throws IOException {
+    // too many spaces to keep the distances between all of them
+    World world = new WorldImpl(
+        new StringReader(generate(2500, 0, DamageDistribution.UNIFORM, 5)), new RandomManual(),
+        50);
+    String[] spaces = world.getAllSpaces();
+    Matcher neighbours = NEIGHBOUR_NAME.matcher(world.getNeighbours(spaces[0]));
+    assertTrue(neighbours.find());
+    int neighbour = Arrays.asList(spaces).indexOf(neighbours.group(1));
+
+    assertEquals(0, world.getDistance(0, 0));
+    assertEquals(1, world.getDistance(0, neighbour));
+    int far = world.getDistance(0, 2499);
+    assertTrue(far > 1);
+    assertEquals(far, world.getDistance(2499, 0));
+    assertTrue(Math.abs(world.getDistance(neighbour, 2499) - far) <= 1);
+    assertEquals(far, world.getDistance(0, 2499));
+    for (int space = 0; space < spaces.length; space += 97) {
+      assertTrue(world.getDistance(0, space) >= 0);
+      assertTrue(world.getDistance(0, space) <= world.getDistance(0, 1250)
+          + world.getDistance(1250, space));
+    }
+  }
+
+  @Test
+  public void testItemsAndDamage() throws IOException {
+    for (DamageDistribution distribution : DamageDistribution.values()) {
+      String[] lines = generate(100, 2, distribution, 3).split("\n");
+      int itemsLine = 4 + 100;
+      assertEquals("200", lines[itemsLine]);
+      assertEquals(itemsLine + 1 + 200, lines.length);
+      for (int i = itemsLine + 1; i < lines.length; i++) {
+        String[] parts = lines[i].split(" ");
+        int space = Integer.parseInt(parts[0]);
+        int damage = Integer.parseInt(parts[1]);
+        assertTrue(space >= 0 && space < 100);
+        assertTrue(damage >= 1 && damage <= 10);
+      }
+    }
+  }
+
+  @Test
+  public void testSameSeedSameWorld() throws IOException {
+    assertEquals(generate(40, 1, DamageDistribution.UNIFORM, 11),
+        generate(40, 1, DamageDistribution.UNIFORM, 11));
+    assertTrue(!generate(40, 1, DamageDistribution.UNIFORM, 11)
+        .equals(generate(40, 1, DamageDistribution.UNIFORM, 12)));
+  }
+
+  @Test
+  public void testSingleRoom() throws IOException {
+    World world = new WorldImpl(new StringReader(generate(1, 0, DamageDistribution.UNIFORM, 1)),
+        new RandomManual(), 50);
+    assertEquals(1, world.getAllSpaces().length);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNoRooms() {
+    new MansionGenerator(0, 1, 1, 10, DamageDistribution.UNIFORM, 3, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDamageOutOfOrder() {
+    new MansionGenerator(10, 1, 10, 1, DamageDistribution.UNIFORM, 3, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRoomsTooSmall() {
+    new MansionGenerator(10, 1, 1, 10, DamageDistribution.UNIFORM, 1, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNullWriter() throws IOException {
+    new MansionGenerator(10, 1, 1, 10, DamageDistribution.UNIFORM, 3, 1).generate(null);
+  }
+
+}
@@ -0,0 +1,180 @@
+package test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import org.junit.Test;
+import utils.RandomManual;
+
+/**
+ * A test class for testing RandomManual class.
+ */
+public class RandomManualTest {
+
+  private int[] numbers(RandomManual random, int count) {
+    int[] result = new int[count];
+    for (int i = 0; i < count; i++) {
+      result[i] = random.getNextNumber();
+    }
+    return result;
+  }
+
+  @Test
+  public void testPredictableNumbers() {
+    RandomManual random = new RandomManual(3, 7, 150);
+
+    assertTrue(random.isPredictable());
+    assertArrayEquals(new int[] { 3, 7, 150, 3 }, numbers(random, 4));
+  }
+
+  @Test
+  public void testSeededNumbersRepeat() {
+    RandomManual random = RandomManual.seeded(42);
+
+    assertFalse(random.isPredictable());
+    assertArrayEquals(numbers(RandomManual.seeded(42), 100), numbers(random, 100));
+    for (int number : numbers(random, 1000)) {
+      assertTrue(number >= 0 && number < 100);
+    }
+  }
+
+  @Test
+  public void testSplitIsReproducibleAndIndependent() {
+    RandomManual first = RandomManual.seeded(7);
+    RandomManual second = RandomManual.seeded(7);
+
+    int[] firstSplit = numbers(first.split(), 50);
+    assertArrayEquals(firstSplit, numbers(second.split(), 50));
+    assertFalse(Arrays.equals(firstSplit, numbers(first, 50)));
+    assertFalse(Arrays.equals(firstSplit, numbers(first.split(), 50)));
+  }
+
+  @Test
+  public void testSeededNumbersMatchSplittableRandom() {
+    // seeded games played before the stream could be copied keep their numbers
+    SplittableRandom expected = new SplittableRandom(11);
+    RandomManual random = RandomManual.seeded(11);
+    for (int bound : new int[] { 1, 2, 3, 64, 100, 1_000_003, Integer.MAX_VALUE }) {
+      for (int i = 0; i < 200; i++) {
+        assertEquals(expected.nextInt(bound), random.nextInt(bound));
+      }
+    }
+
+    SplittableRandom expectedSplit = expected.split();
+    RandomManual split = random.split();
+    for (int i = 0; i < 200; i++) {
+      assertEquals(expectedSplit.nextInt(1 << 30 | 1), split.nextInt(1 << 30 | 1));
+      assertEquals(expected.nextInt(7), random.nextInt(7));
+    }
+  }
+
+  @Test
+  public void testCopyGoesOnFromSameState() {
+    RandomManual random = RandomManual.seeded(3);
+    numbers(random, 25);
+    RandomManual copy = random.copy();
+
+    int[] fromCopy = numbers(copy, 100);
+    assertArrayEquals(fromCopy, numbers(random, 100));
+    assertArrayEquals(numbers(copy.split(), 20), numbers(random.split(), 20));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testCopyUnseeded() {
+    new RandomManual().copy();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testCopyPredictable() {
+    new RandomManual(1, 2).copy();
+  }
+
+  @Test
+  public void testSplitUnseeded() {
+    assertFalse(new RandomManual().split().isPredictable());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testSplitPredictable() {
+    new RandomManual(1, 2).split();
+  }
+
+  @Test
+  public void testDeriveSeedMatchesSeededStream() {
+    SplittableRandom master = new SplittableRandom(2022);
+    for (int i = 0; i < 10; i++) {
+      assertEquals(master.nextLong(), RandomManual.deriveSeed(2022, i));
+    }
+  }
+
+  @Test
+  public void testNextInts() {
+    int[] first = new int[500];
+    int[] second = new int[500];
+    RandomManual.seeded(5).nextInts(first, 6);
+    RandomManual.seeded(5).nextInts(second, 6);
+
+    assertArrayEquals(first, second);
+    for (int number : first) {
+      assertTrue(number >= 0 && number < 6);
+    }
+
+    int[] unseeded = new int[500];
+    new RandomManual().nextInts(unseeded, 3);
+    for (int number : unseeded) {
+      assertTrue(number >= 0 && number < 3);
+    }
+  }
+
+  @Test
+  public void testNextIntsPredictable() {
+    int[] numbers = new int[5];
+    new RandomManual(4, 9).nextInts(numbers, 2);
+
+    assertArrayEquals(new int[] { 4, 9, 4, 9, 4 }, numbers);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNextIntsNullArray() {
+    RandomManual.seeded(1).nextInts(null, 10);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNextIntsZeroBound() {
+    RandomManual.seeded(1).nextInts(new int[3], 0);
+  }
+
+
+  @Test
+  public void testNextInt() {
+    RandomManual random = RandomManual.seeded(9);
+    RandomManual same = RandomManual.seeded(9);
+    boolean[] seen = new boolean[150];
+
+    for (int i = 0; i < 3000; i++) {
+      int number = random.nextInt(150);
+      assertEquals(same.nextInt(150), number);
+      seen[number] = true;
+    }
+
+    // numbers past 100 are drawn too, which getNextNumber never returns
+    assertTrue(seen[0] && seen[149]);
+  }
+
+  @Test
+  public void testNextIntPredictable() {
+    RandomManual random = new RandomManual(4, 9);
+
+    assertEquals(4, random.nextInt(2));
+    assertEquals(9, random.nextInt(2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNextIntZeroBound() {
+    new RandomManual().nextInt(0);
+  }
+}
@@ -0,0 +1,131 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+
+import game.ActionBuffer;
+import game.ActionType;
+import game.ComputerStrategy;
+import game.RandomStrategy;
+import game.World;
+import game.WorldImpl;
+import java.io.StringReader;
+import org.junit.Test;
+import utils.RandomManual;
+
+/**
+ * A test class for testing RandomStrategy class.
+ */
+public class RandomStrategyTest {
+
+  private final ComputerStrategy strategy = new RandomStrategy();
+
+  private World createWorld(RandomManual random) {
+    return new WorldImpl(new StringReader("10 24 My World\n 50 Dr. Lucky\n Simba\n 4\n"
+        + "0 0 3 3 Dining\n 0 4 3 7 Kitchen\n 0 8 3 11 Garage\n 0 12 3 15 Attic\n"
+        + "3\n 0 10 Pan\n 0 7 Broom\n 1 4 Rope\n"), random, 10);
+  }
+
+  @Test
+  public void testChoosesLegalActionAtRandom() {
+    World world = createWorld(new RandomManual());
+    world.addPlayer("Robot", "Garage", false);
+    ActionBuffer actions = new ActionBuffer();
+    world.legalActions(actions);
+
+    for (int i = 0; i < actions.size(); i++) {
+      assertEquals(actions.get(i), strategy.chooseAction(world, drawsOf(actions, i)));
+    }
+  }
+
+  @Test
+  public void testChoosesKindOfActionFirst() {
+    World world = createWorld(new RandomManual());
+    world.addPlayer("Robot", "Kitchen", false);
+
+    // moving, picking, looking around and moving the pet are drawn from alike,
+    // although the pet can be moved to three spaces and the player only to the
+    // garage, as the pet is in the dining room
+    assertEquals(ActionBuffer.encode(ActionType.MOVE, 2),
+        strategy.chooseAction(world, new RandomManual(0, 0)));
+    assertEquals(ActionBuffer.encode(ActionType.PICK_ITEM, 0),
+        strategy.chooseAction(world, new RandomManual(1, 0)));
+    assertEquals(ActionBuffer.encode(ActionType.LOOK_AROUND, 0),
+        strategy.chooseAction(world, new RandomManual(2, 0)));
+    assertEquals(ActionBuffer.encode(ActionType.MOVE_PET, 3),
+        strategy.chooseAction(world, new RandomManual(3, 2)));
+
+    // predictable numbers past the last kind or action wrap around
+    assertEquals(ActionBuffer.encode(ActionType.MOVE_PET, 2),
+        strategy.chooseAction(world, new RandomManual(7, 4)));
+  }
+
+  @Test
+  public void testSkipsKindsOfActionThePlayerCannotTake() {
+    World world = createWorld(new RandomManual());
+    world.addPlayer("Robot", "Attic", false);
+
+    // there is nothing to pick in the attic, so looking around is the second
+    // kind of action
+    assertEquals(ActionBuffer.encode(ActionType.LOOK_AROUND, 0),
+        strategy.chooseAction(world, new RandomManual(1, 0)));
+    assertEquals(ActionBuffer.encode(ActionType.MOVE_PET, 1),
+        strategy.chooseAction(world, new RandomManual(2, 0)));
+  }
+
+  @Test
+  public void testAttacksWithMostDamagingItem() {
+    World world = createWorld(new RandomManual());
+    world.addPlayer("Robot", "Dining", false);
+    assertEquals(ActionBuffer.encode(ActionType.ATTACK_TARGET, 0),
+        strategy.chooseAction(world, new RandomManual(0)));
+
+    world.pickItemByPlayer("Broom");
+    world.pickItemByPlayer("Pan");
+    world.lookAroundByPlayer();
+    while (!"Dining".equals(world.getTurnInfo().get(3))) {
+      world.lookAroundByPlayer();
+    }
+    assertEquals(ActionBuffer.encode(ActionType.ATTACK_TARGET, 1),
+        strategy.chooseAction(world, new RandomManual(0)));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testChooseActionWithoutPlayers() {
+    strategy.chooseAction(createWorld(new RandomManual()), new RandomManual());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testChooseActionNullView() {
+    strategy.chooseAction(null, new RandomManual());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testChooseActionNullRandom() {
+    World world = createWorld(new RandomManual());
+    world.addPlayer("Robot", "Garage", false);
+    strategy.chooseAction(world, null);
+  }
+
+  /**
+   * Gets the predictable numbers the random strategy needs to draw to choose
+   * the legal action at the given position: the position of its type among the
+   * types of the listed actions, then its position among the actions of its
+   * type.
+   */
+  private RandomManual drawsOf(ActionBuffer actions, int position) {
+    int kind = 0;
+    int first = 0;
+    for (int i = 1; i <= position; i++) {
+      if (ActionBuffer.getType(actions.get(i)) != ActionBuffer.getType(actions.get(i - 1))) {
+        kind++;
+        first = i;
+      }
+    }
+    return new RandomManual(kind, position - first);
+  }
+
+  @Test
+  public void testToString() {
+    assertEquals("RandomStrategy", strategy.toString());
+  }
+}
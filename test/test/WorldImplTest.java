@@ -4,6 +4,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import game.ActionBuffer;
+import game.ActionType;
+import game.ComputerStrategy;
 import game.Item;
 import game.ItemImpl;
 import game.Space;
@@ -12,6 +15,7 @@ import game.World;
 import game.WorldImpl;
 import java.io.StringReader;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.InputMismatchException;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -373,6 +377,37 @@ public class WorldImplTest {
     newWorldInstance(worldData, random);
   }
 
+  @Test(expected = IllegalArgumentException.class)
+  public void testTopLeftAfterBottomRight() {
+    worldSb = new StringBuilder("35 32 My World\n 59 Dr. Lucky\n Simba\n 8\n 4 10 11 12 Dining\n");
+    worldSb.append("4 4 9 9 Master Bedroom\n 4 13 6 19 Music Room\n 17 0 24 3 Garage\n");
+    worldSb.append("17 13 20 19 Bathroom\n 0 10 3 18 Home Office\n 2 0 16 3 Entrance Hall\n");
+    worldSb.append(" 3 4 0 9 Attic\n 3\n 3 10 Pan\n 4 7 Broom\n 5 15 Knife\n");
+    worldData = new StringReader(worldSb.toString());
+    RandomManual random = new RandomManual();
+    newWorldInstance(worldData, random);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testOverlappingSpaces() {
+    worldSb = new StringBuilder("35 32 My World\n 59 Dr. Lucky\n Simba\n 8\n 4 10 11 12 Dining\n");
+    worldSb.append("4 4 9 9 Master Bedroom\n 4 13 6 19 Music Room\n 17 0 24 3 Garage\n");
+    worldSb.append("17 13 20 19 Bathroom\n 0 10 3 18 Home Office\n 2 0 16 3 Entrance Hall\n");
+    worldSb.append(" 8 8 10 11 Attic\n 3\n 3 10 Pan\n 4 7 Broom\n 5 15 Knife\n");
+    worldData = new StringReader(worldSb.toString());
+    RandomManual random = new RandomManual();
+    newWorldInstance(worldData, random);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCrossShapedOverlappingSpaces() {
+    worldSb = new StringBuilder("10 10 My World\n 59 Dr. Lucky\n Simba\n 2\n 0 3 6 4 Hall\n");
+    worldSb.append("2 0 3 8 Corridor\n 0\n");
+    worldData = new StringReader(worldSb.toString());
+    RandomManual random = new RandomManual();
+    newWorldInstance(worldData, random);
+  }
+
   @Test
   public void getName() {
     worldSb = new StringBuilder("35 32 My World\n 59 Dr. Lucky\n Simba\n 8\n 4 10 11 12 Dining\n");
@@ -941,7 +976,7 @@ public class WorldImplTest {
     worldSb.append("17 13 20 19 Bathroom\n 0 10 3 18 Home Office\n 2 0 16 3 Entrance Hall\n");
     worldSb.append(" 0 4 3 9 Attic\n 3\n 3 10 Pan\n 4 7 Broom\n 5 15 Knife\n");
     worldData = new StringReader(worldSb.toString());
-    RandomManual random = new RandomManual(0, 1, 1, 0, 2);
+    RandomManual random = new RandomManual(0, 1, 1, 0, 1);
     World testWorld = newWorldInstance(worldData, random);
     testWorld.addPlayer("Pranith", "Attic", true);
     testWorld.addPlayer("Robot", "Dining", false);
@@ -964,7 +999,7 @@ public class WorldImplTest {
     worldSb.append("17 13 20 19 Bathroom\n 0 10 3 18 Home Office\n 2 0 16 3 Entrance Hall\n");
     worldSb.append(" 0 4 3 9 Attic\n 3\n 3 10 Pan\n 4 7 Broom\n 5 15 Knife\n");
     worldData = new StringReader(worldSb.toString());
-    RandomManual random = new RandomManual(1, 0, 2, 2, 2, 2, 2, 2, 2);
+    RandomManual random = new RandomManual(1, 0);
     World testWorld = newWorldInstance(worldData, random);
     testWorld.addPlayer("Pranith", "Attic", true);
     testWorld.addPlayer("Robot", "Garage", false);
@@ -983,6 +1018,7 @@ public class WorldImplTest {
             + "All players in the space:\n" + "No players in space\n"
             + "The target Dr. Lucky is currently present in this space with health 49.\n",
         testWorld.getInfoOfaSpace("Bathroom"));
+    assertEquals(49, testWorld.getTargetHealth());
 
     // Testing if computer player attacks target with hand when no items are present
     // with it
@@ -1001,6 +1037,7 @@ public class WorldImplTest {
             + "All players in the space:\n" + "No players in space\n"
             + "The target Dr. Lucky is currently present in this space with health 48.\n",
         testWorld.getInfoOfaSpace("Bathroom"));
+    assertEquals(48, testWorld.getTargetHealth());
 
     // Testing if computer player attacks target when it is visible to a player
     testWorld.movePlayerInWorld(getScaledCoord(1), getScaledCoord(3));
@@ -1680,4 +1717,747 @@ public class WorldImplTest {
     assertEquals("Entrance Hall", allSpaces[6]);
     assertEquals("Attic", allSpaces[7]);
   }
+
+  private String newSaveWorldSpecification(int targetHealth) {
+    worldSb = new StringBuilder(String.format("10 24 My World\n %d Dr. Lucky\n Simba\n 6\n",
+        targetHealth));
+    worldSb.append("0 0 3 3 Dining\n 0 4 3 7 Master Bedroom\n 0 8 3 11 Music Room\n");
+    worldSb.append("0 12 3 15 Garage\n 0 16 3 19 Home Office\n 0 20 3 23 Attic\n");
+    worldSb.append("4\n 3 10 Pan\n 1 7 Broom\n 4 15 Knife\n 3 4 Rope\n");
+    return worldSb.toString();
+  }
+
+  private String describeGame(World world) {
+    StringBuilder sb = new StringBuilder();
+    sb.append(world.getTurnInfo()).append(world.getNumOfTurns()).append(world.isGameOver())
+        .append(world.getTargetHealth()).append(world.getCurrentSpaceOfPet());
+    for (String[] player : world.getAllPlayers()) {
+      sb.append(world.getPlayerInfo(player[0]));
+    }
+    for (String space : world.getAllSpaces()) {
+      sb.append(world.getInfoOfaSpace(space));
+    }
+    return sb.toString();
+  }
+
+  @Test
+  public void testSaveAndLoadGame() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(500)),
+        RandomManual.seeded(3), 1000);
+    testWorld.addPlayer("Robot", "Garage", false);
+    testWorld.addPlayer("Droid", "Home Office", false);
+    testWorld.addPlayer("Android", "Attic", false);
+    for (int i = 0; i < 40; i++) {
+      testWorld.performComputerAction();
+    }
+
+    byte[] savedGame = testWorld.saveGame();
+    String savedState = describeGame(testWorld);
+    for (int i = 0; i < 40; i++) {
+      testWorld.performComputerAction();
+    }
+    assertFalse(savedState.equals(describeGame(testWorld)));
+
+    testWorld.loadGame(savedGame);
+    assertEquals(savedState, describeGame(testWorld));
+    assertTrue(Arrays.equals(savedGame, testWorld.saveGame()));
+
+    World otherWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(500)),
+        new RandomManual(), 10);
+    otherWorld.loadGame(savedGame);
+    assertEquals(savedState, describeGame(otherWorld));
+    assertTrue(savedGame.length < 64);
+  }
+
+  @Test
+  public void testLoadGameMovesItemsBack() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    byte[] startOfGame = testWorld.saveGame();
+
+    testWorld.pickItemByPlayer("Rope");
+    assertEquals("Name: Pranith\nCurrent space: Garage\nItems carrying:\n"
+        + "[Item(Name = Rope, Damage = 4)]\nIs Human player: Yes\n",
+        testWorld.getPlayerInfo("Pranith"));
+    byte[] afterPick = testWorld.saveGame();
+
+    testWorld.loadGame(startOfGame);
+    assertEquals("Name: Pranith\nCurrent space: Garage\nItems carrying:\nNone\n"
+        + "Is Human player: Yes\n", testWorld.getPlayerInfo("Pranith"));
+    assertEquals(2, testWorld.getCurrentSpaceItems().length);
+    assertEquals(10, testWorld.getNumOfTurns());
+
+    testWorld.loadGame(afterPick);
+    assertEquals("Pan", testWorld.getCurrentSpaceItems()[0]);
+    assertEquals(1, testWorld.getCurrentSpaceItems().length);
+    assertEquals("Rope", testWorld.getCurrentPlayerItems()[0]);
+  }
+
+  @Test
+  public void testLoadGameFromDifferentWorld() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    byte[] savedGame = testWorld.saveGame();
+
+    worldSb = new StringBuilder("35 32 My World\n 50 Dr. Lucky\n Simba\n 2\n");
+    worldSb.append("4 10 11 12 Dining\n 4 4 9 9 Master Bedroom\n 0\n");
+    World otherWorld = new WorldImpl(new StringReader(worldSb.toString()), new RandomManual(),
+        10);
+    try {
+      otherWorld.loadGame(savedGame);
+    } catch (IllegalArgumentException e) {
+      assertEquals("The saved game is from a different world", e.getMessage());
+      return;
+    }
+    throw new AssertionError("A game from a different world was loaded");
+  }
+
+  @Test
+  public void testLoadIncompleteGameChangesNothing() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.addPlayer("Robot", "Attic", false);
+    byte[] savedGame = testWorld.saveGame();
+    testWorld.pickItemByPlayer("Pan");
+    String state = describeGame(testWorld);
+
+    for (int length = 0; length < savedGame.length; length++) {
+      try {
+        testWorld.loadGame(Arrays.copyOf(savedGame, length));
+        throw new AssertionError("An incomplete game was loaded");
+      } catch (IllegalArgumentException e) {
+        assertEquals(state, describeGame(testWorld));
+      }
+    }
+  }
+
+  @Test
+  public void testLoadGameWithCorruptedPlayerCount() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    byte[] savedGame = testWorld.saveGame();
+    testWorld.addPlayer("Pranith", "Garage", true);
+    String state = describeGame(testWorld);
+
+    // the count of the players is the last byte of a game without players,
+    // and is replaced by the largest count which can be written
+    byte[] corrupted = Arrays.copyOf(savedGame, savedGame.length + 4);
+    corrupted[savedGame.length - 1] = (byte) 0xFF;
+    corrupted[savedGame.length] = (byte) 0xFF;
+    corrupted[savedGame.length + 1] = (byte) 0xFF;
+    corrupted[savedGame.length + 2] = (byte) 0xFF;
+    corrupted[savedGame.length + 3] = 0x07;
+    try {
+      testWorld.loadGame(corrupted);
+      throw new AssertionError("A game with a corrupted count of players was loaded");
+    } catch (IllegalArgumentException e) {
+      assertEquals("The saved game is corrupted", e.getMessage());
+      assertEquals(state, describeGame(testWorld));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLoadGameNotSaved() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.loadGame(new byte[] { 1, 2, 3, 4, 5 });
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLoadNullGame() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.loadGame(null);
+  }
+
+  @Test
+  public void testForkDoesNotChangeGame() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(500)),
+        RandomManual.seeded(3), 1000);
+    testWorld.addPlayer("Robot", "Garage", false);
+    testWorld.addPlayer("Droid", "Home Office", false);
+    for (int i = 0; i < 20; i++) {
+      testWorld.performComputerAction();
+    }
+
+    String state = describeGame(testWorld);
+    World fork = testWorld.fork();
+    assertEquals(state, describeGame(fork));
+
+    for (int i = 0; i < 200 && fork.isGameOver().isEmpty(); i++) {
+      fork.performComputerAction();
+    }
+    assertFalse(state.equals(describeGame(fork)));
+    assertEquals(state, describeGame(testWorld));
+  }
+
+  @Test
+  public void testForkPlaysLikeLoadedGame() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(500)),
+        RandomManual.seeded(3), 1000);
+    testWorld.addPlayer("Robot", "Garage", false);
+    testWorld.addPlayer("Droid", "Home Office", false);
+    testWorld.addPlayer("Pranith", "Attic", true);
+    testWorld.performComputerAction();
+    testWorld.performComputerAction();
+    testWorld.lookAroundByPlayer();
+
+    World fork = testWorld.fork(RandomManual.seeded(11));
+    World loaded = new WorldImpl(new StringReader(newSaveWorldSpecification(500)),
+        RandomManual.seeded(11), 10);
+    loaded.loadGame(testWorld.saveGame());
+
+    for (int i = 0; i < 300; i++) {
+      if ("Human".equals(fork.getTurnInfo().get(1))) {
+        assertEquals(loaded.lookAroundByPlayer(), fork.lookAroundByPlayer());
+      } else {
+        assertEquals(loaded.performComputerAction(), fork.performComputerAction());
+      }
+      assertEquals(describeGame(loaded), describeGame(fork));
+    }
+    assertTrue(Arrays.equals(loaded.saveGame(), fork.saveGame()));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testForkWithPredictableRandom() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(1, 2, 3), 10);
+    testWorld.fork();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testForkWithNullRandom() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.fork(null);
+  }
+
+  @Test
+  public void testLegalActions() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Robot", "Garage", false);
+    testWorld.addPlayer("Pranith", "Master Bedroom", true);
+    ActionBuffer actions = new ActionBuffer(2);
+
+    testWorld.legalActions(actions);
+    assertEquals("ActionBuffer(MOVE 2, MOVE 4, PICK_ITEM 0, PICK_ITEM 1, LOOK_AROUND 0, "
+        + "MOVE_PET 1, MOVE_PET 2, MOVE_PET 3, MOVE_PET 4, MOVE_PET 5)", actions.toString());
+
+    // the target has moved to Master Bedroom and can be attacked with the hand
+    testWorld.lookAroundByPlayer();
+    testWorld.legalActions(actions);
+    assertEquals("ActionBuffer(MOVE 0, MOVE 2, PICK_ITEM 0, LOOK_AROUND 0, MOVE_PET 0, "
+        + "MOVE_PET 2, MOVE_PET 3, MOVE_PET 4, MOVE_PET 5, ATTACK_TARGET 0)", actions.toString());
+
+    // the pet has moved to Music Room and hides it
+    testWorld.lookAroundByPlayer();
+    testWorld.legalActions(actions);
+    assertEquals("ActionBuffer(MOVE 4, PICK_ITEM 0, PICK_ITEM 1, LOOK_AROUND 0, MOVE_PET 0, "
+        + "MOVE_PET 1, MOVE_PET 3, MOVE_PET 4, MOVE_PET 5)", actions.toString());
+  }
+
+  @Test
+  public void testLegalActionsWhenGameOver() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 1);
+    ActionBuffer actions = new ActionBuffer();
+
+    testWorld.legalActions(actions);
+    assertEquals(0, actions.size());
+
+    testWorld.addPlayer("Pranith", "Dining", true);
+    testWorld.lookAroundByPlayer();
+    testWorld.legalActions(actions);
+    assertEquals(0, actions.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLegalActionsNullBuffer() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.legalActions(null);
+  }
+
+  @Test
+  public void testPerformAction() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.addPlayer("Robot", "Dining", false);
+
+    assertEquals("The Player Pranith has picked up the item Rope from the space Garage\n",
+        testWorld.performAction(ActionBuffer.encode(ActionType.PICK_ITEM, 1)));
+    assertEquals("Pet Simba has been moved to the space Attic\n",
+        testWorld.performAction(ActionBuffer.encode(ActionType.MOVE_PET, 5)));
+    assertEquals("The Player Pranith has moved to the space Home Office\n",
+        testWorld.performAction(ActionBuffer.encode(ActionType.MOVE, 4)));
+    assertEquals("The Player Robot has moved to the space Master Bedroom\n",
+        testWorld.performAction(ActionBuffer.encode(ActionType.MOVE, 1)));
+  }
+
+  /**
+   * Gets the predictable numbers the random strategy needs to draw to choose
+   * the legal action at the given position: the position of its type among the
+   * types of the listed actions, then its position among the actions of its
+   * type.
+   */
+  private RandomManual drawsOf(ActionBuffer actions, int position) {
+    int kind = 0;
+    int first = 0;
+    for (int i = 1; i <= position; i++) {
+      if (ActionBuffer.getType(actions.get(i)) != ActionBuffer.getType(actions.get(i - 1))) {
+        kind++;
+        first = i;
+      }
+    }
+    return new RandomManual(kind, position - first);
+  }
+
+  @Test
+  public void testComputerActionIsLegalAction() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Robot", "Garage", false);
+    ActionBuffer actions = new ActionBuffer();
+    testWorld.legalActions(actions);
+
+    for (int i = 0; i < actions.size(); i++) {
+      World computer = testWorld.fork(drawsOf(actions, i));
+      World chosen = testWorld.fork(drawsOf(actions, i));
+
+      String expected = chosen.performAction(actions.get(i));
+      String output = computer.performComputerAction();
+      assertEquals(describeGame(chosen), describeGame(computer));
+
+      // a computer player does not read what it sees when it looks around
+      if (ActionBuffer.getType(actions.get(i)) != ActionType.LOOK_AROUND) {
+        assertEquals(expected, output);
+      }
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPerformActionItemNotInSpace() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.performAction(ActionBuffer.encode(ActionType.PICK_ITEM, 2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPerformActionSpaceNotInWorld() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.performAction(ActionBuffer.encode(ActionType.MOVE_PET, 6));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPerformActionNotEncoded() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.performAction(-1);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPerformActionWithoutPlayers() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.performAction(ActionBuffer.encode(ActionType.LOOK_AROUND, 0));
+  }
+
+  @Test
+  public void testViewListsLegalActions() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        RandomManual.seeded(7), 100);
+    testWorld.addPlayer("Robot", "Garage", false);
+    testWorld.addPlayer("Droid", "Dining", false);
+    testWorld.addPlayer("Android", "Attic", false);
+    ActionBuffer actions = new ActionBuffer();
+    boolean attacked = false;
+
+    for (int turn = 0; turn < 150 && testWorld.isGameOver().isEmpty(); turn++) {
+      testWorld.legalActions(actions);
+      assertEquals(actions.size(), testWorld.countLegalActions());
+      int[] types = new int[ActionType.values().length];
+      for (int i = 0; i < actions.size(); i++) {
+        assertEquals(actions.get(i), testWorld.getLegalAction(i));
+        attacked |= ActionBuffer.getType(actions.get(i)) == ActionType.ATTACK_TARGET;
+        types[ActionBuffer.getType(actions.get(i)).ordinal()]++;
+      }
+      for (ActionType type : ActionType.values()) {
+        assertEquals(types[type.ordinal()], testWorld.countLegalActions(type));
+      }
+      testWorld.performComputerAction();
+    }
+    assertTrue(attacked);
+    assertEquals(0, new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10).countLegalActions());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCountLegalActionsNullType() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.countLegalActions(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetLegalActionPastLastAction() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.getLegalAction(testWorld.countLegalActions());
+  }
+
+  @Test
+  public void testViewOfCurrentPlayer() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.addPlayer("Alex", "Garage", true);
+    testWorld.addPlayer("Sam", "Attic", true);
+
+    assertTrue(testWorld.isCurrentPlayerSeen());
+    testWorld.pickItemByPlayer("Rope");
+    testWorld.lookAroundByPlayer();
+    assertFalse(testWorld.isCurrentPlayerSeen());
+    testWorld.lookAroundByPlayer();
+    assertEquals(4, testWorld.getDamageOfCurrentPlayerItem(0));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetDamageOfItemNotCarried() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.getDamageOfCurrentPlayerItem(0);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testIsCurrentPlayerSeenWithoutPlayers() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.isCurrentPlayerSeen();
+  }
+
+  @Test
+  public void testComputerPlayerWithStrategy() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    int[] calls = new int[1];
+    ComputerStrategy firstAction = (view, random) -> {
+      calls[0]++;
+      return view.getLegalAction(0);
+    };
+    testWorld.addPlayer("Robot", "Garage", firstAction);
+    testWorld.addPlayer("Droid", "Dining", false);
+
+    assertEquals("Computer", testWorld.getTurnInfo().get(1));
+    assertEquals("The Player Robot has moved to the space Music Room\n",
+        testWorld.performComputerAction());
+    assertEquals(1, calls[0]);
+
+    // forked and loaded games keep the strategy of the player
+    testWorld.performComputerAction();
+    World fork = testWorld.fork(RandomManual.seeded(5));
+    World loaded = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    loaded.addPlayer("Robot", "Dining", firstAction);
+    loaded.loadGame(testWorld.saveGame());
+    assertEquals(fork.performComputerAction(), loaded.performComputerAction());
+    assertEquals(3, calls[0]);
+  }
+
+  @Test
+  public void testForkWithStrategy() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Robot", "Garage", false);
+    testWorld.addPlayer("Pranith", "Dining", true);
+    World fork = testWorld.fork(new RandomManual(),
+        (view, random) -> ActionBuffer.encode(ActionType.MOVE, 4));
+
+    assertEquals("The Player Robot has moved to the space Home Office\n",
+        fork.performComputerAction());
+    assertEquals("Human", fork.getTurnInfo().get(1));
+    assertEquals("Garage", testWorld.getTurnInfo().get(2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testForkWithNullStrategy() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.fork(new RandomManual(), null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAddPlayerWithNullStrategy() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Robot", "Garage", (ComputerStrategy) null);
+  }
+
+  @Test
+  public void testStateHashFollowsGame() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(30)),
+        RandomManual.seeded(9), 100);
+    testWorld.addPlayer("Robot", "Garage", false);
+    testWorld.addPlayer("Droid", "Dining", false);
+    testWorld.addPlayer("Android", "Attic", false);
+    World loaded = new WorldImpl(new StringReader(newSaveWorldSpecification(30)),
+        new RandomManual(), 10);
+    List<Long> hashes = new ArrayList<>();
+
+    while (testWorld.isGameOver().isEmpty()) {
+      testWorld.performComputerAction();
+      loaded.loadGame(testWorld.saveGame());
+      assertEquals(loaded.getStateHash(), testWorld.getStateHash());
+      assertEquals(testWorld.getStateHash(), testWorld.fork().getStateHash());
+      assertFalse(hashes.contains(testWorld.getStateHash()));
+      hashes.add(testWorld.getStateHash());
+    }
+  }
+
+  @Test
+  public void testStateHashOfTranspositions() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.addPlayer("Sam", "Attic", true);
+    World other = testWorld.fork(new RandomManual());
+
+    testWorld.movePetByPlayer("Attic");
+    testWorld.movePetByPlayer("Music Room");
+    other.movePetByPlayer("Home Office");
+    other.movePetByPlayer("Music Room");
+    assertEquals(describeGame(testWorld), describeGame(other));
+    assertEquals(testWorld.getStateHash(), other.getStateHash());
+
+    testWorld.lookAroundByPlayer();
+    other.movePlayerInWorld(350, 30);
+    assertFalse(testWorld.getStateHash() == other.getStateHash());
+  }
+
+  @Test
+  public void testApplyActionChangesGameLikePerformAction() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        RandomManual.seeded(4), 100);
+    testWorld.addPlayer("Robot", "Garage", false);
+    testWorld.addPlayer("Pranith", "Dining", true);
+    testWorld.addPlayer("Droid", "Attic", false);
+    ActionBuffer actions = new ActionBuffer();
+
+    for (int turn = 0; turn < 100 && testWorld.isGameOver().isEmpty(); turn++) {
+      testWorld.legalActions(actions);
+      for (int i = 0; i < actions.size(); i++) {
+        World performed = testWorld.fork(new RandomManual());
+        World applied = testWorld.fork(new RandomManual());
+        performed.performAction(actions.get(i));
+        applied.applyAction(actions.get(i));
+        assertEquals(describeGame(performed), describeGame(applied));
+        assertEquals(performed.getStateHash(), applied.getStateHash());
+      }
+      testWorld.applyAction(actions.get(turn % actions.size()));
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testApplyActionMoveToSpaceNotNeighbour() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.applyAction(ActionBuffer.encode(ActionType.MOVE, 0));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testApplyActionItemNotInSpace() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.applyAction(ActionBuffer.encode(ActionType.PICK_ITEM, 2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testApplyActionAttackTargetNotInSpace() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.applyAction(ActionBuffer.encode(ActionType.ATTACK_TARGET, 0));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testApplyActionWhenGameOver() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 1);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.lookAroundByPlayer();
+    testWorld.applyAction(ActionBuffer.encode(ActionType.LOOK_AROUND, 0));
+  }
+
+  @Test
+  public void testViewIndexes() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.addPlayer("Sam", "Attic", true);
+
+    assertEquals(0, testWorld.getCurrentPlayerIndex());
+    assertEquals(3, testWorld.getSpaceIndexOfPlayer(0));
+    assertEquals(5, testWorld.getSpaceIndexOfPlayer(1));
+    assertEquals(0, testWorld.getSpaceIndexOfTarget());
+    assertEquals(0, testWorld.getDamageOfPlayerItems(0));
+
+    testWorld.pickItemByPlayer("Rope");
+    testWorld.lookAroundByPlayer();
+    testWorld.pickItemByPlayer("Pan");
+    assertEquals(1, testWorld.getCurrentPlayerIndex());
+    assertEquals(14, testWorld.getDamageOfPlayerItems(0));
+    assertEquals(0, testWorld.getDamageOfPlayerItems(1));
+    assertEquals(3, testWorld.getSpaceIndexOfTarget());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSpaceIndexOfPlayerNotInGame() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.getSpaceIndexOfPlayer(1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDamageOfPlayerItemsNotInGame() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.getDamageOfPlayerItems(0);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testCurrentPlayerIndexWithoutPlayers() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.getCurrentPlayerIndex();
+  }
+
+  @Test
+  public void testSpaceIndexOfTargetAfter() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.addPlayer("Sam", "Attic", true);
+    assertEquals(0, testWorld.getSpaceIndexOfTargetAfter(0));
+    assertEquals(4, testWorld.getSpaceIndexOfTargetAfter(4));
+    assertEquals(0, testWorld.getSpaceIndexOfTargetAfter(6));
+    assertEquals(1, testWorld.getSpaceIndexOfTargetAfter(13));
+    assertEquals(1, testWorld.getSpaceIndexOfTargetAfter(Integer.MAX_VALUE));
+
+    World copy = testWorld.fork(new RandomManual());
+    for (int advances = 0; advances < 15; advances++) {
+      assertEquals(testWorld.getSpaceIndexOfTargetAfter(advances),
+          copy.getSpaceIndexOfTarget());
+      copy.lookAroundByPlayer();
+    }
+  }
+
+  @Test
+  public void testAdvancesUntilTargetIn() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Garage", true);
+    testWorld.lookAroundByPlayer();
+    testWorld.lookAroundByPlayer();
+
+    assertEquals(0, testWorld.getAdvancesUntilTargetIn(2));
+    assertEquals(1, testWorld.getAdvancesUntilTargetIn(3));
+    assertEquals(3, testWorld.getAdvancesUntilTargetIn(5));
+    assertEquals(4, testWorld.getAdvancesUntilTargetIn(0));
+    assertEquals(5, testWorld.getAdvancesUntilTargetIn(1));
+    for (int space = 0; space < 6; space++) {
+      assertEquals(space,
+          testWorld.getSpaceIndexOfTargetAfter(testWorld.getAdvancesUntilTargetIn(space)));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSpaceIndexOfTargetAfterNegativeTurns() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.getSpaceIndexOfTargetAfter(-1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testAdvancesUntilTargetInSpaceNotInWorld() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.getAdvancesUntilTargetIn(6);
+  }
+
+  @Test
+  public void testDistance() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    // the spaces are in a row
+    for (int from = 0; from < 6; from++) {
+      for (int to = 0; to < 6; to++) {
+        assertEquals(Math.abs(from - to), testWorld.getDistance(from, to));
+      }
+    }
+
+    World otherWorld = new WorldImpl(new StringReader("10 24 My World\n 50 Dr. Lucky\n Simba\n"
+        + "3\n 0 0 3 3 Dining\n 0 4 3 7 Kitchen\n 0 12 3 15 Attic\n 0\n"), new RandomManual(),
+        10);
+    assertEquals(1, otherWorld.getDistance(1, 0));
+    assertEquals(-1, otherWorld.getDistance(0, 2));
+    assertEquals(-1, otherWorld.getDistance(2, 1));
+    assertEquals(0, otherWorld.getDistance(2, 2));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDistanceFromSpaceNotInWorld() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.getDistance(-1, 0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDistanceToSpaceNotInWorld() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.getDistance(0, 6);
+  }
+
+  @Test
+  public void testPointInSpaceMovesPlayerThere() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.addPlayer("Pranith", "Dining", true);
+    String[] spaces = testWorld.getAllSpaces();
+    // the spaces are in a row, so the player can walk along it
+    for (int i = 1; i < spaces.length; i++) {
+      int[] point = testWorld.getPointInSpace(spaces[i]);
+      assertEquals(2, point.length);
+      testWorld.movePlayerInWorld(point[0], point[1]);
+      assertEquals(i, testWorld.getSpaceIndexOfPlayer(0));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPointInSpaceNotInWorld() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.getPointInSpace("Kitchen");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPointInNullSpace() {
+    World testWorld = new WorldImpl(new StringReader(newSaveWorldSpecification(50)),
+        new RandomManual(), 10);
+    testWorld.getPointInSpace(null);
+  }
 }
@@ -0,0 +1,162 @@
+package test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import game.World;
+import game.WorldImpl;
+import game.WorldTemplate;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.InputMismatchException;
+import java.util.NoSuchElementException;
+import org.junit.Before;
+import org.junit.Test;
+import utils.RandomManual;
+
+/**
+ * A test class for testing WorldTemplate class.
+ */
+public class WorldTemplateTest {
+
+  private String worldSpecification;
+
+  /**
+   * Setup for testing the WorldTemplate class.
+   */
+  @Before
+  public void setup() {
+    StringBuilder worldSb = new StringBuilder(
+        "35 32 My World\n 59 Dr. Lucky\n Simba\n 8\n 4 10 11 12 Dining\n");
+    worldSb.append("4 4 9 9 Master Bedroom\n 4 13 6 19 Music Room\n 17 0 24 3 Garage\n");
+    worldSb.append("17 13 20 19 Bathroom\n 0 10 3 18 Home Office\n 2 0 16 3 Entrance Hall\n");
+    worldSb.append(" 0 4 3 9 Attic\n 3\n 3 10 Pan\n 4 7 Broom\n 5 15 Knife\n");
+    worldSpecification = worldSb.toString();
+  }
+
+  /**
+   * Creates a temporary file which is deleted when the tests finish.
+   *
+   * @return The path of the temporary file
+   * @throws IOException When the file cannot be created
+   */
+  private Path newTempFile() throws IOException {
+    File file = File.createTempFile("world", ".world");
+    file.deleteOnExit();
+    return file.toPath();
+  }
+
+  @Test
+  public void testParseAndToString() {
+    WorldTemplate template = WorldTemplate.parse(new StringReader(worldSpecification));
+    assertEquals("WorldTemplate(name = My World, Number of spaces = 8)", template.toString());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseNull() {
+    WorldTemplate.parse(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWorldFromNullTemplate() {
+    new WorldImpl((WorldTemplate) null, new RandomManual(), 50);
+  }
+
+  @Test
+  public void testCompiledWorldMatchesParsedWorld() throws IOException {
+    Path compiled = newTempFile();
+    WorldTemplate.parse(new StringReader(worldSpecification)).writeCompiled(compiled);
+
+    World parsedWorld = new WorldImpl(new StringReader(worldSpecification), new RandomManual(),
+        50);
+    World compiledWorld = new WorldImpl(WorldTemplate.readCompiled(compiled), new RandomManual(),
+        50);
+
+    assertEquals(parsedWorld.toString(), compiledWorld.toString());
+    assertTrue(Arrays.equals(parsedWorld.getAllSpaces(), compiledWorld.getAllSpaces()));
+    for (String space : parsedWorld.getAllSpaces()) {
+      assertEquals(parsedWorld.getInfoOfaSpace(space), compiledWorld.getInfoOfaSpace(space));
+      assertTrue(Arrays.equals(parsedWorld.getCoordinates(space),
+          compiledWorld.getCoordinates(space)));
+    }
+  }
+
+  @Test
+  public void testIsCompiled() throws IOException {
+    Path compiled = newTempFile();
+    WorldTemplate.parse(new StringReader(worldSpecification)).writeCompiled(compiled);
+    Path text = newTempFile();
+    Files.write(text, worldSpecification.getBytes(StandardCharsets.UTF_8));
+
+    assertTrue(WorldTemplate.isCompiled(compiled));
+    assertFalse(WorldTemplate.isCompiled(text));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReadCompiledTextFile() throws IOException {
+    Path text = newTempFile();
+    Files.write(text, worldSpecification.getBytes(StandardCharsets.UTF_8));
+    WorldTemplate.readCompiled(text);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReadCompiledCorruptedFile() throws IOException {
+    Path compiled = newTempFile();
+    WorldTemplate.parse(new StringReader(worldSpecification)).writeCompiled(compiled);
+    byte[] bytes = Files.readAllBytes(compiled);
+    bytes[bytes.length / 2] ^= 1;
+    Files.write(compiled, bytes);
+    WorldTemplate.readCompiled(compiled);
+  }
+
+  @Test
+  public void testReadCompiledOrTextFile() throws IOException {
+    Path compiled = newTempFile();
+    WorldTemplate.parse(new StringReader(worldSpecification)).writeCompiled(compiled);
+    Path text = newTempFile();
+    Files.write(text, worldSpecification.getBytes(StandardCharsets.UTF_8));
+
+    World parsedWorld = new WorldImpl(new StringReader(worldSpecification), new RandomManual(),
+        50);
+    for (Path path : new Path[] { compiled, text }) {
+      World world = new WorldImpl(WorldTemplate.read(path), new RandomManual(), 50);
+      assertEquals(parsedWorld.toString(), world.toString());
+      assertTrue(Arrays.equals(parsedWorld.getAllSpaces(), world.getAllSpaces()));
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testReadNullPath() throws IOException {
+    WorldTemplate.read(null);
+  }
+
+  @Test
+  public void testParseReportsPositionOfBadNumber() {
+    try {
+      WorldTemplate.parse(new StringReader(worldSpecification.replace("11 12 Dining",
+          "11 l2 Dining")));
+      fail("A token which is not a number should not be parsed");
+    } catch (InputMismatchException e) {
+      assertEquals("Expected a number at line 5, column 10 but found \"l2\"", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testParseReportsPositionOfEarlyEnd() {
+    try {
+      WorldTemplate.parse(new StringReader(worldSpecification.replace(" 5 15 Knife\n", "")));
+      fail("A world specification which ends early should not be parsed");
+    } catch (NoSuchElementException e) {
+      assertEquals("Expected a number at line 16, column 1 but the world specification has "
+          + "ended", e.getMessage());
+    }
+  }
+
+}